@@ -2,6 +2,8 @@
  * Module info definition for gestalt core
  */
 module org.github.gestalt.core {
+    requires transitive java.net.http;
+
     uses org.github.gestalt.config.decoder.Decoder;
     uses org.github.gestalt.config.loader.ConfigLoader;
     uses org.github.gestalt.config.path.mapper.PathMapper;
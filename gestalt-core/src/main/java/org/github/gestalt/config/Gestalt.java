@@ -3,11 +3,18 @@ package org.github.gestalt.config;
 import org.github.gestalt.config.decoder.DecoderContext;
 import org.github.gestalt.config.decoder.DecoderService;
 import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.node.ConfigExportOptions;
 import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.reload.CoreReloadListener;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
@@ -15,7 +22,7 @@ import java.util.Optional;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public interface Gestalt {
+public interface Gestalt extends AutoCloseable {
 
     /**
      * Loads the configurations from the source and builds a config tree.
@@ -230,6 +237,37 @@ public interface Gestalt {
      */
     String debugPrint();
 
+    /**
+     * Export the config to the output in the format of the options, writing one node at a time rather than building a string.
+     * Secrets are concealed, and the export can be limited to the sub tree at a path, the tags and a page of the sub tree.
+     *
+     * <p>It is a default method so existing implementations of Gestalt still compile, and they do not support exporting.
+     *
+     * @param out     where to write the config
+     * @param options the options for the export, such as the format, path, tags and page
+     * @throws GestaltException if the path can not be found, the output can not be written to, or export is not supported
+     */
+    default void export(Appendable out, ConfigExportOptions options) throws GestaltException {
+        throw new GestaltException("export not supported by " + getClass().getName());
+    }
+
+    /**
+     * Export the config to the output stream as UTF-8 in the format of the options. The stream is flushed but not closed.
+     *
+     * @param out     where to write the config
+     * @param options the options for the export, such as the format, path, tags and page
+     * @throws GestaltException if the path can not be found or the output can not be written to
+     */
+    default void export(OutputStream out, ConfigExportOptions options) throws GestaltException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        export(writer, options);
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new GestaltException("Unable to export the config, message: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Returns the decoder service, used for decoding strings or leaf nodes manually.
      *
@@ -244,4 +282,12 @@ public interface Gestalt {
      * @return the Decoder Context
      */
     DecoderContext getDecoderContext();
+
+    /**
+     * Stop all background reloads and release any threads owned by this Gestalt.
+     * Once closed the configurations can still be read, but they will no longer be reloaded.
+     */
+    @Override
+    default void close() {
+    }
 }
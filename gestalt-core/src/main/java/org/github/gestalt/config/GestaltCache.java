@@ -6,6 +6,7 @@ import org.github.gestalt.config.entity.GestaltConfig;
 import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.metadata.IsNoCacheMetadata;
 import org.github.gestalt.config.metadata.MetaDataValue;
+import org.github.gestalt.config.node.ConfigExportOptions;
 import org.github.gestalt.config.node.TagMergingStrategy;
 import org.github.gestalt.config.observations.ObservationService;
 import org.github.gestalt.config.reflect.TypeCapture;
@@ -112,6 +113,7 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
         Tags resolvedTags = tagMergingStrategy.mergeTags(tags, defaultTags);
         Triple<String, TypeCapture<?>, Tags> key = new Triple<>(path, klass, resolvedTags);
         if (cache.get(key) != null) {
+            recordAccess(path, klass);
             if (gestaltConfig.isObservationsEnabled() && observationService != null) {
                 observationService.recordObservation("cache.hit", 1, Tags.of());
             }
@@ -129,6 +131,7 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
         Tags resolvedTags = tagMergingStrategy.mergeTags(tags, defaultTags);
         Triple<String, TypeCapture<?>, Tags> key = new Triple<>(path, klass, resolvedTags);
         if (cacheResultsOf.get(key) != null && cacheResultsOf.get(key).hasResults()) {
+            recordAccess(path, klass);
             if (gestaltConfig.isObservationsEnabled() && observationService != null) {
                 observationService.recordObservation("cache.hit", 1, Tags.of());
             }
@@ -140,6 +143,13 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
         }
     }
 
+    // reads served from the cache never reach the delegate, so let it know the path is still being read.
+    private void recordAccess(String path, TypeCapture<?> klass) {
+        if (delegate instanceof GestaltCore) {
+            ((GestaltCore) delegate).recordAccess(path, klass);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private <T> void updateCache(String path, Triple<String, TypeCapture<?>, Tags> key, GResultOf<T> result) {
         if (shouldCacheValue(path, result != null ? result.getMetadata() : Map.of())) {
@@ -211,6 +221,8 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
                 result = defaultVal;
             }
 
+            recordAccess(path, klass);
+
             if (gestaltConfig.isObservationsEnabled() && observationService != null) {
                 observationService.recordObservation("cache.hit", 1, Tags.of());
             }
@@ -240,6 +252,8 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
                 result = GResultOf.result(defaultVal, true);
             }
 
+            recordAccess(path, klass);
+
             if (gestaltConfig.isObservationsEnabled() && observationService != null) {
                 observationService.recordObservation("cache.hit", 1, Tags.of());
             }
@@ -310,6 +324,7 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
         Tags resolvedTags = tagMergingStrategy.mergeTags(tags, defaultTags);
         Triple<String, TypeCapture<?>, Tags> key = new Triple<>(path, klass, resolvedTags);
         if (cache.containsKey(key)) {
+            recordAccess(path, klass);
             if (gestaltConfig.isObservationsEnabled() && observationService != null) {
                 observationService.recordObservation("cache.hit", 1, Tags.of());
             }
@@ -329,6 +344,7 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
         Tags resolvedTags = tagMergingStrategy.mergeTags(tags, defaultTags);
         Triple<String, TypeCapture<?>, Tags> key = new Triple<>(path, klass, resolvedTags);
         if (cacheResultsOf.containsKey(key)) {
+            recordAccess(path, klass);
             if (gestaltConfig.isObservationsEnabled() && observationService != null) {
                 observationService.recordObservation("cache.hit", 1, Tags.of());
             }
@@ -374,6 +390,11 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
         return delegate.debugPrint();
     }
 
+    @Override
+    public void export(Appendable out, ConfigExportOptions options) throws GestaltException {
+        delegate.export(out, options);
+    }
+
     @Override
     public void reload() {
         cache.clear();
@@ -397,4 +418,9 @@ public class GestaltCache implements Gestalt, CoreReloadListener {
     public DecoderContext getDecoderContext() {
         return delegate.getDecoderContext();
     }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
 }
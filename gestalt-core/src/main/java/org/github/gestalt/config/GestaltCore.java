@@ -13,9 +13,14 @@ import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.loader.ConfigLoader;
 import org.github.gestalt.config.loader.ConfigLoaderService;
 import org.github.gestalt.config.metadata.MetaDataValue;
+import org.github.gestalt.config.node.ConfigExportOptions;
+import org.github.gestalt.config.node.ConfigExporter;
 import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.node.ConfigNodeService;
+import org.github.gestalt.config.node.ConfigNodeSnapshot;
+import org.github.gestalt.config.node.ConfigSnapshotFile;
 import org.github.gestalt.config.node.LeafNode;
+import org.github.gestalt.config.node.MapNode;
 import org.github.gestalt.config.node.TagMergingStrategy;
 import org.github.gestalt.config.observations.ObservationMarker;
 import org.github.gestalt.config.observations.ObservationService;
@@ -23,22 +28,34 @@ import org.github.gestalt.config.processor.config.ConfigNodeProcessorService;
 import org.github.gestalt.config.processor.result.ResultsProcessorService;
 import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.reload.ConfigReloadListener;
+import org.github.gestalt.config.reload.ConfigReloadStrategy;
 import org.github.gestalt.config.reload.CoreReloadListener;
 import org.github.gestalt.config.reload.CoreReloadListenersContainer;
+import org.github.gestalt.config.reload.ReloadScheduler;
+import org.github.gestalt.config.reload.ScheduledReload;
 import org.github.gestalt.config.secret.rules.SecretConcealer;
 import org.github.gestalt.config.source.ConfigSource;
 import org.github.gestalt.config.source.ConfigSourcePackage;
+import org.github.gestalt.config.source.FingerprintedConfigSource;
 import org.github.gestalt.config.tag.Tag;
 import org.github.gestalt.config.tag.Tags;
+import org.github.gestalt.config.token.ObjectToken;
 import org.github.gestalt.config.token.Token;
 import org.github.gestalt.config.utils.ClassUtils;
 import org.github.gestalt.config.utils.ErrorsUtil;
 import org.github.gestalt.config.utils.GResultOf;
 import org.github.gestalt.config.utils.Pair;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.INFO;
 import static java.lang.System.Logger.Level.WARNING;
 import static org.github.gestalt.config.utils.ErrorsUtil.checkErrorsShouldFail;
 
@@ -49,6 +66,8 @@ import static org.github.gestalt.config.utils.ErrorsUtil.checkErrorsShouldFail;
  */
 public class GestaltCore implements Gestalt, ConfigReloadListener {
     private static final System.Logger logger = System.getLogger(GestaltCore.class.getName());
+    // Upper bound on the number of paths memoized for the lazy mounts they access, once reached new paths are scanned on every read.
+    private static final int MAX_ACCESSED_PATHS = 10_000;
 
     private final ConfigLoaderService configLoaderService;
     private final List<ConfigSourcePackage> sourcePackages;
@@ -73,6 +92,28 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
 
     private final TagMergingStrategy tagMergingStrategy;
 
+    private final List<ConfigReloadStrategy> reloadStrategies;
+
+    private final ReloadScheduler reloadScheduler;
+
+    private final boolean ownsReloadScheduler;
+
+    // reloads waiting for the coalesce window to close, guarded by itself.
+    private final Set<ConfigSourcePackage> pendingReloads = new LinkedHashSet<>();
+    // the result of applying the pending reloads, guarded by the pending reloads.
+    private CompletableFuture<Void> pendingReloadsResult;
+    // held while a reload is staged and published.
+    private final Object reloadLock = new Object();
+    // sources mounted at a path, loaded the first time the path is accessed.
+    private volatile List<LazyMount> lazyMounts = List.of();
+    // the lazy mounts accessed by each path read from a cache in front of this Gestalt.
+    private final Map<String, List<LazyMount>> lazyMountsByPath = new ConcurrentHashMap<>();
+    // if the sources have been loaded, rather than only the config snapshot restored.
+    private volatile boolean sourcesLoaded = false;
+    // while a config snapshot is served, the paths of the nodes left out of it, such as secrets, and the load that will replace it.
+    private volatile List<List<Token>> snapshotExcludedPaths = List.of();
+    private volatile CompletableFuture<Void> backgroundLoad;
+
     /**
      * Constructor for Gestalt,you can call it manually but the best way to use this is though the GestaltBuilder.
      *
@@ -101,6 +142,44 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
                        ObservationService observationService,
                        ResultsProcessorService resultsProcessorService,
                        Tags defaultTags, TagMergingStrategy tagMergingStrategy) {
+        this(configLoaderService, configSourcePackages, decoderService, sentenceLexer, gestaltConfig, configNodeService,
+            configNodeProcessorService, reloadStrategy, secretConcealer, observationService, resultsProcessorService, defaultTags,
+            tagMergingStrategy, List.of(), null, false);
+    }
+
+    /**
+     * Constructor for Gestalt,you can call it manually but the best way to use this is though the GestaltBuilder.
+     *
+     * @param configLoaderService     configLoaderService to hold all config loaders
+     * @param configSourcePackages    sources we wish to load the configs from. We load the sources in the order they are provided.
+     *                                Overriding older values with new one where needed
+     * @param decoderService          decoderService to hold all decoders
+     * @param sentenceLexer           sentenceLexer to parse the configuration paths when doing searches.
+     * @param gestaltConfig           configuration for the Gestalt
+     * @param configNodeService       configNodeService core functionality to manage nodes
+     * @param reloadStrategy          reloadStrategy holds all reload listeners
+     * @param secretConcealer         Utility for concealing secrets
+     * @param observationService      Manages reporting of observations
+     * @param resultsProcessorService Validation Manager, for validating configuration objects
+     * @param defaultTags             Default set of tags to apply to all calls to get a configuration where tags are not provided.
+     * @param tagMergingStrategy      Strategy for how to merge tags
+     * @param reloadStrategies        reload strategies not attached to a source, that are closed when Gestalt is closed
+     * @param reloadScheduler         the reload scheduler used to coalesce reloads. May be null.
+     * @param ownsReloadScheduler     if the reload scheduler is owned by this Gestalt and should be closed when Gestalt is closed
+     */
+    public GestaltCore(ConfigLoaderService configLoaderService, List<ConfigSourcePackage> configSourcePackages,
+                       DecoderService decoderService,
+                       SentenceLexer sentenceLexer,
+                       GestaltConfig gestaltConfig,
+                       ConfigNodeService configNodeService,
+                       ConfigNodeProcessorService configNodeProcessorService,
+                       CoreReloadListenersContainer reloadStrategy,
+                       SecretConcealer secretConcealer,
+                       ObservationService observationService,
+                       ResultsProcessorService resultsProcessorService,
+                       Tags defaultTags, TagMergingStrategy tagMergingStrategy,
+                       List<ConfigReloadStrategy> reloadStrategies,
+                       ReloadScheduler reloadScheduler, boolean ownsReloadScheduler) {
         this.configLoaderService = configLoaderService;
         this.sourcePackages = configSourcePackages;
         this.decoderService = decoderService;
@@ -115,6 +194,9 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
         this.defaultTags = defaultTags;
         this.decoderContext = new DecoderContext(decoderService, this, secretConcealer, sentenceLexer);
         this.tagMergingStrategy = tagMergingStrategy;
+        this.reloadStrategies = reloadStrategies;
+        this.reloadScheduler = reloadScheduler;
+        this.ownsReloadScheduler = ownsReloadScheduler;
     }
 
     List<ValidationError> getLoadErrors() {
@@ -155,95 +237,603 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
         coreReloadListenersContainer.removeListener(listener);
     }
 
+    /**
+     * Load all the sources, merge them into the config tree and post process them.
+     *
+     * <p>If a snapshot path is configured and a valid snapshot exists, the snapshot is served immediately and the sources are
+     * loaded in the background on the reload scheduler. Once loaded the config replaces the snapshot and the core reload listeners
+     * are notified. If the background load fails, the snapshot keeps being served. Once the config has been loaded from the sources
+     * it is written to the snapshot. Reads of any node left out of the snapshot, such as a secret when no snapshot secret key is
+     * configured, wait until the background load has finished.
+     *
+     * @throws GestaltException any exception
+     */
     @Override
     public void loadConfigs() throws GestaltException {
         if (sourcePackages == null || sourcePackages.isEmpty()) {
             throw new GestaltException("No sources provided, unable to load any configs");
         }
 
+        lazyMounts = buildLazyMounts();
+        lazyMountsByPath.clear();
+        sourcesLoaded = false;
+
+        ConfigSnapshotFile snapshotFile = getSnapshotFile();
+        if (snapshotFile != null && reloadScheduler != null && !reloadScheduler.isClosed()) {
+            Set<String> excludedPaths = new LinkedHashSet<>();
+            Optional<Map<Tags, ConfigNode>> snapshot = snapshotFile.read(excludedPaths);
+            // a config node service that is unable to restore the roots loads the sources instead.
+            if (snapshot.isPresent() && !snapshot.get().isEmpty() && configNodeService.restoreRoots(snapshot.get())) {
+                logger.log(INFO, "Serving the config snapshot {0} while loading the sources", snapshotFile.getPath());
+                CompletableFuture<Void> load = new CompletableFuture<>();
+                snapshotExcludedPaths = scanPaths(excludedPaths);
+                backgroundLoad = load;
+                reloadScheduler.execute(() -> loadConfigsInBackground(snapshotFile, load));
+                return;
+            }
+        }
+
+        // collect the nodes from all the sources, then merge them into the roots in a single pass.
+        List<ConfigNodeContainer> nodes = new ArrayList<>();
         for (ConfigSourcePackage sourcePackage : sourcePackages) {
+            if (sourcePackage.getLazyMountPath().isPresent()) {
+                continue;
+            }
+
             ConfigSource source = sourcePackage.getConfigSource();
-            ConfigLoader configLoader = configLoaderService.getLoader(source.format());
+            FingerprintedConfigSource fingerprinted = sourcePackage.isFingerprintContent() ? FingerprintedConfigSource.of(source) : null;
 
-            GResultOf<List<ConfigNodeContainer>> newNode = configLoader.loadSource(sourcePackage);
+            GResultOf<List<ConfigNodeContainer>> newNode = loadSource(sourcePackage, fingerprinted);
 
             validateLoadResultsForErrors(newNode, source);
+            if (fingerprinted != null) {
+                sourcePackage.setContentFingerprint(fingerprinted.getFingerprint());
+            }
             if (newNode.hasResults()) {
-                for (ConfigNodeContainer node : newNode.results()) {
-                    GResultOf<ConfigNode> mergedNode = configNodeService.addNode(node);
-                    validateLoadResultsForErrors(mergedNode, source);
-                    loadErrors.addAll(mergedNode.getErrors());
-                }
+                nodes.addAll(newNode.results());
             } else {
                 logger.log(WARNING, "Failed to load node: {0} did not have any results", source.name());
             }
         }
 
+        if (!nodes.isEmpty()) {
+            Map<ConfigSource, List<ValidationError>> sourceErrors = new LinkedHashMap<>();
+            GResultOf<Map<Tags, ConfigNode>> mergedNodes = configNodeService.addNodes(nodes, sourceErrors);
+            validateMergeResultsForErrors(mergedNodes, sourceErrors);
+            loadErrors.addAll(mergedNodes.getErrors());
+        }
+
         postProcessConfigs();
+        sourcesLoaded = true;
+        writeSnapshot(snapshotFile);
+    }
+
+    private List<LazyMount> buildLazyMounts() throws GestaltException {
+        List<LazyMount> mounts = new ArrayList<>();
+        for (ConfigSourcePackage sourcePackage : sourcePackages) {
+            if (sourcePackage.getLazyMountPath().isEmpty()) {
+                continue;
+            }
+
+            String mountPath = sourcePackage.getLazyMountPath().get();
+            GResultOf<List<Token>> tokens = sentenceLexer.scan(mountPath);
+            if (tokens.hasErrors() || !tokens.hasResults() || !tokens.results().stream().allMatch(it -> it instanceof ObjectToken)) {
+                throw new GestaltConfigurationException("Unable to lazily mount source " + sourcePackage.getConfigSource().name() +
+                    " at path: " + mountPath + ", the path must only contain object keys", tokens.getErrors());
+            }
+
+            if (sourcePackage.getLazyIdleEviction().isPresent() && reloadScheduler == null) {
+                logger.log(WARNING, "Lazily mounted source {0} will not be evicted as there is no reload scheduler",
+                    sourcePackage.getConfigSource().name());
+            }
+
+            mounts.add(new LazyMount(sourcePackage, tokens.results()));
+        }
+        return mounts;
+    }
+
+    private ConfigSnapshotFile getSnapshotFile() {
+        if (gestaltConfig.getSnapshotPath() == null) {
+            return null;
+        }
+        return new ConfigSnapshotFile(gestaltConfig.getSnapshotPath(), sentenceLexer, secretConcealer,
+            gestaltConfig.getSnapshotSecretKey());
+    }
+
+    private void writeSnapshot(ConfigSnapshotFile snapshotFile) {
+        if (snapshotFile == null) {
+            return;
+        }
+
+        Map<Tags, ConfigNode> roots = configNodeService.getRoots();
+        if (roots.isEmpty()) {
+            return;
+        }
+
+        try {
+            snapshotFile.write(roots);
+        } catch (GestaltException e) {
+            logger.log(WARNING, "Unable to write the config snapshot, the next start up will load all the sources, exception " + e, e);
+        }
+    }
+
+    private List<List<Token>> scanPaths(Set<String> paths) {
+        List<List<Token>> scannedPaths = new ArrayList<>();
+        for (String path : paths) {
+            GResultOf<List<Token>> tokens = sentenceLexer.scan(path);
+            if (tokens.hasResults()) {
+                scannedPaths.add(tokens.results());
+            }
+        }
+        return scannedPaths;
+    }
+
+    // load all the sources to replace the config restored from the snapshot, as a single transaction like a reload.
+    private void loadConfigsInBackground(ConfigSnapshotFile snapshotFile, CompletableFuture<Void> load) {
+        synchronized (reloadLock) {
+            try {
+                // a lazy mount may have already loaded the sources.
+                if (!sourcesLoaded) {
+                    loadSourcesOverSnapshot(snapshotFile);
+                }
+            } catch (GestaltException | RuntimeException e) {
+                logger.log(System.Logger.Level.ERROR,
+                    "Exception loading the sources in the background, keeping the config snapshot, exception " + e, e);
+            } finally {
+                completeBackgroundLoad(load);
+            }
+        }
+    }
+
+    // must be called holding the reload lock.
+    private void loadSourcesOverSnapshot(ConfigSnapshotFile snapshotFile) throws GestaltException {
+        List<ConfigNodeContainer> nodes = new ArrayList<>();
+        List<Pair<ConfigSourcePackage, String>> fingerprints = new ArrayList<>();
+        for (ConfigSourcePackage sourcePackage : sourcePackages) {
+            if (sourcePackage.getLazyMountPath().isPresent()) {
+                continue;
+            }
+
+            ConfigSource source = sourcePackage.getConfigSource();
+            FingerprintedConfigSource fingerprinted =
+                sourcePackage.isFingerprintContent() ? FingerprintedConfigSource.of(source) : null;
+
+            GResultOf<List<ConfigNodeContainer>> newNode = loadSource(sourcePackage, fingerprinted);
+            validateLoadResultsForErrors(newNode, source);
+            if (fingerprinted != null) {
+                fingerprints.add(new Pair<>(sourcePackage, fingerprinted.getFingerprint()));
+            }
+            if (newNode.hasResults()) {
+                nodes.addAll(newNode.results());
+            } else {
+                logger.log(WARNING, "Failed to load node: {0} did not have any results", source.name());
+            }
+        }
+
+        if (nodes.isEmpty()) {
+            throw new GestaltException("No results found loading the sources");
+        }
+
+        GResultOf<ConfigNodeSnapshot> snapshot = configNodeService.stageLoad(nodes);
+        validateMergeResultsForErrors(snapshot, snapshot.hasResults() ? snapshot.results().getSourceErrors() : Map.of());
+        snapshot.throwIfNoResults(() -> new GestaltException("no results found merging the sources"));
+
+        validatePostProcessResults(configNodeService.processConfigNodes(snapshot.results()));
+        configNodeService.publish(snapshot.results());
+        sourcesLoaded = true;
+        // the nodes left out of the snapshot are now served, so any reads waiting on them can continue.
+        CompletableFuture<Void> load = backgroundLoad;
+        if (load != null) {
+            completeBackgroundLoad(load);
+        }
+        loadErrors.addAll(snapshot.getErrors());
+        fingerprints.forEach(it -> it.getFirst().setContentFingerprint(it.getSecond()));
+
+        writeSnapshot(snapshotFile);
+        coreReloadListenersContainer.reload();
+    }
+
+    private void completeBackgroundLoad(CompletableFuture<Void> load) {
+        snapshotExcludedPaths = List.of();
+        load.complete(null);
+    }
+
+    // while the snapshot is served, a read of a node left out of the snapshot, or of any of its parents, waits for the sources to load.
+    private void awaitBackgroundLoad(String path, List<Token> tokens) throws GestaltException {
+        CompletableFuture<Void> load = backgroundLoad;
+        if (load == null || load.isDone() || snapshotExcludedPaths.stream().noneMatch(it -> isOnPath(it, tokens))) {
+            return;
+        }
+
+        try {
+            logger.log(DEBUG, "Waiting for the sources to load to read path {0}, left out of the config snapshot", path);
+            load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GestaltException("Interrupted waiting for the sources to load to read path: " + path, e);
+        } catch (ExecutionException e) {
+            throw new GestaltException("Exception waiting for the sources to load to read path: " + path, e);
+        }
+    }
+
+    // if one path is at, under or a parent of the other path.
+    private static boolean isOnPath(List<Token> pathTokens, List<Token> tokens) {
+        int length = Math.min(tokens.size(), pathTokens.size());
+        for (int i = 0; i < length; i++) {
+            if (!pathTokens.get(i).equals(tokens.get(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * Find the specific source that we wish to reload.
      * Then reload the config and update the configNodeService with the new config node tree.
      *
+     * <p>If a reload coalesce window is configured, the reload is queued and applied with any other reloads that arrive within
+     * the window as one transaction. If background reloads are enabled, the reload is built on the reload scheduler.
+     *
      * @param reloadSourcePackage source to reload
      * @throws GestaltException any exception
      */
     @Override
     public void reload(ConfigSourcePackage reloadSourcePackage) throws GestaltException {
+        Duration coalesceWindow = Objects.requireNonNullElse(gestaltConfig.getReloadCoalesceWindow(), Duration.ZERO);
+        boolean deferReload = !coalesceWindow.isZero() || gestaltConfig.isBackgroundReload();
+        if (!deferReload || reloadScheduler == null || reloadScheduler.isClosed()) {
+            reloadAll(Collections.singletonList(reloadSourcePackage));
+            return;
+        }
 
-        ObservationMarker reloadMarker = null;
-        try {
-            if (gestaltConfig.isObservationsEnabled() && observationService != null) {
-                reloadMarker = observationService.startObservation("reload",
-                    Tags.of(Tags.of("source", reloadSourcePackage.getConfigSource().name()), reloadSourcePackage.getTags()));
+        findRegisteredSource(reloadSourcePackage);
+        // if called from a scheduled reload, it completes once the transaction is applied, so it can back off on failure.
+        Optional<CompletableFuture<Void>> completion = ScheduledReload.deferCompletion();
+        synchronized (pendingReloads) {
+            // only the first reload in the window schedules the transaction, the rest join it.
+            if (pendingReloads.isEmpty()) {
+                pendingReloadsResult = new CompletableFuture<>();
+                reloadScheduler.scheduleOnce(coalesceWindow, this::reloadPending);
             }
+            pendingReloads.add(reloadSourcePackage);
+            completion.ifPresent(it -> pendingReloadsResult.whenComplete((result, e) -> {
+                if (e == null) {
+                    it.complete(null);
+                } else {
+                    it.completeExceptionally(e);
+                }
+            }));
+        }
+    }
 
-            if (reloadSourcePackage == null) {
-                throw new GestaltException("No sources provided, unable to reload any configs");
-            }
+    /**
+     * Reload several sources as one transaction.
+     * The sources are all loaded, then merged into the config tree once, post processed once,
+     * and the core reload listeners are notified once.
+     *
+     * <p>The new config is built in a snapshot and only published once it has been merged, post processed and validated.
+     * If the reload fails the last good config keeps being served.
+     *
+     * @param reloadSourcePackages sources to reload
+     * @throws GestaltException any exception
+     */
+    @Override
+    public void reloadAll(List<ConfigSourcePackage> reloadSourcePackages) throws GestaltException {
+        // reloads are staged from the config being served, so they are applied one at a time.
+        synchronized (reloadLock) {
+            reloadAllInternal(reloadSourcePackages, null);
+        }
+    }
 
-            if (sourcePackages == null || sourcePackages.isEmpty()) {
+    // a lazy mount being mounted is loaded even though it is not mounted yet, and the core reload listeners are not notified,
+    // as no config under the mount path could have been read before it was mounted.
+    private void reloadAllInternal(List<ConfigSourcePackage> reloadSourcePackages, LazyMount mounting) throws GestaltException {
+        ObservationMarker reloadMarker = null;
+        try {
+            if (reloadSourcePackages == null || reloadSourcePackages.isEmpty() || reloadSourcePackages.contains(null)) {
                 throw new GestaltException("No sources provided, unable to reload any configs");
             }
 
-            var sourcePackageOpt = sourcePackages.stream().filter(it -> it.equals(reloadSourcePackage)).findFirst();
-            if (sourcePackageOpt.isEmpty()) {
-                throw new GestaltException("Can not reload a source that was not registered.");
+            if (gestaltConfig.isObservationsEnabled() && observationService != null) {
+                String sourceNames = reloadSourcePackages.stream()
+                    .map(it -> it.getConfigSource().name())
+                    .collect(Collectors.joining(","));
+                Tags tags = reloadSourcePackages.size() == 1 ? reloadSourcePackages.get(0).getTags() : Tags.of();
+                reloadMarker = observationService.startObservation("reload", Tags.of(Tags.of("source", sourceNames), tags));
             }
 
-            var reloadSource = sourcePackageOpt.get().getConfigSource();
+            List<ConfigNodeContainer> reloadNodes = new ArrayList<>();
+            List<ConfigSource> reloadSources = new ArrayList<>();
+            List<Pair<ConfigSourcePackage, String>> fingerprints = new ArrayList<>();
+            for (ConfigSourcePackage reloadSourcePackage : reloadSourcePackages) {
+                ConfigSourcePackage sourcePackage = findRegisteredSource(reloadSourcePackage);
+                var reloadSource = sourcePackage.getConfigSource();
+
+                LazyMount lazyMount = findLazyMount(sourcePackage);
+                if (lazyMount != null && !lazyMount.mounted && lazyMount != mounting) {
+                    logger.log(DEBUG, "Skipping reload of source {0} as it has not been mounted", reloadSource.name());
+                    continue;
+                }
 
-            ConfigLoader configLoader = configLoaderService.getLoader(reloadSourcePackage.getConfigSource().format());
-            var reloadNodes = configLoader.loadSource(sourcePackageOpt.get());
-            validateLoadResultsForErrors(reloadNodes, reloadSource);
+                FingerprintedConfigSource fingerprinted = null;
+                if (sourcePackage.isFingerprintContent()) {
+                    fingerprinted = FingerprintedConfigSource.of(reloadSource);
+                    if (fingerprinted.getFingerprint().equals(sourcePackage.getContentFingerprint().orElse(null))) {
+                        logger.log(DEBUG, "Skipping reload of source {0} as its content has not changed", reloadSource.name());
+                        continue;
+                    }
+                    fingerprints.add(new Pair<>(sourcePackage, fingerprinted.getFingerprint()));
+                }
 
-            reloadNodes.throwIfNoResults(() -> new GestaltException("no results found reloading source " + reloadSource.name()));
+                var sourceNodes = loadSource(sourcePackage, fingerprinted);
+                validateLoadResultsForErrors(sourceNodes, reloadSource);
 
-            for (ConfigNodeContainer reloadNode : reloadNodes.results()) {
-                GResultOf<ConfigNode> mergedNode = configNodeService.reloadNode(reloadNode);
-                validateLoadResultsForErrors(mergedNode, reloadSource);
+                sourceNodes.throwIfNoResults(() -> new GestaltException("no results found reloading source " + reloadSource.name()));
 
-                mergedNode.throwIfNoResults(() -> new GestaltException("no results found merging source " + reloadSource.name()));
+                reloadNodes.addAll(sourceNodes.results());
+                reloadSources.add(reloadSource);
+            }
 
-                postProcessConfigs();
+            // if none of the sources have changed there is nothing to rebuild and no listeners to notify.
+            if (reloadNodes.isEmpty()) {
+                if (gestaltConfig.isObservationsEnabled() && observationService != null) {
+                    observationService.finalizeObservation(reloadMarker, Tags.of("skipped", "true"));
+                }
+                return;
             }
 
-            coreReloadListenersContainer.reload();
+            // merge all the reloaded nodes into a snapshot as a single transaction, the config being served is not touched
+            // until the snapshot has been post processed and validated. If anything fails the last good config keeps being served.
+            GResultOf<ConfigNodeSnapshot> snapshot = configNodeService.stageReload(reloadNodes);
+            validateMergeResultsForErrors(snapshot, snapshot.hasResults() ? snapshot.results().getSourceErrors() : Map.of());
+
+            String reloadSourceNames = reloadSources.stream().map(ConfigSource::name).collect(Collectors.joining(", "));
+            snapshot.throwIfNoResults(() -> new GestaltException("no results found merging source " + reloadSourceNames));
+
+            validatePostProcessResults(configNodeService.processConfigNodes(snapshot.results()));
+            configNodeService.publish(snapshot.results());
+
+            // only record the new fingerprints once the reload has been applied, so a failed reload is retried.
+            fingerprints.forEach(it -> it.getFirst().setContentFingerprint(it.getSecond()));
+
+            if (mounting == null) {
+                coreReloadListenersContainer.reload();
+            }
             if (gestaltConfig.isObservationsEnabled() && observationService != null) {
                 observationService.finalizeObservation(reloadMarker, Tags.of());
             }
         } catch (Exception ex) {
             if (gestaltConfig.isObservationsEnabled() && observationService != null) {
                 observationService.finalizeObservation(reloadMarker, Tags.of("exception", ex.getClass().getCanonicalName()));
+                observationService.recordObservation("reload.failed", 1, Tags.of());
             }
             throw ex;
         }
     }
 
+    // load a source, if the source is lazily mounted its nodes are nested under the path it is mounted at.
+    private GResultOf<List<ConfigNodeContainer>> loadSource(ConfigSourcePackage sourcePackage, FingerprintedConfigSource fingerprinted)
+        throws GestaltException {
+        var results = readSource(sourcePackage, fingerprinted);
+        LazyMount lazyMount = findLazyMount(sourcePackage);
+        if (lazyMount == null || !results.hasResults()) {
+            return results;
+        }
+
+        List<ConfigNodeContainer> nodes = results.results().stream()
+            .map(it -> new ConfigNodeContainer(lazyMount.mount(it.getConfigNode()), it.getSource(), it.getTags()))
+            .collect(Collectors.toList());
+        lazyMount.mountedTags = nodes.stream().map(ConfigNodeContainer::getTags).collect(Collectors.toSet());
+        return GResultOf.resultOf(nodes, results.getErrors());
+    }
+
+    // read a source, if the source has been fingerprinted the content already read is loaded instead of reading the source again.
+    private GResultOf<List<ConfigNodeContainer>> readSource(ConfigSourcePackage sourcePackage, FingerprintedConfigSource fingerprinted)
+        throws GestaltException {
+        ConfigSource source = sourcePackage.getConfigSource();
+        ConfigLoader configLoader = configLoaderService.getLoader(source.format());
+        if (fingerprinted == null) {
+            return configLoader.loadSource(sourcePackage);
+        }
+
+        var results = configLoader.loadSource(
+            new ConfigSourcePackage(fingerprinted, sourcePackage.getConfigReloadStrategies(), sourcePackage.getTags()));
+        if (!results.hasResults()) {
+            return results;
+        }
+
+        // the nodes must belong to the original source, so a reload can find and replace them.
+        List<ConfigNodeContainer> nodes = results.results().stream()
+            .map(it -> it.getSource() == fingerprinted ? new ConfigNodeContainer(it.getConfigNode(), source, it.getTags()) : it)
+            .collect(Collectors.toList());
+        return GResultOf.resultOf(nodes, results.getErrors());
+    }
+
+    private LazyMount findLazyMount(ConfigSourcePackage sourcePackage) {
+        for (LazyMount lazyMount : lazyMounts) {
+            if (lazyMount.sourcePackage.equals(sourcePackage)) {
+                return lazyMount;
+            }
+        }
+        return null;
+    }
+
+    // mount any lazy sources at or under the path being accessed, the first time they are accessed.
+    private void mountLazySources(List<Token> tokens) throws GestaltException {
+        for (LazyMount lazyMount : lazyMounts) {
+            if (!lazyMount.isAccessedBy(tokens)) {
+                continue;
+            }
+
+            lazyMount.lastAccess = System.nanoTime();
+            if (!lazyMount.mounted) {
+                mountLazySource(lazyMount);
+            }
+        }
+    }
+
+    private void mountLazySource(LazyMount lazyMount) throws GestaltException {
+        synchronized (reloadLock) {
+            if (lazyMount.mounted) {
+                return;
+            }
+
+            // while the config snapshot is served there are no source nodes to mount the source into, so load the sources first.
+            // This also retries a background load that failed.
+            if (!sourcesLoaded) {
+                loadSourcesOverSnapshot(getSnapshotFile());
+            }
+
+            logger.log(DEBUG, "Mounting source {0} on first access", lazyMount.sourcePackage.getConfigSource().name());
+            reloadAllInternal(Collections.singletonList(lazyMount.sourcePackage), lazyMount);
+            // only marked as mounted once the source is published, until then any other reads of the path wait on the reload lock.
+            lazyMount.mounted = true;
+
+            lazyMount.sourcePackage.getLazyIdleEviction().ifPresent(it -> scheduleLazyEviction(lazyMount, it));
+        }
+    }
+
+    /**
+     * Record that a path was read from a cache in front of this Gestalt,
+     * so a lazily mounted source that is still read through the cache is not evicted as idle.
+     *
+     * @param path  the path read
+     * @param klass the type read, used to find any config prefix of the path
+     */
+    void recordAccess(String path, TypeCapture<?> klass) {
+        if (lazyMounts.isEmpty()) {
+            return;
+        }
+
+        String combinedPath = buildPathWithConfigPrefix(klass, path);
+        List<LazyMount> accessed = lazyMountsByPath.get(combinedPath);
+        if (accessed == null) {
+            accessed = findAccessedMounts(combinedPath);
+            if (lazyMountsByPath.size() < MAX_ACCESSED_PATHS) {
+                lazyMountsByPath.put(combinedPath, accessed);
+            }
+        }
+        if (!accessed.isEmpty()) {
+            long now = System.nanoTime();
+            accessed.forEach(it -> it.lastAccess = now);
+        }
+    }
+
+    private List<LazyMount> findAccessedMounts(String path) {
+        GResultOf<List<Token>> tokens = sentenceLexer.scan(path);
+        if (tokens.hasErrors() || !tokens.hasResults()) {
+            return List.of();
+        }
+        return lazyMounts.stream().filter(it -> it.isAccessedBy(tokens.results())).collect(Collectors.toList());
+    }
+
+    private void scheduleLazyEviction(LazyMount lazyMount, Duration delay) {
+        if (reloadScheduler != null && !reloadScheduler.isClosed()) {
+            reloadScheduler.scheduleOnce(delay, () -> evictIfIdle(lazyMount));
+        }
+    }
+
+    // remove a lazily mounted source from the config if it has not been accessed for its idle eviction time.
+    private void evictIfIdle(LazyMount lazyMount) {
+        synchronized (reloadLock) {
+            if (!lazyMount.mounted) {
+                return;
+            }
+
+            // any reads of the path from here on wait on the reload lock, then mount the source again.
+            // A read that found the source mounted has already recorded its access, so it is seen below and the source is kept.
+            lazyMount.mounted = false;
+
+            Duration idleEviction = lazyMount.sourcePackage.getLazyIdleEviction().orElseThrow();
+            Duration idle = Duration.ofNanos(System.nanoTime() - lazyMount.lastAccess);
+            if (idle.compareTo(idleEviction) < 0) {
+                lazyMount.mounted = true;
+                scheduleLazyEviction(lazyMount, idleEviction.minus(idle));
+                return;
+            }
+
+            String sourceName = lazyMount.sourcePackage.getConfigSource().name();
+            try {
+                // replace the nodes of the source with empty nodes, the source keeps its place in the merge order for the next mount.
+                List<ConfigNodeContainer> emptyNodes = lazyMount.mountedTags.stream()
+                    .map(it -> new ConfigNodeContainer(new MapNode(new HashMap<>()), lazyMount.sourcePackage.getConfigSource(), it))
+                    .collect(Collectors.toList());
+
+                GResultOf<ConfigNodeSnapshot> snapshot = configNodeService.stageReload(emptyNodes);
+                snapshot.throwIfNoResults(() -> new GestaltException("no results found evicting source " + sourceName));
+                validatePostProcessResults(configNodeService.processConfigNodes(snapshot.results()));
+                configNodeService.publish(snapshot.results());
+            } catch (GestaltException | RuntimeException e) {
+                // the source is still being served, so keep it mounted.
+                lazyMount.mounted = true;
+                logger.log(WARNING, "Unable to evict idle source " + sourceName + ", exception " + e, e);
+                return;
+            }
+
+            lazyMount.sourcePackage.setContentFingerprint(null);
+            logger.log(DEBUG, "Evicted source {0} after being idle for {1}", sourceName, idle);
+            coreReloadListenersContainer.reload();
+        }
+    }
+
+    private ConfigSourcePackage findRegisteredSource(ConfigSourcePackage reloadSourcePackage) throws GestaltException {
+        if (reloadSourcePackage == null) {
+            throw new GestaltException("No sources provided, unable to reload any configs");
+        }
+
+        if (sourcePackages == null || sourcePackages.isEmpty()) {
+            throw new GestaltException("No sources provided, unable to reload any configs");
+        }
+
+        var sourcePackageOpt = sourcePackages.stream().filter(it -> it.equals(reloadSourcePackage)).findFirst();
+        if (sourcePackageOpt.isEmpty()) {
+            throw new GestaltException("Can not reload a source that was not registered.");
+        }
+        return sourcePackageOpt.get();
+    }
+
+    private void reloadPending() {
+        List<ConfigSourcePackage> reloads;
+        CompletableFuture<Void> result;
+        synchronized (pendingReloads) {
+            reloads = new ArrayList<>(pendingReloads);
+            pendingReloads.clear();
+            result = pendingReloadsResult;
+        }
+
+        try {
+            reloadAll(reloads);
+            result.complete(null);
+        } catch (GestaltException | RuntimeException e) {
+            logger.log(System.Logger.Level.ERROR,
+                "Exception applying coalesced reload of " + reloads.size() + " sources, keeping the last good config, exception " + e, e);
+            // pass the failure back to any scheduled reloads waiting on the transaction.
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Stop all the reload strategies and shut down the reload scheduler owned by this Gestalt.
+     */
+    @Override
+    public void close() {
+        if (sourcePackages != null) {
+            sourcePackages.stream()
+                .flatMap(it -> it.getConfigReloadStrategies().stream())
+                .forEach(ConfigReloadStrategy::close);
+        }
+        reloadStrategies.forEach(ConfigReloadStrategy::close);
+
+        if (reloadScheduler != null && ownsReloadScheduler) {
+            reloadScheduler.close();
+        }
+    }
+
     void postProcessConfigs() throws GestaltException {
-        GResultOf<Boolean> results = configNodeService.processConfigNodes();
+        validatePostProcessResults(configNodeService.processConfigNodes());
+    }
 
+    private void validatePostProcessResults(GResultOf<Boolean> results) throws GestaltException {
         if (checkErrorsShouldFail(results, gestaltConfig)) {
             throw new GestaltException("Failed post processing config nodes with errors ",
                 results.getErrors());
@@ -272,6 +862,16 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
         results.throwIfNoResults(() -> new GestaltConfigurationException("No results found for node"));
     }
 
+    // each source is checked against the errors its own nodes introduced merging them, the same as adding them one at a time.
+    private void validateMergeResultsForErrors(GResultOf<?> results, Map<ConfigSource, List<ValidationError>> sourceErrors)
+        throws GestaltConfigurationException {
+        for (Map.Entry<ConfigSource, List<ValidationError>> entry : sourceErrors.entrySet()) {
+            validateLoadResultsForErrors(GResultOf.resultOf(results.results(), entry.getValue()), entry.getKey());
+        }
+
+        results.throwIfNoResults(() -> new GestaltConfigurationException("No results found for node"));
+    }
+
     private <T> String buildPathWithConfigPrefix(TypeCapture<T> klass, String path) {
         StringBuilder combinedPath = new StringBuilder(path);
         // if the type is annotated with ConfigPrefix add the prefix after the path.
@@ -466,6 +1066,11 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
             if (tokens.hasErrors()) {
                 throw new GestaltException("Unable to parse path: " + combinedPath, tokens.getErrors());
             } else {
+                if (!lazyMounts.isEmpty()) {
+                    mountLazySources(tokens.results());
+                }
+                awaitBackgroundLoad(combinedPath, tokens.results());
+
                 GResultOf<T> results = getAndDecodeConfig(combinedPath, tokens.results(), klass, tags);
 
                 getConfigObservations(results, combinedPath, klass, tags, failOnErrors);
@@ -597,4 +1202,65 @@ public class GestaltCore implements Gestalt, ConfigReloadListener {
     public String debugPrint() {
         return configNodeService.debugPrintRoot(secretConcealer);
     }
+
+    @Override
+    public void export(Appendable out, ConfigExportOptions options) throws GestaltException {
+        Objects.requireNonNull(out, "the export output should not be null");
+        Objects.requireNonNull(options, "the export options should not be null");
+
+        String path = options.getPath();
+        GResultOf<List<Token>> tokens = sentenceLexer.scan(path);
+        if (tokens.hasErrors()) {
+            throw new GestaltException("Unable to parse path: " + path, tokens.getErrors());
+        }
+
+        if (!lazyMounts.isEmpty()) {
+            mountLazySources(tokens.results());
+        }
+        awaitBackgroundLoad(path, tokens.results());
+
+        Tags tags = options.getTags() != null ? tagMergingStrategy.mergeTags(options.getTags(), defaultTags) : defaultTags;
+        GResultOf<ConfigNode> node = configNodeService.navigateToNode(path, tokens.results(), tags);
+        if (!node.hasResults()) {
+            throw new GestaltException("Unable to export the config for path: " + path + ", with tags: " + tags, node.getErrors());
+        }
+
+        try {
+            new ConfigExporter(sentenceLexer, secretConcealer).export(out, path, node.results(), options);
+        } catch (IOException e) {
+            throw new GestaltException("Unable to export the config for path: " + path + ", message: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * A source lazily mounted at a path, and its mount state.
+     */
+    private static final class LazyMount {
+        private final ConfigSourcePackage sourcePackage;
+        private final List<Token> pathTokens;
+        private volatile boolean mounted = false;
+        private volatile long lastAccess;
+        private volatile Set<Tags> mountedTags = Set.of();
+
+        private LazyMount(ConfigSourcePackage sourcePackage, List<Token> pathTokens) {
+            this.sourcePackage = sourcePackage;
+            this.pathTokens = pathTokens;
+        }
+
+        // a path accesses the mount if it is at or under the mount path, or is a parent of the mount path.
+        private boolean isAccessedBy(List<Token> tokens) {
+            return isOnPath(pathTokens, tokens);
+        }
+
+        // nest a node under the mount path.
+        private ConfigNode mount(ConfigNode node) {
+            ConfigNode mountedNode = node;
+            for (int i = pathTokens.size() - 1; i >= 0; i--) {
+                Map<String, ConfigNode> mapNode = new HashMap<>();
+                mapNode.put(((ObjectToken) pathTokens.get(i)).getName(), mountedNode);
+                mountedNode = new MapNode(mapNode);
+            }
+            return mountedNode;
+        }
+    }
 }
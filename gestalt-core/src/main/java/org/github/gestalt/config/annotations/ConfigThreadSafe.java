@@ -0,0 +1,18 @@
+package org.github.gestalt.config.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * A annotation to mark a config node processor as safe to run on several threads at once.
+ * The config nodes are only post processed in parallel if every config node processor has this annotation.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+@Target(value = {TYPE})
+@Retention(value = RUNTIME)
+public @interface ConfigThreadSafe {
+}
@@ -27,6 +27,7 @@ import org.github.gestalt.config.processor.result.validation.ValidationResultPro
 import org.github.gestalt.config.reload.ConfigReloadStrategy;
 import org.github.gestalt.config.reload.CoreReloadListener;
 import org.github.gestalt.config.reload.CoreReloadListenersContainer;
+import org.github.gestalt.config.reload.ReloadScheduler;
 import org.github.gestalt.config.secret.rules.*;
 import org.github.gestalt.config.security.encrypted.EncryptedSecretModule;
 import org.github.gestalt.config.security.temporary.TemporarySecretModule;
@@ -41,9 +42,12 @@ import org.github.gestalt.config.utils.CollectionUtils;
 import org.github.gestalt.config.utils.Pair;
 
 import java.lang.System.Logger.Level;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
+import javax.crypto.SecretKey;
 
 import static java.lang.System.Logger.Level.TRACE;
 import static java.lang.System.Logger.Level.WARNING;
@@ -94,6 +98,7 @@ public class GestaltBuilder {
     private List<ConfigNodeFactory> configSourceFactories = new ArrayList<>();
     private ConfigNodeTagResolutionStrategy configNodeTagResolutionStrategy;
     private TagMergingStrategy tagMergingStrategy;
+    private ReloadScheduler reloadScheduler;
     private boolean useCacheDecorator = true;
     private Set<String> securityMaskingRules = new HashSet<>(
         List.of("bearer", "cookie", "credential", "id",
@@ -112,6 +117,17 @@ public class GestaltBuilder {
     private Boolean treatMissingDiscretionaryValuesAsErrors = null;
     // If we should enable observations
     private Boolean observationsEnabled = null;
+    // window to coalesce reloads into a single transaction
+    private Duration reloadCoalesceWindow = null;
+
+    // if reloads are built on the reload scheduler
+    private Boolean backgroundReload = null;
+
+    // path of the snapshot of the config used for warm starts
+    private Path snapshotPath = null;
+
+    // key to encrypt the secrets in the snapshot with
+    private SecretKey snapshotSecretKey = null;
     // If we should enable Validation
     private boolean validationEnabled = false;
 
@@ -161,6 +177,9 @@ public class GestaltBuilder {
     // The keyword that is used to determine if a node is an include from a source
     private Integer nodeNestedIncludeLimit = null;
 
+    // the minimum number of children of a node before they are post processed in parallel
+    private Integer parallelPostProcessingThreshold = null;
+
     // Defines how the proxy decoder works. See the enum for details.
     private ProxyDecoderMode proxyDecoderMode = null;
 
@@ -1237,6 +1256,71 @@ public class GestaltBuilder {
         return this;
     }
 
+    /**
+     * Set the ReloadScheduler that all the reload strategies run their background work on.
+     * A scheduler set here is shared and is not closed when Gestalt is closed.
+     * If not set, the builder creates a scheduler that is owned by and closed with the Gestalt.
+     *
+     * @param reloadScheduler the scheduler the reload strategies run their background work on
+     * @return the builder
+     */
+    public GestaltBuilder setReloadScheduler(ReloadScheduler reloadScheduler) {
+        this.reloadScheduler = reloadScheduler;
+        return this;
+    }
+
+    /**
+     * Set the window to coalesce reloads into a single transaction. Reloads of any sources that arrive within the window are
+     * applied together with one merge, one post-processing pass and one notification to the core reload listeners.
+     * Zero, the default, reloads each source immediately.
+     *
+     * @param reloadCoalesceWindow the window to coalesce reloads
+     * @return the builder
+     */
+    public GestaltBuilder setReloadCoalesceWindow(Duration reloadCoalesceWindow) {
+        this.reloadCoalesceWindow = reloadCoalesceWindow;
+        return this;
+    }
+
+    /**
+     * Set if reloads are built on the reload scheduler instead of the thread that detected the change.
+     * The new config is only published once it has been fully built and validated,
+     * if the reload fails the last good config keeps being served.
+     *
+     * @param backgroundReload if reloads are built in the background
+     * @return the builder
+     */
+    public GestaltBuilder setBackgroundReload(boolean backgroundReload) {
+        this.backgroundReload = backgroundReload;
+        return this;
+    }
+
+    /**
+     * Set the path of a snapshot of the config used for warm starts.
+     * Once the config is loaded it is written to the snapshot. On the next start up, if the snapshot is valid it is served
+     * immediately while the sources are loaded in the background on the reload scheduler, then replaced by the loaded config.
+     * If the background load fails the snapshot keeps being served.
+     *
+     * @param snapshotPath the path of the snapshot of the config
+     * @return the builder
+     */
+    public GestaltBuilder setSnapshotPath(Path snapshotPath) {
+        this.snapshotPath = snapshotPath;
+        return this;
+    }
+
+    /**
+     * Set the AES key used to encrypt the secrets in the snapshot of the config.
+     * If not set, secrets are left out of the snapshot and are only available once the sources have been loaded.
+     *
+     * @param snapshotSecretKey the key used to encrypt the secrets in the snapshot
+     * @return the builder
+     */
+    public GestaltBuilder setSnapshotSecretKey(SecretKey snapshotSecretKey) {
+        this.snapshotSecretKey = snapshotSecretKey;
+        return this;
+    }
+
     /**
      * Set a date decoder format. Used to decode date times.
      *
@@ -1444,6 +1528,20 @@ public class GestaltBuilder {
         return this;
     }
 
+    /**
+     * Sets the minimum number of children of a map or array node before they are post processed in parallel on the common
+     * ForkJoinPool. Only used if all the config node processors are annotated with
+     * {@link org.github.gestalt.config.annotations.ConfigThreadSafe}, otherwise the nodes are post processed sequentially.
+     * Any errors are reported in the same order as a sequential post processing. Zero, the default, disables parallel post processing.
+     *
+     * @param parallelPostProcessingThreshold the minimum number of children before they are post processed in parallel
+     * @return GestaltBuilder builder
+     */
+    public GestaltBuilder setParallelPostProcessingThreshold(int parallelPostProcessingThreshold) {
+        this.parallelPostProcessingThreshold = parallelPostProcessingThreshold;
+        return this;
+    }
+
     /**
      * Get the mode the for proxy decoder.
      *
@@ -1558,7 +1656,8 @@ public class GestaltBuilder {
 
         if (configNodeProcessorService == null) {
             // initialize the ConfigNodeProcessorManager dont provide configNodeProcessors yet, they will be added below.
-            configNodeProcessorService = new ConfigNodeProcessorManager(List.of(), List.of(), sentenceLexer);
+            configNodeProcessorService = new ConfigNodeProcessorManager(List.of(), List.of(), sentenceLexer,
+                gestaltConfig.getParallelPostProcessingThreshold());
         }
 
         if (configNodeService == null) {
@@ -1578,24 +1677,34 @@ public class GestaltBuilder {
         configureConfigLoaders();
         configureConfigSourceFactory();
 
+        // if the scheduler was not provided, create one that is owned by and closed with this Gestalt.
+        ReloadScheduler scheduler = reloadScheduler == null ? new ReloadScheduler() : reloadScheduler;
+
         configureTemporaryNodesModule();
         configureEncryptedSecretsNodesModule();
-        configureConfigNodeProcessor();
-        configureRunTimeConfigNodeProcessor();
+        configureConfigNodeProcessor(scheduler);
+        configureRunTimeConfigNodeProcessor(scheduler);
 
         // create a new GestaltCoreReloadStrategy to listen for Gestalt Core Reloads.
         CoreReloadListenersContainer coreReloadListenersContainer = new CoreReloadListenersContainer();
+
         final GestaltCore gestaltCore = new GestaltCore(configLoaderService, configSourcePackages, decoderService, sentenceLexer,
             gestaltConfig, configNodeService, configNodeProcessorService, coreReloadListenersContainer, secretConcealer, observationService,
-            resultsProcessorService, defaultTags, tagMergingStrategy);
+            resultsProcessorService, defaultTags, tagMergingStrategy, List.copyOf(reloadStrategies), scheduler, reloadScheduler == null);
 
-        // register gestaltCore with all the source reload strategies.
-        reloadStrategies.forEach(it -> it.registerListener(gestaltCore));
+        // register gestaltCore with all the source reload strategies, running them on the shared scheduler.
+        reloadStrategies.forEach(it -> {
+            it.setReloadScheduler(scheduler);
+            it.registerListener(gestaltCore);
+        });
 
-        // register gestaltCore with all the source reload strategies.
+        // register gestaltCore with all the source reload strategies, running them on the shared scheduler.
         configSourcePackages.stream()
             .flatMap(it -> it.getConfigReloadStrategies().stream())
-            .forEach(it -> it.registerListener(gestaltCore));
+            .forEach(it -> {
+                it.setReloadScheduler(scheduler);
+                it.registerListener(gestaltCore);
+            });
         // Add all listeners for the core update.
         coreCoreReloadListeners.forEach(coreReloadListenersContainer::registerListener);
 
@@ -1617,7 +1726,7 @@ public class GestaltBuilder {
         }
     }
 
-    private void configureConfigNodeProcessor() {
+    private void configureConfigNodeProcessor(ReloadScheduler scheduler) {
         if (configNodeProcessors.isEmpty()) {
             logger.log(TRACE, "No Config Node Processors provided, using defaults");
             addDefaultPostProcessors();
@@ -1626,14 +1735,14 @@ public class GestaltBuilder {
         configNodeProcessors = configNodeProcessors.stream().filter(Objects::nonNull).collect(Collectors.toList());
 
         ConfigNodeProcessorConfig config = new ConfigNodeProcessorConfig(gestaltConfig, configNodeService, sentenceLexer,
-            secretConcealer, configNodeFactoryService);
+            secretConcealer, configNodeFactoryService, scheduler);
 
         configNodeProcessors.forEach(it -> it.applyConfig(config));
 
         configNodeProcessorService.addConfigNodeProcessors(configNodeProcessors);
     }
 
-    private void configureRunTimeConfigNodeProcessor() {
+    private void configureRunTimeConfigNodeProcessor(ReloadScheduler scheduler) {
         if (runTimeConfigNodeProcessors.isEmpty()) {
             logger.log(TRACE, "No Runtime Config Node Processors provided, using defaults");
             addDefaultRunTimeConfigNodeProcessor();
@@ -1642,7 +1751,7 @@ public class GestaltBuilder {
         runTimeConfigNodeProcessors = runTimeConfigNodeProcessors.stream().filter(Objects::nonNull).collect(Collectors.toList());
 
         ConfigNodeProcessorConfig config = new ConfigNodeProcessorConfig(gestaltConfig, configNodeService, sentenceLexer,
-            secretConcealer, configNodeFactoryService);
+            secretConcealer, configNodeFactoryService, scheduler);
 
         runTimeConfigNodeProcessors.forEach(it -> it.applyConfig(config));
 
@@ -1877,6 +1986,16 @@ public class GestaltBuilder {
         newConfig.setObservationsEnabled(Objects.requireNonNullElseGet(observationsEnabled,
             () -> gestaltConfig.isObservationsEnabled()));
 
+        newConfig.setReloadCoalesceWindow(Objects.requireNonNullElseGet(reloadCoalesceWindow,
+            () -> gestaltConfig.getReloadCoalesceWindow()));
+
+        newConfig.setBackgroundReload(Objects.requireNonNullElseGet(backgroundReload,
+            () -> gestaltConfig.isBackgroundReload()));
+
+        newConfig.setSnapshotPath(snapshotPath != null ? snapshotPath : gestaltConfig.getSnapshotPath());
+
+        newConfig.setSnapshotSecretKey(snapshotSecretKey != null ? snapshotSecretKey : gestaltConfig.getSnapshotSecretKey());
+
         newConfig.setSentenceLexer(Objects.requireNonNullElseGet(sentenceLexer,
             () -> gestaltConfig.getSentenceLexer()));
 
@@ -1886,6 +2005,9 @@ public class GestaltBuilder {
         newConfig.setNodeNestedIncludeLimit(Objects.requireNonNullElseGet(nodeNestedIncludeLimit,
             () -> gestaltConfig.getNodeNestedIncludeLimit()));
 
+        newConfig.setParallelPostProcessingThreshold(Objects.requireNonNullElseGet(parallelPostProcessingThreshold,
+            () -> gestaltConfig.getParallelPostProcessingThreshold()));
+
         return newConfig;
     }
 }
@@ -1,5 +1,6 @@
 package org.github.gestalt.config.builder;
 
+import org.github.gestalt.config.exceptions.GestaltConfigurationException;
 import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.reload.ConfigReloadStrategy;
 import org.github.gestalt.config.source.ConfigSource;
@@ -7,6 +8,7 @@ import org.github.gestalt.config.source.ConfigSourcePackage;
 import org.github.gestalt.config.tag.Tag;
 import org.github.gestalt.config.tag.Tags;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -20,6 +22,9 @@ public abstract class SourceBuilder<SELF extends SourceBuilder<SELF, T>, T exten
     protected final List<ConfigReloadStrategy> configReloadStrategies = new ArrayList<>();
     protected ConfigSource source;
     protected Tags tags = Tags.of();
+    protected boolean fingerprintContent = false;
+    protected String lazyMountPath = null;
+    protected Duration lazyIdleEviction = null;
 
     /**
      * Get the tags for the builder.
@@ -91,6 +96,46 @@ public abstract class SourceBuilder<SELF extends SourceBuilder<SELF, T>, T exten
         return self();
     }
 
+    /**
+     * If the content of the source should be fingerprinted. When enabled a reload of the source is skipped, with no
+     * rebuild of the config tree or notifications to the listeners, if the content has not changed since the last load.
+     * The content is read once on each load and served from memory to the loader.
+     *
+     * @param fingerprintContent if the content of the source should be fingerprinted
+     * @return the builder
+     */
+    public SELF setFingerprintContent(boolean fingerprintContent) {
+        this.fingerprintContent = fingerprintContent;
+        return self();
+    }
+
+    /**
+     * Lazily mount the source at a path. The source is not loaded with the other sources, instead it is loaded, parsed and
+     * merged under the path the first time a config at or under the path is accessed.
+     *
+     * @param lazyMountPath the path to mount the source at
+     * @return the builder
+     */
+    public SELF setLazyMount(String lazyMountPath) {
+        return setLazyMount(lazyMountPath, null);
+    }
+
+    /**
+     * Lazily mount the source at a path. The source is not loaded with the other sources, instead it is loaded, parsed and
+     * merged under the path the first time a config at or under the path is accessed.
+     * If the path is not accessed for the idle eviction time, the source is removed from the config until it is next accessed.
+     *
+     * @param lazyMountPath    the path to mount the source at
+     * @param lazyIdleEviction how long the source can go without being accessed before it is evicted, or null to never evict it
+     * @return the builder
+     */
+    public SELF setLazyMount(String lazyMountPath, Duration lazyIdleEviction) {
+        Objects.requireNonNull(lazyMountPath, "Lazy mount path must not be null");
+        this.lazyMountPath = lazyMountPath;
+        this.lazyIdleEviction = lazyIdleEviction;
+        return self();
+    }
+
     /**
      * Build the ConfigSourcePackage with the config source, tags and any reload strategies.
      *
@@ -104,7 +149,17 @@ public abstract class SourceBuilder<SELF extends SourceBuilder<SELF, T>, T exten
         // for now to maintain backwards compatibility add all config source tags to the builder tags
         var combinedTags = tags.and(source.getTags());
 
-        var configSourcePackage = new ConfigSourcePackage(source, configReloadStrategies, Tags.of(combinedTags));
+        if (lazyMountPath != null && lazyMountPath.isBlank()) {
+            throw new GestaltConfigurationException("Lazy mount path for source " + source.name() + " must not be empty");
+        }
+
+        if (lazyIdleEviction != null && (lazyIdleEviction.isNegative() || lazyIdleEviction.isZero())) {
+            throw new GestaltConfigurationException("Lazy mount idle eviction for source " + source.name() +
+                " must be greater than 0, provided: " + lazyIdleEviction);
+        }
+
+        var configSourcePackage = new ConfigSourcePackage(source, configReloadStrategies, Tags.of(combinedTags), fingerprintContent,
+            lazyMountPath, lazyIdleEviction);
 
         for (var reloadStrategy : configReloadStrategies) {
             reloadStrategy.setSource(configSourcePackage);
@@ -7,21 +7,23 @@ import org.github.gestalt.config.node.LeafNode;
 import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
-import org.github.gestalt.config.utils.PathUtil;
+import org.github.gestalt.config.utils.StringUtils;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Decodes primitive arrays of any type.
  *
+ * <p>Arrays of int, long and double are parsed straight into the array without boxing,
+ * as long as the elements would be decoded by the built-in decoders. Any value they can not parse is passed to the decoder,
+ * so the errors are the same.
+ *
  * @param <T> type of array
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class ArrayDecoder<T> implements Decoder<T[]> {
+public final class ArrayDecoder<T> implements Decoder<T[]>, CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -46,15 +48,8 @@ public final class ArrayDecoder<T> implements Decoder<T[]> {
         } else if (node instanceof LeafNode) {
             var valueOptional = node.getValue();
             if (valueOptional.isPresent()) {
-                String value = valueOptional.get();
-                String[] array = value.split("(?<!\\\\),");
-                List<ConfigNode> leafNodes = Arrays.stream(array)
-                    .map(String::trim)
-                    .map(it -> it.replace("\\,", ","))
-                    .map(LeafNode::new)
-                    .collect(Collectors.toList());
-
-                results = arrayDecode(path, tags, new ArrayNode(leafNodes), type, decoderContext);
+                results = arrayDecode(path, tags, new ArrayNode(CollectionDecoder.splitLeafValue(valueOptional.get())), type,
+                    decoderContext);
             } else {
                 results = GResultOf.errors(new ValidationError.DecodingLeafMissingValue(path, name()));
             }
@@ -74,18 +69,21 @@ public final class ArrayDecoder<T> implements Decoder<T[]> {
      * @param decoderContext The decoder context
      * @return GResultOf array built from the config node
      */
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({"unchecked", "rawtypes"})
     private GResultOf<T[]> arrayDecode(String path, Tags tags, ConfigNode node, TypeCapture<?> klass, DecoderContext decoderContext) {
+        Class<?> componentType = klass.getComponentType();
+        if (componentType.isPrimitive()) {
+            return (GResultOf) primitiveArrayDecode(path, tags, node, componentType, decoderContext);
+        }
+
         List<ValidationError> errors = new ArrayList<>();
-        T[] results = (T[]) Array.newInstance(klass.getComponentType(), node.size());
+        T[] results = (T[]) Array.newInstance(componentType, node.size());
 
+        ElementDecoder elementDecoder = new ElementDecoder(path, tags, TypeCapture.of(componentType), decoderContext);
         for (int i = 0; i < node.size(); i++) {
             var valueOptional = node.getIndex(i);
             if (valueOptional.isPresent()) {
-                ConfigNode currentNode = valueOptional.get();
-                String nextPath = PathUtil.pathForIndex(decoderContext.getDefaultLexer(), path, i);
-                GResultOf<?> resultOf = decoderContext.getDecoderService()
-                    .decodeNode(nextPath, tags, currentNode, TypeCapture.of(klass.getComponentType()), decoderContext);
+                GResultOf<?> resultOf = elementDecoder.decode(i, valueOptional.get());
 
                 errors.addAll(resultOf.getErrors());
                 if (resultOf.hasResults()) {
@@ -100,4 +98,56 @@ public final class ArrayDecoder<T> implements Decoder<T[]> {
 
         return GResultOf.resultOf(results, errors);
     }
+
+    private GResultOf<Object> primitiveArrayDecode(String path, Tags tags, ConfigNode node, Class<?> componentType,
+                                                   DecoderContext decoderContext) {
+        List<ValidationError> errors = new ArrayList<>();
+        Object results = Array.newInstance(componentType, node.size());
+
+        ElementDecoder elementDecoder = new ElementDecoder(path, tags, TypeCapture.of(componentType), decoderContext);
+        for (int i = 0; i < node.size(); i++) {
+            var valueOptional = node.getIndex(i);
+            if (valueOptional.isEmpty()) {
+                // a missing index is left as the default value of the primitive.
+                errors.add(new ValidationError.ArrayMissingIndex(i));
+            } else if (!parsePrimitive(results, i, valueOptional.get(), elementDecoder)) {
+                GResultOf<?> resultOf = elementDecoder.decode(i, valueOptional.get());
+
+                errors.addAll(resultOf.getErrors());
+                if (resultOf.hasResults()) {
+                    Array.set(results, i, resultOf.results());
+                }
+            }
+        }
+
+        return GResultOf.resultOf(results, errors);
+    }
+
+    // parse a value straight into the array, only for plain leaf nodes that would be decoded by the built-in decoders.
+    private static boolean parsePrimitive(Object results, int index, ConfigNode node, ElementDecoder elementDecoder) {
+        if (node.getClass() != LeafNode.class || node.getValue().isEmpty()) {
+            return false;
+        }
+
+        String value = node.getValue().get();
+        try {
+            if (results instanceof int[] && StringUtils.isInteger(value) &&
+                elementDecoder.decoder(index, node) instanceof IntegerDecoder) {
+                ((int[]) results)[index] = Integer.parseInt(value);
+                return true;
+            } else if (results instanceof long[] && StringUtils.isInteger(value) &&
+                elementDecoder.decoder(index, node) instanceof LongDecoder) {
+                ((long[]) results)[index] = Long.parseLong(value);
+                return true;
+            } else if (results instanceof double[] && StringUtils.isReal(value) &&
+                elementDecoder.decoder(index, node) instanceof DoubleDecoder) {
+                ((double[]) results)[index] = Double.parseDouble(value);
+                return true;
+            }
+        } catch (NumberFormatException e) {
+            // let the decoder report the error.
+            return false;
+        }
+        return false;
+    }
 }
@@ -14,7 +14,7 @@ import java.math.BigDecimal;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class BigDecimalDecoder extends LeafDecoder<BigDecimal> {
+public final class BigDecimalDecoder extends LeafDecoder<BigDecimal> implements CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -14,7 +14,7 @@ import java.math.BigInteger;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class BigIntegerDecoder extends LeafDecoder<BigInteger> {
+public final class BigIntegerDecoder extends LeafDecoder<BigInteger> implements CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -13,7 +13,7 @@ import java.nio.charset.Charset;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class ByteDecoder extends LeafDecoder<Byte> {
+public final class ByteDecoder extends LeafDecoder<Byte> implements CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -14,7 +14,7 @@ import java.util.List;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class CharDecoder extends LeafDecoder<Character> {
+public final class CharDecoder extends LeafDecoder<Character> implements CoreDecoder {
 
     @Override
     public Priority priority() {
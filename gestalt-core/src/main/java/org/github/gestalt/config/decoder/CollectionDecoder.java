@@ -8,10 +8,9 @@ import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Base class for decoding collections. Will handle validation of the node type.
@@ -34,15 +33,7 @@ public abstract class CollectionDecoder<T extends Collection<?>> implements Deco
         } else if (node instanceof LeafNode) {
             var valueOptional = node.getValue();
             if (valueOptional.isPresent()) {
-                String value = valueOptional.get();
-                String[] array = value.split("(?<!\\\\),");
-                List<ConfigNode> leafNodes = Arrays.stream(array)
-                    .map(String::trim)
-                    .map(it -> it.replace("\\,", ","))
-                    .map(LeafNode::new)
-                    .collect(Collectors.toList());
-
-                results = arrayDecode(path, tags, new ArrayNode(leafNodes), type, decoderContext);
+                results = arrayDecode(path, tags, new ArrayNode(splitLeafValue(valueOptional.get())), type, decoderContext);
             } else {
                 results = GResultOf.errors(new ValidationError.DecodingLeafMissingValue(path, name()));
             }
@@ -52,6 +43,43 @@ public abstract class CollectionDecoder<T extends Collection<?>> implements Deco
         return results;
     }
 
+    /**
+     * Split a comma separated leaf value into trimmed leaf nodes, a comma escaped with a backslash is kept in the value.
+     * The same as splitting on the regex (?&lt;!\\), without running a regex, so trailing empty values are dropped.
+     *
+     * @param value the comma separated value
+     * @return the leaf nodes for each value
+     */
+    static List<ConfigNode> splitLeafValue(String value) {
+        List<ConfigNode> leafNodes = new ArrayList<>();
+        int start = 0;
+        int lastNonEmpty = 0;
+        for (int i = 0; i <= value.length(); i++) {
+            if (i == value.length() || (value.charAt(i) == ',' && (i == 0 || value.charAt(i - 1) != '\\'))) {
+                leafNodes.add(new LeafNode(value.substring(start, i).trim().replace("\\,", ",")));
+                if (i > start) {
+                    lastNonEmpty = leafNodes.size();
+                }
+                start = i + 1;
+            }
+        }
+
+        if (!value.isEmpty()) {
+            leafNodes.subList(lastNonEmpty, leafNodes.size()).clear();
+        }
+        return leafNodes;
+    }
+
+    /**
+     * The initial capacity of a hash based collection, so it can hold the number of values without resizing.
+     *
+     * @param size the number of values
+     * @return the initial capacity
+     */
+    static int hashCapacity(int size) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) Math.ceil(size / 0.75d));
+    }
+
     /**
      * Decode an array values.
      *
@@ -11,7 +11,7 @@ import org.github.gestalt.config.utils.GResultOf;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class ConfigDecoder implements Decoder<ConfigContainer<?>> {
+public final class ConfigDecoder implements Decoder<ConfigContainer<?>>, CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -0,0 +1,10 @@
+package org.github.gestalt.config.decoder;
+
+/**
+ * Marks the decoders shipped with gestalt core. They decide if they can decode a node from only the type of the node and the type,
+ * so the decoder found for one element of an array, list or set can be reused for the rest of the elements.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+interface CoreDecoder {
+}
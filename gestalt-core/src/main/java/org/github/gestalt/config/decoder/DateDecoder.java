@@ -19,7 +19,7 @@ import java.util.Date;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class DateDecoder extends LeafDecoder<Date> {
+public final class DateDecoder extends LeafDecoder<Date> implements CoreDecoder {
 
     private DateTimeFormatter formatter;
 
@@ -16,7 +16,10 @@ import org.github.gestalt.config.utils.GResultOf;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -26,11 +29,15 @@ import java.util.stream.Collectors;
  */
 public final class DecoderRegistry implements DecoderService {
     private static final System.Logger logger = System.getLogger(DecoderRegistry.class.getName());
+    // Upper bound on the number of sentences memoized per path mapper, once reached new sentences are mapped on every call.
+    private static final int MAX_MAPPED_PATHS = 10_000;
 
     private final ConfigNodeService configNodeService;
     private final SentenceLexer lexer;
     private List<Decoder<?>> decoders = new ArrayList<>();
     private List<PathMapper> pathMappers;
+    // For each path mapper, in the same order, the tokens it produced for a sentence.
+    private List<Map<String, List<Token>>> mappedPaths;
 
     /**
      * Constructor to build Decoder Registry.
@@ -61,6 +68,7 @@ public final class DecoderRegistry implements DecoderService {
             throw new GestaltConfigurationException("pathMappers can not be null or empty");
         } else {
             this.pathMappers = CollectionUtils.buildOrderedConfigPriorities(pathMappers, false);
+            this.mappedPaths = buildMappedPaths(this.pathMappers);
         }
 
         if (decoders == null || decoders.isEmpty()) {
@@ -92,9 +100,18 @@ public final class DecoderRegistry implements DecoderService {
 
     @Override
     public void setPathMappers(List<PathMapper> pathMappers) {
+        this.mappedPaths = buildMappedPaths(pathMappers);
         this.pathMappers = pathMappers;
     }
 
+    private static List<Map<String, List<Token>>> buildMappedPaths(List<PathMapper> pathMappers) {
+        List<Map<String, List<Token>>> mapped = new ArrayList<>(pathMappers.size());
+        for (int i = 0; i < pathMappers.size(); i++) {
+            mapped.add(new ConcurrentHashMap<>());
+        }
+        return mapped;
+    }
+
     /**
      * get a decode for a specific class.
      *
@@ -120,33 +137,74 @@ public final class DecoderRegistry implements DecoderService {
     @SuppressWarnings({"rawtypes", "unchecked"})
     public <T> GResultOf<T> decodeNode(String path, Tags tags, ConfigNode configNode, TypeCapture<T> klass,
                                        DecoderContext decoderContext) {
+        Decoder decoder = getDecoder(path, tags, configNode, klass);
+        if (decoder == null) {
+            return GResultOf.errors(new ValidationError.NoDecodersFound(klass.getName(), configNode));
+        }
+
+        return decoder.decode(path, tags, configNode, klass, decoderContext);
+    }
+
+    /**
+     * Get the highest priority decoder for a class.
+     *
+     * @param path       the current path
+     * @param tags       the tags for the current request
+     * @param configNode the node to decode
+     * @param klass      TypeCapture class to search for a decoder
+     * @param <T>        the generic type of the class
+     * @return the highest priority decoder that can decode the class, or null if there are none
+     */
+    @SuppressWarnings("rawtypes")
+    <T> Decoder getDecoder(String path, Tags tags, ConfigNode configNode, TypeCapture<T> klass) {
         List<Decoder> classDecoder = getDecoderForClass(path, tags, configNode, klass);
         classDecoder.sort(Comparator.comparingInt(v -> v.priority().ordinal()));
         if (classDecoder.isEmpty()) {
-            return GResultOf.errors(new ValidationError.NoDecodersFound(klass.getName(), configNode));
+            return null;
         } else if (classDecoder.size() > 1) {
             logger.log(System.Logger.Level.TRACE, "Found multiple decoders for {0}, found: {1}, using {2}: ",
                 klass, classDecoder, classDecoder.get(0));
         }
 
-        return classDecoder.get(0).decode(path, tags, configNode, klass, decoderContext);
+        return classDecoder.get(0);
     }
 
     @Override
     public GResultOf<ConfigNode> getNextNode(String path, String nextPath, ConfigNode configNode) {
         GResultOf<ConfigNode> result;
         List<ValidationError> errors = new ArrayList<>();
-        for (PathMapper pathMapper : pathMappers) {
-            GResultOf<List<Token>> pathGResultOf = pathMapper.map(path, nextPath, lexer);
-
-            // if there are errors, add them to the error list and do not add the merge results
-            errors.addAll(pathGResultOf.getErrors());
+        List<PathMapper> mappers = pathMappers;
+        List<Map<String, List<Token>>> mapped = mappedPaths;
+        List<List<Token>> navigatedTokens = new ArrayList<>(mappers.size());
+        for (int i = 0; i < mappers.size(); i++) {
+            // The tokens only depend on the sentence, so reuse the tokens a path mapper has already produced for it.
+            Map<String, List<Token>> mappedSentences = mapped.size() == mappers.size() ? mapped.get(i) : new HashMap<>();
+            List<Token> nextTokens = mappedSentences.get(nextPath);
+            if (nextTokens == null) {
+                GResultOf<List<Token>> pathGResultOf = mappers.get(i).map(path, nextPath, lexer);
+
+                // if there are errors, add them to the error list and do not add the merge results
+                errors.addAll(pathGResultOf.getErrors());
+
+                if (!pathGResultOf.hasResults()) {
+                    continue;
+                }
+
+                nextTokens = pathGResultOf.results();
+
+                // errors reference the current path, so only memoize clean results.
+                if (!pathGResultOf.hasErrors() && mappedSentences.size() < MAX_MAPPED_PATHS) {
+                    nextTokens = List.copyOf(nextTokens);
+                    mappedSentences.put(nextPath, nextTokens);
+                }
+            }
 
-            if (!pathGResultOf.hasResults()) {
+            // Different path mappers often produce the same tokens, navigating them again would produce the same results.
+            if (navigatedTokens.contains(nextTokens)) {
                 continue;
             }
+            navigatedTokens.add(nextTokens);
 
-            List<Token> nextTokens = pathGResultOf.results();
             result = configNodeService.navigateToNextNode(path, nextTokens, configNode);
 
             // if there are errors, add them to the error list and do not add the merge results
@@ -12,7 +12,7 @@ import org.github.gestalt.config.utils.StringUtils;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class DoubleDecoder extends LeafDecoder<Double> {
+public final class DoubleDecoder extends LeafDecoder<Double> implements CoreDecoder {
 
     @Override
     public Priority priority() {
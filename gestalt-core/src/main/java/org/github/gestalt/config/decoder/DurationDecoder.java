@@ -14,7 +14,7 @@ import java.time.Duration;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class DurationDecoder extends LeafDecoder<Duration> {
+public final class DurationDecoder extends LeafDecoder<Duration> implements CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -0,0 +1,104 @@
+package org.github.gestalt.config.decoder;
+
+import org.github.gestalt.config.node.ConfigNode;
+import org.github.gestalt.config.reflect.TypeCapture;
+import org.github.gestalt.config.tag.Tags;
+import org.github.gestalt.config.utils.GResultOf;
+import org.github.gestalt.config.utils.PathUtil;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Decodes the elements of an array, list or set.
+ *
+ * <p>Rather than searching all the decoders for every element, the decoder is found for the first element of each node type,
+ * then reused for the rest of the elements of that node type. A decoder is used for a single array, list or set.
+ *
+ * <p>Only the decoders from gestalt core, marked with {@link CoreDecoder}, are reused,
+ * as they decide if they can decode a node from just the node type and the type.
+ * Any other decoder may depend on the path or value of the element, so they are asked for every element,
+ * and if one of them can decode the element the decoder is searched for again.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+final class ElementDecoder {
+    private final String path;
+    private final Tags tags;
+    private final TypeCapture<?> elementType;
+    private final DecoderContext decoderContext;
+    private final DecoderRegistry decoderRegistry;
+    // the decoders that are not from gestalt core.
+    private final List<Decoder<?>> customDecoders;
+    // the decoder for the elements by the class of their node.
+    private final Map<Class<?>, Decoder<?>> decoders = new HashMap<>();
+
+    ElementDecoder(String path, Tags tags, TypeCapture<?> elementType, DecoderContext decoderContext) {
+        this.path = path;
+        this.tags = tags;
+        this.elementType = elementType;
+        this.decoderContext = decoderContext;
+        DecoderService decoderService = decoderContext.getDecoderService();
+        this.decoderRegistry = decoderService instanceof DecoderRegistry ? (DecoderRegistry) decoderService : null;
+        this.customDecoders = decoderRegistry == null ? List.of() : decoderRegistry.getDecoders().stream()
+            .filter(it -> !(it instanceof CoreDecoder))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the path of an element.
+     *
+     * @param index the index of the element
+     * @return the path of the element
+     */
+    String path(int index) {
+        return PathUtil.pathForIndex(decoderContext.getDefaultLexer(), path, index);
+    }
+
+    /**
+     * Get the decoder for an element.
+     *
+     * @param index the index of the element
+     * @param node  the node of the element
+     * @return the decoder for the element, or null if it can only be decoded through the decoder service
+     */
+    Decoder<?> decoder(int index, ConfigNode node) {
+        if (decoderRegistry == null) {
+            return null;
+        }
+
+        if (!customDecoders.isEmpty()) {
+            String elementPath = path(index);
+            if (customDecoders.stream().anyMatch(it -> it.canDecode(elementPath, tags, node, elementType))) {
+                return decoderRegistry.getDecoder(elementPath, tags, node, elementType);
+            }
+        }
+
+        // none of the custom decoders can decode the element, so the core decoder for the node type is used.
+        Decoder<?> decoder = decoders.get(node.getClass());
+        if (decoder == null) {
+            decoder = decoderRegistry.getDecoder(path(index), tags, node, elementType);
+            if (decoder != null) {
+                decoders.put(node.getClass(), decoder);
+            }
+        }
+        return decoder;
+    }
+
+    /**
+     * Decode an element.
+     *
+     * @param index the index of the element
+     * @param node  the node of the element
+     * @return GResultOf the decoded element with details of either success or failures
+     */
+    GResultOf<?> decode(int index, ConfigNode node) {
+        Decoder<?> decoder = decoder(index, node);
+        if (decoder == null) {
+            return decoderContext.getDecoderService().decodeNode(path(index), tags, node, elementType, decoderContext);
+        }
+        return decoder.decode(path(index), tags, node, elementType, decoderContext);
+    }
+}
@@ -6,15 +6,27 @@ import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Decode an Enum.
  *
+ * <p>The constants of each enum are looked up once and kept in a map by their case folded name,
+ * so decoding a value is a single map lookup. The maps are kept in a {@link ClassValue},
+ * so they do not stop an enum and its class loader from being unloaded.
+ *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class EnumDecoder<T extends Enum<T>> extends LeafDecoder<T> {
+public final class EnumDecoder<T extends Enum<T>> extends LeafDecoder<T> implements CoreDecoder {
+
+    // for each enum class, its constants by their case folded name.
+    private static final ClassValue<Map<String, Object>> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            return constantsByName(type);
+        }
+    };
 
     @Override
     public Priority priority() {
@@ -35,23 +47,36 @@ public final class EnumDecoder<T extends Enum<T>> extends LeafDecoder<T> {
     @SuppressWarnings("unchecked")
     protected GResultOf<T> leafDecode(String path, ConfigNode node, TypeCapture<?> type, DecoderContext decoderContext) {
         String value = node.getValue().orElse("");
-        try {
-            Class<?> klass = type.getRawType();
-            Method m = klass.getMethod("name");
-
-            Object[] enumConstants = klass.getEnumConstants();
-            for (Object enumConst : enumConstants) {
-                Object enumName = m.invoke(enumConst);
-                if (enumName instanceof String && value.equalsIgnoreCase((String) enumName)) {
-                    return GResultOf.result((T) enumConst);
-                }
-            }
-
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
-            return GResultOf.errors(new ValidationError.ExceptionDecodingEnum(path, value, type.getRawType(), e));
+        Class<?> klass = type.getRawType();
+        if (!klass.isEnum()) {
+            return GResultOf.errors(new ValidationError.ExceptionDecodingEnum(path, value, klass,
+                new NoSuchMethodException(klass.getName() + ".name()")));
         }
 
-        return GResultOf.errors(new ValidationError.EnumValueNotFound(path, value, type.getRawType()));
+        Object enumConst = ENUM_CONSTANTS.get(klass).get(foldCase(value));
+        if (enumConst != null) {
+            return GResultOf.result((T) enumConst);
+        }
+
+        return GResultOf.errors(new ValidationError.EnumValueNotFound(path, value, klass));
+    }
+
+    private static Map<String, Object> constantsByName(Class<?> klass) {
+        Map<String, Object> constants = new HashMap<>();
+        for (Object enumConst : klass.getEnumConstants()) {
+            // if several constants only differ by case, keep the first as it was matched first.
+            constants.putIfAbsent(foldCase(((Enum<?>) enumConst).name()), enumConst);
+        }
+        return constants;
+    }
+
+    // fold each character the same way as String.equalsIgnoreCase, so equal keys are the same as a case-insensitive match.
+    private static String foldCase(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
     }
 
     @Override
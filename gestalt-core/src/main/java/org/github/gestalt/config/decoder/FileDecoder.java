@@ -14,7 +14,7 @@ import java.nio.file.Paths;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class FileDecoder extends LeafDecoder<File> {
+public final class FileDecoder extends LeafDecoder<File> implements CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -14,7 +14,7 @@ import java.time.format.DateTimeParseException;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class InstantDecoder extends LeafDecoder<Instant> {
+public final class InstantDecoder extends LeafDecoder<Instant> implements CoreDecoder {
 
     @Override
     public Priority priority() {
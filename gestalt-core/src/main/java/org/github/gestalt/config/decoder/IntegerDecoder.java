@@ -12,7 +12,7 @@ import org.github.gestalt.config.utils.StringUtils;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class IntegerDecoder extends LeafDecoder<Integer> {
+public final class IntegerDecoder extends LeafDecoder<Integer> implements CoreDecoder {
 
     @Override
     public Priority priority() {
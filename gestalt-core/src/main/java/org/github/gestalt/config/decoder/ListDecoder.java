@@ -5,23 +5,24 @@ import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
-import org.github.gestalt.config.utils.PathUtil;
 
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.function.Supplier;
+import java.util.function.IntFunction;
 
 import static java.lang.System.Logger.Level.TRACE;
 
 /**
  * Decode a list type.
  *
+ * <p>The list is created with the capacity for all the values, when the type of list supports it.
+ *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class ListDecoder extends CollectionDecoder<List<?>> {
+public final class ListDecoder extends CollectionDecoder<List<?>> implements CoreDecoder {
     private static final System.Logger logger = System.getLogger(ListDecoder.class.getName());
 
-    Map<Class<?>, Supplier<List>> supplierMap = new HashMap<>();
+    Map<Class<?>, IntFunction<List>> supplierMap = new HashMap<>();
 
     Class<?> sequencedCollection;
 
@@ -29,10 +30,10 @@ public final class ListDecoder extends CollectionDecoder<List<?>> {
     public ListDecoder() {
         supplierMap.put(List.class, ArrayList::new);
         supplierMap.put(AbstractList.class, ArrayList::new);
-        supplierMap.put(CopyOnWriteArrayList.class, CopyOnWriteArrayList::new);
+        supplierMap.put(CopyOnWriteArrayList.class, size -> new CopyOnWriteArrayList<>());
         supplierMap.put(ArrayList.class, ArrayList::new);
-        supplierMap.put(LinkedList.class, LinkedList::new);
-        supplierMap.put(Stack.class, Stack::new);
+        supplierMap.put(LinkedList.class, size -> new LinkedList<>());
+        supplierMap.put(Stack.class, size -> new Stack<>());
         supplierMap.put(Vector.class, Vector::new);
         try {
             sequencedCollection = Class.forName("java.util.SequencedCollection");
@@ -59,22 +60,20 @@ public final class ListDecoder extends CollectionDecoder<List<?>> {
     protected GResultOf<List<?>> arrayDecode(String path, Tags tags, ConfigNode node, TypeCapture<?> klass,
                                              DecoderContext decoderContext) {
         List<ValidationError> errors = new ArrayList<>();
-        Supplier<List> mapSupplier = supplierMap.get(klass.getRawType());
+        IntFunction<List> mapSupplier = supplierMap.get(klass.getRawType());
 
         if (mapSupplier == null) {
             logger.log(TRACE, "Unable to find supplier for " + klass.getRawType() + ", defaulting to ArrayList");
             mapSupplier = supplierMap.get(List.class);
         }
 
-        List results = mapSupplier.get();
+        List results = mapSupplier.apply(node.size());
 
+        ElementDecoder elementDecoder = new ElementDecoder(path, tags, klass.getFirstParameterType(), decoderContext);
         for (int i = 0; i < node.size(); i++) {
             var valueOptional = node.getIndex(i);
             if (valueOptional.isPresent()) {
-                ConfigNode currentNode = valueOptional.get();
-                String nextPath = PathUtil.pathForIndex(decoderContext.getDefaultLexer(), path, i);
-                GResultOf<?> resultOf = decoderContext.getDecoderService()
-                    .decodeNode(nextPath, tags, currentNode, klass.getFirstParameterType(), decoderContext);
+                GResultOf<?> resultOf = elementDecoder.decode(i, valueOptional.get());
 
                 errors.addAll(resultOf.getErrors());
                 if (resultOf.hasResults()) {
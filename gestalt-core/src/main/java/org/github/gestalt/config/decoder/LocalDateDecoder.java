@@ -16,7 +16,7 @@ import java.time.format.DateTimeParseException;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class LocalDateDecoder extends LeafDecoder<LocalDate> {
+public final class LocalDateDecoder extends LeafDecoder<LocalDate> implements CoreDecoder {
 
     private DateTimeFormatter formatter;
 
@@ -16,7 +16,7 @@ import java.time.format.DateTimeParseException;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class LocalDateTimeDecoder extends LeafDecoder<LocalDateTime> {
+public final class LocalDateTimeDecoder extends LeafDecoder<LocalDateTime> implements CoreDecoder {
 
     private DateTimeFormatter formatter;
 
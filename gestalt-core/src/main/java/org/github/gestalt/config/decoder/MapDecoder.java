@@ -22,7 +22,7 @@ import static org.github.gestalt.config.utils.PathUtil.*;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class MapDecoder implements Decoder<Map<?, ?>> {
+public final class MapDecoder implements Decoder<Map<?, ?>>, CoreDecoder {
 
     private static final System.Logger logger = System.getLogger(MapDecoder.class.getName());
 
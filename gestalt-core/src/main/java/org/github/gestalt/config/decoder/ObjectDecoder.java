@@ -29,7 +29,7 @@ import static java.lang.System.Logger.Level.WARNING;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class ObjectDecoder implements Decoder<Object> {
+public final class ObjectDecoder implements Decoder<Object>, CoreDecoder {
     private static final System.Logger logger = System.getLogger(ObjectDecoder.class.getName());
 
     private final Set<Class<?>> ignoreTypes;
@@ -14,7 +14,7 @@ import java.util.Optional;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class OptionalDecoder implements Decoder<Optional<?>> {
+public final class OptionalDecoder implements Decoder<Optional<?>>, CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -14,7 +14,7 @@ import java.util.OptionalDouble;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class OptionalDoubleDecoder implements Decoder<OptionalDouble> {
+public final class OptionalDoubleDecoder implements Decoder<OptionalDouble>, CoreDecoder {
 
     @Override
     public Priority priority() {
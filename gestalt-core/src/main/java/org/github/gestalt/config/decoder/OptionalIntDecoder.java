@@ -14,7 +14,7 @@ import java.util.OptionalInt;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class OptionalIntDecoder implements Decoder<OptionalInt> {
+public final class OptionalIntDecoder implements Decoder<OptionalInt>, CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -14,7 +14,7 @@ import java.util.OptionalLong;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class OptionalLongDecoder implements Decoder<OptionalLong> {
+public final class OptionalLongDecoder implements Decoder<OptionalLong>, CoreDecoder {
 
     @Override
     public Priority priority() {
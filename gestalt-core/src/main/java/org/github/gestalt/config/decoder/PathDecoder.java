@@ -13,7 +13,7 @@ import java.nio.file.Paths;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class PathDecoder extends LeafDecoder<Path> {
+public final class PathDecoder extends LeafDecoder<Path> implements CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -12,7 +12,7 @@ import java.util.regex.Pattern;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class PatternDecoder extends LeafDecoder<Pattern> {
+public final class PatternDecoder extends LeafDecoder<Pattern> implements CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -24,6 +24,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Allows a user to create an object from an interface and retrieve configuration values.
@@ -32,7 +33,7 @@ import java.util.*;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class ProxyDecoder implements Decoder<Object> {
+public final class ProxyDecoder implements Decoder<Object>, CoreDecoder {
 
     // For the proxy decoder, if we should use a cached value or call gestalt for the most recent value.
     private ProxyDecoderMode proxyDecoderMode = ProxyDecoderMode.CACHE;
@@ -178,6 +179,18 @@ public final class ProxyDecoder implements Decoder<Object> {
                 break;
             }
 
+            case SNAPSHOT: {
+                ProxySnapshotInvocationHandler snapshotHandler =
+                    new ProxySnapshotInvocationHandler(path, tags, decoderContext, config, classMethods, methodResults);
+                Object snapshotProxy = Proxy.newProxyInstance(type.getRawType().getClassLoader(), new Class<?>[]{type.getRawType()},
+                    snapshotHandler);
+                snapshotHandler.setProxy(snapshotProxy);
+                if (decoderContext.getGestalt() != null) {
+                    decoderContext.getGestalt().registerListener(snapshotHandler);
+                }
+                return GResultOf.resultOf(snapshotProxy, errors);
+            }
+
             case CACHE:
             default: {
                 proxyHandler = new ProxyCacheInvocationHandler(path, tags, decoderContext, config, methodResults);
@@ -209,6 +222,20 @@ public final class ProxyDecoder implements Decoder<Object> {
 
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return retrieveConfigOrDefault(proxy, method, args, "pass through");
+        }
+
+        /**
+         * Retrieve the config for the method, if it is missing return the default value for the return type.
+         *
+         * @param proxy the proxy the method was called on
+         * @param method the method called
+         * @param args the arguments to the method
+         * @param mode description of the proxy mode, used in the error message
+         * @return the config or the default value
+         * @throws Throwable if unable to retrieve the config and missing values are treated as errors.
+         */
+        protected Object retrieveConfigOrDefault(Object proxy, Method method, Object[] args, String mode) throws Throwable {
             String methodName = method.getName();
             Class<?> returnType = method.getReturnType();
 
@@ -230,8 +257,8 @@ public final class ProxyDecoder implements Decoder<Object> {
                         gestaltResult = null;
                     }
                 } else {
-                    throw new GestaltException("Failed to get pass through object from proxy config while calling method: " + methodName +
-                        " with type: " + returnType + " in path: " + path);
+                    throw new GestaltException("Failed to get " + mode + " object from proxy config while calling method: " +
+                        methodName + " with type: " + returnType + " in path: " + path);
                 }
             }
 
@@ -312,33 +339,12 @@ public final class ProxyDecoder implements Decoder<Object> {
         @Override
         public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
             String methodName = method.getName();
-            Class<?> returnType = method.getReturnType();
 
             Object result = methodResults.get(methodName);
             if (result != null) {
                 return result;
             } else {
-                Optional<Object> resultOptional = retrieveConfig(proxy, method, args);
-
-                Object gestaltResult = null;
-                if (resultOptional.isPresent()) {
-                    gestaltResult = resultOptional.get();
-                } else {
-                    Pair<Boolean, ?> optionalInfo = ClassUtils.isOptionalAndDefault(returnType);
-                    if (optionalInfo.getFirst() && !config.isTreatMissingDiscretionaryValuesAsErrors()) {
-                        gestaltResult = optionalInfo.getSecond();
-                    } else if (!config.isTreatMissingValuesAsErrors()) {
-                        if (returnType.isPrimitive()) {
-                            gestaltResult = ClassUtils.getDefaultValue(returnType);
-                        } else {
-                            //noinspection DataFlowIssue assigning null for ease of reading here
-                            gestaltResult = null;
-                        }
-                    } else {
-                        throw new GestaltException("Failed to get cached object from proxy config while calling method: " + methodName +
-                            " with type: " + returnType + " in path: " + path);
-                    }
-                }
+                Object gestaltResult = retrieveConfigOrDefault(proxy, method, args, "cached");
 
                 methodResults.put(methodName, gestaltResult);
 
@@ -352,5 +358,89 @@ public final class ProxyDecoder implements Decoder<Object> {
             methodResults.clear();
         }
     }
-}
 
+    static class ProxySnapshotInvocationHandler extends ProxyPassThroughInvocationHandler
+        implements InvocationHandler, CoreReloadListener {
+
+        private static final System.Logger logger = System.getLogger(ProxySnapshotInvocationHandler.class.getName());
+        // marks a method in the snapshot that has not yet been resolved.
+        private static final Object UNRESOLVED = new Object();
+
+        private final Method[] methods;
+        private final Map<Method, Integer> methodIndexes;
+        private final AtomicReference<Object[]> snapshot;
+        // set by the decoding thread, read by the reload thread.
+        private volatile Object proxy;
+
+        private ProxySnapshotInvocationHandler(String path, Tags tags, DecoderContext decoderContext, GestaltConfig config,
+                                               Method[] methods, Map<String, Object> methodResults) {
+            super(path, tags, decoderContext, config);
+            this.methods = methods.clone();
+
+            Map<Method, Integer> indexes = new HashMap<>(methods.length * 2);
+            Object[] values = new Object[methods.length];
+            for (int i = 0; i < methods.length; i++) {
+                indexes.put(methods[i], i);
+                Object value = methodResults.get(methods[i].getName());
+                values[i] = value != null ? value : UNRESOLVED;
+            }
+
+            this.methodIndexes = Collections.unmodifiableMap(indexes);
+            this.snapshot = new AtomicReference<>(values);
+        }
+
+        private void setProxy(Object proxy) {
+            this.proxy = proxy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Integer index = methodIndexes.get(method);
+            if (index == null) {
+                return retrieveConfigOrDefault(proxy, method, args, "snapshot");
+            }
+
+            Object[] values = snapshot.get();
+            Object result = values[index];
+            if (result != UNRESOLVED) {
+                return result;
+            }
+
+            Object gestaltResult = retrieveConfigOrDefault(proxy, method, args, "snapshot");
+
+            // the snapshot is never modified, so publish a copy with the resolved value.
+            // If a reload swapped the snapshot in the meantime keep the reloaded snapshot.
+            Object[] updated = values.clone();
+            updated[index] = gestaltResult;
+            snapshot.compareAndSet(values, updated);
+
+            return gestaltResult;
+        }
+
+        @Override
+        public void reload() {
+            logger.log(System.Logger.Level.DEBUG, "Reloading received on Proxy Snapshot Listener. Rebuilding snapshot");
+
+            Object[] values = new Object[methods.length];
+            for (int i = 0; i < methods.length; i++) {
+                values[i] = UNRESOLVED;
+                if (proxy == null) {
+                    continue;
+                }
+
+                try {
+                    Optional<Object> result = retrieveConfig(proxy, methods[i], null);
+                    if (result.isPresent()) {
+                        values[i] = result.get();
+                    }
+                } catch (Throwable e) {
+                    // leave the method unresolved, so any errors are thrown to the caller when the method is called.
+                    logger.log(System.Logger.Level.DEBUG, "Unable to reload method " + methods[i].getName() + " on path: " + path +
+                        ", will retry on next call. " + e.getMessage());
+                }
+            }
+
+            snapshot.set(values);
+        }
+    }
+}
@@ -11,5 +11,8 @@ public enum ProxyDecoderMode {
     CACHE,
 
     // Calls the gestalt library to get the proxy value for each method call. Will get the most recent values but have more overhead.
-    PASSTHROUGH
+    PASSTHROUGH,
+
+    // Values are saved in an immutable snapshot indexed by method. When the configs are reloaded a new snapshot is built and swapped in.
+    SNAPSHOT
 }
@@ -23,7 +23,7 @@ import java.util.*;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class RecordDecoder implements Decoder<Object> {
+public final class RecordDecoder implements Decoder<Object>, CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -5,32 +5,33 @@ import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
-import org.github.gestalt.config.utils.PathUtil;
 
 import java.util.*;
-import java.util.function.Supplier;
+import java.util.function.IntFunction;
 
 import static java.lang.System.Logger.Level.TRACE;
 
 /**
  * Decode a Set type.
  *
+ * <p>The set is created with the capacity for all the values, when the type of set supports it.
+ *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class SetDecoder extends CollectionDecoder<Set<?>> {
+public final class SetDecoder extends CollectionDecoder<Set<?>> implements CoreDecoder {
     private static final System.Logger logger = System.getLogger(SetDecoder.class.getName());
 
-    Map<Class<?>, Supplier<Set>> supplierMap = new HashMap<>();
+    Map<Class<?>, IntFunction<Set>> supplierMap = new HashMap<>();
     Class<?> sequencedSet;
 
     public SetDecoder() {
-        supplierMap.put(Set.class, HashSet::new);
-        supplierMap.put(HashSet.class, HashSet::new);
-        supplierMap.put(TreeSet.class, TreeSet::new);
-        supplierMap.put(LinkedHashSet.class, LinkedHashSet::new);
+        supplierMap.put(Set.class, size -> new HashSet<>(hashCapacity(size)));
+        supplierMap.put(HashSet.class, size -> new HashSet<>(hashCapacity(size)));
+        supplierMap.put(TreeSet.class, size -> new TreeSet<>());
+        supplierMap.put(LinkedHashSet.class, size -> new LinkedHashSet<>(hashCapacity(size)));
         try {
             sequencedSet = Class.forName("java.util.SequencedSet");
-            supplierMap.put(sequencedSet, LinkedHashSet::new);
+            supplierMap.put(sequencedSet, size -> new LinkedHashSet<>(hashCapacity(size)));
         } catch (ClassNotFoundException e) {
             sequencedSet = null;
             logger.log(TRACE, "Unable to find class java.util.SequencedSet, SequencedSetDecoder disabled");
@@ -52,20 +53,18 @@ public final class SetDecoder extends CollectionDecoder<Set<?>> {
     protected GResultOf<Set<?>> arrayDecode(String path, Tags tags, ConfigNode node, TypeCapture<?> klass, DecoderContext decoderContext) {
         List<ValidationError> errors = new ArrayList<>();
 
-        Supplier<Set> mapSupplier = supplierMap.get(klass.getRawType());
+        IntFunction<Set> mapSupplier = supplierMap.get(klass.getRawType());
         if (mapSupplier == null) {
             logger.log(TRACE, "Unable to find supplier for " + klass.getRawType() + ", defaulting to HashSet");
             mapSupplier = supplierMap.get(Set.class);
         }
 
-        Set<Object> results = mapSupplier.get();
+        Set<Object> results = mapSupplier.apply(node.size());
+        ElementDecoder elementDecoder = new ElementDecoder(path, tags, klass.getFirstParameterType(), decoderContext);
         for (int i = 0; i < node.size(); i++) {
             var valueOptional = node.getIndex(i);
             if (valueOptional.isPresent()) {
-                ConfigNode currentNode = valueOptional.get();
-                String nextPath = PathUtil.pathForIndex(decoderContext.getDefaultLexer(), path, i);
-                GResultOf<?> resultOf = decoderContext.getDecoderService()
-                    .decodeNode(nextPath, tags, currentNode, klass.getFirstParameterType(), decoderContext);
+                GResultOf<?> resultOf = elementDecoder.decode(i, valueOptional.get());
 
                 errors.addAll(resultOf.getErrors());
                 if (resultOf.hasResults()) {
@@ -7,16 +7,26 @@ import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.utils.GResultOf;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 
 /**
- * Decode a String.
+ * Decode a class that has a public constructor taking a single String.
+ *
+ * <p>The constructor of each class is looked up once and kept as a method handle, so decoding a value is a single call.
+ * The handles are kept in a {@link ClassValue}, so they do not stop a class and its class loader from being unloaded.
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class StringConstructorDecoder implements Decoder<Object> {
+public final class StringConstructorDecoder implements Decoder<Object>, CoreDecoder {
+
+    private static final ClassValue<StringConstructor> STRING_CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected StringConstructor computeValue(Class<?> type) {
+            return StringConstructor.of(type);
+        }
+    };
 
     @Override
     public Priority priority() {
@@ -30,15 +40,11 @@ public final class StringConstructorDecoder implements Decoder<Object> {
 
     @Override
     public boolean canDecode(String path, Tags tags, ConfigNode node, TypeCapture<?> type) {
-        Class<?> klass = type.getRawType();
-        Constructor<?>[] stringConstructor = klass.getConstructors();
-
         if (!(node instanceof LeafNode)) {
             return false;
         }
 
-        return Arrays.stream(stringConstructor)
-            .anyMatch(it -> it.getParameterCount() == 1 && it.getParameters()[0].getType().equals(String.class));
+        return stringConstructor(type.getRawType()).found;
     }
 
     /**
@@ -60,13 +66,48 @@ public final class StringConstructorDecoder implements Decoder<Object> {
             return GResultOf.errors(new ValidationError.LeafNodesIsNullDecoding(path, type));
         }
 
-        Class<?> klass = type.getRawType();
+        StringConstructor stringConstructor = stringConstructor(type.getRawType());
+        if (stringConstructor.handle == null) {
+            return GResultOf.errors(new ValidationError.StringConstructorNotFound(path, type));
+        }
 
         try {
-            Constructor<?> stringConstructor = klass.getConstructor(String.class);
-            return GResultOf.result(stringConstructor.newInstance(valueOptional.get()));
-        } catch (InvocationTargetException | NoSuchMethodException | InstantiationException | IllegalAccessException e) {
+            return GResultOf.result(stringConstructor.handle.invokeExact(valueOptional.get()));
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) { //NOPMD
+            // the same as a reflective call, any exception thrown by the constructor is reported as an error.
             return GResultOf.errors(new ValidationError.StringConstructorNotFound(path, type));
         }
     }
+
+    private static StringConstructor stringConstructor(Class<?> klass) {
+        return STRING_CONSTRUCTORS.get(klass);
+    }
+
+    /**
+     * The public String constructor of a class, if it has one, and a method handle to call it if it is accessible.
+     */
+    private static final class StringConstructor {
+        private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, String.class);
+
+        private final boolean found;
+        private final MethodHandle handle;
+
+        private StringConstructor(boolean found, MethodHandle handle) {
+            this.found = found;
+            this.handle = handle;
+        }
+
+        private static StringConstructor of(Class<?> klass) {
+            try {
+                MethodHandle handle = MethodHandles.lookup().unreflectConstructor(klass.getConstructor(String.class));
+                return new StringConstructor(true, handle.asType(CONSTRUCTOR_TYPE));
+            } catch (NoSuchMethodException e) {
+                return new StringConstructor(false, null);
+            } catch (IllegalAccessException | SecurityException e) {
+                return new StringConstructor(true, null);
+            }
+        }
+    }
 }
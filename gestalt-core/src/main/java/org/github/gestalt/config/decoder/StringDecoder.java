@@ -10,7 +10,7 @@ import org.github.gestalt.config.utils.GResultOf;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class StringDecoder extends LeafDecoder<String> {
+public final class StringDecoder extends LeafDecoder<String> implements CoreDecoder {
 
     @Override
     public Priority priority() {
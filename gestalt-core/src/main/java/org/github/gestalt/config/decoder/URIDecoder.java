@@ -14,7 +14,7 @@ import java.net.URISyntaxException;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class URIDecoder extends LeafDecoder<URI> {
+public final class URIDecoder extends LeafDecoder<URI> implements CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -14,7 +14,7 @@ import java.net.URL;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class URLDecoder extends LeafDecoder<URL> {
+public final class URLDecoder extends LeafDecoder<URL> implements CoreDecoder {
 
     @Override
     public Priority priority() {
@@ -13,7 +13,7 @@ import java.util.UUID;
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
-public final class UUIDDecoder extends LeafDecoder<UUID> {
+public final class UUIDDecoder extends LeafDecoder<UUID> implements CoreDecoder {
 
     @Override
     public Priority priority() {
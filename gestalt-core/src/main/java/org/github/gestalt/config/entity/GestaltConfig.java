@@ -6,9 +6,12 @@ import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.processor.config.annotation.AnnotationConfigNodeProcessor;
 import org.github.gestalt.config.processor.config.transform.StringSubstitutionProcessor;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
+import javax.crypto.SecretKey;
 
 /**
  * Configuration for Gestalt.
@@ -64,12 +67,27 @@ public class GestaltConfig {
 
     private Integer nodeNestedIncludeLimit = 5;
 
+    // the minimum number of children of a node before they are post processed in parallel, zero to always post process sequentially.
+    private int parallelPostProcessingThreshold = 0;
+
     // if observations should be enabled
     private boolean observationsEnabled = false;
 
+    // window to coalesce reloads into a single transaction, zero to reload each source immediately.
+    private Duration reloadCoalesceWindow = Duration.ZERO;
+
+    // if reloads are built on the reload scheduler instead of the thread that detected the change.
+    private boolean backgroundReload = false;
+
     // The sentence lexer used for gestalt.
     private SentenceLexer sentenceLexer = new PathLexer();
 
+    // path of the snapshot of the config used for warm starts, null to disable snapshots.
+    private Path snapshotPath = null;
+
+    // key to encrypt the secrets in the snapshot with, if null the secrets are left out of the snapshot.
+    private SecretKey snapshotSecretKey = null;
+
     /**
      * Treat all warnings as errors.
      *
@@ -481,6 +499,26 @@ public class GestaltConfig {
         this.nodeNestedIncludeLimit = nodeNestedIncludeLimit;
     }
 
+    /**
+     * Get the minimum number of children of a map or array node before they are post processed in parallel.
+     *
+     * @return the minimum number of children before they are post processed in parallel, zero if disabled
+     */
+    public int getParallelPostProcessingThreshold() {
+        return parallelPostProcessingThreshold;
+    }
+
+    /**
+     * Set the minimum number of children of a map or array node before they are post processed in parallel on the common
+     * ForkJoinPool. Only used if all the config node processors are annotated with
+     * {@link org.github.gestalt.config.annotations.ConfigThreadSafe}. Zero, the default, always post processes sequentially.
+     *
+     * @param parallelPostProcessingThreshold the minimum number of children before they are post processed in parallel
+     */
+    public void setParallelPostProcessingThreshold(int parallelPostProcessingThreshold) {
+        this.parallelPostProcessingThreshold = parallelPostProcessingThreshold;
+    }
+
     /**
      * Get if the observations are enabled.
      *
@@ -499,6 +537,45 @@ public class GestaltConfig {
         this.observationsEnabled = observationsEnabled;
     }
 
+    /**
+     * Get the window to coalesce reloads that arrive within it into a single transaction.
+     * Zero, the default, reloads each source immediately.
+     *
+     * @return the window to coalesce reloads
+     */
+    public Duration getReloadCoalesceWindow() {
+        return reloadCoalesceWindow;
+    }
+
+    /**
+     * Set the window to coalesce reloads that arrive within it into a single transaction.
+     * Zero, the default, reloads each source immediately.
+     *
+     * @param reloadCoalesceWindow the window to coalesce reloads
+     */
+    public void setReloadCoalesceWindow(Duration reloadCoalesceWindow) {
+        this.reloadCoalesceWindow = reloadCoalesceWindow;
+    }
+
+    /**
+     * Get if reloads are built on the reload scheduler instead of the thread that detected the change.
+     *
+     * @return if reloads are built in the background
+     */
+    public boolean isBackgroundReload() {
+        return backgroundReload;
+    }
+
+    /**
+     * Set if reloads are built on the reload scheduler instead of the thread that detected the change.
+     * A failed background reload is logged and recorded as an observation, while the last good config keeps being served.
+     *
+     * @param backgroundReload if reloads are built in the background
+     */
+    public void setBackgroundReload(boolean backgroundReload) {
+        this.backgroundReload = backgroundReload;
+    }
+
     /**
      * Get the sentence lexer that will be passed through to the DecoderRegistry.
      * it is used to convert the path requested to tokens, so we can navigate the config tree using the tokens.
@@ -519,6 +596,44 @@ public class GestaltConfig {
         this.sentenceLexer = sentenceLexer;
     }
 
+    /**
+     * Get the path of the snapshot of the config used for warm starts, null if snapshots are disabled.
+     *
+     * @return the path of the snapshot of the config
+     */
+    public Path getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    /**
+     * Set the path of the snapshot of the config used for warm starts.
+     * If a valid snapshot exists on start up it is served immediately while the sources are loaded in the background,
+     * once loaded the snapshot is replaced. Null, the default, disables snapshots.
+     *
+     * @param snapshotPath the path of the snapshot of the config
+     */
+    public void setSnapshotPath(Path snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
+
+    /**
+     * Get the key used to encrypt the secrets in the snapshot.
+     *
+     * @return the key used to encrypt the secrets in the snapshot
+     */
+    public SecretKey getSnapshotSecretKey() {
+        return snapshotSecretKey;
+    }
+
+    /**
+     * Set the AES key used to encrypt the secrets in the snapshot. If null, the default, secrets are left out of the snapshot.
+     *
+     * @param snapshotSecretKey the key used to encrypt the secrets in the snapshot
+     */
+    public void setSnapshotSecretKey(SecretKey snapshotSecretKey) {
+        this.snapshotSecretKey = snapshotSecretKey;
+    }
+
     /**
      * Register an external module configuration.
      *
@@ -0,0 +1,222 @@
+package org.github.gestalt.config.loader;
+
+import org.github.gestalt.config.utils.Pair;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parses properties directly from a byte buffer into a list of key value pairs, following the rules of
+ * {@link java.util.Properties#load(java.io.InputStream)}.
+ *
+ * <p>The input is read as ISO 8859-1, so each byte is a character and no decoding is needed.
+ * Lines can be continued with a trailing backslash, lines starting with # or ! are comments,
+ * and the escapes \t, \n, \r, \f and \\uxxxx are supported. If a key is repeated the last value is kept.
+ * Keys and values without any escapes are created directly from the bytes of the line.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+final class PropertiesParser {
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+    // the current logical line, with any continuation lines joined.
+    private byte[] lineBuffer = new byte[256];
+
+    private PropertiesParser(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.position = buffer.position();
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * Parse the properties in the buffer, from its position to its limit.
+     *
+     * @param buffer the buffer with the properties
+     * @return the key value pairs in the order they first appear
+     * @throws IllegalArgumentException if there is a malformed \\uxxxx escape
+     */
+    static List<Pair<String, String>> parse(ByteBuffer buffer) {
+        return new PropertiesParser(buffer).parse();
+    }
+
+    private List<Pair<String, String>> parse() {
+        List<Pair<String, String>> properties = new ArrayList<>();
+        Map<String, Integer> keyIndexes = new HashMap<>();
+
+        int length;
+        while ((length = readLine()) >= 0) {
+            int keyLength = 0;
+            int valueStart = length;
+            boolean hasSeparator = false;
+            boolean precedingBackslash = false;
+            while (keyLength < length) {
+                byte c = lineBuffer[keyLength];
+                if ((c == '=' || c == ':') && !precedingBackslash) {
+                    valueStart = keyLength + 1;
+                    hasSeparator = true;
+                    break;
+                } else if (isWhitespace(c) && !precedingBackslash) {
+                    valueStart = keyLength + 1;
+                    break;
+                }
+                precedingBackslash = c == '\\' && !precedingBackslash;
+                keyLength++;
+            }
+
+            while (valueStart < length) {
+                byte c = lineBuffer[valueStart];
+                if (!isWhitespace(c)) {
+                    if (!hasSeparator && (c == '=' || c == ':')) {
+                        hasSeparator = true;
+                    } else {
+                        break;
+                    }
+                }
+                valueStart++;
+            }
+
+            String key = convert(0, keyLength);
+            String value = convert(valueStart, length - valueStart);
+
+            Integer index = keyIndexes.putIfAbsent(key, properties.size());
+            if (index == null) {
+                properties.add(new Pair<>(key, value));
+            } else {
+                properties.set(index, new Pair<>(key, value));
+            }
+        }
+
+        return properties;
+    }
+
+    private static boolean isWhitespace(byte c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    // read the next logical line into the line buffer, returning its length or -1 at the end of the input.
+    private int readLine() {
+        int length = 0;
+        boolean skipWhitespace = true;
+        boolean appendedLineBegin = false;
+        boolean precedingBackslash = false;
+
+        while (position < limit) {
+            byte c = buffer.get(position++);
+
+            if (skipWhitespace) {
+                if (isWhitespace(c) || (!appendedLineBegin && (c == '\r' || c == '\n'))) {
+                    continue;
+                }
+                skipWhitespace = false;
+                appendedLineBegin = false;
+            }
+
+            if (length == 0 && (c == '#' || c == '!')) {
+                // comments are never continued, skip to the end of the line.
+                while (position < limit) {
+                    c = buffer.get(position);
+                    if (c == '\r' || c == '\n') {
+                        break;
+                    }
+                    position++;
+                }
+                skipWhitespace = true;
+                continue;
+            }
+
+            if (c != '\n' && c != '\r') {
+                if (length == lineBuffer.length) {
+                    lineBuffer = Arrays.copyOf(lineBuffer, length * 2);
+                }
+                lineBuffer[length++] = c;
+                precedingBackslash = c == '\\' && !precedingBackslash;
+            } else if (length == 0) {
+                // a continued line with nothing on it, keep looking for the next line.
+                skipWhitespace = true;
+            } else if (position >= limit) {
+                // a line break at the end of the input ends the line, even if it is continued.
+                return precedingBackslash ? length - 1 : length;
+            } else if (precedingBackslash) {
+                // the line is continued, drop the backslash and the leading whitespace of the next line.
+                length--;
+                precedingBackslash = false;
+                skipWhitespace = true;
+                appendedLineBegin = true;
+                if (c == '\r' && buffer.get(position) == '\n') {
+                    position++;
+                }
+            } else {
+                return length;
+            }
+        }
+
+        if (length == 0) {
+            return -1;
+        }
+        return precedingBackslash ? length - 1 : length;
+    }
+
+    private String convert(int offset, int length) {
+        int end = offset + length;
+        int backslash = offset;
+        while (backslash < end && lineBuffer[backslash] != '\\') {
+            backslash++;
+        }
+
+        if (backslash == end) {
+            return new String(lineBuffer, offset, length, StandardCharsets.ISO_8859_1);
+        }
+
+        StringBuilder builder = new StringBuilder(length);
+        builder.append(new String(lineBuffer, offset, backslash - offset, StandardCharsets.ISO_8859_1));
+        int index = backslash;
+        while (index < end) {
+            char c = (char) (lineBuffer[index++] & 0xFF);
+            if (c != '\\' || index == end) {
+                builder.append(c);
+                continue;
+            }
+
+            c = (char) (lineBuffer[index++] & 0xFF);
+            switch (c) {
+                case 'u':
+                    if (index > end - 4) {
+                        throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+                    }
+                    int value = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit((char) (lineBuffer[index++] & 0xFF), 16);
+                        if (digit < 0) {
+                            throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+                        }
+                        value = (value << 4) | digit;
+                    }
+                    builder.append((char) value);
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                default:
+                    builder.append(c);
+                    break;
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -9,18 +9,21 @@ import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.node.MapNode;
 import org.github.gestalt.config.parser.ConfigParser;
 import org.github.gestalt.config.parser.MapConfigParser;
+import org.github.gestalt.config.source.ConfigSource;
 import org.github.gestalt.config.source.ConfigSourcePackage;
+import org.github.gestalt.config.source.FileConfigSource;
 import org.github.gestalt.config.source.SystemPropertiesConfigSource;
 import org.github.gestalt.config.utils.GResultOf;
 import org.github.gestalt.config.utils.Pair;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Properties;
-import java.util.stream.Collectors;
 
 /**
  * Loads from a property files from multiple sources, such as a file.
@@ -29,6 +32,9 @@ import java.util.stream.Collectors;
  */
 public final class PropertyLoader implements ConfigLoader {
 
+    // files at least this large are memory mapped rather than read into the heap.
+    private static final long MEMORY_MAP_THRESHOLD = 1024 * 1024;
+
     private ConfigParser parser;
     private SentenceLexer lexer;
     private final boolean isDefault;
@@ -90,8 +96,8 @@ public final class PropertyLoader implements ConfigLoader {
     }
 
     /**
-     * Loads the source with a stream into a java Properties class.
-     * Then convert them to a list of pairs with the path and value.
+     * Parses the properties from the source directly into a list of pairs with the path and value,
+     * following the same rules as {@link java.util.Properties#load(InputStream)}. Large files are memory mapped.
      * Pass these into the ConfigCompiler to build a config node tree.
      *
      * @param sourcePackage source we want to load with this config loader.
@@ -100,29 +106,40 @@ public final class PropertyLoader implements ConfigLoader {
      */
     @Override
     public GResultOf<List<ConfigNodeContainer>> loadSource(ConfigSourcePackage sourcePackage) throws GestaltException {
-        Properties properties = new Properties();
         var source = sourcePackage.getConfigSource();
+        List<Pair<String, String>> configs;
         if (source.hasStream()) {
-            try (InputStream is = source.loadStream()) {
-                properties.load(is);
-            } catch (IOException | NullPointerException e) {
+            try {
+                configs = PropertiesParser.parse(loadBuffer(source));
+            } catch (IOException | NullPointerException | IllegalArgumentException e) {
                 throw new GestaltException("Exception loading source: " + source.name(), e);
             }
         } else {
             throw new GestaltException("Config source: " + source.name() + " does not have a stream to load.");
         }
 
-        if (properties.isEmpty()) {
+        if (configs.isEmpty()) {
             return GResultOf.result(List.of(new ConfigNodeContainer(new MapNode(Map.of()), source, sourcePackage.getTags())));
         }
 
-        List<Pair<String, String>> configs = properties.entrySet()
-            .stream()
-            .map(prop -> new Pair<>((String) prop.getKey(), (String) prop.getValue()))
-            .collect(Collectors.toList());
-
         GResultOf<ConfigNode> loadedNode = ConfigCompiler.analyze(source.failOnErrors(), lexer, parser, configs);
 
         return loadedNode.mapWithError((result) -> List.of(new ConfigNodeContainer(result, source, sourcePackage.getTags())));
     }
+
+    private ByteBuffer loadBuffer(ConfigSource source) throws GestaltException, IOException {
+        if (source instanceof FileConfigSource) {
+            var path = ((FileConfigSource) source).getPath();
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                if (channel.size() >= MEMORY_MAP_THRESHOLD) {
+                    // the mapping stays valid after the channel is closed.
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
+        }
+
+        try (InputStream is = source.loadStream()) {
+            return ByteBuffer.wrap(is.readAllBytes());
+        }
+    }
 }
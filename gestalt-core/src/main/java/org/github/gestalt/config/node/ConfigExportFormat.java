@@ -0,0 +1,21 @@
+package org.github.gestalt.config.node;
+
+/**
+ * The formats the config can be exported to by the {@link ConfigExporter}.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public enum ConfigExportFormat {
+    /**
+     * A line of path=value for each leaf, such as db.hosts[0]=localhost.
+     */
+    PROPERTIES,
+    /**
+     * A json document, all leaf values are written as strings.
+     */
+    JSON,
+    /**
+     * A yaml document, all leaf values are written as double-quoted strings.
+     */
+    YAML
+}
@@ -0,0 +1,70 @@
+package org.github.gestalt.config.node;
+
+import org.github.gestalt.config.tag.Tags;
+
+/**
+ * Options used to export the config, such as the format, the path of the sub tree to export and the page of it to write.
+ * Use the {@link ConfigExportOptionsBuilder} to create the options.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class ConfigExportOptions {
+    private final ConfigExportFormat format;
+    private final String path;
+    private final Tags tags;
+    private final int offset;
+    private final int limit;
+
+    ConfigExportOptions(ConfigExportFormat format, String path, Tags tags, int offset, int limit) {
+        this.format = format;
+        this.path = path;
+        this.tags = tags;
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * Get the format to export the config to.
+     *
+     * @return the format to export the config to
+     */
+    public ConfigExportFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Get the path of the sub tree to export, an empty path exports the whole tree.
+     *
+     * @return the path of the sub tree to export
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Get the tags of the config to export, if null the default tags are used.
+     *
+     * @return the tags of the config to export
+     */
+    public Tags getTags() {
+        return tags;
+    }
+
+    /**
+     * Get the number of children of the exported node to skip, for paginating a large sub tree.
+     *
+     * @return the number of children to skip
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Get the maximum number of children of the exported node to write, for paginating a large sub tree.
+     *
+     * @return the maximum number of children to write
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,110 @@
+package org.github.gestalt.config.node;
+
+import org.github.gestalt.config.exceptions.GestaltConfigurationException;
+import org.github.gestalt.config.tag.Tags;
+
+/**
+ * Builder for the {@link ConfigExportOptions}.
+ *
+ * <p>By default, the whole config for the default tags is exported as properties.
+ * The offset and limit page through the children of the exported node, maps ordered by key and arrays by index.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class ConfigExportOptionsBuilder {
+    private ConfigExportFormat format = ConfigExportFormat.PROPERTIES;
+    private String path = "";
+    private Tags tags;
+    private int offset = 0;
+    private int limit = Integer.MAX_VALUE;
+
+    /**
+     * private constructor, use the builder method.
+     */
+    private ConfigExportOptionsBuilder() {
+
+    }
+
+    /**
+     * Static function to create the builder.
+     *
+     * @return the builder
+     */
+    public static ConfigExportOptionsBuilder builder() {
+        return new ConfigExportOptionsBuilder();
+    }
+
+    /**
+     * Set the format to export the config to.
+     *
+     * @param format the format to export the config to
+     * @return the builder
+     */
+    public ConfigExportOptionsBuilder setFormat(ConfigExportFormat format) {
+        this.format = format;
+        return this;
+    }
+
+    /**
+     * Set the path of the sub tree to export, an empty path exports the whole tree.
+     *
+     * @param path the path of the sub tree to export
+     * @return the builder
+     */
+    public ConfigExportOptionsBuilder setPath(String path) {
+        this.path = path;
+        return this;
+    }
+
+    /**
+     * Set the tags of the config to export, if not set the default tags are used.
+     *
+     * @param tags the tags of the config to export
+     * @return the builder
+     */
+    public ConfigExportOptionsBuilder setTags(Tags tags) {
+        this.tags = tags;
+        return this;
+    }
+
+    /**
+     * Set the number of children of the exported node to skip.
+     *
+     * @param offset the number of children to skip
+     * @return the builder
+     */
+    public ConfigExportOptionsBuilder setOffset(int offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of children of the exported node to write.
+     *
+     * @param limit the maximum number of children to write
+     * @return the builder
+     */
+    public ConfigExportOptionsBuilder setLimit(int limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    /**
+     * Build the export options.
+     *
+     * @return the export options
+     * @throws GestaltConfigurationException if the format or path is null, or the offset or limit is negative
+     */
+    public ConfigExportOptions build() throws GestaltConfigurationException {
+        if (format == null) {
+            throw new GestaltConfigurationException("The export format must be provided");
+        }
+        if (path == null) {
+            throw new GestaltConfigurationException("The export path must not be null, use an empty path to export the whole tree");
+        }
+        if (offset < 0 || limit < 0) {
+            throw new GestaltConfigurationException("The export offset: " + offset + " and limit: " + limit + " must not be negative");
+        }
+        return new ConfigExportOptions(format, path, tags, offset, limit);
+    }
+}
@@ -0,0 +1,305 @@
+package org.github.gestalt.config.node;
+
+import org.github.gestalt.config.lexer.SentenceLexer;
+import org.github.gestalt.config.secret.rules.SecretConcealer;
+import org.github.gestalt.config.utils.PathUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Writes a config node tree to an {@link Appendable} as properties, json or yaml, one node at a time,
+ * so a large config can be exported without building it into a single string.
+ *
+ * <p>Leaf values are concealed with the {@link SecretConcealer} using the full path of the leaf.
+ * Leaf nodes with their own behaviour, such as temporary or encrypted secrets, are never read and are written as secret.
+ * Map keys are written in order, so the output and its pages are stable.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class ConfigExporter {
+    private static final String INDENT = "  ";
+    private static final String SECRET = "secret";
+
+    private final SentenceLexer lexer;
+    private final SecretConcealer secretConcealer;
+
+    /**
+     * Constructor for the ConfigExporter.
+     *
+     * @param lexer           the lexer used to build the path of each node
+     * @param secretConcealer used to conceal the secrets, if null the values are written as is
+     */
+    public ConfigExporter(SentenceLexer lexer, SecretConcealer secretConcealer) {
+        this.lexer = Objects.requireNonNull(lexer, "ConfigExporter SentenceLexer should not be null");
+        this.secretConcealer = secretConcealer;
+    }
+
+    /**
+     * Export a node to the output in the format of the options, only writing the page of its children selected by the options.
+     *
+     * @param out     where to write the node
+     * @param path    the path of the node, used to build the path of its children
+     * @param node    the node to export
+     * @param options the options for the export
+     * @throws IOException if unable to write to the output
+     */
+    public void export(Appendable out, String path, ConfigNode node, ConfigExportOptions options) throws IOException {
+        int from = options.getOffset();
+        int to = (int) Math.min((long) from + options.getLimit(), Integer.MAX_VALUE);
+
+        switch (options.getFormat()) {
+            case JSON:
+                writeJson(out, path, node, 0, from, to);
+                out.append('\n');
+                break;
+            case YAML:
+                writeYaml(out, path, node, 0, from, to);
+                break;
+            case PROPERTIES:
+            default:
+                writeProperties(out, path, node, from, to);
+                break;
+        }
+    }
+
+    private void writeProperties(Appendable out, String path, ConfigNode node, int from, int to) throws IOException {
+        if (node instanceof MapNode) {
+            Map<String, ConfigNode> nodes = ((MapNode) node).getMapNode();
+            for (String key : page(sortedKeys(nodes), from, to)) {
+                writeProperties(out, PathUtil.pathForKey(lexer, path, key), nodes.get(key), 0, Integer.MAX_VALUE);
+            }
+        } else if (node instanceof ArrayNode) {
+            List<ConfigNode> values = ((ArrayNode) node).getArray();
+            for (int i = from; i < Math.min(to, values.size()); i++) {
+                writeProperties(out, PathUtil.pathForIndex(lexer, path, i), values.get(i), 0, Integer.MAX_VALUE);
+            }
+        } else if (node instanceof LeafNode) {
+            writePropertiesEscaped(out, path, true);
+            out.append('=');
+            String value = leafValue(path, (LeafNode) node);
+            if (value != null) {
+                writePropertiesEscaped(out, value, false);
+            }
+            out.append('\n');
+        }
+    }
+
+    private void writeJson(Appendable out, String path, ConfigNode node, int depth, int from, int to) throws IOException {
+        if (node instanceof MapNode) {
+            Map<String, ConfigNode> nodes = ((MapNode) node).getMapNode();
+            List<String> keys = page(sortedKeys(nodes), from, to);
+            if (keys.isEmpty()) {
+                out.append("{}");
+                return;
+            }
+
+            out.append("{\n");
+            for (int i = 0; i < keys.size(); i++) {
+                String key = keys.get(i);
+                indent(out, depth + 1);
+                writeQuoted(out, key);
+                out.append(": ");
+                writeJson(out, PathUtil.pathForKey(lexer, path, key), nodes.get(key), depth + 1, 0, Integer.MAX_VALUE);
+                out.append(i < keys.size() - 1 ? ",\n" : "\n");
+            }
+            indent(out, depth);
+            out.append('}');
+        } else if (node instanceof ArrayNode) {
+            List<ConfigNode> values = ((ArrayNode) node).getArray();
+            int end = Math.min(to, values.size());
+            if (from >= end) {
+                out.append("[]");
+                return;
+            }
+
+            out.append("[\n");
+            for (int i = from; i < end; i++) {
+                indent(out, depth + 1);
+                writeJson(out, PathUtil.pathForIndex(lexer, path, i), values.get(i), depth + 1, 0, Integer.MAX_VALUE);
+                out.append(i < end - 1 ? ",\n" : "\n");
+            }
+            indent(out, depth);
+            out.append(']');
+        } else if (node instanceof LeafNode) {
+            writeQuoted(out, leafValue(path, (LeafNode) node));
+        } else {
+            out.append("null");
+        }
+    }
+
+    private void writeYaml(Appendable out, String path, ConfigNode node, int depth, int from, int to) throws IOException {
+        if (node instanceof MapNode) {
+            Map<String, ConfigNode> nodes = ((MapNode) node).getMapNode();
+            List<String> keys = page(sortedKeys(nodes), from, to);
+            if (keys.isEmpty()) {
+                out.append("{}\n");
+                return;
+            }
+
+            for (String key : keys) {
+                indent(out, depth);
+                writeYamlKey(out, key);
+                out.append(':');
+                writeYamlChild(out, PathUtil.pathForKey(lexer, path, key), nodes.get(key), depth);
+            }
+        } else if (node instanceof ArrayNode) {
+            List<ConfigNode> values = ((ArrayNode) node).getArray();
+            int end = Math.min(to, values.size());
+            if (from >= end) {
+                out.append("[]\n");
+                return;
+            }
+
+            for (int i = from; i < end; i++) {
+                indent(out, depth);
+                out.append('-');
+                writeYamlChild(out, PathUtil.pathForIndex(lexer, path, i), values.get(i), depth);
+            }
+        } else if (node instanceof LeafNode) {
+            writeQuoted(out, leafValue(path, (LeafNode) node));
+            out.append('\n');
+        } else {
+            out.append("null\n");
+        }
+    }
+
+    // write the value of a map entry or array item, nested maps and arrays start on the next line.
+    private void writeYamlChild(Appendable out, String path, ConfigNode node, int depth) throws IOException {
+        if ((node instanceof MapNode || node instanceof ArrayNode) && node.size() > 0) {
+            out.append('\n');
+            writeYaml(out, path, node, depth + 1, 0, Integer.MAX_VALUE);
+        } else {
+            out.append(' ');
+            writeYaml(out, path, node, depth + 1, 0, Integer.MAX_VALUE);
+        }
+    }
+
+    private static void writeYamlKey(Appendable out, String key) throws IOException {
+        boolean plain = !key.isEmpty() && key.charAt(0) != '-' && key.charAt(0) != '.';
+        for (int i = 0; i < key.length() && plain; i++) {
+            char c = key.charAt(i);
+            plain = Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.';
+        }
+
+        if (plain) {
+            out.append(key);
+        } else {
+            writeQuoted(out, key);
+        }
+    }
+
+    private String leafValue(String path, LeafNode node) {
+        // leaf nodes with their own behaviour, such as temporary secrets, may change when they are read.
+        String value = node.getClass() == LeafNode.class ? node.getValue().orElse(null) : SECRET;
+        if (value != null && secretConcealer != null) {
+            value = secretConcealer.concealSecret(path, value, node.getMetadata());
+        }
+        return value;
+    }
+
+    private static List<String> sortedKeys(Map<String, ConfigNode> nodes) {
+        List<String> keys = new ArrayList<>(nodes.size());
+        for (Map.Entry<String, ConfigNode> entry : nodes.entrySet()) {
+            if (entry.getValue() != null) {
+                keys.add(entry.getKey());
+            }
+        }
+        Collections.sort(keys);
+        return keys;
+    }
+
+    private static List<String> page(List<String> keys, int from, int to) {
+        if (from == 0 && to >= keys.size()) {
+            return keys;
+        }
+        return keys.subList(Math.min(from, keys.size()), Math.min(to, keys.size()));
+    }
+
+    private static void indent(Appendable out, int depth) throws IOException {
+        for (int i = 0; i < depth; i++) {
+            out.append(INDENT);
+        }
+    }
+
+    // a json string, which is also a valid yaml double-quoted scalar.
+    private static void writeQuoted(Appendable out, String value) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                    break;
+            }
+        }
+        out.append('"');
+    }
+
+    // escape a key or value following the rules of java.util.Properties#store.
+    private static void writePropertiesEscaped(Appendable out, String value, boolean isKey) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case ' ':
+                    if (i == 0 || isKey) {
+                        out.append('\\');
+                    }
+                    out.append(' ');
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                case '=':
+                case ':':
+                case '#':
+                case '!':
+                    out.append('\\').append(c);
+                    break;
+                default:
+                    out.append(c);
+                    break;
+            }
+        }
+    }
+}
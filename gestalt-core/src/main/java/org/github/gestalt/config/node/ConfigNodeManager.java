@@ -8,16 +8,18 @@ import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessorManager;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessorService;
 import org.github.gestalt.config.secret.rules.SecretConcealer;
+import org.github.gestalt.config.source.ConfigSource;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.token.ArrayToken;
 import org.github.gestalt.config.token.ObjectToken;
 import org.github.gestalt.config.token.Token;
 import org.github.gestalt.config.utils.CollectionUtils;
 import org.github.gestalt.config.utils.GResultOf;
-import org.github.gestalt.config.utils.PathUtil;
+import org.github.gestalt.config.utils.PathCursor;
 
 import java.util.*;
 import java.util.concurrent.locks.StampedLock;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static org.github.gestalt.config.utils.GResultOf.resultOf;
@@ -29,11 +31,15 @@ import static org.github.gestalt.config.utils.GResultOf.resultOf;
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
 public final class ConfigNodeManager implements ConfigNodeService {
-    private final List<ConfigNodeContainer> configNodes = new ArrayList<>();
+    private List<ConfigNodeContainer> configNodes = new ArrayList<>();
     // We store the node roots by tags. The default will be an empty Tags.
-    private final LinkedHashMap<Tags, ConfigNode> roots = new LinkedHashMap<>();
+    private LinkedHashMap<Tags, ConfigNode> roots = new LinkedHashMap<>();
     // lock to ensure we are thread safe.
     private final StampedLock lock = new StampedLock();
+    // incremented on every change to the nodes, so a snapshot staged from an older version can not be published over it.
+    private long version = 0;
+    // the snapshot being post processed on this thread, so processors navigate the snapshot and not the served config.
+    private final ThreadLocal<ConfigNodeSnapshot> processingSnapshot = new ThreadLocal<>(); //NOPMD
     private final ConfigNodeTagResolutionStrategy configNodeTagResolutionStrategy;
     // Sentence Lexer used to build a normalized path.
     private final SentenceLexer lexer;
@@ -60,6 +66,87 @@ public final class ConfigNodeManager implements ConfigNodeService {
         this.lexer = lexer;
     }
 
+    @Override
+    public GResultOf<Map<Tags, ConfigNode>> addNodes(List<ConfigNodeContainer> newNodes,
+                                                     Map<ConfigSource, List<ValidationError>> sourceErrors) throws GestaltException {
+        if (newNodes == null || newNodes.isEmpty()) {
+            throw new GestaltException("No nodes provided");
+        }
+
+        List<ValidationError> errors = new ArrayList<>();
+        Map<Tags, ConfigNode> newRoots = new LinkedHashMap<>();
+        long stamp = lock.writeLock();
+        try {
+            version++;
+            configNodes.addAll(newNodes);
+
+            // merge all the nodes for each root in a single pass, then validate the root once.
+            Set<Tags> addedTags = new LinkedHashSet<>();
+            newNodes.forEach(it -> addedTags.add(it.getTags()));
+            for (Tags tags : addedTags) {
+                GResultOf<ConfigNode> mergedNode = mergeRoot(configNodes, tags, sourceErrors);
+                errors.addAll(mergedNode.getErrors());
+
+                roots.put(tags, mergedNode.results());
+                newRoots.put(tags, mergedNode.results());
+            }
+
+            return resultOf(newRoots, distinctErrors(errors));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // merge all the nodes with the tags, in order, into a single root and validate it.
+    // each error is also recorded against the source of the node that introduced it.
+    private GResultOf<ConfigNode> mergeRoot(List<ConfigNodeContainer> nodes, Tags tags,
+                                            Map<ConfigSource, List<ValidationError>> sourceErrors) {
+        List<ConfigNodeContainer> rootContainers = new ArrayList<>();
+        List<ConfigNode> rootNodes = new ArrayList<>();
+        for (ConfigNodeContainer node : nodes) {
+            if (node.matchesTags(tags)) {
+                rootContainers.add(node);
+                rootNodes.add(node.getConfigNode());
+            }
+        }
+
+        GResultOf<ConfigNode> mergedNode = MergeNodes.mergeNodes(PathCursor.root(lexer), rootNodes,
+            (error, node) -> addSourceError(sourceErrors, rootContainers.get(node).getSource(), error));
+
+        List<ValidationError> validationErrors = validateNode(mergedNode.results());
+        if (validationErrors.isEmpty()) {
+            return mergedNode;
+        }
+
+        // an invalid root is rare, so only then are the nodes validated on their own to find which of them introduced each error.
+        // an error not in any of the nodes on their own is recorded against the last node, as it was when merging them pairwise.
+        List<List<ValidationError>> nodeErrors = rootNodes.stream().map(this::validateNode).collect(Collectors.toList());
+        for (ValidationError error : validationErrors) {
+            boolean found = false;
+            for (int i = 0; i < rootContainers.size(); i++) {
+                if (nodeErrors.get(i).stream().anyMatch(it -> it.description().equals(error.description()))) {
+                    addSourceError(sourceErrors, rootContainers.get(i).getSource(), error);
+                    found = true;
+                }
+            }
+            if (!found) {
+                addSourceError(sourceErrors, rootContainers.get(rootContainers.size() - 1).getSource(), error);
+            }
+        }
+
+        List<ValidationError> errors = new ArrayList<>(mergedNode.getErrors());
+        errors.addAll(validationErrors);
+        return resultOf(mergedNode.results(), errors);
+    }
+
+    private static void addSourceError(Map<ConfigSource, List<ValidationError>> sourceErrors, ConfigSource source,
+                                       ValidationError error) {
+        List<ValidationError> errors = sourceErrors.computeIfAbsent(source, it -> new ArrayList<>());
+        if (errors.stream().noneMatch(it -> it.description().equals(error.description()))) {
+            errors.add(error);
+        }
+    }
+
     @Override
     public GResultOf<ConfigNode> addNode(ConfigNodeContainer newNode) throws GestaltException {
         if (newNode == null) {
@@ -68,6 +155,7 @@ public final class ConfigNodeManager implements ConfigNodeService {
         List<ValidationError> errors = new ArrayList<>();
         long stamp = lock.writeLock();
         try {
+            version++;
             configNodes.add(newNode);
 
             // If the root is empty or the root doesn't contain the tags, add it to the root without merging with existing node.
@@ -86,7 +174,7 @@ public final class ConfigNodeManager implements ConfigNodeService {
             }
 
             errors.addAll(validateNode(roots.get(newNode.getTags())));
-            errors = errors.stream().filter(CollectionUtils.distinctBy(ValidationError::description)).collect(Collectors.toList());
+            errors = distinctErrors(errors);
 
 
             return resultOf(roots.get(newNode.getTags()), errors);
@@ -117,6 +205,7 @@ public final class ConfigNodeManager implements ConfigNodeService {
                         if (ws != 0L) {
                             stamp = ws;
                             tryUpgradeSuccess = true;
+                            version++;
                             roots.put(tags, results.results());
                         } else {
                             lock.unlockRead(stamp);
@@ -176,7 +265,7 @@ public final class ConfigNodeManager implements ConfigNodeService {
             }
 
             errors.addAll(validateNode(newRoot));
-            errors = errors.stream().filter(CollectionUtils.distinctBy(ValidationError::description)).collect(Collectors.toList());
+            errors = distinctErrors(errors);
 
             boolean tryUpgradeSuccess = false;
             while (!tryUpgradeSuccess) {
@@ -184,6 +273,7 @@ public final class ConfigNodeManager implements ConfigNodeService {
                 if (ws != 0L) {
                     stamp = ws;
                     tryUpgradeSuccess = true;
+                    version++;
                     roots.put(reloadNode.getTags(), newRoot);
                 } else {
                     lock.unlockRead(stamp);
@@ -197,75 +287,281 @@ public final class ConfigNodeManager implements ConfigNodeService {
         }
     }
 
+    @Override
+    public GResultOf<ConfigNodeSnapshot> stageReload(List<ConfigNodeContainer> reloadNodes) throws GestaltException {
+        if (reloadNodes == null || reloadNodes.isEmpty()) {
+            throw new GestaltException("No nodes provided to be reloaded");
+        }
+
+        // copy the nodes being served, everything else is built on the copy without holding the lock.
+        List<ConfigNodeContainer> stagedNodes;
+        LinkedHashMap<Tags, ConfigNode> stagedRoots;
+        long stagedVersion;
+        long stamp = lock.readLock();
+        try {
+            stagedNodes = new ArrayList<>(configNodes);
+            stagedRoots = new LinkedHashMap<>(roots);
+            stagedVersion = version;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+
+        return stage(stagedVersion, stagedNodes, stagedRoots, reloadNodes);
+    }
+
+    @Override
+    public GResultOf<ConfigNodeSnapshot> stageLoad(List<ConfigNodeContainer> nodes) throws GestaltException {
+        if (nodes == null || nodes.isEmpty()) {
+            throw new GestaltException("No nodes provided to be loaded");
+        }
+
+        long stagedVersion;
+        long stamp = lock.readLock();
+        try {
+            stagedVersion = version;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+
+        return stage(stagedVersion, new ArrayList<>(), new LinkedHashMap<>(), nodes);
+    }
+
+    private GResultOf<ConfigNodeSnapshot> stage(long stagedVersion, List<ConfigNodeContainer> stagedNodes,
+                                                LinkedHashMap<Tags, ConfigNode> stagedRoots, List<ConfigNodeContainer> reloadNodes) {
+        List<ValidationError> errors = new ArrayList<>();
+        Map<ConfigSource, List<ValidationError>> sourceErrors = new LinkedHashMap<>();
+
+        // replace the reloaded nodes in place so they keep their merge order, and track the roots that need to be rebuilt.
+        Set<Tags> reloadedTags = new LinkedHashSet<>();
+        for (ConfigNodeContainer reloadNode : reloadNodes) {
+            reloadedTags.add(reloadNode.getTags());
+            boolean replaced = false;
+            for (int i = 0; i < stagedNodes.size(); i++) {
+                ConfigNodeContainer current = stagedNodes.get(i);
+                // nodes are matched on their source, if the tags of the source changed the root of its old tags is also rebuilt.
+                if (current.getSource().equals(reloadNode.getSource())) {
+                    reloadedTags.add(current.getTags());
+                    stagedNodes.set(i, reloadNode);
+                    replaced = true;
+                }
+            }
+
+            if (!replaced) {
+                stagedNodes.add(reloadNode);
+            }
+        }
+
+        // merge each affected root once in a single pass, no matter how many of its nodes were reloaded.
+        Iterator<Tags> reloadedTagsIterator = reloadedTags.iterator();
+        while (reloadedTagsIterator.hasNext()) {
+            Tags tags = reloadedTagsIterator.next();
+            // a root with no nodes left, as its only source moved to different tags, is removed.
+            if (stagedNodes.stream().noneMatch(it -> it.matchesTags(tags))) {
+                stagedRoots.remove(tags);
+                reloadedTagsIterator.remove();
+                continue;
+            }
+
+            GResultOf<ConfigNode> mergedNode = mergeRoot(stagedNodes, tags, sourceErrors);
+            errors.addAll(mergedNode.getErrors());
+            stagedRoots.put(tags, mergedNode.results());
+        }
+
+        errors = distinctErrors(errors);
+
+        return resultOf(new ConfigNodeSnapshot(stagedVersion, stagedNodes, stagedRoots, reloadedTags, reloadNodes, sourceErrors), errors);
+    }
+
+    @Override
+    public GResultOf<Boolean> processConfigNodes(ConfigNodeSnapshot snapshot) throws GestaltException {
+        if (snapshot == null) {
+            throw new GestaltException("No snapshot provided to be post processed");
+        }
+
+        boolean ppSuccessful = true;
+        List<ValidationError> errors = new ArrayList<>();
+
+        // let the processors drop anything they have cached for the reloaded nodes.
+        configNodeProcessorService.nodesReloaded(
+            snapshot.reloadedNodes.stream().map(ConfigNodeContainer::getConfigNode).collect(Collectors.toList()));
+
+        // any nodes processed in parallel navigate the snapshot being processed, the same as the processing thread.
+        UnaryOperator<Runnable> taskWrapper = task -> () -> {
+            ConfigNodeSnapshot previous = processingSnapshot.get();
+            processingSnapshot.set(snapshot);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    processingSnapshot.remove();
+                } else {
+                    processingSnapshot.set(previous);
+                }
+            }
+        };
+
+        // only the rebuilt roots need processing, the rest were processed when they were loaded.
+        processingSnapshot.set(snapshot);
+        try {
+            for (Tags tags : snapshot.reloadedTags) {
+                GResultOf<ConfigNode> results = configNodeProcessorService.processConfigNodes("", snapshot.roots.get(tags), taskWrapper);
+
+                errors.addAll(results.getErrors());
+                if (results.hasResults()) {
+                    snapshot.roots.put(tags, results.results());
+                } else {
+                    ppSuccessful = false;
+                    errors.add(new ValidationError.NodePostProcessingNoResults());
+                }
+            }
+        } finally {
+            processingSnapshot.remove();
+        }
+
+        return resultOf(ppSuccessful, errors);
+    }
+
+    @Override
+    public void publish(ConfigNodeSnapshot snapshot) throws GestaltException {
+        if (snapshot == null) {
+            throw new GestaltException("No snapshot provided to be published");
+        }
+
+        List<ConfigNode> replacedRoots;
+        long stamp = lock.writeLock();
+        try {
+            if (snapshot.version != version) {
+                throw new GestaltException("Unable to publish the reload, the config nodes have changed since the reload was staged");
+            }
+
+            version++;
+            replacedRoots = replacedRoots(roots, snapshot.roots);
+            configNodes = snapshot.configNodes;
+            roots = snapshot.roots;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        // the old roots are no longer served, let the processors release anything they hold for them.
+        if (!replacedRoots.isEmpty()) {
+            configNodeProcessorService.nodesReplaced(replacedRoots);
+        }
+    }
+
+    @Override
+    public boolean restoreRoots(Map<Tags, ConfigNode> restoredRoots) {
+        List<ConfigNode> replacedRoots;
+        long stamp = lock.writeLock();
+        try {
+            version++;
+            replacedRoots = replacedRoots(roots, restoredRoots);
+            configNodes = new ArrayList<>();
+            roots = new LinkedHashMap<>(restoredRoots);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+
+        if (!replacedRoots.isEmpty()) {
+            configNodeProcessorService.nodesReplaced(replacedRoots);
+        }
+        return true;
+    }
+
+    private static List<ConfigNode> replacedRoots(Map<Tags, ConfigNode> currentRoots, Map<Tags, ConfigNode> newRoots) {
+        List<ConfigNode> replacedRoots = new ArrayList<>();
+        for (Map.Entry<Tags, ConfigNode> entry : currentRoots.entrySet()) {
+            if (entry.getValue() != null && newRoots.get(entry.getKey()) != entry.getValue()) {
+                replacedRoots.add(entry.getValue());
+            }
+        }
+        return replacedRoots;
+    }
+
+    @Override
+    public Map<Tags, ConfigNode> getRoots() {
+        long stamp = lock.readLock();
+        try {
+            return new LinkedHashMap<>(roots);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // the errors are collected into a single list, and the path is only rendered for a node with an error.
     private List<ValidationError> validateNode(ConfigNode node) {
-        return validateNode("", node);
+        List<ValidationError> errors = new ArrayList<>();
+        validateNode(PathCursor.root(lexer), node, errors);
+        return errors;
     }
 
-    private List<ValidationError> validateNode(String path, ConfigNode node) {
+    private void validateNode(PathCursor path, ConfigNode node, List<ValidationError> errors) {
         if (node instanceof ArrayNode) {
-            return validateArrayNode(path, (ArrayNode) node);
+            validateArrayNode(path, (ArrayNode) node, errors);
         } else if (node instanceof MapNode) {
-            return validateMapNode(path, (MapNode) node);
+            validateMapNode(path, (MapNode) node, errors);
         } else if (node instanceof LeafNode) {
-            return validateLeafNode(path, (LeafNode) node);
+            validateLeafNode(path, (LeafNode) node, errors);
         } else {
-            return Collections.singletonList(new ValidationError.UnknownNodeType(path, node.getClass().getName()));
+            errors.add(new ValidationError.UnknownNodeType(path.getPath(), node.getClass().getName()));
         }
     }
 
-    private List<ValidationError> validateArrayNode(String path, ArrayNode node) {
-        int size = node.size();
-        List<ValidationError> errors = new ArrayList<>();
+    private void validateArrayNode(PathCursor path, ArrayNode node, List<ValidationError> errors) {
+        List<ConfigNode> values = node.getArray();
+        int size = values.size();
 
         for (int i = 0; i < size; i++) {
-            var valueOptional = node.getIndex(i);
-            if (valueOptional.isEmpty()) {
-                errors.add(new ValidationError.ArrayMissingIndex(i, path));
+            ConfigNode value = values.get(i);
+            if (value == null) {
+                errors.add(new ValidationError.ArrayMissingIndex(i, path.getPath()));
             } else {
-                String nextPath = PathUtil.pathForIndex(lexer, path, i);
-                errors.addAll(validateNode(nextPath, valueOptional.get()));
+                validateNode(path.index(i), value, errors);
             }
         }
-        return errors;
     }
 
-    private List<ValidationError> validateMapNode(String path, MapNode node) {
-        List<ValidationError> errors = new ArrayList<>();
-
+    private void validateMapNode(PathCursor path, MapNode node, List<ValidationError> errors) {
         node.getMapNode().forEach((key, value) -> {
             if (key == null) {
-                errors.add(new ValidationError.EmptyNodeNameProvided(path));
+                errors.add(new ValidationError.EmptyNodeNameProvided(path.getPath()));
             } else if (value == null) {
-                errors.add(new ValidationError.EmptyNodeValueProvided(path, key));
+                errors.add(new ValidationError.EmptyNodeValueProvided(path.getPath(), key));
             } else {
-                String nextPath = PathUtil.pathForKey(lexer, path, key);
-                errors.addAll(validateNode(nextPath, value));
+                validateNode(path.key(key), value, errors);
             }
         });
-
-        return errors;
     }
 
-    private List<ValidationError> validateLeafNode(String path, LeafNode node) {
-        List<ValidationError> errors = new ArrayList<>();
+    private void validateLeafNode(PathCursor path, LeafNode node, List<ValidationError> errors) {
         if (node == null) {
-            errors.add(new ValidationError.LeafNodesIsNull(path));
+            errors.add(new ValidationError.LeafNodesIsNull(path.getPath()));
         } else if (node.getValue().isEmpty()) {
-            errors.add(new ValidationError.LeafNodesHaveNoValues(path));
+            errors.add(new ValidationError.LeafNodesHaveNoValues(path.getPath()));
         }
+    }
 
-        return errors;
+    // only build the description of each error to remove duplicates if there is more than one error.
+    private static List<ValidationError> distinctErrors(List<ValidationError> errors) {
+        if (errors.size() < 2) {
+            return errors;
+        }
+        return errors.stream().filter(CollectionUtils.distinctBy(ValidationError::description)).collect(Collectors.toList());
     }
 
     @Override
     public GResultOf<ConfigNode> navigateToNode(String path, List<Token> tokens, Tags tags) {
+        ConfigNodeSnapshot snapshot = processingSnapshot.get();
+        if (snapshot != null) {
+            return navigateToNodeInternal(snapshot.roots, path, tokens, tags);
+        }
+
         long stamp = lock.tryOptimisticRead();
-        GResultOf<ConfigNode> value = navigateToNodeInternal(path, tokens, tags);
+        GResultOf<ConfigNode> value = navigateToNodeInternal(roots, path, tokens, tags);
 
         if (!lock.validate(stamp)) {
             stamp = lock.readLock();
             try {
-                return navigateToNodeInternal(path, tokens, tags);
+                return navigateToNodeInternal(roots, path, tokens, tags);
             } finally {
                 lock.unlockRead(stamp);
             }
@@ -273,8 +569,9 @@ public final class ConfigNodeManager implements ConfigNodeService {
         return value;
     }
 
-    private GResultOf<ConfigNode> navigateToNodeInternal(String path, List<Token> tokens, Tags tags) {
-        List<GResultOf<ConfigNode>> rootNodes = configNodeTagResolutionStrategy.rootsToSearch(roots, tags);
+    private GResultOf<ConfigNode> navigateToNodeInternal(LinkedHashMap<Tags, ConfigNode> searchRoots, String path, List<Token> tokens,
+                                                         Tags tags) {
+        List<GResultOf<ConfigNode>> rootNodes = configNodeTagResolutionStrategy.rootsToSearch(searchRoots, tags);
 
         // if there is only one root node.
         if (rootNodes.isEmpty()) {
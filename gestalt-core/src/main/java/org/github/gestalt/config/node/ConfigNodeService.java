@@ -1,13 +1,20 @@
 package org.github.gestalt.config.node;
 
 import org.github.gestalt.config.entity.ConfigNodeContainer;
+import org.github.gestalt.config.entity.ValidationError;
+import org.github.gestalt.config.entity.ValidationLevel;
 import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.secret.rules.SecretConcealer;
+import org.github.gestalt.config.source.ConfigSource;
 import org.github.gestalt.config.tag.Tags;
 import org.github.gestalt.config.token.Token;
 import org.github.gestalt.config.utils.GResultOf;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Holds and manages config nodes.
@@ -26,6 +33,43 @@ public interface ConfigNodeService {
      */
     GResultOf<ConfigNode> addNode(ConfigNodeContainer newNode) throws GestaltException;
 
+    /**
+     * Add several new nodes, merging them into the roots for their tags. The nodes are merged in order, so later nodes take precedence.
+     *
+     * @param newNodes nodes to be added
+     * @return the newly merged roots for the tags of the added nodes
+     * @throws GestaltException any exceptions
+     */
+    default GResultOf<Map<Tags, ConfigNode>> addNodes(List<ConfigNodeContainer> newNodes) throws GestaltException {
+        return addNodes(newNodes, new LinkedHashMap<>());
+    }
+
+    /**
+     * Add several new nodes, the same as {@link #addNodes(List)}, also recording the errors by the source of the node
+     * that introduced them. So each source can be checked against its own errors, as if the nodes were added one at a time.
+     *
+     * @param newNodes     nodes to be added
+     * @param sourceErrors filled with the errors adding the nodes, by the source of the node that introduced each error
+     * @return the newly merged roots for the tags of the added nodes
+     * @throws GestaltException any exceptions
+     */
+    default GResultOf<Map<Tags, ConfigNode>> addNodes(List<ConfigNodeContainer> newNodes,
+                                                      Map<ConfigSource, List<ValidationError>> sourceErrors) throws GestaltException {
+        Map<Tags, ConfigNode> newRoots = new LinkedHashMap<>();
+        List<ValidationError> errors = new ArrayList<>();
+        for (ConfigNodeContainer newNode : newNodes) {
+            GResultOf<ConfigNode> result = addNode(newNode);
+            errors.addAll(result.getErrors());
+            if (result.hasErrors()) {
+                sourceErrors.computeIfAbsent(newNode.getSource(), it -> new ArrayList<>()).addAll(result.getErrors());
+            }
+            if (result.hasResults()) {
+                newRoots.put(newNode.getTags(), result.results());
+            }
+        }
+        return GResultOf.resultOf(newRoots, errors);
+    }
+
     /**
      * Apply a list of Config Node Processors on the root node. This allows a Config Node processor to modify the config tree in any way.
      * It will navigate to each node in the tree and pass it to the Config Node processor.
@@ -47,6 +91,106 @@ public interface ConfigNodeService {
      */
     GResultOf<ConfigNode> reloadNode(ConfigNodeContainer reloadNode) throws GestaltException;
 
+    /**
+     * Build a snapshot of the config nodes with the reloaded nodes, without changing the config nodes being served.
+     * Each node replaces the existing node from the same source and tags, to preserve order, and each affected root is merged once.
+     *
+     * <p>By default the snapshot only records the reloaded nodes, and they are reloaded into the config nodes being served
+     * with {@link #reloadNode(ConfigNodeContainer)} once the snapshot is published.
+     *
+     * @param reloadNodes nodes to reload.
+     * @return the snapshot with the reloaded nodes merged in
+     * @throws GestaltException any exceptions
+     */
+    default GResultOf<ConfigNodeSnapshot> stageReload(List<ConfigNodeContainer> reloadNodes) throws GestaltException {
+        if (reloadNodes == null || reloadNodes.isEmpty()) {
+            throw new GestaltException("No nodes provided to be reloaded");
+        }
+
+        return GResultOf.result(new ConfigNodeSnapshot(ConfigNodeSnapshot.UNSTAGED, List.of(), new LinkedHashMap<>(), Set.of(),
+            reloadNodes, Map.of()));
+    }
+
+    /**
+     * Build a snapshot from only the nodes provided, replacing all the config nodes being served once it is published.
+     * Used to replace a config restored from a snapshot file with the config loaded from the sources.
+     *
+     * By default loading a snapshot is not supported, as {@link #restoreRoots(Map)} never restores any roots to be replaced.
+     *
+     * @param nodes all the nodes to load, in the order they are merged.
+     * @return the snapshot with the nodes merged
+     * @throws GestaltException any exceptions
+     */
+    default GResultOf<ConfigNodeSnapshot> stageLoad(List<ConfigNodeContainer> nodes) throws GestaltException {
+        throw new GestaltException("Loading a snapshot is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Apply the Config Node Processors to the roots rebuilt in a snapshot.
+     * While processing, any nodes the processors navigate to are resolved against the snapshot, not the config being served.
+     *
+     * By default the snapshot is not processed here, the config nodes are processed with {@link #processConfigNodes()}
+     * once the snapshot is published.
+     *
+     * @param snapshot snapshot to post process
+     * @return if the post process has completed successfully
+     * @throws GestaltException any exceptions
+     */
+    default GResultOf<Boolean> processConfigNodes(ConfigNodeSnapshot snapshot) throws GestaltException {
+        return GResultOf.result(true);
+    }
+
+    /**
+     * Atomically replace the config nodes being served with the snapshot.
+     *
+     * <p>By default the nodes recorded by {@link #stageReload(List)} are reloaded one at a time with
+     * {@link #reloadNode(ConfigNodeContainer)}, then the config nodes are processed with {@link #processConfigNodes()}.
+     * So unlike a staged snapshot, a failure can leave the nodes that were already reloaded in place.
+     *
+     * @param snapshot snapshot to publish
+     * @throws GestaltException if the config nodes have changed since the snapshot was staged
+     */
+    default void publish(ConfigNodeSnapshot snapshot) throws GestaltException {
+        if (snapshot == null) {
+            throw new GestaltException("No snapshot provided to be published");
+        }
+
+        for (ConfigNodeContainer reloadNode : snapshot.reloadedNodes) {
+            GResultOf<ConfigNode> result = reloadNode(reloadNode);
+            if (!result.hasResults()) {
+                throw new GestaltException("Failed to reload node from source " + reloadNode.getSource().name(), result.getErrors());
+            }
+        }
+
+        GResultOf<Boolean> results = processConfigNodes();
+        if (!results.hasResults() || results.hasErrors(ValidationLevel.ERROR)) {
+            throw new GestaltException("Failed post processing config nodes with errors ", results.getErrors());
+        }
+    }
+
+    /**
+     * Serve the roots provided, such as those read from a snapshot file, until they are replaced by a published snapshot.
+     * There are no config nodes behind the roots, so they should be replaced with {@link #stageLoad(List)}.
+     * By default no roots are restored, so the config is loaded from the sources instead.
+     *
+     * @param roots the roots by tags to serve
+     * @return if the roots were restored
+     */
+    default boolean restoreRoots(Map<Tags, ConfigNode> roots) {
+        return false;
+    }
+
+    /**
+     * Get a copy of the roots being served by tags.
+     *
+     * By default no roots are returned, so no snapshot is written.
+     *
+     * @return the roots being served by tags
+     */
+    default Map<Tags, ConfigNode> getRoots() {
+        return Map.of();
+    }
+
     /**
      * navigate to a node for a path from the root.
      *
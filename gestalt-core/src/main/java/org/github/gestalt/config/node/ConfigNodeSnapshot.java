@@ -0,0 +1,76 @@
+package org.github.gestalt.config.node;
+
+import org.github.gestalt.config.entity.ConfigNodeContainer;
+import org.github.gestalt.config.entity.ValidationError;
+import org.github.gestalt.config.source.ConfigSource;
+import org.github.gestalt.config.tag.Tags;
+
+import java.util.*;
+
+/**
+ * A copy of the config nodes and their merged roots, built off to the side of the config nodes being served.
+ * A reload builds, post processes and validates a snapshot, then publishes it with {@link ConfigNodeService#publish(ConfigNodeSnapshot)}.
+ * Until it is published nothing reading the config can see the snapshot, so a failed reload leaves the last good config in place.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class ConfigNodeSnapshot {
+    // the version of a snapshot that only records the reloaded nodes, for a service that does not stage reloads.
+    static final long UNSTAGED = -1L;
+
+    final long version;
+    final List<ConfigNodeContainer> configNodes;
+    final LinkedHashMap<Tags, ConfigNode> roots;
+    final Set<Tags> reloadedTags;
+    final List<ConfigNodeContainer> reloadedNodes;
+    final Map<ConfigSource, List<ValidationError>> sourceErrors;
+
+    ConfigNodeSnapshot(long version, List<ConfigNodeContainer> configNodes, LinkedHashMap<Tags, ConfigNode> roots,
+                       Set<Tags> reloadedTags, List<ConfigNodeContainer> reloadedNodes,
+                       Map<ConfigSource, List<ValidationError>> sourceErrors) {
+        this.version = version;
+        this.configNodes = configNodes;
+        this.roots = roots;
+        this.reloadedTags = reloadedTags;
+        this.reloadedNodes = reloadedNodes;
+        this.sourceErrors = sourceErrors;
+    }
+
+    /**
+     * Get all the roots in the snapshot by tags.
+     *
+     * @return all the roots in the snapshot
+     */
+    public Map<Tags, ConfigNode> getRoots() {
+        return Collections.unmodifiableMap(roots);
+    }
+
+    /**
+     * Get the nodes loaded from the reloaded sources, before they were merged.
+     *
+     * @return the nodes loaded from the reloaded sources
+     */
+    public List<ConfigNodeContainer> getReloadedNodes() {
+        return Collections.unmodifiableList(reloadedNodes);
+    }
+
+    /**
+     * Get the errors merging the rebuilt roots, by the source of the node that introduced each error.
+     *
+     * @return the errors merging the rebuilt roots by source
+     */
+    public Map<ConfigSource, List<ValidationError>> getSourceErrors() {
+        return Collections.unmodifiableMap(sourceErrors);
+    }
+
+    /**
+     * Get the roots rebuilt by the reload.
+     *
+     * @return the roots rebuilt by the reload
+     */
+    public Map<Tags, ConfigNode> getReloadedRoots() {
+        Map<Tags, ConfigNode> reloadedRoots = new LinkedHashMap<>();
+        reloadedTags.forEach(it -> reloadedRoots.put(it, roots.get(it)));
+        return reloadedRoots;
+    }
+}
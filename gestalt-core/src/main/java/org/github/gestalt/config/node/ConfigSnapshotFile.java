@@ -0,0 +1,331 @@
+package org.github.gestalt.config.node;
+
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.lexer.SentenceLexer;
+import org.github.gestalt.config.secret.rules.SecretConcealer;
+import org.github.gestalt.config.security.encrypted.EncryptionUtils;
+import org.github.gestalt.config.tag.Tag;
+import org.github.gestalt.config.tag.Tags;
+import org.github.gestalt.config.utils.PathUtil;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import javax.crypto.SecretKey;
+
+/**
+ * A compact versioned binary file holding the post processed roots of the config, used to serve the config immediately on start up
+ * while the sources are loaded in the background.
+ *
+ * <p>Secrets, found with the {@link SecretConcealer}, are never written in plain text. If a secret key is provided they are
+ * encrypted with AES GCM, otherwise they are left out of the snapshot. Leaf nodes with their own behaviour,
+ * such as temporary or encrypted secrets, are always left out. The position of each node left out is kept,
+ * so the paths of the missing nodes are known when the snapshot is read. Node metadata is not saved.
+ *
+ * <p>The file is written to a temporary file then moved into place, and is ignored if it is from a different format version
+ * or fails its checksum.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class ConfigSnapshotFile {
+    private static final System.Logger logger = System.getLogger(ConfigSnapshotFile.class.getName());
+
+    /**
+     * The format version of the snapshot, a snapshot with a different version is ignored.
+     */
+    public static final int FORMAT_VERSION = 2;
+
+    private static final int MAGIC = 0x47534E50;
+    private static final byte MAP_NODE = 0;
+    private static final byte ARRAY_NODE = 1;
+    private static final byte LEAF_NODE = 2;
+    private static final byte ENCRYPTED_LEAF_NODE = 3;
+    private static final byte NULL_NODE = 4;
+    private static final byte EXCLUDED_NODE = 5;
+
+    private final Path path;
+    private final SentenceLexer lexer;
+    private final SecretConcealer secretConcealer;
+    private final SecretKey secretKey;
+
+    /**
+     * Constructor for the ConfigSnapshotFile.
+     *
+     * @param path            the path of the snapshot file
+     * @param lexer           the lexer used to build the path of each node, to check if it is a secret
+     * @param secretConcealer used to find the secrets, if null only the leaf nodes with their own behaviour are left out
+     * @param secretKey       the key to encrypt the secrets with, if null the secrets are left out of the snapshot
+     */
+    public ConfigSnapshotFile(Path path, SentenceLexer lexer, SecretConcealer secretConcealer, SecretKey secretKey) {
+        this.path = Objects.requireNonNull(path, "ConfigSnapshotFile path should not be null");
+        this.lexer = Objects.requireNonNull(lexer, "ConfigSnapshotFile SentenceLexer should not be null");
+        this.secretConcealer = secretConcealer;
+        this.secretKey = secretKey;
+    }
+
+    /**
+     * Get the path of the snapshot file.
+     *
+     * @return the path of the snapshot file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Write the roots to the snapshot file, replacing any existing snapshot.
+     *
+     * @param roots the post processed roots by tags
+     * @throws GestaltException if unable to write the snapshot
+     */
+    public void write(Map<Tags, ConfigNode> roots) throws GestaltException {
+        Path directory = path.toAbsolutePath().getParent();
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+            CRC32 checksum = new CRC32();
+            try (OutputStream os = Files.newOutputStream(tempFile);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+
+                DataOutputStream checkedOut = new DataOutputStream(new CheckedOutputStream(out, checksum));
+                checkedOut.writeInt(roots.size());
+                for (Map.Entry<Tags, ConfigNode> root : roots.entrySet()) {
+                    writeTags(checkedOut, root.getKey());
+                    writeNode(checkedOut, "", root.getValue());
+                }
+                checkedOut.flush();
+                out.writeLong(checksum.getValue());
+            }
+
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | GeneralSecurityException e) {
+            throw new GestaltException("Unable to write the config snapshot to " + path + ", message: " + e.getMessage(), e);
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+
+    private static void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            logger.log(System.Logger.Level.DEBUG, "Unable to delete the temporary snapshot file " + tempFile);
+        }
+    }
+
+    /**
+     * Read the roots from the snapshot file.
+     *
+     * @return the roots by tags, or empty if there is no snapshot, or it is from a different format version or is corrupt
+     */
+    public Optional<Map<Tags, ConfigNode>> read() {
+        return read(null);
+    }
+
+    /**
+     * Read the roots from the snapshot file, collecting the paths of the nodes that were left out of the snapshot, such as secrets.
+     *
+     * @param excludedPaths collects the path of each node left out of the snapshot, for all the tags
+     * @return the roots by tags, or empty if there is no snapshot, or it is from a different format version or is corrupt
+     */
+    public Optional<Map<Tags, ConfigNode>> read(Collection<String> excludedPaths) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 16 || buffer.getInt() != MAGIC) {
+                logger.log(System.Logger.Level.WARNING, "Ignoring the config snapshot " + path + " as it is not a snapshot file");
+                return Optional.empty();
+            }
+
+            int formatVersion = buffer.getInt();
+            if (formatVersion != FORMAT_VERSION) {
+                logger.log(System.Logger.Level.INFO, "Ignoring the config snapshot " + path + " with format version " + formatVersion);
+                return Optional.empty();
+            }
+
+            ByteBuffer payload = buffer.slice();
+            payload.limit(payload.limit() - Long.BYTES);
+            CRC32 checksum = new CRC32();
+            checksum.update(payload.duplicate());
+            if (checksum.getValue() != buffer.getLong(buffer.limit() - Long.BYTES)) {
+                logger.log(System.Logger.Level.WARNING, "Ignoring the config snapshot " + path + " as it failed its checksum");
+                return Optional.empty();
+            }
+
+            int rootCount = payload.getInt();
+            Map<Tags, ConfigNode> roots = new LinkedHashMap<>();
+            for (int i = 0; i < rootCount; i++) {
+                Tags tags = readTags(payload);
+                roots.put(tags, readNode(payload, "", excludedPaths));
+            }
+            return Optional.of(roots);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException |
+                 GeneralSecurityException e) {
+            logger.log(System.Logger.Level.WARNING, "Ignoring the config snapshot " + path + ", message: " + e.getMessage(), e);
+            return Optional.empty();
+        }
+    }
+
+    private static void writeTags(DataOutputStream out, Tags tags) throws IOException {
+        out.writeInt(tags.getTags().size());
+        for (Tag tag : tags.getTags()) {
+            writeString(out, tag.getKey());
+            writeString(out, tag.getValue());
+        }
+    }
+
+    private void writeNode(DataOutputStream out, String path, ConfigNode node) throws IOException, GeneralSecurityException {
+        if (node instanceof MapNode) {
+            Map<String, ConfigNode> entries = ((MapNode) node).getMapNode();
+            out.writeByte(MAP_NODE);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, ConfigNode> entry : entries.entrySet()) {
+                writeString(out, entry.getKey());
+                writeNode(out, PathUtil.pathForKey(lexer, path, entry.getKey()), entry.getValue());
+            }
+        } else if (node instanceof ArrayNode) {
+            List<ConfigNode> values = ((ArrayNode) node).getArray();
+            out.writeByte(ARRAY_NODE);
+            out.writeInt(values.size());
+            for (int i = 0; i < values.size(); i++) {
+                writeNode(out, PathUtil.pathForIndex(lexer, path, i), values.get(i));
+            }
+        } else if (isExcluded(path, node)) {
+            // keep the position of the node left out, so the indexes of the rest of an array do not change.
+            out.writeByte(EXCLUDED_NODE);
+        } else if (node != null && node.getClass() == LeafNode.class) {
+            String value = node.getValue().orElse(null);
+            if (value != null && isSecret(path, (LeafNode) node)) {
+                out.writeByte(ENCRYPTED_LEAF_NODE);
+                byte[] encrypted = EncryptionUtils.encryptGcm(secretKey, value);
+                out.writeInt(encrypted.length);
+                out.write(encrypted);
+            } else {
+                out.writeByte(LEAF_NODE);
+                out.writeBoolean(value != null);
+                if (value != null) {
+                    writeString(out, value);
+                }
+            }
+        } else {
+            out.writeByte(NULL_NODE);
+        }
+    }
+
+    // secrets are left out unless there is a key to encrypt them, leaf nodes with their own behaviour are always left out.
+    private boolean isExcluded(String path, ConfigNode node) {
+        if (node instanceof LeafNode) {
+            return node.getClass() != LeafNode.class || (secretKey == null && isSecret(path, (LeafNode) node));
+        }
+        return false;
+    }
+
+    private boolean isSecret(String path, LeafNode node) {
+        if (secretConcealer == null) {
+            return false;
+        }
+
+        String value = node.getValue().orElse("");
+        return !value.equals(secretConcealer.concealSecret(path, value, node.getMetadata()));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static Tags readTags(ByteBuffer buffer) {
+        int tagCount = buffer.getInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.of(readString(buffer), readString(buffer)));
+        }
+        return Tags.of(tags);
+    }
+
+    // the path is only built when the excluded paths are collected.
+    private ConfigNode readNode(ByteBuffer buffer, String path, Collection<String> excludedPaths) throws GeneralSecurityException {
+        byte type = buffer.get();
+        switch (type) {
+            case MAP_NODE: {
+                int size = buffer.getInt();
+                Map<String, ConfigNode> entries = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = readString(buffer);
+                    boolean excluded = buffer.get(buffer.position()) == EXCLUDED_NODE;
+                    ConfigNode node = readNode(buffer, excludedPaths != null ? PathUtil.pathForKey(lexer, path, key) : null, excludedPaths);
+                    if (!excluded) {
+                        entries.put(key, node);
+                    }
+                }
+                return new MapNode(entries);
+            }
+            case ARRAY_NODE: {
+                int size = buffer.getInt();
+                List<ConfigNode> values = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add(readNode(buffer, excludedPaths != null ? PathUtil.pathForIndex(lexer, path, i) : null, excludedPaths));
+                }
+                return new ArrayNode(values);
+            }
+            case LEAF_NODE:
+                return new LeafNode(buffer.get() != 0 ? readString(buffer) : null);
+            case ENCRYPTED_LEAF_NODE: {
+                byte[] encrypted = new byte[buffer.getInt()];
+                buffer.get(encrypted);
+                if (secretKey == null) {
+                    throw new IllegalArgumentException("the snapshot has encrypted secrets but no secret key was provided");
+                }
+                return new LeafNode(new String(EncryptionUtils.decryptGcmBytes(secretKey, encrypted), StandardCharsets.UTF_8));
+            }
+            case NULL_NODE:
+                return null;
+            case EXCLUDED_NODE:
+                if (excludedPaths != null) {
+                    excludedPaths.add(path);
+                }
+                return null;
+            default:
+                throw new IllegalArgumentException("unknown node type " + type);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -3,9 +3,10 @@ package org.github.gestalt.config.node;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.utils.GResultOf;
-import org.github.gestalt.config.utils.PathUtil;
+import org.github.gestalt.config.utils.PathCursor;
 
 import java.util.*;
+import java.util.function.ObjIntConsumer;
 
 import static org.github.gestalt.config.utils.GResultOf.resultOf;
 
@@ -33,23 +34,249 @@ public final class MergeNodes {
      * @return the merged nodes.
      */
     public static GResultOf<ConfigNode> mergeNodes(String path, SentenceLexer lexer, ConfigNode node1, ConfigNode node2) {
+        return mergeNodes(PathCursor.of(lexer, path), node1, node2);
+    }
+
+    /**
+     * Merge two nodes and return the results of the merge. The values in node1 will be overridden by the values in node2.
+     * The path is only rendered if there is an error.
+     *
+     * @param path  the path of the nodes we are merging.
+     * @param node1 the base node, its properties will be overridden by the node2
+     * @param node2 the node to override the values of.
+     * @return the merged nodes.
+     */
+    public static GResultOf<ConfigNode> mergeNodes(PathCursor path, ConfigNode node1, ConfigNode node2) {
         if (node1.getClass() != node2.getClass()) {
             return GResultOf.errors(
                 new ValidationError.UnableToMergeDifferentNodes(node1.getClass(), node2.getClass()));
         } else {
             if (node1 instanceof ArrayNode) {
-                return mergeArrayNodes(path, lexer, (ArrayNode) node1, (ArrayNode) node2);
+                return mergeArrayNodes(path, (ArrayNode) node1, (ArrayNode) node2);
             } else if (node1 instanceof MapNode) {
-                return mergeMapNodes(path, lexer, (MapNode) node1, (MapNode) node2);
+                return mergeMapNodes(path, (MapNode) node1, (MapNode) node2);
             } else if (node1 instanceof LeafNode) {
                 return mergeLeafNodes(path, (LeafNode) node1, (LeafNode) node2);
             } else {
-                return GResultOf.errors(new ValidationError.UnknownNodeType(path, node1.getClass().getName()));
+                return GResultOf.errors(new ValidationError.UnknownNodeType(path.getPath(), node1.getClass().getName()));
+            }
+        }
+    }
+
+    /**
+     * Merge a list of nodes in a single pass, the values in each node will be overridden by the values in the nodes after it.
+     * The children of all the nodes are walked together, so each merged map or array is only built once no matter how many nodes
+     * are merged, and a subtree that is only in one node is shared rather than copied.
+     *
+     * <p>The result is the same as merging the nodes pairwise in order. Where the nodes at a path can not be merged in a single pass,
+     * such as nodes of different types or leaves without values, they are merged pairwise.
+     * If two root nodes can not be merged, the node merged so far is kept.
+     *
+     * @param path  the path of the nodes we are merging.
+     * @param nodes the nodes to merge, in order of precedence from lowest to highest.
+     * @return the merged nodes.
+     */
+    public static GResultOf<ConfigNode> mergeNodes(PathCursor path, List<ConfigNode> nodes) {
+        return mergeNodes(path, nodes, (error, node) -> { });
+    }
+
+    /**
+     * Merge a list of nodes in a single pass, the same as {@link #mergeNodes(PathCursor, List)}, also reporting each error
+     * with the index of the node that introduced it. As with a pairwise merge, an error merging a node into the nodes before it
+     * is reported against that node.
+     *
+     * @param path        the path of the nodes we are merging.
+     * @param nodes       the nodes to merge, in order of precedence from lowest to highest.
+     * @param errorSource receives each error and the index in nodes of the node that introduced it.
+     * @return the merged nodes.
+     */
+    public static GResultOf<ConfigNode> mergeNodes(PathCursor path, List<ConfigNode> nodes, ObjIntConsumer<ValidationError> errorSource) {
+        if (nodes.isEmpty()) {
+            return GResultOf.errors(new ValidationError.NoResultsFoundForNode(path.getPath(), "merging nodes"));
+        } else if (nodes.size() == 1) {
+            return GResultOf.result(nodes.get(0));
+        }
+
+        Layers layers = new Layers(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            layers.add(nodes.get(i), i);
+        }
+
+        List<ValidationError> errors = new ArrayList<>();
+        ConfigNode results = mergeAll(path, path, layers, FailedMerge.KEEP_MERGED, (error, node) -> {
+            errors.add(error);
+            errorSource.accept(error, node);
+        });
+        return resultOf(results, errors);
+    }
+
+    // merge two or more nodes at the same path, the parent path is used to report a failed merge the same as a pairwise merge.
+    private static ConfigNode mergeAll(PathCursor parentPath, PathCursor path, Layers nodes, FailedMerge failedMerge,
+                                       ObjIntConsumer<ValidationError> errors) {
+        Class<?> type = nodes.get(0).getClass();
+        for (int i = 1; i < nodes.size(); i++) {
+            if (nodes.get(i).getClass() != type) {
+                return mergePairwise(parentPath, path, nodes, failedMerge, errors);
+            }
+        }
+
+        if (type == MapNode.class) {
+            return mergeAllMapNodes(parentPath, path, nodes, failedMerge, errors);
+        } else if (type == ArrayNode.class) {
+            return mergeAllArrayNodes(path, nodes, errors);
+        } else if (type == LeafNode.class && allHaveValues(nodes)) {
+            return nodes.get(nodes.size() - 1);
+        } else {
+            return mergePairwise(parentPath, path, nodes, failedMerge, errors);
+        }
+    }
+
+    private static boolean allHaveValues(Layers nodes) {
+        for (int i = 0; i < nodes.size(); i++) {
+            if (nodes.get(i).getValue().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ConfigNode mergeAllMapNodes(PathCursor parentPath, PathCursor path, Layers nodes, FailedMerge failedMerge,
+                                               ObjIntConsumer<ValidationError> errors) {
+        // collect the children for each key from all the nodes, in order.
+        Map<String, Layers> children = new HashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            int layer = nodes.layer(i);
+            for (Map.Entry<String, ConfigNode> entry : ((MapNode) nodes.get(i)).getMapNode().entrySet()) {
+                if (entry.getKey() == null || entry.getValue() == null) {
+                    // the errors for missing keys or values depend on the order of the pairwise merge.
+                    return mergePairwise(parentPath, path, nodes, failedMerge, errors);
+                }
+                children.computeIfAbsent(entry.getKey(), key -> new Layers(2)).add(entry.getValue(), layer);
             }
         }
+
+        Map<String, ConfigNode> mergedNode = new HashMap<>(children.size() * 4 / 3 + 1);
+        for (Map.Entry<String, Layers> entry : children.entrySet()) {
+            Layers values = entry.getValue();
+            if (values.size() == 1) {
+                mergedNode.put(entry.getKey(), values.get(0));
+            } else {
+                mergedNode.put(entry.getKey(), mergeAll(path, path.key(entry.getKey()), values, FailedMerge.TAKE_NEXT_MAP, errors));
+            }
+        }
+
+        return new MapNode(mergedNode);
+    }
+
+    private static ConfigNode mergeAllArrayNodes(PathCursor path, Layers nodes, ObjIntConsumer<ValidationError> errors) {
+        int maxSize = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            maxSize = Math.max(maxSize, nodes.get(i).size());
+        }
+
+        ConfigNode[] values = new ConfigNode[maxSize];
+        Layers atIndex = new Layers(nodes.size());
+        for (int i = 0; i < maxSize; i++) {
+            atIndex.clear();
+            for (int j = 0; j < nodes.size(); j++) {
+                int layer = nodes.layer(j);
+                nodes.get(j).getIndex(i).ifPresent(it -> atIndex.add(it, layer));
+            }
+
+            if (atIndex.size() == 0) {
+                // the index is missing from all the nodes, the last node merged reports it.
+                errors.accept(new ValidationError.ArrayMissingIndex(i, path.getPath()), nodes.layer(nodes.size() - 1));
+            } else if (atIndex.size() == 1) {
+                values[i] = atIndex.get(0);
+            } else {
+                values[i] = mergeAll(path, path.index(i), atIndex, FailedMerge.DROP_ARRAY, errors);
+            }
+        }
+
+        return new ArrayNode(Arrays.asList(values));
+    }
+
+    // merge the nodes pairwise in order, handling a failed merge the same as the parent would in a pairwise merge.
+    private static ConfigNode mergePairwise(PathCursor parentPath, PathCursor path, Layers nodes, FailedMerge failedMerge,
+                                            ObjIntConsumer<ValidationError> errors) {
+        ConfigNode merged = nodes.get(0);
+        for (int i = 1; i < nodes.size(); i++) {
+            ConfigNode next = nodes.get(i);
+            int layer = nodes.layer(i);
+            if (merged == null) {
+                merged = next;
+                continue;
+            }
+
+            GResultOf<ConfigNode> result = mergeNodes(path, merged, next);
+            result.getErrors().forEach(it -> errors.accept(it, layer));
+            if (result.hasResults()) {
+                merged = result.results();
+            } else if (failedMerge == FailedMerge.TAKE_NEXT_MAP) {
+                errors.accept(new ValidationError.NoResultsFoundForNode(parentPath.getPath(), MapNode.class, "merging maps"), layer);
+                merged = next;
+            } else if (failedMerge == FailedMerge.DROP_ARRAY) {
+                errors.accept(new ValidationError.NoResultsFoundForNode(parentPath.getPath(), ArrayNode.class, "merging arrays"), layer);
+                merged = null;
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * The nodes at a path being merged, with the index of the node being merged that each of them came from.
+     */
+    private static final class Layers {
+        private ConfigNode[] nodes;
+        private int[] layers;
+        private int size;
+
+        Layers(int capacity) {
+            this.nodes = new ConfigNode[capacity];
+            this.layers = new int[capacity];
+        }
+
+        void add(ConfigNode node, int layer) {
+            if (size == nodes.length) {
+                nodes = Arrays.copyOf(nodes, size * 2);
+                layers = Arrays.copyOf(layers, size * 2);
+            }
+            nodes[size] = node;
+            layers[size] = layer;
+            size++;
+        }
+
+        ConfigNode get(int index) {
+            return nodes[index];
+        }
+
+        int layer(int index) {
+            return layers[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            Arrays.fill(nodes, 0, size, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * How a failed pairwise merge is handled, depending on where the nodes are.
+     */
+    private enum FailedMerge {
+        // root nodes keep the node merged so far.
+        KEEP_MERGED,
+        // a map keeps the next node.
+        TAKE_NEXT_MAP,
+        // an array drops the index until the next node.
+        DROP_ARRAY
     }
 
-    private static GResultOf<ConfigNode> mergeArrayNodes(String path, SentenceLexer lexer, ArrayNode arrayNode1, ArrayNode arrayNode2) {
+    private static GResultOf<ConfigNode> mergeArrayNodes(PathCursor path, ArrayNode arrayNode1, ArrayNode arrayNode2) {
         // get the maximum array size of both the nodes.
         int maxSize = Math.max(arrayNode1.size(), arrayNode2.size());
         ConfigNode[] values = new ConfigNode[maxSize];
@@ -63,22 +290,21 @@ public final class MergeNodes {
             Optional<ConfigNode> array1AtIndex = arrayNode1.getIndex(i);
             Optional<ConfigNode> array2AtIndex = arrayNode2.getIndex(i);
             if (array1AtIndex.isPresent() && array2AtIndex.isPresent()) {
-                String nextPath = PathUtil.pathForIndex(lexer, path, i);
-                GResultOf<ConfigNode> result = mergeNodes(nextPath, lexer, array1AtIndex.get(), array2AtIndex.get());
+                GResultOf<ConfigNode> result = mergeNodes(path.index(i), array1AtIndex.get(), array2AtIndex.get());
 
                 // if there are errors, add them to the error list abd do not add the merge results
                 errors.addAll(result.getErrors());
                 if (result.hasResults()) {
                     values[i] = result.results();
                 } else {
-                    errors.add(new ValidationError.NoResultsFoundForNode(path, ArrayNode.class, "merging arrays"));
+                    errors.add(new ValidationError.NoResultsFoundForNode(path.getPath(), ArrayNode.class, "merging arrays"));
                 }
             } else if (array1AtIndex.isPresent()) {
                 values[i] = array1AtIndex.get();
             } else if (array2AtIndex.isPresent()) {
                 values[i] = array2AtIndex.get();
             } else {
-                errors.add(new ValidationError.ArrayMissingIndex(i, path));
+                errors.add(new ValidationError.ArrayMissingIndex(i, path.getPath()));
             }
         }
 
@@ -86,7 +312,7 @@ public final class MergeNodes {
         return resultOf(results, errors);
     }
 
-    private static GResultOf<ConfigNode> mergeMapNodes(String path, SentenceLexer lexer, MapNode mapNode1, MapNode mapNode2) {
+    private static GResultOf<ConfigNode> mergeMapNodes(PathCursor path, MapNode mapNode1, MapNode mapNode2) {
         Map<String, ConfigNode> mergedNode = new HashMap<>();
         List<ValidationError> errors = new ArrayList<>();
 
@@ -96,19 +322,18 @@ public final class MergeNodes {
         for (Map.Entry<String, ConfigNode> entry : mapNode1.getMapNode().entrySet()) {
             String key = entry.getKey();
             if (key == null) {
-                errors.add(new ValidationError.EmptyNodeNameProvided(path));
+                errors.add(new ValidationError.EmptyNodeNameProvided(path.getPath()));
             } else if (entry.getValue() == null) {
-                errors.add(new ValidationError.EmptyNodeValueProvided(path, key));
+                errors.add(new ValidationError.EmptyNodeValueProvided(path.getPath(), key));
             } else if (mapNode2.getKey(key).isPresent()) {
-                String nextPath = PathUtil.pathForKey(lexer, path, key);
-                GResultOf<ConfigNode> result = mergeNodes(nextPath, lexer, entry.getValue(), mapNode2.getKey(key).get());
+                GResultOf<ConfigNode> result = mergeNodes(path.key(key), entry.getValue(), mapNode2.getKey(key).get());
 
                 // if there are errors, add them to the error list abd do not add the merge results
                 errors.addAll(result.getErrors());
                 if (result.hasResults()) {
                     mergedNode.putIfAbsent(key, result.results());
                 } else {
-                    errors.add(new ValidationError.NoResultsFoundForNode(path, MapNode.class, "merging maps"));
+                    errors.add(new ValidationError.NoResultsFoundForNode(path.getPath(), MapNode.class, "merging maps"));
                 }
             } else {
                 mergedNode.putIfAbsent(key, entry.getValue());
@@ -120,9 +345,9 @@ public final class MergeNodes {
         for (Map.Entry<String, ConfigNode> entry : mapNode2.getMapNode().entrySet()) {
             String key = entry.getKey();
             if (key == null) {
-                errors.add(new ValidationError.EmptyNodeNameProvided(path));
+                errors.add(new ValidationError.EmptyNodeNameProvided(path.getPath()));
             } else if (entry.getValue() == null) {
-                errors.add(new ValidationError.EmptyNodeValueProvided(path, key));
+                errors.add(new ValidationError.EmptyNodeValueProvided(path.getPath(), key));
             } else {
                 mergedNode.putIfAbsent(entry.getKey(), entry.getValue());
             }
@@ -131,13 +356,13 @@ public final class MergeNodes {
         return resultOf(new MapNode(mergedNode), errors);
     }
 
-    private static GResultOf<ConfigNode> mergeLeafNodes(String path, LeafNode node1, LeafNode node2) {
+    private static GResultOf<ConfigNode> mergeLeafNodes(PathCursor path, LeafNode node1, LeafNode node2) {
         if (node2.getValue().isPresent()) {
             return GResultOf.result(node2);
         } else if (node1.getValue().isPresent()) {
             return GResultOf.result(node1);
         } else {
-            return GResultOf.errors(new ValidationError.LeafNodesHaveNoValues(path));
+            return GResultOf.errors(new ValidationError.LeafNodesHaveNoValues(path.getPath()));
         }
     }
 }
@@ -0,0 +1,200 @@
+package org.github.gestalt.config.node;
+
+import org.github.gestalt.config.entity.ValidationError;
+import org.github.gestalt.config.lexer.SentenceLexer;
+import org.github.gestalt.config.utils.GResultOf;
+import org.github.gestalt.config.utils.PathCursor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Builds a config node tree directly from the tokens of a streaming parser, without building an intermediate tree first.
+ * A loader adapts its parser to a {@link TokenStream}, so the same builder is used for any format.
+ *
+ * <p>The normalized tokens of each key are cached, so a key repeated in an array of objects is only tokenized once.
+ * The path of a node is only built if there is an error to report.
+ * A builder is used for a single parse.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class StreamingConfigNodeBuilder {
+
+    private final SentenceLexer lexer;
+    private final Map<String, List<String>> normalizedKeys = new HashMap<>();
+
+    /**
+     * Constructor for StreamingConfigNodeBuilder.
+     *
+     * @param lexer the lexer to normalize the keys
+     */
+    public StreamingConfigNodeBuilder(SentenceLexer lexer) {
+        this.lexer = Objects.requireNonNull(lexer, "StreamingConfigNodeBuilder SentenceLexer should not be null");
+    }
+
+    /**
+     * Build the config node tree for the value at the current token of the stream.
+     *
+     * @param stream the stream positioned on the first token of the value
+     * @return GResultOf config node or errors.
+     * @throws IOException any errors reading the value
+     */
+    public GResultOf<ConfigNode> build(TokenStream stream) throws IOException {
+        return buildConfigTree(stream, PathCursor.root(lexer));
+    }
+
+    private GResultOf<ConfigNode> buildConfigTree(TokenStream stream, PathCursor path) throws IOException {
+        TokenType token = stream.currentToken();
+        if (token == null) {
+            return GResultOf.errors(new ValidationError.NoResultsFoundForPath(path.getPath()));
+        }
+
+        switch (token) {
+            case START_ARRAY:
+                return buildArrayConfigTree(stream, path);
+
+            case START_OBJECT:
+                return buildObjectConfigTree(stream, path);
+
+            case VALUE:
+                return GResultOf.result(new LeafNode(stream.currentValue()));
+
+            case NULL:
+                return GResultOf.errors(new ValidationError.NoResultsFoundForPath(path.getPath()));
+
+            default:
+                return GResultOf.errors(new ValidationError.UnknownNodeTypeDuringLoad(path.getPath(), token.name()));
+        }
+    }
+
+    private GResultOf<ConfigNode> buildArrayConfigTree(TokenStream stream, PathCursor path) throws IOException {
+        List<ValidationError> errors = new ArrayList<>();
+        List<ConfigNode> array = new ArrayList<>();
+        int index = 0;
+        while (stream.nextToken() != TokenType.END_ARRAY) {
+            PathCursor currentPath = path.index(index++);
+
+            GResultOf<ConfigNode> node = buildConfigTree(stream, currentPath);
+            errors.addAll(node.getErrors());
+            if (!node.hasResults()) {
+                errors.add(new ValidationError.NoResultsFoundForPath(currentPath.getPath()));
+            } else {
+                array.add(node.results());
+            }
+        }
+        ConfigNode arrayNode = new ArrayNode(array);
+        return GResultOf.resultOf(arrayNode, errors);
+    }
+
+    private GResultOf<ConfigNode> buildObjectConfigTree(TokenStream stream, PathCursor path) throws IOException {
+        List<ValidationError> errors = new ArrayList<>();
+        Map<String, ConfigNode> mapNode = new HashMap<>();
+
+        while (stream.nextToken() == TokenType.FIELD_NAME) {
+            List<String> tokenList = normalizedKeys.computeIfAbsent(stream.currentName(), this::normalizeKey);
+            PathCursor currentPath = path.keys(tokenList);
+
+            stream.nextToken();
+            GResultOf<ConfigNode> node = buildConfigTree(stream, currentPath);
+            errors.addAll(node.getErrors());
+            if (!node.hasResults()) {
+                errors.add(new ValidationError.NoResultsFoundForPath(currentPath.getPath()));
+            } else {
+                ConfigNode currentNode = node.results();
+                for (int i = tokenList.size() - 1; i > 0; i--) {
+                    Map<String, ConfigNode> nextMapNode = new HashMap<>();
+                    nextMapNode.put(tokenList.get(i), currentNode);
+                    currentNode = new MapNode(nextMapNode);
+                }
+
+                mapNode.put(tokenList.get(0), currentNode);
+            }
+        }
+
+        ConfigNode mapConfigNode = new MapNode(mapNode);
+        return GResultOf.resultOf(mapConfigNode, errors);
+    }
+
+    private List<String> normalizeKey(String key) {
+        return lexer.tokenizer(key).stream().map(lexer::normalizeSentence).collect(Collectors.toList());
+    }
+
+    /**
+     * The type of token read from a {@link TokenStream}.
+     */
+    public enum TokenType {
+        /**
+         * The start of an object, followed by the field names and their values.
+         */
+        START_OBJECT,
+        /**
+         * The end of an object.
+         */
+        END_OBJECT,
+        /**
+         * The start of an array, followed by its values.
+         */
+        START_ARRAY,
+        /**
+         * The end of an array.
+         */
+        END_ARRAY,
+        /**
+         * The name of a field in an object, followed by its value.
+         */
+        FIELD_NAME,
+        /**
+         * A scalar value, such as a string, number or boolean.
+         */
+        VALUE,
+        /**
+         * A null value.
+         */
+        NULL,
+        /**
+         * A token that is not supported.
+         */
+        UNKNOWN
+    }
+
+    /**
+     * A stream of tokens from a parser, used to build a config node tree with a {@link StreamingConfigNodeBuilder}.
+     */
+    public interface TokenStream {
+        /**
+         * Get the type of the current token.
+         *
+         * @return the type of the current token, or null if there are no more tokens
+         */
+        TokenType currentToken();
+
+        /**
+         * Move to the next token.
+         *
+         * @return the type of the next token, or null if there are no more tokens
+         * @throws IOException any errors reading the token
+         */
+        TokenType nextToken() throws IOException;
+
+        /**
+         * Get the name of the field, if the current token is a {@link TokenType#FIELD_NAME}.
+         *
+         * @return the name of the field
+         * @throws IOException any errors reading the name
+         */
+        String currentName() throws IOException;
+
+        /**
+         * Get the text of the scalar value, if the current token is a {@link TokenType#VALUE}.
+         *
+         * @return the text of the value
+         * @throws IOException any errors reading the value
+         */
+        String currentValue() throws IOException;
+    }
+}
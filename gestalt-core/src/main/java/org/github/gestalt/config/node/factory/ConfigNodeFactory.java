@@ -5,6 +5,7 @@ import org.github.gestalt.config.utils.GResultOf;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Factory to build Config Node from a set of parameters.
@@ -25,6 +26,28 @@ public interface ConfigNodeFactory {
      */
     Boolean supportsType(String type);
 
+    /**
+     * If the nodes built by the factory can be cached and reused until the source that included them is reloaded.
+     * Factories that build nodes from the config tree itself should not be cached.
+     *
+     * @return if the nodes built by the factory can be cached
+     */
+    default boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * Get a fingerprint of the content the nodes would be built from, so cached nodes are built again once the content changes.
+     * Factories that can not fingerprint their content return an empty fingerprint,
+     * then cached nodes are only built again once the source that included them is reloaded.
+     *
+     * @param parameters parameters used to define a config Node, such as file location, or url
+     * @return a fingerprint of the content, or empty if the content can not be fingerprinted
+     */
+    default Optional<String> fingerprint(Map<String, String> parameters) {
+        return Optional.empty();
+    }
+
     /**
      * Takes in a map of parameters to then use a builder to generate a Config Node.
      *
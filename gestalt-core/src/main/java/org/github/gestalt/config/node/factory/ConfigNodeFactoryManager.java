@@ -41,17 +41,42 @@ public class ConfigNodeFactoryManager implements ConfigNodeFactoryService {
         }
 
         String sourceName = source.get().getValue();
-        Optional<ConfigNodeFactory> factory = configSourceFactories.stream().filter(it -> it.supportsType(sourceName)).findFirst();
+        Optional<ConfigNodeFactory> factory = findFactory(sourceName);
 
         if (factory.isEmpty()) {
             return GResultOf.errors(new ValidationError.ConfigSourceFactoryNotFound(sourceName));
         }
 
-        // Build a map without the source, to pass into the factory.
-        var factoryParameters = parameters.entrySet().stream()
+        return factory.get().build(factoryParameters(parameters));
+    }
+
+    @Override
+    public boolean isCacheable(Map<String, String> parameters) {
+        return parameters.entrySet().stream()
+            .filter(entry -> SOURCE.equalsIgnoreCase(entry.getKey()))
+            .findFirst()
+            .flatMap(entry -> findFactory(entry.getValue()))
+            .map(ConfigNodeFactory::isCacheable)
+            .orElse(false);
+    }
+
+    @Override
+    public Optional<String> fingerprint(Map<String, String> parameters) {
+        return parameters.entrySet().stream()
+            .filter(entry -> SOURCE.equalsIgnoreCase(entry.getKey()))
+            .findFirst()
+            .flatMap(entry -> findFactory(entry.getValue()))
+            .flatMap(factory -> factory.fingerprint(factoryParameters(parameters)));
+    }
+
+    // Build a map without the source, to pass into the factory.
+    private static Map<String, String> factoryParameters(Map<String, String> parameters) {
+        return parameters.entrySet().stream()
             .filter(entry -> !SOURCE.equalsIgnoreCase(entry.getKey()))
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
 
-        return factory.get().build(factoryParameters);
+    private Optional<ConfigNodeFactory> findFactory(String sourceName) {
+        return configSourceFactories.stream().filter(it -> it.supportsType(sourceName)).findFirst();
     }
 }
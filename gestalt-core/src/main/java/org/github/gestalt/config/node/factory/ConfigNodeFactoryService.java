@@ -5,6 +5,7 @@ import org.github.gestalt.config.utils.GResultOf;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Service that takes in the Config Node Parameters, extracts the node type, finds the factory for the node and builds it.
@@ -29,4 +30,26 @@ public interface ConfigNodeFactoryService {
      * @return Config Source
      */
     GResultOf<List<ConfigNode>> build(Map<String, String> parameters);
+
+    /**
+     * If the nodes built from the parameters can be cached and reused until the source that included them is reloaded.
+     * By default nothing is cached.
+     *
+     * @param parameters parameters used to define a configSource, such as file location, or url
+     * @return if the nodes built from the parameters can be cached
+     */
+    default boolean isCacheable(Map<String, String> parameters) {
+        return false;
+    }
+
+    /**
+     * Get a fingerprint of the content the nodes would be built from the parameters, so cached nodes are built again once it changes.
+     * By default nothing is fingerprinted.
+     *
+     * @param parameters parameters used to define a configSource, such as file location, or url
+     * @return a fingerprint of the content, or empty if the content can not be fingerprinted
+     */
+    default Optional<String> fingerprint(Map<String, String> parameters) {
+        return Optional.empty();
+    }
 }
@@ -35,6 +35,12 @@ public class ConfigNodeImportFactory implements ConfigNodeFactory {
         return SOURCE_TYPE.equalsIgnoreCase(type);
     }
 
+    @Override
+    public boolean isCacheable() {
+        // the node is read from the config tree, so it changes whenever the config does.
+        return false;
+    }
+
     @Override
     public GResultOf<List<ConfigNode>> build(Map<String, String> parameters) {
 
@@ -1,9 +1,12 @@
 package org.github.gestalt.config.node.factory;
 
 import org.github.gestalt.config.entity.ValidationError;
+import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.loader.ConfigLoaderService;
 import org.github.gestalt.config.loader.ConfigLoaderUtils;
 import org.github.gestalt.config.node.ConfigNode;
+import org.github.gestalt.config.source.ConfigSource;
+import org.github.gestalt.config.source.FingerprintedConfigSource;
 import org.github.gestalt.config.source.FileConfigSourceBuilder;
 import org.github.gestalt.config.utils.GResultOf;
 
@@ -12,6 +15,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Factory for creating a File Config Node from parameters.
@@ -39,28 +43,21 @@ public class FileConfigNodeFactory implements ConfigNodeFactory {
     }
 
     @Override
-    public GResultOf<List<ConfigNode>> build(Map<String, String> parameters) {
+    public Optional<String> fingerprint(Map<String, String> parameters) {
+        try {
+            return Optional.of(FingerprintedConfigSource.of(buildSource(parameters, new ArrayList<>())).getFingerprint());
+        } catch (Exception ex) {
+            // the source can not be read, the error is reported once it is built.
+            return Optional.empty();
+        }
+    }
 
-        var fileConfigSourceBuilder = FileConfigSourceBuilder.builder();
+    @Override
+    public GResultOf<List<ConfigNode>> build(Map<String, String> parameters) {
 
         List<ValidationError> errors = new ArrayList<>();
         try {
-            for (Map.Entry<String, String> entry : parameters.entrySet()) {
-                switch (entry.getKey()) {
-                    case PARAMETER_PATH:
-                        fileConfigSourceBuilder.setPath(Path.of(entry.getValue()));
-                        break;
-                    case PARAMETER_FILE:
-                        fileConfigSourceBuilder.setFile(new File(entry.getValue()));
-                        break;
-                    default:
-                        errors.add(
-                            new ValidationError.ConfigSourceFactoryUnknownParameter(SOURCE_TYPE, entry.getKey(), entry.getValue()));
-                        break;
-                }
-            }
-
-            var fileConfigSource = fileConfigSourceBuilder.build().getConfigSource();
+            var fileConfigSource = buildSource(parameters, errors);
 
             GResultOf<List<ConfigNode>> loadedNodes = ConfigLoaderUtils.convertSourceToNodes(fileConfigSource, configLoaderService);
             errors.addAll(loadedNodes.getErrors());
@@ -71,4 +68,25 @@ public class FileConfigNodeFactory implements ConfigNodeFactory {
             return GResultOf.errors(errors);
         }
     }
+
+    private ConfigSource buildSource(Map<String, String> parameters, List<ValidationError> errors) throws GestaltException {
+        var fileConfigSourceBuilder = FileConfigSourceBuilder.builder();
+
+        for (Map.Entry<String, String> entry : parameters.entrySet()) {
+            switch (entry.getKey()) {
+                case PARAMETER_PATH:
+                    fileConfigSourceBuilder.setPath(Path.of(entry.getValue()));
+                    break;
+                case PARAMETER_FILE:
+                    fileConfigSourceBuilder.setFile(new File(entry.getValue()));
+                    break;
+                default:
+                    errors.add(
+                        new ValidationError.ConfigSourceFactoryUnknownParameter(SOURCE_TYPE, entry.getKey(), entry.getValue()));
+                    break;
+            }
+        }
+
+        return fileConfigSourceBuilder.build().getConfigSource();
+    }
 }
@@ -12,7 +12,8 @@ public interface BaseConfigNodeProcessor {
 
     /**
      * run the config node process the current node. You need to return a node, so if your config node processor does nothing to the node
-     * return the original node.
+     * return the original node. Returning the same instance signals the node is unchanged,
+     * so any parents with only unchanged children are reused rather than rebuilt.
      *
      * @param path        current path
      * @param currentNode current node to process.
@@ -1,5 +1,9 @@
 package org.github.gestalt.config.processor.config;
 
+import org.github.gestalt.config.node.ConfigNode;
+
+import java.util.List;
+
 /**
  * Interface for the Config Node Processing. This will be run against every node in the tree after the tree has been compiled.
  *
@@ -7,4 +11,23 @@ package org.github.gestalt.config.processor.config;
  */
 public interface ConfigNodeProcessor extends BaseConfigNodeProcessor {
 
+    /**
+     * Called when nodes have been reloaded, before the roots they are merged into are processed.
+     * Processors that cache anything built from the nodes can drop it here.
+     * It is a default method as most Config Node Processors do not cache anything.
+     *
+     * @param reloadedNodes the nodes loaded from the reloaded sources, before they were merged
+     */
+    default void nodesReloaded(List<ConfigNode> reloadedNodes) {
+    }
+
+    /**
+     * Called once a new config tree has been published, with the roots it replaced that are no longer served.
+     * Processors that created nodes holding sensitive data can release it here.
+     * It is a default method as most Config Node Processors do not need to release anything.
+     *
+     * @param replacedRoots the roots that were replaced
+     */
+    default void nodesReplaced(List<ConfigNode> replacedRoots) {
+    }
 }
@@ -4,6 +4,7 @@ import org.github.gestalt.config.entity.GestaltConfig;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.node.ConfigNodeService;
 import org.github.gestalt.config.node.factory.ConfigNodeFactoryService;
+import org.github.gestalt.config.reload.ReloadScheduler;
 import org.github.gestalt.config.secret.rules.SecretConcealer;
 
 /**
@@ -17,6 +18,7 @@ public final class ConfigNodeProcessorConfig {
     private final ConfigNodeFactoryService configNodeFactoryService;
     private final SentenceLexer lexer;
     private final SecretConcealer secretConcealer;
+    private final ReloadScheduler reloadScheduler;
 
     /**
      * Constructor for the config node processor config.
@@ -29,11 +31,28 @@ public final class ConfigNodeProcessorConfig {
      */
     public ConfigNodeProcessorConfig(GestaltConfig config, ConfigNodeService configNodeService, SentenceLexer lexer,
                                      SecretConcealer secretConcealer, ConfigNodeFactoryService configNodeFactoryService) {
+        this(config, configNodeService, lexer, secretConcealer, configNodeFactoryService, null);
+    }
+
+    /**
+     * Constructor for the config node processor config.
+     *
+     * @param config                   Gestalt Config
+     * @param configNodeService        Config node service
+     * @param lexer                    Lexer to parse paths
+     * @param secretConcealer          utility to conceal secrets
+     * @param configNodeFactoryService the configSourceFactoryService
+     * @param reloadScheduler          the scheduler to run any background work on, such as loading includes
+     */
+    public ConfigNodeProcessorConfig(GestaltConfig config, ConfigNodeService configNodeService, SentenceLexer lexer,
+                                     SecretConcealer secretConcealer, ConfigNodeFactoryService configNodeFactoryService,
+                                     ReloadScheduler reloadScheduler) {
         this.config = config;
         this.configNodeService = configNodeService;
         this.lexer = lexer;
         this.secretConcealer = secretConcealer;
         this.configNodeFactoryService = configNodeFactoryService;
+        this.reloadScheduler = reloadScheduler;
     }
 
     /**
@@ -80,4 +99,13 @@ public final class ConfigNodeProcessorConfig {
     public ConfigNodeFactoryService getConfigSourceFactoryService() {
         return configNodeFactoryService;
     }
+
+    /**
+     * Get the scheduler to run any background work on.
+     *
+     * @return the reload scheduler, or null if the processors should not run any work in the background
+     */
+    public ReloadScheduler getReloadScheduler() {
+        return reloadScheduler;
+    }
 }
@@ -1,6 +1,7 @@
 package org.github.gestalt.config.processor.config;
 
 import org.github.gestalt.config.annotations.ConfigPriority;
+import org.github.gestalt.config.annotations.ConfigThreadSafe;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.node.ArrayNode;
@@ -11,7 +12,12 @@ import org.github.gestalt.config.utils.GResultOf;
 import org.github.gestalt.config.utils.PathUtil;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static org.github.gestalt.config.utils.GResultOf.resultOf;
@@ -20,16 +26,35 @@ public final class ConfigNodeProcessorManager implements ConfigNodeProcessorServ
 
     // Sentence Lexer used to build a normalized path.
     private final SentenceLexer lexer;
+    // the minimum number of children of a node before they are processed in parallel, zero to disable.
+    private final int parallelThreshold;
     private List<ConfigNodeProcessor> configNodeProcessors;
     private List<RunTimeConfigNodeProcessor> runTimeConfigNodeProcessors;
 
     public ConfigNodeProcessorManager(List<ConfigNodeProcessor> configNodeProcessors,
                                       List<RunTimeConfigNodeProcessor> runTimeConfigNodeProcessors, SentenceLexer lexer) {
+        this(configNodeProcessors, runTimeConfigNodeProcessors, lexer, 0);
+    }
+
+    /**
+     * Constructor for the ConfigNodeProcessorManager that post processes large nodes in parallel.
+     * The children of a map or array node are post processed in parallel on the common ForkJoinPool, if there are at least
+     * parallelThreshold children and all the config node processors are annotated with {@link ConfigThreadSafe}.
+     *
+     * @param configNodeProcessors        the config node processors
+     * @param runTimeConfigNodeProcessors the run time config node processors, these are always run sequentially
+     * @param lexer                       Sentence Lexer used to build a normalized path
+     * @param parallelThreshold           the minimum number of children before they are processed in parallel, zero to disable
+     */
+    public ConfigNodeProcessorManager(List<ConfigNodeProcessor> configNodeProcessors,
+                                      List<RunTimeConfigNodeProcessor> runTimeConfigNodeProcessors, SentenceLexer lexer,
+                                      int parallelThreshold) {
         Objects.requireNonNull(lexer, "Lexer provided to the ConfigNodeProcessorManager should not be null");
         Objects.requireNonNull(configNodeProcessors,
             "configNodeProcessors provided to the ConfigNodeProcessorManager should not be null");
 
         this.lexer = lexer;
+        this.parallelThreshold = parallelThreshold;
         this.configNodeProcessors = orderedConfigNodeProcessor(new ArrayList<>(configNodeProcessors));
         this.runTimeConfigNodeProcessors = orderedConfigNodeProcessor(new ArrayList<>(runTimeConfigNodeProcessors));
     }
@@ -70,7 +95,33 @@ public final class ConfigNodeProcessorManager implements ConfigNodeProcessorServ
 
     @Override
     public GResultOf<ConfigNode> processConfigNodes(String path, ConfigNode node) {
-        return commonProcessConfigNodes(path, node, configNodeProcessors, this::processConfigNodes);
+        return processConfigNodes(path, node, UnaryOperator.identity());
+    }
+
+    @Override
+    public GResultOf<ConfigNode> processConfigNodes(String path, ConfigNode node, UnaryOperator<Runnable> taskWrapper) {
+        List<ConfigNodeProcessor> processors = configNodeProcessors;
+        if (parallelThreshold <= 0 || !processors.stream().allMatch(it -> it.getClass().isAnnotationPresent(ConfigThreadSafe.class))) {
+            return commonProcessConfigNodes(path, node, processors, this::processConfigNodes);
+        }
+
+        return processConfigNodesParallel(path, node, processors, Objects.requireNonNull(taskWrapper));
+    }
+
+    private GResultOf<ConfigNode> processConfigNodesParallel(String path, ConfigNode node, List<ConfigNodeProcessor> processors,
+                                                             UnaryOperator<Runnable> taskWrapper) {
+        return commonProcessConfigNodes(path, node, processors,
+            (nextPath, nextNode) -> processConfigNodesParallel(nextPath, nextNode, processors, taskWrapper), taskWrapper);
+    }
+
+    @Override
+    public void nodesReloaded(List<ConfigNode> reloadedNodes) {
+        configNodeProcessors.forEach(it -> it.nodesReloaded(reloadedNodes));
+    }
+
+    @Override
+    public void nodesReplaced(List<ConfigNode> replacedRoots) {
+        configNodeProcessors.forEach(it -> it.nodesReplaced(replacedRoots));
     }
 
     @Override
@@ -88,6 +139,16 @@ public final class ConfigNodeProcessorManager implements ConfigNodeProcessorServ
         String path, ConfigNode node,
         List<T> processor,
         BiFunction<String, ConfigNode, GResultOf<ConfigNode>> processConfigNodes
+    ) {
+        return commonProcessConfigNodes(path, node, processor, processConfigNodes, null);
+    }
+
+    // if there is a task wrapper, the children of large nodes are processed in parallel with each task run through the wrapper.
+    private <T extends BaseConfigNodeProcessor> GResultOf<ConfigNode> commonProcessConfigNodes(
+        String path, ConfigNode node,
+        List<T> processor,
+        BiFunction<String, ConfigNode, GResultOf<ConfigNode>> processConfigNodes,
+        UnaryOperator<Runnable> taskWrapper
     ) {
         if (processor.isEmpty()) {
             return GResultOf.result(node);
@@ -112,9 +173,9 @@ public final class ConfigNodeProcessorManager implements ConfigNodeProcessorServ
 
         // recursively apply post processing to children nodes. If this is a leaf, we can return.
         if (currentNode instanceof ArrayNode) {
-            return postProcessArray(path, (ArrayNode) currentNode, processConfigNodes);
+            return postProcessArray(path, (ArrayNode) currentNode, processConfigNodes, taskWrapper);
         } else if (currentNode instanceof MapNode) {
-            return postProcessMap(path, (MapNode) currentNode, processConfigNodes);
+            return postProcessMap(path, (MapNode) currentNode, processConfigNodes, taskWrapper);
         } else if (currentNode instanceof LeafNode) {
             return resultOf(currentNode, errors);
         } else {
@@ -122,48 +183,151 @@ public final class ConfigNodeProcessorManager implements ConfigNodeProcessorServ
         }
     }
 
+    // children are processed in place, the original node is returned if no child changed so unchanged subtrees are shared.
+    // A new node is only built once a child has changed, keeping the metadata of the original node.
     private GResultOf<ConfigNode> postProcessArray(String path, ArrayNode node,
-                                                   BiFunction<String, ConfigNode, GResultOf<ConfigNode>> processConfigNodes) {
-        int size = node.size();
-        List<ValidationError> errors = new ArrayList<>();
-        ConfigNode[] processedNode = new ConfigNode[size];
-
+                                                   BiFunction<String, ConfigNode, GResultOf<ConfigNode>> processConfigNodes,
+                                                   UnaryOperator<Runnable> taskWrapper) {
+        List<ConfigNode> values = node.getArray();
+        int size = values.size();
+        List<String> paths = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
-            Optional<ConfigNode> currentNodeOption = node.getIndex(i);
-            if (currentNodeOption.isPresent()) {
-                String nextPath = PathUtil.pathForIndex(lexer, path, i);
-                GResultOf<ConfigNode> newNode = processConfigNodes.apply(nextPath, currentNodeOption.get());
+            paths.add(values.get(i) != null ? PathUtil.pathForIndex(lexer, path, i) : null);
+        }
+        List<GResultOf<ConfigNode>> newNodes = processChildren(paths, values, processConfigNodes, taskWrapper);
 
+        List<ValidationError> errors = new ArrayList<>();
+        ConfigNode[] processedNode = null;
+        for (int i = 0; i < size; i++) {
+            GResultOf<ConfigNode> newNode = newNodes.get(i);
+            if (newNode != null) {
                 errors.addAll(newNode.getErrors());
-                if (newNode.hasResults()) {
-                    processedNode[i] = newNode.results();
-                } else {
+                ConfigNode result = newNode.hasResults() ? newNode.results() : null;
+                if (result == null) {
                     errors.add(new ValidationError.NoResultsFoundForNode(path, ArrayNode.class, "post processing"));
                 }
+
+                if (result != values.get(i)) {
+                    if (processedNode == null) {
+                        processedNode = values.toArray(new ConfigNode[0]);
+                    }
+                    processedNode[i] = result;
+                }
             }
         }
 
-        return resultOf(new ArrayNode(Arrays.asList(processedNode)), errors);
+        if (processedNode == null) {
+            return resultOf(node, errors);
+        }
+        return resultOf(new ArrayNode(Arrays.asList(processedNode), node.getMetadata()), errors);
     }
 
     private GResultOf<ConfigNode> postProcessMap(String path, MapNode node,
-                                                 BiFunction<String, ConfigNode, GResultOf<ConfigNode>> processConfigNodes) {
-        Map<String, ConfigNode> processedNode = new HashMap<>();
-        List<ValidationError> errors = new ArrayList<>();
-
-        for (Map.Entry<String, ConfigNode> entry : node.getMapNode().entrySet()) {
-            String key = entry.getKey();
-            String nextPath = PathUtil.pathForKey(lexer, path, key);
-            GResultOf<ConfigNode> newNode = processConfigNodes.apply(nextPath, entry.getValue());
+                                                 BiFunction<String, ConfigNode, GResultOf<ConfigNode>> processConfigNodes,
+                                                 UnaryOperator<Runnable> taskWrapper) {
+        List<String> keys = new ArrayList<>(node.getMapNode().keySet());
+        List<ConfigNode> values = new ArrayList<>(keys.size());
+        List<String> paths = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            values.add(node.getMapNode().get(key));
+            paths.add(PathUtil.pathForKey(lexer, path, key));
+        }
+        List<GResultOf<ConfigNode>> newNodes = processChildren(paths, values, processConfigNodes, taskWrapper);
 
+        List<ValidationError> errors = new ArrayList<>();
+        Map<String, ConfigNode> processedNode = null;
+        for (int i = 0; i < keys.size(); i++) {
+            GResultOf<ConfigNode> newNode = newNodes.get(i);
             errors.addAll(newNode.getErrors());
-            if (newNode.hasResults()) {
-                processedNode.put(key, newNode.results());
-            } else {
+            ConfigNode result = newNode.hasResults() ? newNode.results() : null;
+            if (result == null) {
                 errors.add(new ValidationError.NoResultsFoundForNode(path, MapNode.class, "post processing"));
             }
+
+            if (result != values.get(i)) {
+                if (processedNode == null) {
+                    processedNode = new HashMap<>(node.getMapNode());
+                }
+
+                if (result != null) {
+                    processedNode.put(keys.get(i), result);
+                } else {
+                    processedNode.remove(keys.get(i));
+                }
+            }
+        }
+
+        if (processedNode == null) {
+            return resultOf(node, errors);
+        }
+        return resultOf(new MapNode(processedNode, node.getMetadata()), errors);
+    }
+
+    // process the children in order, or in parallel if there is a task wrapper and enough children.
+    // The results are always returned in the order of the children so any errors are reported in the same order.
+    // A null child has a null result.
+    private List<GResultOf<ConfigNode>> processChildren(List<String> paths, List<ConfigNode> children,
+                                                        BiFunction<String, ConfigNode, GResultOf<ConfigNode>> processConfigNodes,
+                                                        UnaryOperator<Runnable> taskWrapper) {
+        int size = children.size();
+        List<GResultOf<ConfigNode>> results = new ArrayList<>(size);
+        if (taskWrapper == null || size < parallelThreshold) {
+            for (int i = 0; i < size; i++) {
+                ConfigNode child = children.get(i);
+                results.add(child != null ? processConfigNodes.apply(paths.get(i), child) : null);
+            }
+            return results;
         }
 
-        return resultOf(new MapNode(processedNode), errors);
+        List<ProcessNodeTask> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ConfigNode child = children.get(i);
+            tasks.add(child != null ? new ProcessNodeTask(paths.get(i), child, processConfigNodes, taskWrapper) : null);
+        }
+
+        List<ProcessNodeTask> forkedTasks = new ArrayList<>(size);
+        tasks.stream().filter(Objects::nonNull).forEach(forkedTasks::add);
+        if (ForkJoinTask.inForkJoinPool()) {
+            ForkJoinTask.invokeAll(forkedTasks);
+        } else {
+            ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(forkedTasks);
+                }
+            });
+        }
+
+        for (ProcessNodeTask task : tasks) {
+            results.add(task != null ? task.join() : null);
+        }
+        return results;
+    }
+
+    /**
+     * Processes a single child node on the ForkJoinPool, run through the task wrapper.
+     */
+    private static final class ProcessNodeTask extends RecursiveTask<GResultOf<ConfigNode>> {
+        private static final long serialVersionUID = 1L;
+
+        private final String path;
+        private final transient ConfigNode node;
+        private final transient BiFunction<String, ConfigNode, GResultOf<ConfigNode>> processConfigNodes;
+        private final transient UnaryOperator<Runnable> taskWrapper;
+        private transient GResultOf<ConfigNode> result;
+
+        private ProcessNodeTask(String path, ConfigNode node, BiFunction<String, ConfigNode, GResultOf<ConfigNode>> processConfigNodes,
+                                UnaryOperator<Runnable> taskWrapper) {
+            this.path = path;
+            this.node = node;
+            this.processConfigNodes = processConfigNodes;
+            this.taskWrapper = taskWrapper;
+        }
+
+        @Override
+        protected GResultOf<ConfigNode> compute() {
+            taskWrapper.apply(() -> result = processConfigNodes.apply(path, node)).run();
+            return result;
+        }
     }
 }
@@ -4,6 +4,7 @@ import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.utils.GResultOf;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * Manages the list of ConfigNodeProcessor and applies them to a specific node.
@@ -34,6 +35,37 @@ public interface ConfigNodeProcessorService {
      */
     GResultOf<ConfigNode> processConfigNodes(String path, ConfigNode node);
 
+    /**
+     * Apply the list of ConfigNodeProcessor to a specific node on a path.
+     * If the children of a node are processed in parallel, each task is run through the task wrapper,
+     * so it can set up any thread local state the processors depend on.
+     * By default the children are processed without the task wrapper, using {@link #processConfigNodes(String, ConfigNode)}.
+     *
+     * @param path        the current path
+     * @param node        the node we want to process
+     * @param taskWrapper wraps each task that processes children in parallel
+     * @return the result node that is either the same or modified.
+     */
+    default GResultOf<ConfigNode> processConfigNodes(String path, ConfigNode node, UnaryOperator<Runnable> taskWrapper) {
+        return processConfigNodes(path, node);
+    }
+
+    /**
+     * Notify the ConfigNodeProcessor that nodes have been reloaded, before the roots they are merged into are processed.
+     *
+     * @param reloadedNodes the nodes loaded from the reloaded sources
+     */
+    default void nodesReloaded(List<ConfigNode> reloadedNodes) {
+    }
+
+    /**
+     * Notify the ConfigNodeProcessor that a new config tree has been published, with the roots it replaced.
+     *
+     * @param replacedRoots the roots that were replaced
+     */
+    default void nodesReplaced(List<ConfigNode> replacedRoots) {
+    }
+
     /**
      * Apply the list of runTimeConfigNodeProcessor to a specific node on a path while getting the configuration.
      *
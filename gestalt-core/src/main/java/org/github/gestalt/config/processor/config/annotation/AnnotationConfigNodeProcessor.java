@@ -1,6 +1,7 @@
 package org.github.gestalt.config.processor.config.annotation;
 
 import org.github.gestalt.config.annotations.ConfigPriority;
+import org.github.gestalt.config.annotations.ConfigThreadSafe;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.metadata.MetaDataValue;
 import org.github.gestalt.config.node.ConfigNode;
@@ -21,6 +22,7 @@ import java.util.stream.Collectors;
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
 @ConfigPriority(100)
+@ConfigThreadSafe
 public class AnnotationConfigNodeProcessor implements ConfigNodeProcessor {
 
     public static final String DEFAULT_ANNOTATION_REGEX =
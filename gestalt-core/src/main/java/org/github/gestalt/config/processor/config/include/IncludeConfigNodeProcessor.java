@@ -1,8 +1,10 @@
 package org.github.gestalt.config.processor.config.include;
 
 import org.github.gestalt.config.annotations.ConfigPriority;
+import org.github.gestalt.config.annotations.ConfigThreadSafe;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.lexer.SentenceLexer;
+import org.github.gestalt.config.node.ArrayNode;
 import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.node.LeafNode;
 import org.github.gestalt.config.node.MapNode;
@@ -10,11 +12,15 @@ import org.github.gestalt.config.node.MergeNodes;
 import org.github.gestalt.config.node.factory.ConfigNodeFactoryService;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessor;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessorConfig;
+import org.github.gestalt.config.reload.ReloadScheduler;
 import org.github.gestalt.config.utils.GResultOf;
 import org.github.gestalt.config.utils.Pair;
 import org.github.gestalt.config.utils.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 
 /**
@@ -22,15 +28,26 @@ import java.util.stream.Collectors;
  * Supports loading nodes in order so you can load a node under an existing node to use as defaults, or over a node to use as overrides.
  * You can inject a node at the root, or at any path within the nodes.
  *
+ * <p>The results of each include are cached by their parameters, so an include is only built again once the source that declared
+ * it is reloaded, or the fingerprint of the included content changes. Includes from a factory that is not cacheable,
+ * such as nodes from the config tree, are built every time.
+ * When the root is processed all the includes in the tree are resolved first, a level of nesting at a time,
+ * with the includes of each level built in parallel on the {@link ReloadScheduler}, up to its max concurrent reloads.
+ * Includes that failed are built again each time the nodes are processed.
+ *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
 @ConfigPriority(500)
+@ConfigThreadSafe
 public class IncludeConfigNodeProcessor implements ConfigNodeProcessor {
 
     private ConfigNodeFactoryService configNodeFactoryService;
     private String nodeImportKeyword;
     private SentenceLexer lexer;
     private Integer nodeNestedIncludeLimit;
+    private ReloadScheduler reloadScheduler;
+    // the results of each include by its normalized parameters.
+    private final Map<Map<String, String>, CachedInclude> includeCache = new ConcurrentHashMap<>();
 
     private List<Pair<Integer, ConfigNode>> buildOrderedIncludeNodes(String importKey, GResultOf<List<ConfigNode>> loadedConfigNode) {
         // you can order the imports by having $include:3, pull out the order variable.
@@ -69,13 +86,145 @@ public class IncludeConfigNodeProcessor implements ConfigNodeProcessor {
         this.nodeImportKeyword = config.getConfig().getNodeIncludeKeyword();
         this.lexer = config.getLexer();
         this.nodeNestedIncludeLimit = config.getConfig().getNodeNestedIncludeLimit();
+        this.reloadScheduler = config.getReloadScheduler();
     }
 
     @Override
     public GResultOf<ConfigNode> process(String path, ConfigNode currentNode) {
+        // the root is processed before any of its children, so resolve all the includes in the tree up front.
+        if (configNodeFactoryService != null && path.isEmpty()) {
+            prefetchIncludes(currentNode);
+        }
         return process(path, currentNode, 0);
     }
 
+    @Override
+    public void nodesReloaded(List<ConfigNode> reloadedNodes) {
+        if (configNodeFactoryService == null) {
+            return;
+        }
+
+        // drop the includes declared by the reloaded nodes, along with any includes nested in them.
+        Set<Map<String, String>> includes = new HashSet<>();
+        for (ConfigNode reloadedNode : reloadedNodes) {
+            findIncludes(reloadedNode, includes);
+        }
+        for (int nestedLevel = 0; nestedLevel < nodeNestedIncludeLimit && !includes.isEmpty(); nestedLevel++) {
+            Set<Map<String, String>> nestedIncludes = new HashSet<>();
+            for (Map<String, String> include : includes) {
+                CachedInclude removed = includeCache.remove(include);
+                if (removed != null && removed.nodes.hasResults()) {
+                    removed.nodes.results().forEach(it -> findIncludes(it, nestedIncludes));
+                }
+            }
+            includes = nestedIncludes;
+        }
+    }
+
+    // resolve the includes in the tree breadth first, building the includes found at each level of nesting in parallel.
+    private void prefetchIncludes(ConfigNode root) {
+        includeCache.values().removeIf(it -> it.nodes.hasErrors());
+
+        List<ConfigNode> levelNodes = List.of(root);
+        for (int nestedLevel = 0; nestedLevel < nodeNestedIncludeLimit && !levelNodes.isEmpty(); nestedLevel++) {
+            Set<Map<String, String>> includes = new LinkedHashSet<>();
+            levelNodes.forEach(it -> findIncludes(it, includes));
+
+            List<Runnable> refreshes = includes.stream()
+                .filter(configNodeFactoryService::isCacheable)
+                .map(it -> (Runnable) () -> refreshInclude(it))
+                .collect(Collectors.toList());
+            runAll(refreshes);
+
+            levelNodes = includes.stream()
+                .map(includeCache::get)
+                .filter(it -> it != null && it.nodes.hasResults())
+                .flatMap(it -> it.nodes.results().stream())
+                .collect(Collectors.toList());
+        }
+    }
+
+    // build the include if it is not cached, or the fingerprint of the included content has changed since it was cached.
+    private void refreshInclude(Map<String, String> parameters) {
+        String fingerprint = configNodeFactoryService.fingerprint(parameters).orElse(null);
+        CachedInclude cached = includeCache.get(parameters);
+        if (cached == null || !Objects.equals(cached.fingerprint, fingerprint)) {
+            includeCache.put(parameters, new CachedInclude(configNodeFactoryService.build(parameters), fingerprint));
+        }
+    }
+
+    // building an include can block on IO, so the tasks are run on the reload scheduler rather than the common pool.
+    // The calling thread also runs tasks, so at most the max concurrent reloads of the scheduler are run at once.
+    private void runAll(List<Runnable> tasks) {
+        ReloadScheduler scheduler = reloadScheduler;
+        if (scheduler == null || scheduler.isClosed() || tasks.size() < 2) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+
+        Queue<Runnable> queue = new ConcurrentLinkedQueue<>(tasks);
+        Runnable worker = () -> {
+            Runnable task = queue.poll();
+            while (task != null) {
+                task.run();
+                task = queue.poll();
+            }
+        };
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        int workerCount = Math.min(tasks.size(), scheduler.getMaxConcurrentReloads()) - 1;
+        for (int i = 0; i < workerCount; i++) {
+            try {
+                workers.add(CompletableFuture.runAsync(worker, scheduler::execute));
+            } catch (IllegalStateException e) {
+                // the scheduler was closed, so the remaining tasks are run on this thread.
+                break;
+            }
+        }
+        worker.run();
+        workers.forEach(CompletableFuture::join);
+    }
+
+    // find the parameters of all the valid includes in a tree, invalid includes are reported when they are processed.
+    private void findIncludes(ConfigNode node, Set<Map<String, String>> includes) {
+        if (node instanceof ArrayNode) {
+            ((ArrayNode) node).getArray().forEach(it -> findIncludes(it, includes));
+        } else if (node instanceof MapNode) {
+            for (Map.Entry<String, ConfigNode> entry : ((MapNode) node).getMapNode().entrySet()) {
+                if (entry.getKey() != null && entry.getKey().startsWith(nodeImportKeyword) && entry.getValue() instanceof LeafNode) {
+                    String parametersString = entry.getValue().getValue().orElse("");
+                    List<ValidationError> errors = new ArrayList<>();
+                    Map<String, String> parameters = parametersString.isEmpty() ? Map.of() :
+                        convertStringToParameters("", parametersString, errors);
+                    if (!parameters.isEmpty() && errors.isEmpty()) {
+                        includes.add(normalizeParameters(parameters));
+                    }
+                } else {
+                    findIncludes(entry.getValue(), includes);
+                }
+            }
+        }
+    }
+
+    private static Map<String, String> normalizeParameters(Map<String, String> parameters) {
+        return Collections.unmodifiableMap(new TreeMap<>(parameters));
+    }
+
+    private GResultOf<List<ConfigNode>> buildInclude(Map<String, String> parameters) {
+        Map<String, String> normalizedParameters = normalizeParameters(parameters);
+        if (!configNodeFactoryService.isCacheable(normalizedParameters)) {
+            return configNodeFactoryService.build(normalizedParameters);
+        }
+
+        CachedInclude cached = includeCache.get(normalizedParameters);
+        if (cached == null) {
+            String fingerprint = configNodeFactoryService.fingerprint(normalizedParameters).orElse(null);
+            cached = new CachedInclude(configNodeFactoryService.build(normalizedParameters), fingerprint);
+            includeCache.put(normalizedParameters, cached);
+        }
+        return cached.nodes;
+    }
+
     private GResultOf<ConfigNode> process(String path, ConfigNode currentNode, Integer nestedLevel) {
         if (configNodeFactoryService == null || !(currentNode instanceof MapNode)) {
             return GResultOf.result(currentNode);
@@ -126,7 +275,7 @@ public class IncludeConfigNodeProcessor implements ConfigNodeProcessor {
             Map<String, String> parameters = convertStringToParameters(path, paramtersString, errors);
 
             // from the parameters generate the config source.
-            GResultOf<List<ConfigNode>> configNodesResult = configNodeFactoryService.build(parameters);
+            GResultOf<List<ConfigNode>> configNodesResult = buildInclude(parameters);
 
             errors.addAll(configNodesResult.getErrors());
             if (configNodesResult.hasResults()) {
@@ -186,4 +335,15 @@ public class IncludeConfigNodeProcessor implements ConfigNodeProcessor {
         }
         return mergedNode;
     }
+
+    private static final class CachedInclude {
+        private final GResultOf<List<ConfigNode>> nodes;
+        // the fingerprint of the included content when it was built, or null if it can not be fingerprinted.
+        private final String fingerprint;
+
+        private CachedInclude(GResultOf<List<ConfigNode>> nodes, String fingerprint) {
+            this.nodes = nodes;
+            this.fingerprint = fingerprint;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package org.github.gestalt.config.processor.config.transform;
 
 import org.github.gestalt.config.annotations.ConfigPriority;
+import org.github.gestalt.config.annotations.ConfigThreadSafe;
 import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.node.LeafNode;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessor;
@@ -25,6 +26,7 @@ import java.util.Objects;
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
 @ConfigPriority(200)
+@ConfigThreadSafe
 public final class LoadtimeStringSubstitutionConfigNodeProcessor implements ConfigNodeProcessor {
 
     private StringSubstitutionProcessor stringSubstitutionProcessor;
@@ -1,6 +1,7 @@
 package org.github.gestalt.config.processor.config.transform;
 
 import org.github.gestalt.config.annotations.ConfigPriority;
+import org.github.gestalt.config.annotations.ConfigThreadSafe;
 import org.github.gestalt.config.metadata.IsNoCacheMetadata;
 import org.github.gestalt.config.metadata.IsRunTimeStringSubstitutionMetadata;
 import org.github.gestalt.config.metadata.MetaDataValue;
@@ -20,6 +21,7 @@ import java.util.Map;
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
 @ConfigPriority(100)
+@ConfigThreadSafe
 public final class RunTimeMetadataConfigNodeProcessor implements ConfigNodeProcessor {
 
     private String openingToken = "#{";
@@ -51,15 +53,16 @@ public final class RunTimeMetadataConfigNodeProcessor implements ConfigNodeProce
         }
 
         int runTimeStringSubClosing = leafValue.indexOf(closingToken, runTimeStringSubLocation);
+        if (runTimeStringSubClosing <= runTimeStringSubLocation) {
+            return GResultOf.result(currentNode);
+        }
 
-        // if there is at least one run time string sub closing token, add the IsRunTimeStringSubstitutionMetadata metadata
+        // there is at least one run time string sub closing token, add the IsRunTimeStringSubstitutionMetadata metadata
         Map<String, List<MetaDataValue<?>>> metadataMap = new HashMap<>();
-        if (runTimeStringSubClosing > runTimeStringSubLocation) {
-            metadataMap.put(IsRunTimeStringSubstitutionMetadata.RUN_TIME_STRING_SUBSTITUTION,
-                List.of(new IsRunTimeStringSubstitutionMetadata(true)));
-            metadataMap.put(IsNoCacheMetadata.NO_CACHE,
-                List.of(new IsNoCacheMetadata(true)));
-        }
+        metadataMap.put(IsRunTimeStringSubstitutionMetadata.RUN_TIME_STRING_SUBSTITUTION,
+            List.of(new IsRunTimeStringSubstitutionMetadata(true)));
+        metadataMap.put(IsNoCacheMetadata.NO_CACHE,
+            List.of(new IsNoCacheMetadata(true)));
 
         return GResultOf.resultOf(new LeafNode(leafValue, metadataMap), List.of());
     }
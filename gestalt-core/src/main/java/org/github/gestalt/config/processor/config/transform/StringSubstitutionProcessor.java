@@ -105,7 +105,8 @@ public final class StringSubstitutionProcessor {
         if (substitutionNodes.hasResults()) {
             var results = buildSubstitutedStringList(path, currentNode, substitutionNodes.results(), 0);
 
-            return results.mapWithError(it -> ((LeafNode) currentNode).duplicate(it));
+            // return the original node if nothing was substituted, so the unchanged node can be shared.
+            return results.mapWithError(it -> leafValue.equals(it) ? currentNode : ((LeafNode) currentNode).duplicate(it));
 
         } else {
             return GResultOf.errors(substitutionNodes.getErrors());
@@ -0,0 +1,55 @@
+package org.github.gestalt.config.reload;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the reloads of a single reload strategy off the thread that detected the change, such as the {@link DirectoryWatcher} thread,
+ * so a slow reload does not hold up change detection for every other watched file.
+ *
+ * <p>Only one reload runs at a time. Any changes detected while a reload is running are coalesced into a single follow up reload.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+final class CoalescingReloadRunner {
+    private static final System.Logger logger = System.getLogger(CoalescingReloadRunner.class.getName());
+
+    private final Runnable reload;
+    // the number of changes not yet picked up by a reload, any value above zero means a reload is queued or running.
+    private final AtomicInteger pending = new AtomicInteger();
+
+    CoalescingReloadRunner(Runnable reload) {
+        this.reload = reload;
+    }
+
+    /**
+     * Request a reload, running it on the executor unless a reload is already queued or running.
+     *
+     * @param executor the executor to run the reload on
+     */
+    void requestReload(Executor executor) {
+        if (pending.getAndIncrement() > 0) {
+            return;
+        }
+
+        try {
+            executor.execute(this::runReloads);
+        } catch (RejectedExecutionException | IllegalStateException e) {
+            pending.set(0);
+            logger.log(System.Logger.Level.DEBUG, "Unable to run the reload as the executor has been closed, message: " + e.getMessage());
+        }
+    }
+
+    private void runReloads() {
+        do {
+            // any change from here on is picked up by this reload or the next one.
+            pending.set(1);
+            try {
+                reload.run();
+            } catch (RuntimeException e) {
+                logger.log(System.Logger.Level.ERROR, "Ignoring exception while reloading, message: " + e.getMessage(), e);
+            }
+        } while (pending.decrementAndGet() > 0);
+    }
+}
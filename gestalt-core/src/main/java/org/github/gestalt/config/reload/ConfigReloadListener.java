@@ -3,6 +3,8 @@ package org.github.gestalt.config.reload;
 import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.source.ConfigSourcePackage;
 
+import java.util.List;
+
 /**
  * Listener for when configs need to reloads. This is for use internally, end users most likely should not use this.
  *
@@ -16,4 +18,17 @@ public interface ConfigReloadListener {
      * @throws GestaltException any exceptions
      */
     void reload(ConfigSourcePackage source) throws GestaltException;
+
+    /**
+     * Called when several configs need to be reloaded together.
+     * By default each source is reloaded in turn, listeners can override this to reload them as one transaction.
+     *
+     * @param sources the sources we should reload.
+     * @throws GestaltException any exceptions
+     */
+    default void reloadAll(List<ConfigSourcePackage> sources) throws GestaltException {
+        for (ConfigSourcePackage source : sources) {
+            reload(source);
+        }
+    }
 }
@@ -31,6 +31,11 @@ public abstract class ConfigReloadStrategy {    ///NOPMD
      */
     protected ConfigSourcePackage source;
 
+    /**
+     * The scheduler to run any background work on, if null the process wide {@link ReloadScheduler#getDefault()} is used.
+     */
+    protected ReloadScheduler reloadScheduler;
+
     /**
      * Protected constructor for the ConfigReloadStrategy. So end users cant create this class, only inherit it.
      */
@@ -69,6 +74,31 @@ public abstract class ConfigReloadStrategy {    ///NOPMD
         this.source = source;
     }
 
+    /**
+     * Get the scheduler to run any background work on.
+     *
+     * @return the scheduler to run any background work on.
+     */
+    public ReloadScheduler getReloadScheduler() {
+        return reloadScheduler != null ? reloadScheduler : ReloadScheduler.getDefault();
+    }
+
+    /**
+     * Set the scheduler to run any background work on. Normally set by the GestaltBuilder.
+     *
+     * @param reloadScheduler the scheduler to run any background work on.
+     */
+    public void setReloadScheduler(ReloadScheduler reloadScheduler) {
+        this.reloadScheduler = reloadScheduler;
+    }
+
+    /**
+     * Stop any background work for this reload strategy, called when Gestalt is closed.
+     */
+    public void close() {
+        listeners.clear();
+    }
+
     /**
      * Add a config reload listener.
      *
@@ -1,8 +1,8 @@
 package org.github.gestalt.config.reload;
 
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Store all core reload listeners and functionality to call the on reload.
@@ -13,8 +13,9 @@ public class CoreReloadListenersContainer {
 
     /**
      * Listeners for the core reload.
+     * Copy on write, so a listener can register new listeners, such as nested proxies, while it is being reloaded.
      */
-    protected final List<WeakReference<CoreReloadListener>> listeners = new ArrayList<>();
+    protected final List<WeakReference<CoreReloadListener>> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * register a core event listener.
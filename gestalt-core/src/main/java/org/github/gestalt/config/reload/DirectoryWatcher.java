@@ -0,0 +1,244 @@
+package org.github.gestalt.config.reload;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches files for changes, multiplexing all the watched files on a single {@link WatchService} and thread.
+ * Each directory is registered once no matter how many files in it are watched.
+ *
+ * <p>A burst of events, such as an editor save or a Kubernetes ..data symlink swap, is coalesced until no new events arrive
+ * within the debounce window, or the burst has lasted the max debounce wait, so a file that is rewritten continuously is still
+ * reloaded. Then for each watched file in the affected directories the symlink chain is resolved once,
+ * and if any entry in the chain changed the file's callback is called once for the whole burst.
+ *
+ * <p>The watcher thread is taken from the {@link ReloadScheduler} that owns this watcher.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class DirectoryWatcher implements AutoCloseable {
+    private static final System.Logger logger = System.getLogger(DirectoryWatcher.class.getName());
+
+    private final ReloadScheduler scheduler;
+    private final Duration debounceWindow;
+    private final Duration maxDebounceWait;
+    private final Map<Path, List<Registration>> registrations = new ConcurrentHashMap<>();
+    private final Map<Path, WatchKey> directoryKeys = new HashMap<>();
+    private WatchService watchService;
+    private volatile boolean closed = false;
+
+    DirectoryWatcher(ReloadScheduler scheduler, Duration debounceWindow, Duration maxDebounceWait) {
+        this.scheduler = scheduler;
+        this.debounceWindow = debounceWindow;
+        this.maxDebounceWait = maxDebounceWait.compareTo(debounceWindow) < 0 ? debounceWindow : maxDebounceWait;
+    }
+
+    /**
+     * Get the window to wait for more events before the changes are processed.
+     *
+     * @return the debounce window
+     */
+    public Duration getDebounceWindow() {
+        return debounceWindow;
+    }
+
+    /**
+     * Get the longest time a burst of events is coalesced for, before the changes are processed.
+     *
+     * @return the max debounce wait
+     */
+    public Duration getMaxDebounceWait() {
+        return maxDebounceWait;
+    }
+
+    /**
+     * Watch a file for changes, including changes to any symlinks leading to the file.
+     *
+     * @param file     the file to watch
+     * @param onChange called once per burst of events that change the file
+     * @return the registration, used to stop watching the file
+     * @throws IOException if unable to watch the directory of the file
+     */
+    public synchronized Registration register(Path file, Runnable onChange) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Unable to watch file " + file + " on a closed DirectoryWatcher");
+        }
+
+        // we don't use toRealPath() here, because we *want* the parent the file appears to be in, not the file's real parent
+        Path directory = file.toAbsolutePath().getParent();
+        if (watchService == null) {
+            watchService = FileSystems.getDefault().newWatchService();
+            scheduler.execute(this::watchTask);
+        }
+
+        if (!directoryKeys.containsKey(directory)) {
+            WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            directoryKeys.put(directory, key);
+        }
+
+        Registration registration = new Registration(file.toAbsolutePath(), directory, onChange);
+        registrations.computeIfAbsent(directory, it -> new CopyOnWriteArrayList<>()).add(registration);
+        return registration;
+    }
+
+    private synchronized void unregister(Registration registration) {
+        List<Registration> directoryRegistrations = registrations.get(registration.directory);
+        if (directoryRegistrations == null) {
+            return;
+        }
+
+        directoryRegistrations.remove(registration);
+        if (directoryRegistrations.isEmpty()) {
+            registrations.remove(registration.directory);
+            WatchKey key = directoryKeys.remove(registration.directory);
+            if (key != null) {
+                key.cancel();
+            }
+        }
+    }
+
+    /**
+     * Stop watching all files and release the watcher thread.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        registrations.clear();
+        directoryKeys.clear();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.log(System.Logger.Level.DEBUG, "Exception closing the directory watcher, message: " + e.getMessage());
+            }
+        }
+    }
+
+    private void watchTask() {
+        try {
+            while (!closed) {
+                // wait for the first event, then coalesce all events until the burst is over.
+                Map<Path, Set<Path>> changes = new HashMap<>();
+                WatchKey key = watchService.take();
+                long deadline = System.nanoTime() + maxDebounceWait.toNanos();
+                while (key != null) {
+                    collectChanges(key, changes);
+
+                    // any events after the deadline are picked up by the next burst.
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        key = null;
+                    } else if (debounceWindow.isZero()) {
+                        key = watchService.poll();
+                    } else {
+                        key = watchService.poll(Math.min(debounceWindow.toNanos(), remaining), TimeUnit.NANOSECONDS);
+                    }
+                }
+
+                notifyChanges(changes);
+            }
+        } catch (ClosedWatchServiceException e) {
+            logger.log(System.Logger.Level.DEBUG, "Stopped watching directories as the watcher was closed");
+        } catch (InterruptedException e) {
+            if (!closed) {
+                logger.log(System.Logger.Level.ERROR,
+                    "Received a InterruptedException while watching directories, message: " + e.getMessage(), e);
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void collectChanges(WatchKey key, Map<Path, Set<Path>> changes) {
+        Path directory = (Path) key.watchable();
+        Set<Path> changedFiles = changes.computeIfAbsent(directory, it -> new HashSet<>());
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // events were lost, so treat the whole directory as changed.
+                changedFiles.add(directory);
+            } else {
+                changedFiles.add(directory.resolve((Path) event.context()));
+            }
+        }
+        key.reset();
+    }
+
+    private void notifyChanges(Map<Path, Set<Path>> changes) {
+        for (Map.Entry<Path, Set<Path>> change : changes.entrySet()) {
+            Set<Path> changedFiles = change.getValue();
+            for (Registration registration : registrations.getOrDefault(change.getKey(), List.of())) {
+                if (changedFiles.contains(change.getKey()) || isChanged(registration.file, changedFiles)) {
+                    try {
+                        registration.onChange.run();
+                    } catch (RuntimeException e) {
+                        logger.log(System.Logger.Level.ERROR,
+                            "Ignoring exception while notifying change of file " + registration.file + ", message: " + e.getMessage(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    // if any entry in the chain of symbolic links leading to the actual file, including the actual
+    // file itself, has been created/modified. This supports Kubernetes-style ConfigMap resources e.g.
+    //   configfile -> ..data/configfile
+    //   ..data -> ..2019_09_20_05_25_13.543205648
+    //   ..2019_09_20_05_25_13.543205648/configfile
+    // Here, Kubernetes creates a new timestamped directory when the configmap changes, and just modifies the ..data symlink to point to it
+    private static boolean isChanged(Path file, Set<Path> changedFiles) {
+        Path currentPath = file;
+        if (changedFiles.contains(currentPath)) {
+            return true;
+        }
+
+        try {
+            Set<Path> visited = new HashSet<>();
+            while (Files.isSymbolicLink(currentPath) && visited.add(currentPath)) {
+                Path nextSymLink = Files.readSymbolicLink(currentPath).iterator().next();
+                currentPath = currentPath.getParent().resolve(nextSymLink);
+                if (changedFiles.contains(currentPath)) {
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            logger.log(System.Logger.Level.ERROR,
+                "Ignoring exception while resolving symlinks for file " + file + ", message: " + e.getMessage(), e);
+        }
+        return false;
+    }
+
+    /**
+     * A file registered with the {@link DirectoryWatcher}.
+     */
+    public final class Registration {
+        private final Path file;
+        private final Path directory;
+        private final Runnable onChange;
+
+        private Registration(Path file, Path directory, Runnable onChange) {
+            this.file = file;
+            this.directory = directory;
+            this.onChange = onChange;
+        }
+
+        /**
+         * Get the file being watched.
+         *
+         * @return the file being watched
+         */
+        public Path getFile() {
+            return file;
+        }
+
+        /**
+         * Stop watching the file.
+         */
+        public void cancel() {
+            unregister(this);
+        }
+    }
+}
@@ -6,27 +6,27 @@ import org.github.gestalt.config.source.ConfigSourcePackage;
 import org.github.gestalt.config.source.FileConfigSource;
 
 import java.io.IOException;
-import java.nio.file.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * File change reload strategy for listening for local file changes.
  *
  * <p>Listens for local file changes including symlink changes.
  *
- * <p>Creates a thread in the background to watch for file changes.
+ * <p>The file is watched by the {@link DirectoryWatcher} shared by all the file reload strategies on the {@link ReloadScheduler}.
+ * A burst of changes to the file results in a single reload.
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
 public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
     private static final System.Logger logger = System.getLogger(FileChangeReloadStrategy.class.getName());
     private final ExecutorService executor;
+    private final CoalescingReloadRunner reloadRunner = new CoalescingReloadRunner(this::reloadFile);
     private Path path;
-    private WatchService watcher;
-    private volatile boolean isWatching = false;
+    private DirectoryWatcher.Registration registration;
 
     /**
      * constructor.
@@ -34,13 +34,13 @@ public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
      * @throws GestaltConfigurationException if this is not a file source or other errors.
      */
     public FileChangeReloadStrategy() throws GestaltConfigurationException {
-        this(null, Executors.newSingleThreadExecutor());
+        this(null, null);
     }
 
     /**
      * constructor.
      *
-     * @param executor executor to run the watcher on.
+     * @param executor executor to run the reloads on.
      * @throws GestaltConfigurationException if this is not a file source or other errors.
      */
     public FileChangeReloadStrategy(ExecutorService executor) throws GestaltConfigurationException {
@@ -57,7 +57,7 @@ public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
      */
     @Deprecated(since = "0.26.0", forRemoval = true)
     public FileChangeReloadStrategy(ConfigSourcePackage source) throws GestaltConfigurationException {
-        this(source, Executors.newSingleThreadExecutor());
+        this(source, null);
     }
 
 
@@ -65,7 +65,7 @@ public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
      * constructor.
      *
      * @param source   the source to watch for reload
-     * @param executor ExecutorService to get thread from.
+     * @param executor ExecutorService to run the reloads on, if null the reloads run on the {@link ReloadScheduler}.
      * @throws GestaltConfigurationException if this is not a file source or other errors.
      * @deprecated Do not add the source directly, but use the source builders then add the reload strategy to the builder
      *      {@link org.github.gestalt.config.builder.SourceBuilder#addConfigReloadStrategy(ConfigReloadStrategy)}
@@ -81,7 +81,7 @@ public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
     }
 
     @Override
-    public void setSource(ConfigSourcePackage source) throws GestaltConfigurationException {
+    public synchronized void setSource(ConfigSourcePackage source) throws GestaltConfigurationException {
         if (!(source.getConfigSource() instanceof FileConfigSource)) {
             throw new GestaltConfigurationException("Unable to add a File Change reload strategy to a non file source " + source);
         }
@@ -92,88 +92,80 @@ public final class FileChangeReloadStrategy extends ConfigReloadStrategy {
     private void setupWatcherTask() throws GestaltConfigurationException {
         if (source != null) {
             path = ((FileConfigSource) source.getConfigSource()).getPath();
-            try {
-                if (watcher != null) {
-                    watcher.close();
-                }
-
-                watcher = FileSystems.getDefault().newWatchService();
-                path.toAbsolutePath().getParent()
-                    .register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
-            } catch (IOException e) {
+            Path directory = path.toAbsolutePath().getParent();
+            if (directory == null || !Files.isDirectory(directory)) {
                 throw new GestaltConfigurationException("unable to create a watch service on file " + path);
             }
+
+            if (registration != null) {
+                startWatching();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void setReloadScheduler(ReloadScheduler reloadScheduler) {
+        super.setReloadScheduler(reloadScheduler);
+        // move the watch onto the new scheduler's watcher.
+        if (registration != null) {
+            startWatching();
         }
     }
 
     @Override
-    public void registerListener(ConfigReloadListener listener) {
+    public synchronized void registerListener(ConfigReloadListener listener) {
         super.registerListener(listener);
-        if (!isWatching) {
-            isWatching = true;
-            executor.execute(this::fileWatchTask);
+        if (registration == null) {
+            startWatching();
         }
     }
 
     @Override
-    public void removeListener(ConfigReloadListener listener) {
+    public synchronized void removeListener(ConfigReloadListener listener) {
         super.removeListener(listener);
-        if (listeners.isEmpty() && isWatching) {
-            isWatching = false;
+        if (listeners.isEmpty()) {
+            stopWatching();
         }
     }
 
-    // inspiration taken from:
-    // https://github.com/jdiazcano/cfg4k/blob/master/cfg4k-core/src/main/kotlin/com/jdiazcano/cfg4k/reloadstrategies/FileChangeReloadStrategy.kt
-    // if its a symlink, then we should also watch symlinks for changes, this supports Kubernetes-style ConfigMap resources e.g.
-    //   configfile -> ..data/configfile
-    //   ..data -> ..2019_09_20_05_25_13.543205648
-    //   ..2019_09_20_05_25_13.543205648/configfile
-    // Here, Kubernetes creates a new timestamped directory when the configmap changes, and just modifies the ..data symlink to point to it
-    // FileWatcher raises symlink changes (e.g. overwrite an existing link target on Linux via `ln -sfn`) as ENTRY_CREATE
-    // we don't use toRealPath() here, because we *want* the parent the file appears to be in, not the file's real parent
-    private void fileWatchTask() {
+    @Override
+    public synchronized void close() {
+        super.close();
+        stopWatching();
+    }
+
+    private void startWatching() {
+        stopWatching();
+        if (path == null) {
+            return;
+        }
+
         try {
-            WatchKey key;
-            while (isWatching) {
-                key = watcher.take();
-                try {
-                    for (WatchEvent<?> event : key.pollEvents()) {
-                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
-                            break;
-                        }
-
-                        Path fileName = (Path) event.context();
-
-                        // if any entry in the chain of symbolic links leading to the actual file, including the actual
-                        // file itself, has been created/modified, reload
-                        List<Path> linkChain = new ArrayList<>();
-                        Path currentPath = path;
-                        linkChain.add(currentPath);
-                        while (Files.isSymbolicLink(currentPath)) {
-                            Path nextSymLink = Files.readSymbolicLink(currentPath).iterator().next();
-                            currentPath = currentPath.getParent().resolve(nextSymLink);
-                            linkChain.add(currentPath);
-                        }
-
-                        Path parentFile = path.getParent().resolve(fileName);
-                        if (linkChain.contains(parentFile)) {
-                            reload();
-                        }
-                    }
-
-                    boolean valid = key.reset();
-                    if (!valid) {
-                        break;
-                    }
-                } catch (IOException | GestaltException e) {
-                    logger.log(System.Logger.Level.ERROR,
-                        "Ignoring exception while watching for file " + path + ", message: " + e.getMessage(), e);
-                }
-            }
-        } catch (InterruptedException e) {
+            registration = getReloadScheduler().getDirectoryWatcher().register(path, this::onFileChange);
+        } catch (IOException | IllegalStateException e) {
+            logger.log(System.Logger.Level.ERROR, "Unable to watch for changes to file " + path + ", message: " + e.getMessage(), e);
+        }
+    }
+
+    private void stopWatching() {
+        if (registration != null) {
+            registration.cancel();
+            registration = null;
+        }
+    }
+
+    // called once per burst of changes to the file or any symlink leading to it, on the shared watcher thread.
+    // without an executor the reload runs on the scheduler's reload pool, so it counts against maxConcurrentReloads.
+    private void onFileChange() {
+        reloadRunner.requestReload(executor != null ? executor : task -> getReloadScheduler().scheduleOnce(Duration.ZERO, task));
+    }
+
+    private void reloadFile() {
+        try {
+            reload();
+        } catch (GestaltException e) {
             logger.log(System.Logger.Level.ERROR,
-                "Received a InterruptedException while watching file " + path.toString() + ", message: " + e.getMessage(), e);
+                "Ignoring exception while watching for file " + path + ", message: " + e.getMessage(), e);
         }
     }
 }
@@ -0,0 +1,182 @@
+package org.github.gestalt.config.reload;
+
+import org.github.gestalt.config.exceptions.GestaltConfigurationException;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.source.ConfigSourcePackage;
+import org.github.gestalt.config.source.HttpConfigSource;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Reloads a {@link HttpConfigSource} as soon as it changes, using long polling.
+ *
+ * <p>A conditional request is sent asking the server to hold it, with a {@code Prefer: wait} header, until the source changes.
+ * If the server responds with a change the source is reloaded, if it responds 304 Not Modified the next request is sent.
+ * For servers that do not hold the request, the requests are spaced out by the min poll interval.
+ * Failed requests are retried, backing off up to the max backoff of the {@link ReloadScheduler}.
+ *
+ * <p>The polling runs on a thread of the {@link ReloadScheduler}, starting once the first listener is registered.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class HttpLongPollReloadStrategy extends ConfigReloadStrategy {
+
+    /**
+     * The default time to ask the server to hold each request.
+     */
+    public static final Duration DEFAULT_WAIT = Duration.ofSeconds(30);
+
+    /**
+     * The default min time between requests.
+     */
+    public static final Duration DEFAULT_MIN_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private final Duration wait;
+    private final Duration minPollInterval;
+    private Thread pollThread;
+    private boolean polling = false;
+    // incremented each time polling is started or stopped, so a stopped poller knows to exit.
+    private int generation = 0;
+
+    /**
+     * Constructor for the HttpLongPollReloadStrategy, using the default wait and min poll interval.
+     */
+    public HttpLongPollReloadStrategy() {
+        this(DEFAULT_WAIT, DEFAULT_MIN_POLL_INTERVAL);
+    }
+
+    /**
+     * Constructor for the HttpLongPollReloadStrategy.
+     *
+     * @param wait            how long to ask the server to hold each request
+     * @param minPollInterval the min time between requests, for servers that respond without waiting
+     */
+    public HttpLongPollReloadStrategy(Duration wait, Duration minPollInterval) {
+        Objects.requireNonNull(wait, "Wait must be set for a HttpLongPollReloadStrategy");
+        Objects.requireNonNull(minPollInterval, "Min poll interval must be set for a HttpLongPollReloadStrategy");
+        this.wait = wait;
+        this.minPollInterval = minPollInterval;
+    }
+
+    @Override
+    public void setSource(ConfigSourcePackage source) throws GestaltConfigurationException {
+        if (!(source.getConfigSource() instanceof HttpConfigSource)) {
+            throw new GestaltConfigurationException("Unable to add a HttpLongPollReloadStrategy to a source that is not a " +
+                "HttpConfigSource: " + source.getConfigSource().name());
+        }
+        super.setSource(source);
+    }
+
+    /**
+     * Get if the source is being polled for changes.
+     *
+     * @return if the source is being polled for changes
+     */
+    public synchronized boolean isPolling() {
+        return polling;
+    }
+
+    @Override
+    public synchronized void setReloadScheduler(ReloadScheduler reloadScheduler) {
+        super.setReloadScheduler(reloadScheduler);
+        // move any running polling onto the new scheduler.
+        if (polling) {
+            stopPolling();
+            startPolling();
+        }
+    }
+
+    @Override
+    public synchronized void registerListener(ConfigReloadListener listener) {
+        super.registerListener(listener);
+        if (!polling && source != null) {
+            startPolling();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        super.close();
+        stopPolling();
+    }
+
+    private void startPolling() {
+        polling = true;
+        int pollGeneration = ++generation;
+        getReloadScheduler().execute(() -> pollTask(pollGeneration));
+    }
+
+    private void stopPolling() {
+        polling = false;
+        generation++;
+        if (pollThread != null) {
+            pollThread.interrupt();
+            pollThread = null;
+        }
+    }
+
+    // returns false if polling has been stopped or restarted since this poller started.
+    private synchronized boolean isCurrentPoller(int pollGeneration) {
+        if (pollGeneration != generation) {
+            return false;
+        }
+        pollThread = Thread.currentThread();
+        return true;
+    }
+
+    private void pollTask(int pollGeneration) {
+        Thread thread = Thread.currentThread();
+        HttpConfigSource httpSource = (HttpConfigSource) source.getConfigSource();
+        int consecutiveFailures = 0;
+
+        try {
+            while (isCurrentPoller(pollGeneration) && !thread.isInterrupted()) {
+                long start = System.nanoTime();
+                Duration delay;
+                try {
+                    if (httpSource.waitForChange(wait)) {
+                        reload();
+                    }
+                    consecutiveFailures = 0;
+                    delay = minPollInterval.minusNanos(System.nanoTime() - start);
+                } catch (GestaltException | RuntimeException e) {
+                    if (thread.isInterrupted() || !isCurrentPoller(pollGeneration)) {
+                        break;
+                    }
+                    consecutiveFailures++;
+                    delay = backoff(consecutiveFailures);
+                    GestaltException exception = e instanceof GestaltException ? (GestaltException) e : new GestaltException(e);
+                    ReloadScheduler.logFailure(httpSource.name(), exception, delay);
+                }
+
+                if (!delay.isNegative() && !delay.isZero()) {
+                    try {
+                        Thread.sleep(delay.toMillis());
+                    } catch (InterruptedException e) {
+                        thread.interrupt();
+                    }
+                }
+            }
+        } finally {
+            stopCurrentPoller(pollGeneration);
+        }
+    }
+
+    private synchronized void stopCurrentPoller(int pollGeneration) {
+        if (pollGeneration == generation) {
+            polling = false;
+            pollThread = null;
+        }
+    }
+
+    // the min poll interval, doubled for each consecutive failure up to the max backoff of the scheduler.
+    private Duration backoff(int consecutiveFailures) {
+        Duration maxBackoff = getReloadScheduler().getMaxBackoff();
+        Duration delay = minPollInterval.isZero() ? Duration.ofMillis(100) : minPollInterval;
+        for (int i = 1; i < consecutiveFailures && delay.compareTo(maxBackoff) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
@@ -0,0 +1,132 @@
+package org.github.gestalt.config.reload;
+
+import org.github.gestalt.config.exceptions.GestaltConfigurationException;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.source.ConfigSourcePackage;
+import org.github.gestalt.config.source.KubernetesSecretConfigSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Reload strategy for a Kubernetes Secret or ConfigMap mounted as a projected volume.
+ *
+ * <p>Kubernetes updates a projected volume by writing a new timestamped directory then atomically swapping the {@code ..data} link
+ * to point to it. Only the swap of the {@code ..data} link is watched, so the source is reloaded once per update
+ * and never while the new files are still being written.
+ * The {@link KubernetesSecretConfigSource} only reads the files that have changed since they were last read.
+ *
+ * <p>The link is watched by the {@link DirectoryWatcher} shared by all the file reload strategies on the {@link ReloadScheduler}.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class KubernetesSecretReloadStrategy extends ConfigReloadStrategy {
+    private static final System.Logger logger = System.getLogger(KubernetesSecretReloadStrategy.class.getName());
+    private final CoalescingReloadRunner reloadRunner = new CoalescingReloadRunner(this::reloadSecret);
+    private Path dataLink;
+    private DirectoryWatcher.Registration registration;
+
+    /**
+     * constructor.
+     */
+    public KubernetesSecretReloadStrategy() {
+        super();
+    }
+
+    @Override
+    public synchronized void setSource(ConfigSourcePackage source) throws GestaltConfigurationException {
+        if (!(source.getConfigSource() instanceof KubernetesSecretConfigSource)) {
+            throw new GestaltConfigurationException("Unable to add a Kubernetes Secret reload strategy to a non Kubernetes Secret source " +
+                source.getConfigSource().name());
+        }
+        super.setSource(source);
+
+        dataLink = ((KubernetesSecretConfigSource) source.getConfigSource()).getPath().resolve(KubernetesSecretConfigSource.DATA_LINK);
+        if (!Files.isSymbolicLink(dataLink)) {
+            logger.log(System.Logger.Level.WARNING, "Kubernetes Secret path " + dataLink.getParent() + " is not a projected volume " +
+                "with a " + KubernetesSecretConfigSource.DATA_LINK + " link, it will only reload once the link is created");
+        }
+
+        if (registration != null) {
+            startWatching();
+        }
+    }
+
+    /**
+     * Get the {@code ..data} link that is watched for changes.
+     *
+     * @return the {@code ..data} link that is watched for changes
+     */
+    public synchronized Path getDataLink() {
+        return dataLink;
+    }
+
+    @Override
+    public synchronized void setReloadScheduler(ReloadScheduler reloadScheduler) {
+        super.setReloadScheduler(reloadScheduler);
+        // move the watch onto the new scheduler's watcher.
+        if (registration != null) {
+            startWatching();
+        }
+    }
+
+    @Override
+    public synchronized void registerListener(ConfigReloadListener listener) {
+        super.registerListener(listener);
+        if (registration == null) {
+            startWatching();
+        }
+    }
+
+    @Override
+    public synchronized void removeListener(ConfigReloadListener listener) {
+        super.removeListener(listener);
+        if (listeners.isEmpty()) {
+            stopWatching();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        super.close();
+        stopWatching();
+    }
+
+    private void startWatching() {
+        stopWatching();
+        if (dataLink == null) {
+            return;
+        }
+
+        try {
+            registration = getReloadScheduler().getDirectoryWatcher().register(dataLink, this::onDataLinkSwap);
+        } catch (IOException | IllegalStateException e) {
+            logger.log(System.Logger.Level.ERROR,
+                "Unable to watch for changes to Kubernetes Secret " + dataLink + ", message: " + e.getMessage(), e);
+        }
+    }
+
+    private void stopWatching() {
+        if (registration != null) {
+            registration.cancel();
+            registration = null;
+        }
+    }
+
+    // called once per burst of changes to the ..data link, on the shared watcher thread.
+    // the reload runs on the scheduler's reload pool, so it counts against maxConcurrentReloads.
+    private void onDataLinkSwap() {
+        reloadRunner.requestReload(task -> getReloadScheduler().scheduleOnce(Duration.ZERO, task));
+    }
+
+    private void reloadSecret() {
+        try {
+            reload();
+        } catch (GestaltException e) {
+            logger.log(System.Logger.Level.ERROR,
+                "Ignoring exception while watching Kubernetes Secret " + dataLink + ", message: " + e.getMessage(), e);
+        }
+    }
+}
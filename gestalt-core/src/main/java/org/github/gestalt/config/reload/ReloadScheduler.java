@@ -0,0 +1,300 @@
+package org.github.gestalt.config.reload;
+
+import org.github.gestalt.config.exceptions.GestaltException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared scheduler for all the reload strategies of a Gestalt instance.
+ * Periodic reloads run on a small pool of daemon threads, so the number of threads does not grow with the number of sources.
+ * The pool size bounds the number of reloads, such as remote fetches, that can run concurrently.
+ *
+ * <p>Each scheduled reload can add a random jitter to its period so sources do not all reload at the same instant,
+ * and on failure the delay backs off exponentially up to the max backoff. Once a reload succeeds the delay is reset to the period.
+ *
+ * <p>Long-running watch tasks are run on a separate pool of daemon threads using {@link #execute(Runnable)}.
+ * All the watched files share a single {@link DirectoryWatcher}, that coalesces bursts of file events within the debounce window,
+ * up to the max debounce wait.
+ *
+ * <p>The scheduler is owned by the {@link org.github.gestalt.config.builder.GestaltBuilder} and is shut down by
+ * {@link org.github.gestalt.config.Gestalt#close()}.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class ReloadScheduler implements AutoCloseable {
+    /**
+     * Default number of reloads that can run concurrently.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_RELOADS = 2;
+    /**
+     * Default upper bound for the exponential backoff on failure.
+     */
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMinutes(5);
+    /**
+     * Default window to coalesce a burst of file change events into a single reload.
+     */
+    public static final Duration DEFAULT_FILE_DEBOUNCE_WINDOW = Duration.ofMillis(10);
+    /**
+     * Default longest time to coalesce a burst of file change events, so a file that is rewritten continuously is still reloaded.
+     */
+    public static final Duration DEFAULT_FILE_DEBOUNCE_MAX_WAIT = Duration.ofSeconds(1);
+
+    private static final System.Logger logger = System.getLogger(ReloadScheduler.class.getName());
+    private static final AtomicInteger SCHEDULER_COUNT = new AtomicInteger();
+
+    private static volatile ReloadScheduler defaultScheduler;
+
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ExecutorService watchExecutor;
+    private final int maxConcurrentReloads;
+    private final Duration maxBackoff;
+    private final DirectoryWatcher directoryWatcher;
+    private final List<ScheduledReload> scheduledReloads = new CopyOnWriteArrayList<>();
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor for ReloadScheduler using the default concurrency and max backoff.
+     */
+    public ReloadScheduler() {
+        this(DEFAULT_MAX_CONCURRENT_RELOADS, DEFAULT_MAX_BACKOFF);
+    }
+
+    /**
+     * Constructor for ReloadScheduler.
+     *
+     * @param maxConcurrentReloads the max number of reloads that can run concurrently
+     * @param maxBackoff           the upper bound for the exponential backoff on failure
+     */
+    public ReloadScheduler(int maxConcurrentReloads, Duration maxBackoff) {
+        this(maxConcurrentReloads, maxBackoff, DEFAULT_FILE_DEBOUNCE_WINDOW);
+    }
+
+    /**
+     * Constructor for ReloadScheduler.
+     *
+     * @param maxConcurrentReloads the max number of reloads that can run concurrently
+     * @param maxBackoff           the upper bound for the exponential backoff on failure
+     * @param fileDebounceWindow   window to coalesce a burst of file change events into a single reload
+     */
+    public ReloadScheduler(int maxConcurrentReloads, Duration maxBackoff, Duration fileDebounceWindow) {
+        this(maxConcurrentReloads, maxBackoff, fileDebounceWindow, DEFAULT_FILE_DEBOUNCE_MAX_WAIT);
+    }
+
+    /**
+     * Constructor for ReloadScheduler.
+     *
+     * @param maxConcurrentReloads the max number of reloads that can run concurrently
+     * @param maxBackoff           the upper bound for the exponential backoff on failure
+     * @param fileDebounceWindow   window to coalesce a burst of file change events into a single reload
+     * @param fileDebounceMaxWait  longest time to coalesce a burst of file change events, if less than the window the window is used
+     */
+    public ReloadScheduler(int maxConcurrentReloads, Duration maxBackoff, Duration fileDebounceWindow, Duration fileDebounceMaxWait) {
+        Objects.requireNonNull(maxBackoff, "maxBackoff must be set for a ReloadScheduler");
+        Objects.requireNonNull(fileDebounceWindow, "fileDebounceWindow must be set for a ReloadScheduler");
+        Objects.requireNonNull(fileDebounceMaxWait, "fileDebounceMaxWait must be set for a ReloadScheduler");
+        if (maxConcurrentReloads < 1) {
+            throw new IllegalArgumentException("maxConcurrentReloads must be at least 1, received " + maxConcurrentReloads);
+        }
+
+        this.maxConcurrentReloads = maxConcurrentReloads;
+        this.maxBackoff = maxBackoff;
+
+        int id = SCHEDULER_COUNT.incrementAndGet();
+        // threads are only started once a reload is scheduled, so an idle scheduler costs nothing.
+        this.scheduler = new ScheduledThreadPoolExecutor(maxConcurrentReloads, threadFactory("gestalt-reload-" + id + "-"));
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.watchExecutor = Executors.newCachedThreadPool(threadFactory("gestalt-watch-" + id + "-"));
+        this.directoryWatcher = new DirectoryWatcher(this, fileDebounceWindow, fileDebounceMaxWait);
+    }
+
+    /**
+     * Get the process wide scheduler, used by reload strategies that are not registered with a {@link ReloadScheduler}.
+     *
+     * @return the process wide scheduler
+     */
+    public static ReloadScheduler getDefault() {
+        ReloadScheduler result = defaultScheduler;
+        if (result == null) {
+            synchronized (ReloadScheduler.class) {
+                result = defaultScheduler;
+                if (result == null) {
+                    result = new ReloadScheduler();
+                    defaultScheduler = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Schedule a reload to run every period.
+     *
+     * @param name   name of the reload, used for logging and observability
+     * @param period how often to run the reload, must be positive
+     * @param jitter max random delay added to each period, use {@link Duration#ZERO} for no jitter
+     * @param reload the reload to run
+     * @return the scheduled reload, that can be observed or cancelled
+     */
+    public ScheduledReload schedule(String name, Duration period, Duration jitter, Reload reload) {
+        Objects.requireNonNull(period, "period must be set to schedule a reload");
+        Objects.requireNonNull(jitter, "jitter must be set to schedule a reload");
+        Objects.requireNonNull(reload, "reload must be set to schedule a reload");
+        if (period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("period must be positive to schedule reload " + name + ", received " + period);
+        }
+        if (jitter.isNegative()) {
+            throw new IllegalArgumentException("jitter can not be negative to schedule reload " + name + ", received " + jitter);
+        }
+        if (closed) {
+            throw new IllegalStateException("Unable to schedule reload " + name + " on a closed ReloadScheduler");
+        }
+
+        ScheduledReload scheduledReload = new ScheduledReload(this, name, period, jitter, maxBackoff, reload);
+        scheduledReloads.add(scheduledReload);
+        scheduledReload.scheduleNext();
+        return scheduledReload;
+    }
+
+    /**
+     * Run a task once after a delay, such as applying reloads that were coalesced.
+     *
+     * @param delay how long to wait before running the task
+     * @param task  the task to run
+     */
+    public void scheduleOnce(Duration delay, Runnable task) {
+        Objects.requireNonNull(delay, "delay must be set to schedule a task");
+        if (closed) {
+            throw new IllegalStateException("Unable to schedule a task on a closed ReloadScheduler");
+        }
+        scheduleTask(task, delay.toNanos());
+    }
+
+    /**
+     * Run a long-running task, such as a file watcher, on a daemon thread owned by this scheduler.
+     * The thread is interrupted when the scheduler is closed.
+     *
+     * @param task the task to run
+     */
+    public void execute(Runnable task) {
+        if (closed) {
+            throw new IllegalStateException("Unable to run a task on a closed ReloadScheduler");
+        }
+        watchExecutor.execute(task);
+    }
+
+    /**
+     * Get the watcher shared by all the file reload strategies on this scheduler.
+     *
+     * @return the shared directory watcher
+     */
+    public DirectoryWatcher getDirectoryWatcher() {
+        return directoryWatcher;
+    }
+
+    /**
+     * Get all the reloads currently scheduled.
+     *
+     * @return all the reloads currently scheduled
+     */
+    public List<ScheduledReload> getScheduledReloads() {
+        return List.copyOf(scheduledReloads);
+    }
+
+    /**
+     * Get the max number of reloads that can run concurrently.
+     *
+     * @return the max number of reloads that can run concurrently
+     */
+    public int getMaxConcurrentReloads() {
+        return maxConcurrentReloads;
+    }
+
+    /**
+     * Get the upper bound for the exponential backoff on failure.
+     *
+     * @return the upper bound for the exponential backoff on failure
+     */
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * If the scheduler has been closed.
+     *
+     * @return if the scheduler has been closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Cancel all scheduled reloads and stop all the threads.
+     */
+    @Override
+    public void close() {
+        synchronized (ReloadScheduler.class) {
+            if (defaultScheduler == this) {
+                defaultScheduler = null;
+            }
+        }
+
+        closed = true;
+        scheduledReloads.forEach(ScheduledReload::cancel);
+        directoryWatcher.close();
+        scheduler.shutdownNow();
+        watchExecutor.shutdownNow();
+    }
+
+    void scheduleTask(Runnable task, long delayNanos) {
+        try {
+            if (!closed) {
+                scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            // the scheduler was closed while the reload was running, so there is nothing left to schedule.
+            logger.log(System.Logger.Level.DEBUG, "Reload scheduler closed, not rescheduling reload");
+        }
+    }
+
+    void remove(ScheduledReload scheduledReload) {
+        scheduledReloads.remove(scheduledReload);
+    }
+
+    static void logFailure(String name, GestaltException e, Duration nextDelay) {
+        logger.log(System.Logger.Level.ERROR,
+            "Exception reloading source " + name + ", retrying in " + nextDelay + ", exception " + e, e);
+    }
+
+    /**
+     * A reload that can be scheduled on the {@link ReloadScheduler}.
+     */
+    @FunctionalInterface
+    public interface Reload {
+        /**
+         * Run the reload.
+         *
+         * @throws GestaltException any errors while reloading, the next run will be backed off.
+         */
+        void reload() throws GestaltException;
+    }
+}
@@ -0,0 +1,220 @@
+package org.github.gestalt.config.reload;
+
+import org.github.gestalt.config.exceptions.GestaltException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A reload scheduled on the {@link ReloadScheduler}.
+ * Exposes when the reload will next run and how long the last run took, and allows the reload to be cancelled.
+ *
+ * <p>A reload that is applied later, such as one coalesced with other reloads, can defer the completion of the run with
+ * {@link #deferCompletion()}. The next run is then only scheduled once the deferred reload completes, and if it fails it is backed off.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class ScheduledReload {
+    // the scheduled reload running on this thread, so a reload it calls can defer its completion.
+    private static final ThreadLocal<ScheduledReload> RUNNING = new ThreadLocal<>(); //NOPMD
+
+    private final ReloadScheduler scheduler;
+    private final String name;
+    private final Duration period;
+    private final Duration jitter;
+    private final Duration maxBackoff;
+    private final ReloadScheduler.Reload reload;
+
+    private volatile Instant nextRunTime;
+    private volatile Instant lastRunTime;
+    private volatile Duration lastDuration;
+    private volatile int consecutiveFailures = 0;
+    private volatile boolean cancelled = false;
+    // completion deferred by the reload during the current run, only accessed by the thread running the reload.
+    private CompletableFuture<Void> deferredCompletion;
+
+    ScheduledReload(ReloadScheduler scheduler, String name, Duration period, Duration jitter, Duration maxBackoff,
+                    ReloadScheduler.Reload reload) {
+        this.scheduler = scheduler;
+        this.name = name;
+        this.period = period;
+        this.jitter = jitter;
+        this.maxBackoff = maxBackoff.compareTo(period) < 0 ? period : maxBackoff;
+        this.reload = reload;
+    }
+
+    void scheduleNext() {
+        if (cancelled) {
+            return;
+        }
+
+        long delayNanos = nextDelay().toNanos();
+        if (!jitter.isZero()) {
+            delayNanos += ThreadLocalRandom.current().nextLong(jitter.toNanos() + 1);
+        }
+        nextRunTime = Instant.now().plusNanos(delayNanos);
+        scheduler.scheduleTask(this::run, delayNanos);
+    }
+
+    // the period, doubled for each consecutive failure up to the max backoff.
+    private Duration nextDelay() {
+        Duration delay = period;
+        for (int i = 0; i < consecutiveFailures && delay.compareTo(maxBackoff) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void run() {
+        if (cancelled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        lastRunTime = Instant.now();
+        deferredCompletion = null;
+        RUNNING.set(this);
+        try {
+            reload.reload();
+        } catch (GestaltException | RuntimeException e) {
+            completeRun(start, e);
+            return;
+        } finally {
+            RUNNING.remove();
+        }
+
+        CompletableFuture<Void> deferred = deferredCompletion;
+        deferredCompletion = null;
+        if (deferred == null) {
+            completeRun(start, null);
+        } else {
+            deferred.whenComplete((result, e) -> completeRun(start, e));
+        }
+    }
+
+    private void completeRun(long start, Throwable failure) {
+        lastDuration = Duration.ofNanos(System.nanoTime() - start);
+        if (failure == null) {
+            consecutiveFailures = 0;
+        } else {
+            consecutiveFailures++;
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            GestaltException exception;
+            if (cause instanceof GestaltException) {
+                exception = (GestaltException) cause;
+            } else if (cause instanceof Exception) {
+                exception = new GestaltException((Exception) cause);
+            } else {
+                exception = new GestaltException(cause.toString());
+            }
+            ReloadScheduler.logFailure(name, exception, nextDelay());
+        }
+
+        scheduleNext();
+    }
+
+    /**
+     * Defer the completion of the scheduled reload running on this thread, for a reload that will be applied later.
+     * Complete the returned future once the reload has been applied, exceptionally if it failed, so the scheduled reload
+     * can back off on failure before its next run.
+     *
+     * @return the future to complete once the reload has been applied, empty if not called from a scheduled reload
+     */
+    public static Optional<CompletableFuture<Void>> deferCompletion() {
+        ScheduledReload running = RUNNING.get();
+        if (running == null) {
+            return Optional.empty();
+        }
+
+        // if the run is deferred more than once, such as by several listeners, it completes once they have all completed.
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        running.deferredCompletion = running.deferredCompletion == null ? completion :
+            CompletableFuture.allOf(running.deferredCompletion, completion);
+        return Optional.of(completion);
+    }
+
+    /**
+     * Stop running this reload.
+     */
+    public void cancel() {
+        cancelled = true;
+        nextRunTime = null;
+        scheduler.remove(this);
+    }
+
+    /**
+     * Get the name of the reload.
+     *
+     * @return the name of the reload
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get how often the reload runs when it is succeeding.
+     *
+     * @return how often the reload runs
+     */
+    public Duration getPeriod() {
+        return period;
+    }
+
+    /**
+     * Get the max random delay added to each period.
+     *
+     * @return the max random delay added to each period
+     */
+    public Duration getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Get when the reload will next run, empty if cancelled.
+     *
+     * @return when the reload will next run
+     */
+    public Optional<Instant> getNextRunTime() {
+        return Optional.ofNullable(nextRunTime);
+    }
+
+    /**
+     * Get when the reload last started, empty if it has not run yet.
+     *
+     * @return when the reload last started
+     */
+    public Optional<Instant> getLastRunTime() {
+        return Optional.ofNullable(lastRunTime);
+    }
+
+    /**
+     * Get how long the last reload took, empty if it has not run yet.
+     *
+     * @return how long the last reload took
+     */
+    public Optional<Duration> getLastDuration() {
+        return Optional.ofNullable(lastDuration);
+    }
+
+    /**
+     * Get the number of times the reload has failed in a row, used to back off the reload.
+     *
+     * @return the number of times the reload has failed in a row
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * If the reload has been cancelled.
+     *
+     * @return if the reload has been cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
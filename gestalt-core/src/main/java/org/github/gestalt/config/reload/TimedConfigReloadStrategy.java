@@ -1,33 +1,49 @@
 package org.github.gestalt.config.reload;
 
-import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.source.ConfigSourcePackage;
 
 import java.time.Duration;
 import java.util.Objects;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.Optional;
 
 /**
  * Reloads a sources every specified duration.
  *
+ * <p>The reloads run on the shared {@link ReloadScheduler}, starting once the first listener is registered.
+ * An optional jitter spreads out the reloads of sources with the same duration, and failed reloads are backed off.
+ *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
 public final class TimedConfigReloadStrategy extends ConfigReloadStrategy {
-    private static final System.Logger logger = System.getLogger(TimedConfigReloadStrategy.class.getName());
 
-    private final Timer timer = new Timer(true);
     private final Duration reloadDelay;
+    private final Duration jitter;
+    private ScheduledReload scheduledReload;
 
     /**
      * Constructor for TimedConfigReloadStrategy.
      *
-     * @param reloadDelay how often to reload the config source
+     * @param reloadDelay how often to reload the config source, must be positive
      */
     public TimedConfigReloadStrategy(Duration reloadDelay) {
+        this(reloadDelay, Duration.ZERO);
+    }
+
+    /**
+     * Constructor for TimedConfigReloadStrategy.
+     *
+     * @param reloadDelay how often to reload the config source, must be positive
+     * @param jitter      max random delay added to each reload, so sources with the same delay do not all reload at once
+     */
+    public TimedConfigReloadStrategy(Duration reloadDelay, Duration jitter) {
         Objects.requireNonNull(reloadDelay, "Reload Delay must be set for a TimedConfigReloadStrategy");
+        Objects.requireNonNull(jitter, "Jitter must be set for a TimedConfigReloadStrategy");
+        validateReloadDelay(reloadDelay);
+        if (jitter.isNegative()) {
+            throw new IllegalArgumentException("Jitter for a TimedConfigReloadStrategy can not be negative, received " + jitter);
+        }
         this.reloadDelay = reloadDelay;
-        startTimer();
+        this.jitter = jitter;
     }
 
     /**
@@ -42,21 +58,56 @@ public final class TimedConfigReloadStrategy extends ConfigReloadStrategy {
     public TimedConfigReloadStrategy(ConfigSourcePackage source, Duration reloadDelay) {
         super(source);
         Objects.requireNonNull(reloadDelay, "Reload Delay must be set for a TimedConfigReloadStrategy");
+        validateReloadDelay(reloadDelay);
         this.reloadDelay = reloadDelay;
-        startTimer();
+        this.jitter = Duration.ZERO;
+    }
+
+    // a delay that is not positive would reload the source in a tight loop.
+    private static void validateReloadDelay(Duration reloadDelay) {
+        if (reloadDelay.isZero() || reloadDelay.isNegative()) {
+            throw new IllegalArgumentException("Reload Delay for a TimedConfigReloadStrategy must be positive, received " + reloadDelay);
+        }
+    }
+
+    /**
+     * Get the scheduled reload, so the next run time and last duration can be observed. Empty until a listener is registered.
+     *
+     * @return the scheduled reload
+     */
+    public synchronized Optional<ScheduledReload> getScheduledReload() {
+        return Optional.ofNullable(scheduledReload);
+    }
+
+    @Override
+    public synchronized void setReloadScheduler(ReloadScheduler reloadScheduler) {
+        super.setReloadScheduler(reloadScheduler);
+        // move any running reloads onto the new scheduler.
+        if (scheduledReload != null) {
+            scheduledReload.cancel();
+            startTimer();
+        }
+    }
+
+    @Override
+    public synchronized void registerListener(ConfigReloadListener listener) {
+        super.registerListener(listener);
+        if (scheduledReload == null) {
+            startTimer();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        super.close();
+        if (scheduledReload != null) {
+            scheduledReload.cancel();
+            scheduledReload = null;
+        }
     }
 
     private void startTimer() {
-        timer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                try {
-                    reload();
-                } catch (GestaltException e) {
-                    logger.log(System.Logger.Level.ERROR,
-                        "Exception reloading source " + source.getConfigSource().name() + ", exception " + e, e);
-                }
-            }
-        }, reloadDelay.toMillis(), reloadDelay.toMillis());
+        String name = source != null ? source.getConfigSource().name() : "unknown";
+        scheduledReload = getReloadScheduler().schedule(name, reloadDelay, jitter, this::reload);
     }
 }
@@ -1,27 +1,100 @@
 package org.github.gestalt.config.secret.rules;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
+/**
+ * Checks if a value is a secret by testing it against a set of regex rules.
+ * The rules are combined into a single alternation so a value is scanned once, and the result for each value is memoized
+ * until the rules change.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
 public class RegexSecretChecker implements SecretChecker {
-    private final Set<Pattern> secretRegex;
+    // Upper bound on the number of memoized values, once reached new values are checked on every call.
+    private static final int MAX_MEMOIZED_VALUES = 50_000;
+    // rules with back references can not be combined, as the group numbers change once combined.
+    // rules with inline comments can not be combined, as a comment may swallow the end of the group.
+    private static final Pattern UNCOMBINABLE = Pattern.compile("\\\\([1-9]|k<)|\\(\\?[a-zA-Z-]*x");
+
+    private volatile CompiledRules compiledRules;
 
     public RegexSecretChecker(String secretRegex) {
-        this.secretRegex = Set.of(Pattern.compile(secretRegex));
+        this(Set.of(secretRegex));
     }
 
     public RegexSecretChecker(Set<String> secretRegex) {
-        this.secretRegex = secretRegex.stream().map(Pattern::compile).collect(Collectors.toSet());
+        this.compiledRules = new CompiledRules(secretRegex.stream().map(Pattern::compile).collect(Collectors.toList()));
     }
 
     @Override
     public boolean isSecret(String value) {
-        return secretRegex.stream().anyMatch(rule -> rule.matcher(value).find());
+        return compiledRules.isSecret(value);
     }
 
     @Override
-    public void addSecret(String rule) {
-        secretRegex.add(Pattern.compile(rule));
+    public synchronized void addSecret(String rule) {
+        List<Pattern> patterns = new ArrayList<>(compiledRules.patterns);
+        patterns.add(Pattern.compile(rule));
+        compiledRules = new CompiledRules(patterns);
+    }
+
+    /**
+     * Immutable set of compiled rules, with the memoized results for the rules.
+     */
+    private static final class CompiledRules {
+        private final List<Pattern> patterns;
+        // null if the rules could not be combined, then each pattern is checked individually.
+        private final Pattern combined;
+        private final Map<String, Boolean> memoized = new ConcurrentHashMap<>();
+
+        private CompiledRules(List<Pattern> patterns) {
+            this.patterns = List.copyOf(patterns);
+            this.combined = combine(this.patterns);
+        }
+
+        private static Pattern combine(List<Pattern> patterns) {
+            if (patterns.size() < 2) {
+                return null;
+            }
+
+            if (patterns.stream().anyMatch(it -> it.flags() != 0 || UNCOMBINABLE.matcher(it.pattern()).find())) {
+                return null;
+            }
+
+            try {
+                return Pattern.compile(patterns.stream()
+                    .map(it -> "(?:" + it.pattern() + ")")
+                    .collect(Collectors.joining("|")));
+            } catch (PatternSyntaxException e) {
+                return null;
+            }
+        }
+
+        private boolean isSecret(String value) {
+            if (patterns.isEmpty() || value == null) {
+                return false;
+            }
+
+            Boolean secret = memoized.get(value);
+            if (secret == null) {
+                if (combined != null) {
+                    secret = combined.matcher(value).find();
+                } else {
+                    secret = patterns.stream().anyMatch(rule -> rule.matcher(value).find());
+                }
+
+                if (memoized.size() < MAX_MEMOIZED_VALUES) {
+                    memoized.put(value, secret);
+                }
+            }
+            return secret;
+        }
     }
 }
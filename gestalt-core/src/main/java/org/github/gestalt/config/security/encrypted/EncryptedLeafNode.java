@@ -6,20 +6,25 @@ import org.github.gestalt.config.metadata.MetaDataValue;
 import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.node.LeafNode;
 import org.github.gestalt.config.node.NodeType;
+import org.github.gestalt.config.reload.ReloadScheduler;
 import org.github.gestalt.config.secret.rules.SecretConcealer;
 
 import javax.crypto.*;
-import javax.crypto.spec.GCMParameterSpec;
-import java.nio.charset.Charset;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.*;
 
 /**
- * Temporary leaf node that holds a decorated leaf node.
- * Once the leaf value has been read the accessCount times, it will release the decorated node by setting it to null.
- * Eventually the decorated node should be garbage collected. but while waiting for GC it may still be found in memory.
+ * Encrypted leaf node that holds the leaf value encrypted with AES GCM, it is decrypted when the value is read.
+ * Optionally the decrypted value can be cached for a limited time in a char array, so repeated reads do not need to decrypt.
+ * Once the time has passed the cached value is overwritten on the {@link ReloadScheduler}, even if the node is never read again.
+ * Without a running scheduler the value is not cached.
+ * It can be cleared sooner by calling {@link #clearPlaintext()}, such as when the node is replaced by a reload.
  *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
@@ -34,12 +39,36 @@ public class EncryptedLeafNode extends LeafNode {
 
     private final byte[] encryptedData;
 
+    // how long to cache the decrypted value, zero disables caching.
+    private final long plaintextCacheNanos;
+    // wipes the cached value once it expires.
+    private final ReloadScheduler reloadScheduler;
+    private char[] plaintext;
+    private long plaintextExpiresAt;
+
     public EncryptedLeafNode(byte[] encryptedData, SecretKey skey, Map<String, List<MetaDataValue<?>>> metaData)
         throws IllegalBlockSizeException, BadPaddingException {
+        this(encryptedData, skey, metaData, Duration.ZERO, null);
+    }
+
+    /**
+     * Constructor for an encrypted leaf node that caches the decrypted value.
+     *
+     * @param encryptedData the encrypted data, starting with the IV
+     * @param skey the key used to encrypt the data
+     * @param metaData metadata for the node
+     * @param plaintextCacheDuration how long to cache the decrypted value for, zero to always decrypt.
+     * @param reloadScheduler the scheduler that wipes the cached value once it expires, if null the value is not cached.
+     */
+    public EncryptedLeafNode(byte[] encryptedData, SecretKey skey, Map<String, List<MetaDataValue<?>>> metaData,
+                             Duration plaintextCacheDuration, ReloadScheduler reloadScheduler) {
         super("", metaData);
 
         this.skey = skey;
         this.encryptedData = encryptedData;
+        this.plaintextCacheNanos = plaintextCacheDuration == null || plaintextCacheDuration.isNegative() ? 0 :
+            plaintextCacheDuration.toNanos();
+        this.reloadScheduler = reloadScheduler;
     }
 
     /**
@@ -50,10 +79,10 @@ public class EncryptedLeafNode extends LeafNode {
      */
     public LeafNode duplicate(String value) {
         try {
-            var secretKey = EncryptionUtils.generateKey(128);
-            var encryptedData = EncryptionUtils.encryptGcm(secretKey, value);
+            // the IV is unique per encryption, so it is safe to reuse the key.
+            var encryptedData = EncryptionUtils.encryptGcm(skey, value);
 
-            return new EncryptedLeafNode(encryptedData, secretKey, metadata);
+            return new EncryptedLeafNode(encryptedData, skey, metadata, Duration.ofNanos(plaintextCacheNanos), reloadScheduler);
         } catch (NoSuchAlgorithmException | IllegalBlockSizeException | BadPaddingException | NoSuchPaddingException |
                  InvalidAlgorithmParameterException | InvalidKeyException | ShortBufferException ex) {
             logger.log(System.Logger.Level.ERROR, "Exception duplicating EncryptedLeafNode with error " + ex.getMessage() +
@@ -66,28 +95,75 @@ public class EncryptedLeafNode extends LeafNode {
     public static String decryptGcm(SecretKey skey, byte[] ciphertext)
         throws BadPaddingException, IllegalBlockSizeException /* these indicate corrupt or malicious ciphertext */
         /* Note that AEADBadTagException may be thrown in GCM mode; this is a subclass of BadPaddingException */ {
-        /* Precond: skey is valid and GCM mode is available in the JRE;
-         * otherwise IllegalStateException will be thrown. */
+        byte[] plaintext = EncryptionUtils.decryptGcmBytes(skey, ciphertext);
         try {
-            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
-            byte[] initVector = Arrays.copyOfRange(ciphertext, 0, GCM_IV_LENGTH);
-            GCMParameterSpec spec = new GCMParameterSpec(GCM_TAG_LENGTH * java.lang.Byte.SIZE, initVector);
-            cipher.init(Cipher.DECRYPT_MODE, skey, spec);
-            byte[] plaintext = cipher.doFinal(ciphertext, GCM_IV_LENGTH, ciphertext.length - GCM_IV_LENGTH);
-            return new String(plaintext, Charset.defaultCharset());
-        } catch (NoSuchPaddingException | InvalidAlgorithmParameterException |
-                 InvalidKeyException | NoSuchAlgorithmException e) {
-            /* None of these exceptions should be possible if precond is met. */
-            throw new IllegalStateException(e.toString());
+            return new String(plaintext, StandardCharsets.UTF_8);
+        } finally {
+            Arrays.fill(plaintext, (byte) 0);
         }
     }
 
     @Override
     public Optional<String> getValue() {
-        try {
-            return Optional.of(decryptGcm(skey, encryptedData));
-        } catch (IllegalBlockSizeException | BadPaddingException e) {
-            return Optional.empty();
+        if (plaintextCacheNanos <= 0) {
+            try {
+                return Optional.of(decryptGcm(skey, encryptedData));
+            } catch (IllegalBlockSizeException | BadPaddingException e) {
+                return Optional.empty();
+            }
+        }
+
+        synchronized (this) {
+            if (plaintext != null) {
+                if (System.nanoTime() - plaintextExpiresAt < 0) {
+                    return Optional.of(new String(plaintext));
+                }
+                clearPlaintext();
+            }
+
+            byte[] decrypted = null;
+            try {
+                decrypted = EncryptionUtils.decryptGcmBytes(skey, encryptedData);
+                CharBuffer chars = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(decrypted));
+                plaintext = Arrays.copyOfRange(chars.array(), chars.position(), chars.limit());
+                Arrays.fill(chars.array(), '\0');
+                plaintextExpiresAt = System.nanoTime() + plaintextCacheNanos;
+                String value = new String(plaintext);
+                // only keep the value if it will be wiped once it expires.
+                if (!PlaintextCleaner.schedule(reloadScheduler, this, plaintext, plaintextCacheNanos)) {
+                    clearPlaintext();
+                }
+
+                return Optional.of(value);
+            } catch (IllegalBlockSizeException | BadPaddingException e) {
+                return Optional.empty();
+            } finally {
+                if (decrypted != null) {
+                    Arrays.fill(decrypted, (byte) 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clear the cached decrypted value, by overwriting it. The next read will decrypt the value again.
+     */
+    public synchronized void clearPlaintext() {
+        if (plaintext != null) {
+            Arrays.fill(plaintext, '\0');
+            plaintext = null;
+        }
+    }
+
+    // if the node is currently holding a decrypted value.
+    synchronized boolean hasPlaintext() {
+        return plaintext != null;
+    }
+
+    // clear the cached value only if it is still the value that expired, and not a newer one cached since.
+    synchronized void clearPlaintext(char[] expired) {
+        if (plaintext == expired) {
+            clearPlaintext();
         }
     }
 
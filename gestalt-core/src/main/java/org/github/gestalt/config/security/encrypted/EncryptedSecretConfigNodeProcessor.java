@@ -1,12 +1,16 @@
 package org.github.gestalt.config.security.encrypted;
 
 import org.github.gestalt.config.annotations.ConfigPriority;
+import org.github.gestalt.config.annotations.ConfigThreadSafe;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.metadata.IsEncryptedMetadata;
+import org.github.gestalt.config.node.ArrayNode;
 import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.node.LeafNode;
+import org.github.gestalt.config.node.MapNode;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessor;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessorConfig;
+import org.github.gestalt.config.reload.ReloadScheduler;
 import org.github.gestalt.config.secret.rules.RegexSecretChecker;
 import org.github.gestalt.config.secret.rules.SecretChecker;
 import org.github.gestalt.config.utils.GResultOf;
@@ -15,8 +19,8 @@ import javax.crypto.*;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
-import java.util.Optional;
-import java.util.Set;
+import java.time.Duration;
+import java.util.*;
 
 /**
  * Checks if the node is a leaf and a temporary secret. if it is, replaces the leaf node with a TemporaryLeafNode that can only be accessed
@@ -25,14 +29,22 @@ import java.util.Set;
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
 @ConfigPriority(400)
+@ConfigThreadSafe
 public class EncryptedSecretConfigNodeProcessor implements ConfigNodeProcessor {
 
     private static final System.Logger logger = System.getLogger(EncryptedSecretConfigNodeProcessor.class.getName());
     private SecretChecker encryptedSecret = new RegexSecretChecker(Set.of());
+    private EncryptedSecretKeyMode keyMode = EncryptedSecretKeyMode.KEY_PER_NODE;
+    private Duration plaintextCacheDuration = Duration.ZERO;
+    private ReloadScheduler reloadScheduler;
+
+    // the key for the current generation of the config tree, when using EncryptedSecretKeyMode.KEY_PER_GENERATION.
+    private SecretKey generationKey;
 
     @Override
     public void applyConfig(ConfigNodeProcessorConfig config) {
         EncryptedSecretModule moduleConfig = config.getConfig().getModuleConfig(EncryptedSecretModule.class);
+        reloadScheduler = config.getReloadScheduler();
 
         if (moduleConfig == null) {
             logger.log(System.Logger.Level.DEBUG, "TemporarySecretModule has not been registered. " +
@@ -40,11 +52,18 @@ public class EncryptedSecretConfigNodeProcessor implements ConfigNodeProcessor {
                 "then you must register an TemporarySecretModule config moduleConfig using the builder");
         } else {
             encryptedSecret = moduleConfig.getSecretChecker();
+            keyMode = moduleConfig.getKeyMode();
+            plaintextCacheDuration = moduleConfig.getPlaintextCacheDuration();
         }
     }
 
     @Override
     public GResultOf<ConfigNode> process(String path, ConfigNode currentNode) {
+        // post processing starts at the root of the tree with an empty path, so a new generation of the tree is being built.
+        if (path == null || path.isEmpty()) {
+            startGeneration();
+        }
+
         var valueOptional = currentNode.getValue();
         if (!(currentNode instanceof LeafNode) || valueOptional.isEmpty()) {
             return GResultOf.result(currentNode);
@@ -66,18 +85,54 @@ public class EncryptedSecretConfigNodeProcessor implements ConfigNodeProcessor {
         }
 
 
-        // for each leaf we create a new encryption and decryption cipher.
-        // We use the encryption cipher to encrypt the data and pass the encrypted data along with the
-        // decryption cipher to the leaf.
+        // Depending on the key mode, for each leaf or for each generation of the tree we create a new key.
+        // We use the key to encrypt the data and pass the encrypted data along with the key to the leaf.
         try {
-            var secretKey = EncryptionUtils.generateKey(128);
+            var secretKey = getSecretKey();
             var encryptedData = EncryptionUtils.encryptGcm(secretKey, optionalLeafNodeValue.orElse(""));
 
-            return GResultOf.result(new EncryptedLeafNode(encryptedData, secretKey, metadata));
+            return GResultOf.result(new EncryptedLeafNode(encryptedData, secretKey, metadata, plaintextCacheDuration,
+                reloadScheduler));
 
         } catch (NoSuchAlgorithmException | IllegalBlockSizeException | BadPaddingException | NoSuchPaddingException |
                  InvalidAlgorithmParameterException | InvalidKeyException | ShortBufferException ex) {
             return GResultOf.errors(new ValidationError.EncryptedNodeFailure(path, ex));
         }
     }
+
+    @Override
+    public void nodesReplaced(List<ConfigNode> replacedRoots) {
+        // without a plaintext cache there is nothing held by the nodes to clear.
+        if (plaintextCacheDuration.isZero()) {
+            return;
+        }
+
+        // the replaced roots may share subtrees with the new roots, clearing a shared node only means it is decrypted again.
+        Deque<ConfigNode> nodes = new ArrayDeque<>(replacedRoots);
+        while (!nodes.isEmpty()) {
+            ConfigNode node = nodes.pop();
+            if (node instanceof EncryptedLeafNode) {
+                ((EncryptedLeafNode) node).clearPlaintext();
+            } else if (node instanceof MapNode) {
+                ((MapNode) node).getMapNode().values().stream().filter(Objects::nonNull).forEach(nodes::push);
+            } else if (node instanceof ArrayNode) {
+                ((ArrayNode) node).getArray().stream().filter(Objects::nonNull).forEach(nodes::push);
+            }
+        }
+    }
+
+    private synchronized void startGeneration() {
+        generationKey = null;
+    }
+
+    private synchronized SecretKey getSecretKey() throws NoSuchAlgorithmException {
+        if (keyMode != EncryptedSecretKeyMode.KEY_PER_GENERATION) {
+            return EncryptionUtils.generateKey(128);
+        }
+
+        if (generationKey == null) {
+            generationKey = EncryptionUtils.generateKey(128);
+        }
+        return generationKey;
+    }
 }
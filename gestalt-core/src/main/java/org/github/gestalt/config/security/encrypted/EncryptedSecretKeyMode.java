@@ -0,0 +1,15 @@
+package org.github.gestalt.config.security.encrypted;
+
+/**
+ * Enumeration of how encryption keys are generated for encrypted secrets.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public enum EncryptedSecretKeyMode {
+
+    // A new key is generated for every encrypted leaf node. The most isolated but the most expensive.
+    KEY_PER_NODE,
+
+    // A single key is generated each time the config tree is post processed, and shared by all encrypted leaf nodes in the tree.
+    KEY_PER_GENERATION
+}
@@ -3,6 +3,8 @@ package org.github.gestalt.config.security.encrypted;
 import org.github.gestalt.config.entity.GestaltModuleConfig;
 import org.github.gestalt.config.secret.rules.SecretChecker;
 
+import java.time.Duration;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -16,9 +18,27 @@ import java.util.Set;
 public class EncryptedSecretModule implements GestaltModuleConfig {
 
     private final SecretChecker encryptedSecret;
+    private final EncryptedSecretKeyMode keyMode;
+    private final Duration plaintextCacheDuration;
 
     public EncryptedSecretModule(SecretChecker encryptedSecret) {
+        this(encryptedSecret, EncryptedSecretKeyMode.KEY_PER_NODE, Duration.ZERO);
+    }
+
+    /**
+     * Constructor for the EncryptedSecretModule.
+     *
+     * @param encryptedSecret the secrets to encrypt
+     * @param keyMode how the encryption keys are generated
+     * @param plaintextCacheDuration how long the decrypted value is cached on the node, zero to always decrypt
+     */
+    public EncryptedSecretModule(SecretChecker encryptedSecret, EncryptedSecretKeyMode keyMode, Duration plaintextCacheDuration) {
+        Objects.requireNonNull(keyMode);
+        Objects.requireNonNull(plaintextCacheDuration);
+
         this.encryptedSecret = encryptedSecret;
+        this.keyMode = keyMode;
+        this.plaintextCacheDuration = plaintextCacheDuration;
     }
 
     @Override
@@ -30,6 +50,24 @@ public class EncryptedSecretModule implements GestaltModuleConfig {
         return encryptedSecret;
     }
 
+    /**
+     * Get how the encryption keys are generated.
+     *
+     * @return how the encryption keys are generated
+     */
+    public EncryptedSecretKeyMode getKeyMode() {
+        return keyMode;
+    }
+
+    /**
+     * Get how long the decrypted value is cached on the node, zero if it is always decrypted.
+     *
+     * @return how long the decrypted value is cached
+     */
+    public Duration getPlaintextCacheDuration() {
+        return plaintextCacheDuration;
+    }
+
     public void addEncryptedSecret(Set<String> encryptedSecrets) {
         encryptedSecrets.stream().forEach(encryptedSecret::addSecret);
     }
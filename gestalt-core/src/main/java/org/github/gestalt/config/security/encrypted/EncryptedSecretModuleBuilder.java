@@ -3,6 +3,7 @@ package org.github.gestalt.config.security.encrypted;
 import org.github.gestalt.config.secret.rules.RegexSecretChecker;
 import org.github.gestalt.config.secret.rules.SecretChecker;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Objects;
 
@@ -16,6 +17,8 @@ import java.util.Objects;
  */
 public final class EncryptedSecretModuleBuilder {
     private SecretChecker encryptedSecret = new RegexSecretChecker(new HashSet<>());
+    private EncryptedSecretKeyMode keyMode = EncryptedSecretKeyMode.KEY_PER_NODE;
+    private Duration plaintextCacheDuration = Duration.ZERO;
 
     private EncryptedSecretModuleBuilder() {
     }
@@ -60,7 +63,35 @@ public final class EncryptedSecretModuleBuilder {
         return this;
     }
 
+    /**
+     * Set how the encryption keys are generated. By default, a key is generated per node.
+     * Generating a key per generation of the config tree is much cheaper when there are many encrypted secrets.
+     *
+     * @param keyMode how the encryption keys are generated
+     * @return the builder
+     */
+    public EncryptedSecretModuleBuilder setKeyMode(EncryptedSecretKeyMode keyMode) {
+        Objects.requireNonNull(keyMode);
+
+        this.keyMode = keyMode;
+        return this;
+    }
+
+    /**
+     * Set how long a decrypted value is cached on the node. By default, it is zero, so the value is decrypted on every read.
+     * The cached value is held in a char array that is overwritten once the duration has passed and the node is read again.
+     *
+     * @param plaintextCacheDuration how long a decrypted value is cached on the node
+     * @return the builder
+     */
+    public EncryptedSecretModuleBuilder setPlaintextCacheDuration(Duration plaintextCacheDuration) {
+        Objects.requireNonNull(plaintextCacheDuration);
+
+        this.plaintextCacheDuration = plaintextCacheDuration;
+        return this;
+    }
+
     public EncryptedSecretModule build() {
-        return new EncryptedSecretModule(encryptedSecret);
+        return new EncryptedSecretModule(encryptedSecret, keyMode, plaintextCacheDuration);
     }
 }
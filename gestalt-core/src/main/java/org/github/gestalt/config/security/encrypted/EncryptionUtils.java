@@ -2,16 +2,27 @@ package org.github.gestalt.config.security.encrypted;
 
 import javax.crypto.*;
 import javax.crypto.spec.GCMParameterSpec;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Arrays;
 
+/**
+ * Utilities to encrypt and decrypt secrets with AES GCM.
+ * Ciphers are expensive to look up, so a cipher is pooled per thread and initialized with a new IV for each operation.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
 public final class EncryptionUtils {
     public static final String ENCRYPTION_ALGORITHM = "AES/GCM/NoPadding";
     public static final int GCM_TAG_LENGTH = 16;
     public static final int GCM_IV_LENGTH = 12;
 
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final ThreadLocal<Cipher> CIPHERS = new ThreadLocal<>();
+
     private EncryptionUtils() {
 
     }
@@ -27,16 +38,48 @@ public final class EncryptionUtils {
         /* Precond: skey is valid and GCM mode is available in the JRE;
          * otherwise IllegalStateException will be thrown. */
         byte[] ciphertext;
-        Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
+        Cipher cipher = getCipher();
         byte[] initVector = new byte[GCM_IV_LENGTH];
-        new SecureRandom().nextBytes(initVector);
+        SECURE_RANDOM.nextBytes(initVector);
         GCMParameterSpec spec = new GCMParameterSpec(GCM_TAG_LENGTH * java.lang.Byte.SIZE, initVector);
         cipher.init(Cipher.ENCRYPT_MODE, skey, spec);
-        byte[] encoded = plaintext.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        byte[] encoded = plaintext.getBytes(StandardCharsets.UTF_8);
         ciphertext = new byte[initVector.length + cipher.getOutputSize(encoded.length)];
         System.arraycopy(initVector, 0, ciphertext, 0, initVector.length);
         // Perform encryption
         cipher.doFinal(encoded, 0, encoded.length, ciphertext, initVector.length);
         return ciphertext;
     }
+
+    /**
+     * Decrypt the cipher text, that starts with the IV, using the key.
+     *
+     * @param skey the key used to encrypt the data
+     * @param ciphertext the IV followed by the encrypted data
+     * @return the decrypted data as bytes, the caller should clear the bytes once they are no longer needed.
+     * @throws BadPaddingException if the cipher text is corrupt or the key doesn't match
+     * @throws IllegalBlockSizeException if the cipher text is corrupt
+     */
+    public static byte[] decryptGcmBytes(SecretKey skey, byte[] ciphertext) throws BadPaddingException, IllegalBlockSizeException {
+        try {
+            Cipher cipher = getCipher();
+            byte[] initVector = Arrays.copyOfRange(ciphertext, 0, GCM_IV_LENGTH);
+            GCMParameterSpec spec = new GCMParameterSpec(GCM_TAG_LENGTH * java.lang.Byte.SIZE, initVector);
+            cipher.init(Cipher.DECRYPT_MODE, skey, spec);
+            return cipher.doFinal(ciphertext, GCM_IV_LENGTH, ciphertext.length - GCM_IV_LENGTH);
+        } catch (NoSuchPaddingException | InvalidAlgorithmParameterException |
+                 InvalidKeyException | NoSuchAlgorithmException e) {
+            /* None of these exceptions should be possible if precond is met. */
+            throw new IllegalStateException(e.toString());
+        }
+    }
+
+    private static Cipher getCipher() throws NoSuchPaddingException, NoSuchAlgorithmException {
+        Cipher cipher = CIPHERS.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
+            CIPHERS.set(cipher);
+        }
+        return cipher;
+    }
 }
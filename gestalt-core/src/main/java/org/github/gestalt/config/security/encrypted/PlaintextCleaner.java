@@ -0,0 +1,53 @@
+package org.github.gestalt.config.security.encrypted;
+
+import org.github.gestalt.config.reload.ReloadScheduler;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Wipes the decrypted values cached by {@link EncryptedLeafNode} once they expire, even if the node is never read again.
+ * The wipes run on the {@link ReloadScheduler} of the Gestalt the nodes belong to, so they stop when it is closed.
+ *
+ * <p>A task only holds a weak reference to its node, so a node discarded by a reload can still be garbage collected.
+ * The task holds the cached value itself, so it is always overwritten at expiry whether or not the node is still in use.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+final class PlaintextCleaner {
+
+    private PlaintextCleaner() {
+
+    }
+
+    /**
+     * Schedule a cached decrypted value to be wiped once it expires.
+     *
+     * @param scheduler  the scheduler to run the wipe on
+     * @param node       the node caching the value
+     * @param plaintext  the cached value
+     * @param delayNanos how long until the value expires
+     * @return if the wipe was scheduled, false if there is no scheduler or it has been closed
+     */
+    static boolean schedule(ReloadScheduler scheduler, EncryptedLeafNode node, char[] plaintext, long delayNanos) {
+        if (scheduler == null || scheduler.isClosed()) {
+            return false;
+        }
+
+        WeakReference<EncryptedLeafNode> nodeReference = new WeakReference<>(node);
+        try {
+            scheduler.scheduleOnce(Duration.ofNanos(delayNanos), () -> {
+                EncryptedLeafNode current = nodeReference.get();
+                if (current != null) {
+                    current.clearPlaintext(plaintext);
+                }
+                Arrays.fill(plaintext, '\0');
+            });
+            return true;
+        } catch (IllegalStateException e) {
+            // the scheduler was closed after it was checked.
+            return false;
+        }
+    }
+}
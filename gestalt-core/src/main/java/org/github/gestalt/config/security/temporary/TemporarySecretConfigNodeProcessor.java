@@ -1,6 +1,7 @@
 package org.github.gestalt.config.security.temporary;
 
 import org.github.gestalt.config.annotations.ConfigPriority;
+import org.github.gestalt.config.annotations.ConfigThreadSafe;
 import org.github.gestalt.config.metadata.IsTemporaryMetadata;
 import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.node.LeafNode;
@@ -21,6 +22,7 @@ import java.util.Optional;
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
 @ConfigPriority(500)
+@ConfigThreadSafe
 public class TemporarySecretConfigNodeProcessor implements ConfigNodeProcessor {
 
     private static final System.Logger logger = System.getLogger(TemporarySecretConfigNodeProcessor.class.getName());
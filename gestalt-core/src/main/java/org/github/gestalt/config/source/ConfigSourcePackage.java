@@ -3,8 +3,10 @@ package org.github.gestalt.config.source;
 import org.github.gestalt.config.reload.ConfigReloadStrategy;
 import org.github.gestalt.config.tag.Tags;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Container that holds the Config Source as well as the configReloadStrategies.
@@ -17,6 +19,17 @@ public class ConfigSourcePackage {
 
     private final Tags tags;
 
+    private final boolean fingerprintContent;
+
+    // path the source is lazily mounted at, null if the source is loaded eagerly.
+    private final String lazyMountPath;
+
+    // how long a lazily mounted source can go without being accessed before it is evicted, null to never evict it.
+    private final Duration lazyIdleEviction;
+
+    // fingerprint of the content last loaded from the source, null if not fingerprinted.
+    private volatile String contentFingerprint;
+
     /**
      * Constructor for the ConfigSourcePackage that requires the config source and the configReloadStrategies.
      *
@@ -25,9 +38,41 @@ public class ConfigSourcePackage {
      * @param tags                   the tags associated with the config source package
      */
     public ConfigSourcePackage(ConfigSource configSource, List<ConfigReloadStrategy> configReloadStrategies, Tags tags) {
+        this(configSource, configReloadStrategies, tags, false);
+    }
+
+    /**
+     * Constructor for the ConfigSourcePackage that requires the config source and the configReloadStrategies.
+     *
+     * @param configSource           the config source
+     * @param configReloadStrategies the configReloadStrategies
+     * @param tags                   the tags associated with the config source package
+     * @param fingerprintContent     if the content of the source should be fingerprinted, so a reload is skipped if it has not changed
+     */
+    public ConfigSourcePackage(ConfigSource configSource, List<ConfigReloadStrategy> configReloadStrategies, Tags tags,
+                               boolean fingerprintContent) {
+        this(configSource, configReloadStrategies, tags, fingerprintContent, null, null);
+    }
+
+    /**
+     * Constructor for the ConfigSourcePackage that requires the config source and the configReloadStrategies.
+     *
+     * @param configSource           the config source
+     * @param configReloadStrategies the configReloadStrategies
+     * @param tags                   the tags associated with the config source package
+     * @param fingerprintContent     if the content of the source should be fingerprinted, so a reload is skipped if it has not changed
+     * @param lazyMountPath          the path to lazily mount the source at, or null to load the source eagerly
+     * @param lazyIdleEviction       how long a lazily mounted source can go without being accessed before it is evicted,
+     *                               or null to never evict it
+     */
+    public ConfigSourcePackage(ConfigSource configSource, List<ConfigReloadStrategy> configReloadStrategies, Tags tags,
+                               boolean fingerprintContent, String lazyMountPath, Duration lazyIdleEviction) {
         this.configSource = configSource;
         this.configReloadStrategies = configReloadStrategies;
         this.tags = tags;
+        this.fingerprintContent = fingerprintContent;
+        this.lazyMountPath = lazyMountPath;
+        this.lazyIdleEviction = lazyIdleEviction;
     }
 
     /**
@@ -59,6 +104,52 @@ public class ConfigSourcePackage {
         return tags.and(configSource.getTags());
     }
 
+    /**
+     * If the content of the source should be fingerprinted, so a reload is skipped if the content has not changed.
+     *
+     * @return if the content of the source should be fingerprinted
+     */
+    public boolean isFingerprintContent() {
+        return fingerprintContent;
+    }
+
+    /**
+     * Get the path the source is lazily mounted at. A lazily mounted source is not loaded with the other sources,
+     * it is loaded the first time a config at or under the path is accessed.
+     *
+     * @return the path the source is lazily mounted at, empty if the source is loaded eagerly
+     */
+    public Optional<String> getLazyMountPath() {
+        return Optional.ofNullable(lazyMountPath);
+    }
+
+    /**
+     * Get how long a lazily mounted source can go without being accessed before it is evicted.
+     *
+     * @return how long a lazily mounted source can go without being accessed, empty if it is never evicted
+     */
+    public Optional<Duration> getLazyIdleEviction() {
+        return Optional.ofNullable(lazyIdleEviction);
+    }
+
+    /**
+     * Get the fingerprint of the content last loaded from the source.
+     *
+     * @return the fingerprint of the content last loaded from the source, empty if it has not been fingerprinted
+     */
+    public Optional<String> getContentFingerprint() {
+        return Optional.ofNullable(contentFingerprint);
+    }
+
+    /**
+     * Set the fingerprint of the content last loaded from the source.
+     *
+     * @param contentFingerprint the fingerprint of the content last loaded from the source
+     */
+    public void setContentFingerprint(String contentFingerprint) {
+        this.contentFingerprint = contentFingerprint;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -0,0 +1,165 @@
+package org.github.gestalt.config.source;
+
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.tag.Tags;
+import org.github.gestalt.config.utils.Pair;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the content of a config source once and computes a SHA-256 fingerprint of it.
+ * The content read is then served from memory, so the source is only read once even though it is both fingerprinted and parsed.
+ *
+ * <p>Used to skip reloading a source when its content has not changed since the last load.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class FingerprintedConfigSource implements ConfigSource {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final ConfigSource delegate;
+    private final byte[] content;
+    private final List<Pair<String, String>> list;
+    private final String fingerprint;
+
+    private FingerprintedConfigSource(ConfigSource delegate, byte[] content, List<Pair<String, String>> list, String fingerprint) {
+        this.delegate = delegate;
+        this.content = content;
+        this.list = list;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Read the content of a source and compute its fingerprint.
+     *
+     * @param source the source to read
+     * @return the source with its content in memory and fingerprinted
+     * @throws GestaltException if unable to read the source
+     */
+    public static FingerprintedConfigSource of(ConfigSource source) throws GestaltException {
+        MessageDigest digest = newDigest();
+        if (source.hasStream()) {
+            byte[] content;
+            try (InputStream is = source.loadStream()) {
+                content = is.readAllBytes();
+            } catch (IOException e) {
+                throw new GestaltException("Unable to read source " + source.name() + " to fingerprint, with error: " + e.getMessage(), e);
+            }
+            return new FingerprintedConfigSource(source, content, null, toHex(digest.digest(content)));
+        } else if (source.hasList()) {
+            List<Pair<String, String>> list = source.loadList();
+            for (Pair<String, String> entry : list) {
+                update(digest, entry.getFirst());
+                update(digest, entry.getSecond());
+            }
+            return new FingerprintedConfigSource(source, null, list, toHex(digest.digest()));
+        } else {
+            throw new GestaltException("Unable to fingerprint source " + source.name() + " as it has no stream or list");
+        }
+    }
+
+    private static MessageDigest newDigest() throws GestaltException {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new GestaltException("Unable to create a SHA-256 digest to fingerprint sources", e);
+        }
+    }
+
+    // null and empty values are hashed differently, and each value is terminated so adjacent values can not run together.
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+        } else {
+            digest.update((byte) 1);
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Get the fingerprint of the content of the source.
+     *
+     * @return the fingerprint of the content of the source
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Get the source that was fingerprinted.
+     *
+     * @return the source that was fingerprinted
+     */
+    public ConfigSource getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean hasStream() {
+        return content != null;
+    }
+
+    @Override
+    public InputStream loadStream() throws GestaltException {
+        if (content == null) {
+            throw new GestaltException("Unsupported operation loadStream on a list source " + delegate.name());
+        }
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public boolean hasList() {
+        return list != null;
+    }
+
+    @Override
+    public List<Pair<String, String>> loadList() throws GestaltException {
+        if (list == null) {
+            throw new GestaltException("Unsupported operation loadList on a stream source " + delegate.name());
+        }
+        return list;
+    }
+
+    @Override
+    public String format() {
+        return delegate.format();
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public UUID id() {  //NOPMD
+        return delegate.id();
+    }
+
+    @Override
+    @SuppressWarnings("removal")
+    public Tags getTags() {
+        return delegate.getTags();
+    }
+
+    @Override
+    public boolean failOnErrors() {
+        return delegate.failOnErrors();
+    }
+}
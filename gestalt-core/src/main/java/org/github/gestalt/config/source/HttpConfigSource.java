@@ -0,0 +1,299 @@
+package org.github.gestalt.config.source;
+
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.tag.Tags;
+import org.github.gestalt.config.utils.Pair;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Loads a config source over HTTP using the {@link HttpClient}, so connections are reused and HTTP/2 is used when the server supports it.
+ *
+ * <p>The ETag and Last-Modified validators of the last response are kept, and every request after the first is a conditional GET.
+ * If the server responds 304 Not Modified, the body of the last response is served without being downloaded again.
+ * Responses are requested with gzip compression.
+ *
+ * <p>Use the {@link org.github.gestalt.config.reload.HttpLongPollReloadStrategy} to reload the source as soon as it changes.
+ * A response is only a change if its body is different, and the next load serves the body the poll downloaded.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class HttpConfigSource implements ConfigSource {
+    private static final System.Logger logger = System.getLogger(HttpConfigSource.class.getName());
+
+    /**
+     * The default timeout for a request.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+    private static volatile HttpClient defaultClient;
+
+    private final URI uri;
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final Map<String, String> headers;
+    private final String format;
+    private final UUID id = UUID.randomUUID();
+
+    // the last successful response, used to send conditional requests and to serve a 304 Not Modified.
+    private volatile CachedResponse cachedResponse;
+    // a changed response downloaded by waitForChange, served by the next load instead of requesting it again.
+    private final AtomicReference<CachedResponse> polledResponse = new AtomicReference<>();
+
+    /**
+     * Constructor for the HttpConfigSource using the shared default HttpClient and timeout.
+     *
+     * @param sourceURL the URL to load the config from
+     * @throws GestaltException if the URL is invalid
+     */
+    public HttpConfigSource(String sourceURL) throws GestaltException {
+        this(sourceURL, null, DEFAULT_TIMEOUT, Map.of(), null);
+    }
+
+    /**
+     * Constructor for the HttpConfigSource.
+     *
+     * @param sourceURL  the URL to load the config from
+     * @param httpClient the HttpClient to use, if null a shared HttpClient preferring HTTP/2 is used
+     * @param timeout    the timeout of each request
+     * @param headers    any extra headers to add to each request, such as authorization
+     * @param format     the format of the config, if null the format is taken from the extension of the URL
+     * @throws GestaltException if the URL is invalid
+     */
+    public HttpConfigSource(String sourceURL, HttpClient httpClient, Duration timeout, Map<String, String> headers, String format)
+        throws GestaltException {
+        if (sourceURL == null) {
+            throw new GestaltException("The url string provided was null");
+        }
+
+        try {
+            this.uri = URI.create(sourceURL);
+        } catch (IllegalArgumentException e) {
+            throw new GestaltException("Exception creating URL " + sourceURL + ", with error: " + e.getMessage(), e);
+        }
+
+        if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())) {
+            throw new GestaltException("The url " + sourceURL + " must use http or https");
+        }
+
+        this.httpClient = httpClient != null ? httpClient : getDefaultClient();
+        this.timeout = Objects.requireNonNullElse(timeout, DEFAULT_TIMEOUT);
+        this.headers = headers != null ? Map.copyOf(headers) : Map.of();
+        this.format = format != null ? format : format(uri.getPath());
+    }
+
+    private static HttpClient getDefaultClient() {
+        HttpClient client = defaultClient;
+        if (client == null) {
+            synchronized (HttpConfigSource.class) {
+                client = defaultClient;
+                if (client == null) {
+                    client = HttpClient.newBuilder()
+                                       .version(HttpClient.Version.HTTP_2)
+                                       .followRedirects(HttpClient.Redirect.NORMAL)
+                                       .connectTimeout(DEFAULT_TIMEOUT)
+                                       .build();
+                    defaultClient = client;
+                }
+            }
+        }
+        return client;
+    }
+
+    private static String format(String path) {
+        int index = path == null ? -1 : path.lastIndexOf('.');
+        if (index > 0) {
+            return path.substring(index + 1);
+        } else {
+            return "";
+        }
+    }
+
+    @Override
+    public boolean hasStream() {
+        return true;
+    }
+
+    @Override
+    public InputStream loadStream() throws GestaltException {
+        CachedResponse response = polledResponse.getAndSet(null);
+        if (response == null) {
+            response = request(timeout, null);
+        }
+        return new ByteArrayInputStream(response.body);
+    }
+
+    /**
+     * Send a conditional request and wait for the source to change. Used by the long poll reload strategy.
+     * The server is asked, with a {@code Prefer: wait} header, to hold the request until the source changes or the wait expires.
+     * Servers that do not support waiting respond immediately, so the source is simply polled.
+     *
+     * <p>A server that does not support conditional requests responds with the full body each time,
+     * so the body is compared with the last response to tell if the source has changed.
+     *
+     * @param wait how long to ask the server to wait for a change
+     * @return true if the body of the source has changed since the last response, false if this is the first response
+     * @throws GestaltException if the request fails
+     */
+    public boolean waitForChange(Duration wait) throws GestaltException {
+        CachedResponse previous = cachedResponse;
+        CachedResponse response = request(timeout.plus(wait), wait);
+        if (previous == null || previous == response || Arrays.equals(previous.body, response.body)) {
+            return false;
+        }
+
+        polledResponse.set(response);
+        return true;
+    }
+
+    private CachedResponse request(Duration requestTimeout, Duration wait) throws GestaltException {
+        CachedResponse cached = cachedResponse;
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                                                 .timeout(requestTimeout)
+                                                 .header("Accept-Encoding", "gzip")
+                                                 .GET();
+        headers.forEach(builder::header);
+        if (cached != null && cached.etag != null) {
+            builder.header("If-None-Match", cached.etag);
+        }
+        if (cached != null && cached.lastModified != null) {
+            builder.header("If-Modified-Since", cached.lastModified);
+        }
+        if (wait != null) {
+            builder.header("Prefer", "wait=" + wait.toSeconds());
+        }
+
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new GestaltException("Exception loading " + uri + ", with error: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GestaltException("Interrupted while loading " + uri, e);
+        }
+
+        if (response.statusCode() == 304 && cached != null) {
+            logger.log(System.Logger.Level.TRACE, "Source {0} has not been modified, using the cached response", uri);
+            return cached;
+        }
+
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new GestaltException("Unable to load " + uri + ", received status code: " + response.statusCode());
+        }
+
+        byte[] body = response.body();
+        if (response.headers().firstValue("Content-Encoding").filter("gzip"::equalsIgnoreCase).isPresent()) {
+            try (InputStream is = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                body = is.readAllBytes();
+            } catch (IOException e) {
+                throw new GestaltException("Exception decompressing the response from " + uri + ", with error: " + e.getMessage(), e);
+            }
+        }
+
+        CachedResponse newResponse = new CachedResponse(body, response.headers().firstValue("ETag").orElse(null),
+            response.headers().firstValue("Last-Modified").orElse(null));
+        cachedResponse = newResponse;
+        return newResponse;
+    }
+
+    /**
+     * Get the URI of the source.
+     *
+     * @return the URI of the source
+     */
+    public URI getUri() {
+        return uri;
+    }
+
+    /**
+     * Get the timeout of each request.
+     *
+     * @return the timeout of each request
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public boolean hasList() {
+        return false;
+    }
+
+    @Override
+    public List<Pair<String, String>> loadList() throws GestaltException {
+        throw new GestaltException("Unsupported operation loadList on an HttpConfigSource");
+    }
+
+    @Override
+    public String format() {
+        return format;
+    }
+
+    @Override
+    public String name() {
+        return "HTTP format: " + uri;
+    }
+
+    @Override
+    public UUID id() {  //NOPMD
+        return id;
+    }
+
+    /**
+     * Get the tags of the source, an HttpConfigSource has no tags of its own.
+     *
+     * @return an empty set of tags
+     * @deprecated tags have been moved to {@link ConfigSourcePackage#getTags()}.
+     */
+    @Override
+    @Deprecated(since = "0.26.0", forRemoval = true)
+    @SuppressWarnings("removal")
+    public Tags getTags() {
+        return Tags.of();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HttpConfigSource)) {
+            return false;
+        }
+        HttpConfigSource that = (HttpConfigSource) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    private static final class CachedResponse {
+        private final byte[] body;
+        private final String etag;
+        private final String lastModified;
+
+        private CachedResponse(byte[] body, String etag, String lastModified) {
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+}
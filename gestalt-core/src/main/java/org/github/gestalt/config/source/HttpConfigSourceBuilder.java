@@ -0,0 +1,111 @@
+package org.github.gestalt.config.source;
+
+import org.github.gestalt.config.builder.SourceBuilder;
+import org.github.gestalt.config.exceptions.GestaltException;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ConfigSourceBuilder for the HTTP Config Source.
+ *
+ * <p>Create a HttpConfigSource to load a config over HTTP, with conditional requests and compression.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class HttpConfigSourceBuilder extends SourceBuilder<HttpConfigSourceBuilder, HttpConfigSource> {
+
+    private String sourceURL;
+    private HttpClient httpClient;
+    private Duration timeout = HttpConfigSource.DEFAULT_TIMEOUT;
+    private final Map<String, String> headers = new HashMap<>();
+    private String format;
+
+    /**
+     * private constructor, use the builder method.
+     */
+    private HttpConfigSourceBuilder() {
+
+    }
+
+    /**
+     * Static function to create the builder.
+     *
+     * @return the builder
+     */
+    public static HttpConfigSourceBuilder builder() {
+        return new HttpConfigSourceBuilder();
+    }
+
+    /**
+     * Get the URL to find the config source at.
+     *
+     * @return the URL to find the config source at.
+     */
+    public String getSourceURL() {
+        return sourceURL;
+    }
+
+    /**
+     * Set the URL to find the config source at.
+     *
+     * @param sourceURL the URL to find the config source at.
+     * @return the builder
+     */
+    public HttpConfigSourceBuilder setSourceURL(String sourceURL) {
+        this.sourceURL = sourceURL;
+        return this;
+    }
+
+    /**
+     * Set the HttpClient to use, by default a shared HttpClient preferring HTTP/2 is used.
+     *
+     * @param httpClient the HttpClient to use
+     * @return the builder
+     */
+    public HttpConfigSourceBuilder setHttpClient(HttpClient httpClient) {
+        this.httpClient = httpClient;
+        return this;
+    }
+
+    /**
+     * Set the timeout of each request.
+     *
+     * @param timeout the timeout of each request
+     * @return the builder
+     */
+    public HttpConfigSourceBuilder setTimeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Add a header to send with each request, such as authorization.
+     *
+     * @param name  the name of the header
+     * @param value the value of the header
+     * @return the builder
+     */
+    public HttpConfigSourceBuilder addHeader(String name, String value) {
+        this.headers.put(name, value);
+        return this;
+    }
+
+    /**
+     * Set the format of the config, by default the format is taken from the extension of the URL.
+     *
+     * @param format the format of the config
+     * @return the builder
+     */
+    public HttpConfigSourceBuilder setFormat(String format) {
+        this.format = format;
+        return this;
+    }
+
+    @Override
+    public ConfigSourcePackage build() throws GestaltException {
+        return buildPackage(new HttpConfigSource(sourceURL, httpClient, timeout, headers, format));
+    }
+}
@@ -7,13 +7,21 @@ import org.github.gestalt.config.utils.Pair;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Load a config source as kubernetes files secrets.
@@ -21,14 +29,35 @@ import java.util.UUID;
  * Where the name of the file is the path for the configuration and
  * the value in the file is the value of the configuration.
  *
+ * <p>For a projected volume, where the files are links through the {@code ..data} link to a timestamped directory,
+ * the {@code ..data} link is resolved once so all the keys are read from the same version of the volume.
+ * Each file is only read again if it has changed since it was last read, large volumes are read in parallel,
+ * and files larger than the max file size are rejected.
+ *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
 public final class KubernetesSecretConfigSource implements ConfigSource {
     public static final String K8_SECRET_CONFIG = "k8Secret";
 
+    /**
+     * The link Kubernetes swaps atomically to update a projected volume.
+     */
+    public static final String DATA_LINK = "..data";
+
+    /**
+     * The default max size of a file, the max size of a Kubernetes secret.
+     */
+    public static final long DEFAULT_MAX_FILE_SIZE = 1024 * 1024;
+
+    // read the files in parallel once there are at least this many.
+    private static final int PARALLEL_READ_THRESHOLD = 32;
+
     private final Path path;
+    private final long maxFileSize;
     private final UUID id = UUID.randomUUID();
     private final Tags tags;
+    // the last value read for each key, so unchanged files are not read again.
+    private final Map<String, SecretFile> secretFiles = new ConcurrentHashMap<>();
 
     /**
      * Constructor for a Kubernetes Files Config Source.
@@ -71,7 +100,26 @@ public final class KubernetesSecretConfigSource implements ConfigSource {
      * @throws GestaltException any exceptions.
      */
     public KubernetesSecretConfigSource(Path path, Tags tags) throws GestaltException {
+        this(path, DEFAULT_MAX_FILE_SIZE, tags);
+    }
+
+    /**
+     * Constructor for a Kubernetes Files Config Source.
+     *
+     * @param path        where to load the directory with the configuration
+     * @param maxFileSize the max size of a file in bytes, larger files fail to load
+     * @throws GestaltException any exceptions.
+     */
+    public KubernetesSecretConfigSource(Path path, long maxFileSize) throws GestaltException {
+        this(path, maxFileSize, Tags.of());
+    }
+
+    private KubernetesSecretConfigSource(Path path, long maxFileSize, Tags tags) throws GestaltException {
         this.path = validatePath(path);
+        if (maxFileSize <= 0) {
+            throw new GestaltException("Kubernetes Secret max file size must be greater than 0, provided: " + maxFileSize);
+        }
+        this.maxFileSize = maxFileSize;
         this.tags = tags;
     }
 
@@ -117,24 +165,83 @@ public final class KubernetesSecretConfigSource implements ConfigSource {
         return true;
     }
 
+    /**
+     * Get the max size of a file in bytes.
+     *
+     * @return the max size of a file in bytes
+     */
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
     @Override
     public List<Pair<String, String>> loadList() throws GestaltException {
-        List<Pair<String, String>> results = new ArrayList<>();
-        if (Files.isDirectory(path)) {
-            try (DirectoryStream<Path> directory = Files.newDirectoryStream(path)) {
-                for (Path secretFile : directory) {
-                    if (Files.isRegularFile(secretFile)) {
-                        String key = secretFile.getFileName().toString();
-                        String value = Files.readString(secretFile);
-                        Pair<String, String> secret = new Pair<>(key, value);
-                        results.add(secret);
-                    }
-                }
-            } catch (IOException e) {
-                throw new GestaltException("IOException while loading kubernetes secrets from path: " + path);
+        if (!Files.isDirectory(path)) {
+            return new ArrayList<>();
+        }
+
+        // resolve the ..data link once, so every key is read from the same version even if the volume is swapped while reading.
+        Path directory = resolveDataDirectory();
+        List<Path> files;
+        try (Stream<Path> directoryStream = Files.list(directory)) {
+            files = directoryStream
+                .filter(it -> !it.getFileName().toString().startsWith(".."))
+                .filter(Files::isRegularFile)
+                .sorted(Comparator.comparing(it -> it.getFileName().toString()))
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new GestaltException("IOException while loading kubernetes secrets from path: " + path, e);
+        }
+
+        Stream<Path> fileStream = files.size() >= PARALLEL_READ_THRESHOLD ? files.parallelStream() : files.stream();
+        List<SecretFile> results = fileStream.map(this::readSecretFile).collect(Collectors.toList());
+
+        List<Pair<String, String>> secrets = new ArrayList<>(results.size());
+        for (SecretFile result : results) {
+            if (result.error != null) {
+                throw result.error;
+            }
+            secrets.add(new Pair<>(result.key, result.value));
+        }
+
+        secretFiles.keySet().retainAll(results.stream().map(it -> it.key).collect(Collectors.toSet()));
+        return secrets;
+    }
+
+    private Path resolveDataDirectory() throws GestaltException {
+        Path dataLink = path.resolve(DATA_LINK);
+        if (!Files.isSymbolicLink(dataLink)) {
+            return path;
+        }
+
+        try {
+            return dataLink.toRealPath();
+        } catch (IOException e) {
+            throw new GestaltException("IOException while resolving the kubernetes secrets data link: " + dataLink, e);
+        }
+    }
+
+    // only read the file if its size, modified time or identity has changed since it was last read.
+    private SecretFile readSecretFile(Path file) {
+        String key = file.getFileName().toString();
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (attributes.size() > maxFileSize) {
+                return new SecretFile(key, new GestaltException("Kubernetes Secret file " + file + " is " + attributes.size() +
+                    " bytes, larger than the max file size of " + maxFileSize));
+            }
+
+            SecretFile cached = secretFiles.get(key);
+            if (cached != null && cached.isUnchanged(attributes)) {
+                return cached;
             }
+
+            SecretFile secretFile = new SecretFile(key, Files.readString(file, StandardCharsets.UTF_8), attributes);
+            secretFiles.put(key, secretFile);
+            return secretFile;
+        } catch (IOException e) {
+            return new SecretFile(key, new GestaltException("IOException while loading kubernetes secret: " + file, e));
         }
-        return results;
     }
 
     @Override
@@ -174,4 +281,37 @@ public final class KubernetesSecretConfigSource implements ConfigSource {
         return Objects.hash(id);
     }
 
+    private static final class SecretFile {
+        private final String key;
+        private final String value;
+        private final Object fileKey;
+        private final FileTime lastModifiedTime;
+        private final long size;
+        private final GestaltException error;
+
+        private SecretFile(String key, String value, BasicFileAttributes attributes) {
+            this.key = key;
+            this.value = value;
+            this.fileKey = attributes.fileKey();
+            this.lastModifiedTime = attributes.lastModifiedTime();
+            this.size = attributes.size();
+            this.error = null;
+        }
+
+        private SecretFile(String key, GestaltException error) {
+            this.key = key;
+            this.value = null;
+            this.fileKey = null;
+            this.lastModifiedTime = null;
+            this.size = -1;
+            this.error = error;
+        }
+
+        private boolean isUnchanged(BasicFileAttributes attributes) {
+            // without a file key, such as on windows, fall back to the size and modified time.
+            return size == attributes.size() && lastModifiedTime.equals(attributes.lastModifiedTime()) &&
+                Objects.equals(fileKey, attributes.fileKey());
+        }
+    }
+
 }
@@ -21,6 +21,7 @@ public final class KubernetesSecretConfigSourceBuilder
     extends SourceBuilder<KubernetesSecretConfigSourceBuilder, KubernetesSecretConfigSource> {
 
     private Path path;
+    private long maxFileSize = KubernetesSecretConfigSource.DEFAULT_MAX_FILE_SIZE;
 
     /**
      * private constructor, use the builder method.
@@ -80,8 +81,28 @@ public final class KubernetesSecretConfigSourceBuilder
         return this;
     }
 
+    /**
+     * Get the max size of a file in bytes.
+     *
+     * @return the max size of a file in bytes
+     */
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    /**
+     * Set the max size of a file in bytes, larger files fail to load. Defaults to 1MiB, the max size of a Kubernetes secret.
+     *
+     * @param maxFileSize the max size of a file in bytes
+     * @return the builder
+     */
+    public KubernetesSecretConfigSourceBuilder setMaxFileSize(long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+        return this;
+    }
+
     @Override
     public ConfigSourcePackage build() throws GestaltException {
-        return buildPackage(new KubernetesSecretConfigSource(path));
+        return buildPackage(new KubernetesSecretConfigSource(path, maxFileSize));
     }
 }
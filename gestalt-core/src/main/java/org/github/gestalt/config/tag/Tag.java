@@ -10,6 +10,7 @@ import java.util.Objects;
 public final class Tag {
     private final String key;
     private final String value;
+    private final int hash;
 
     private Tag(String key, String value) {
         Objects.requireNonNull(key);
@@ -17,6 +18,7 @@ public final class Tag {
 
         this.key = key;
         this.value = value;
+        this.hash = Objects.hash(key, value);
     }
 
     /**
@@ -78,12 +80,12 @@ public final class Tag {
             return false;
         }
         Tag tag = (Tag) o;
-        return key.equals(tag.key) && value.equals(tag.value);
+        return hash == tag.hash && key.equals(tag.key) && value.equals(tag.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(key, value);
+        return hash;
     }
 
     @Override
@@ -3,20 +3,68 @@ package org.github.gestalt.config.tag;
 import org.github.gestalt.config.exceptions.GestaltException;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 
 /**
  * Represents a collection of tags that can be applied to data.
  *
+ * <p>Tags are immutable and canonicalized, so equal collections of tags will usually return the same instance.
+ * The tags are stored as a sorted array with a precomputed hash, as they are used as keys for caches and config roots.
+ *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
 public final class Tags {
-    private static final Tags DEFAULT_TAGS = new Tags(Set.of());
+    // Upper bound on the number of interned tags, once reached new tags are returned without interning.
+    private static final int MAX_INTERNED_TAGS = 4096;
+    // Upper bound on the number of merged results memoized per tags.
+    private static final int MAX_MERGED_TAGS = 64;
+    private static final Comparator<Tag> TAG_ORDER = Comparator.comparing(Tag::getKey).thenComparing(Tag::getValue);
+    private static final Map<Tags, Tags> INTERNED_TAGS = new ConcurrentHashMap<>();
+    private static final Tags DEFAULT_TAGS = intern(new Tags(new Tag[0]));
+
+    private final Tag[] sortedTags;
     private final Set<Tag> internalTags;
+    private final int hash;
+    private final Map<Tags, Tags> mergedTags = new ConcurrentHashMap<>();
+
+    private Tags(Tag[] sortedTags) {
+        this.sortedTags = sortedTags;
+        this.internalTags = Set.of(sortedTags);
+        this.hash = Arrays.hashCode(sortedTags);
+    }
+
+    private static Tags create(Collection<Tag> tags) {
+        if (tags.isEmpty()) {
+            return DEFAULT_TAGS;
+        }
+
+        Tag[] sorted = tags.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .sorted(TAG_ORDER)
+            .toArray(Tag[]::new);
 
-    private Tags(Set<Tag> tags) {
-        this.internalTags = new HashSet<>(tags);
+        if (sorted.length == 0) {
+            return DEFAULT_TAGS;
+        }
+
+        return intern(new Tags(sorted));
+    }
+
+    private static Tags intern(Tags tags) {
+        Tags interned = INTERNED_TAGS.get(tags);
+        if (interned != null) {
+            return interned;
+        }
+
+        if (INTERNED_TAGS.size() >= MAX_INTERNED_TAGS) {
+            return tags;
+        }
+
+        interned = INTERNED_TAGS.putIfAbsent(tags, tags);
+        return interned != null ? interned : tags;
     }
 
     /**
@@ -35,7 +83,7 @@ public final class Tags {
      * @return Tags
      */
     public static Tags of(List<Tag> tags) {     //NOPMD
-        return new Tags(new HashSet<>(tags));
+        return create(tags);
     }
 
     /**
@@ -45,7 +93,7 @@ public final class Tags {
      * @return Tags
      */
     public static Tags of(Set<Tag> tags) {     //NOPMD
-        return new Tags(new HashSet<>(tags));
+        return create(tags);
     }
 
     /**
@@ -55,13 +103,13 @@ public final class Tags {
      * @return Tags
      */
     public static Tags of(Tag... tag) {         //NOPMD
-        return new Tags(Arrays.stream(tag).collect(Collectors.toSet()));
+        return create(Arrays.asList(tag));
     }
 
     public static Tags of(Tags... tags) {         //NOPMD
-        return new Tags(Arrays.stream(tags)
+        return create(Arrays.stream(tags)
             .flatMap(it -> it.getTags().stream())
-            .collect(Collectors.toSet()));
+            .collect(Collectors.toList()));
     }
 
     /**
@@ -77,38 +125,78 @@ public final class Tags {
         }
 
         int capacity = Math.floorDiv(tagsVarg.length, 2);
-        Set<Tag> tags = new HashSet<>(capacity);
+        List<Tag> tags = new ArrayList<>(capacity);
         for (int i = 0; i < tagsVarg.length; i = i + 2) {
             tags.add(Tag.of(tagsVarg[i], tagsVarg[i + 1]));
         }
 
-        return new Tags(tags);
+        return create(tags);
     }
 
     public Tags and(Tag... tags) {
         if (blankVarargs(tags)) {
             return this;
         } else {
-            Set<Tag> newTags = new HashSet<>(internalTags.size() + tags.length);
-            newTags.addAll(internalTags);
-            newTags.addAll(new HashSet<>(Arrays.asList(tags)));
-            return new Tags(newTags);
+            List<Tag> newTags = new ArrayList<>(sortedTags.length + tags.length);
+            newTags.addAll(Arrays.asList(sortedTags));
+            newTags.addAll(Arrays.asList(tags));
+            return create(newTags);
         }
     }
 
+    /**
+     * Combine these tags with the provided tags. The results are memoized, so merging the same tags again is only a lookup.
+     *
+     * @param tags the tags to combine with
+     * @return the combined tags
+     */
     public Tags and(Tags tags) {
-        if (tags == null || tags.getTags() == null || tags.getTags().isEmpty()) {
+        if (tags == null || tags.sortedTags.length == 0 || tags == this) {
             return this;
+        } else if (sortedTags.length == 0) {
+            return tags;
         } else {
-            Set<Tag> newTags = new HashSet<>(internalTags.size() + tags.getTags().size());
-            newTags.addAll(internalTags);
-            newTags.addAll(tags.getTags());
-            return new Tags(newTags);
+            Tags merged = mergedTags.get(tags);
+            if (merged == null) {
+                List<Tag> newTags = new ArrayList<>(sortedTags.length + tags.sortedTags.length);
+                newTags.addAll(Arrays.asList(sortedTags));
+                newTags.addAll(Arrays.asList(tags.sortedTags));
+                merged = create(newTags);
+
+                if (mergedTags.size() < MAX_MERGED_TAGS) {
+                    mergedTags.put(tags, merged);
+                }
+            }
+            return merged;
         }
     }
 
+    /**
+     * Returns true if all of these tags are contained in the provided tags.
+     *
+     * @param tags the tags to check against
+     * @return if these tags are a subset of the provided tags
+     */
     public boolean isSubsetOf(Tags tags) {
-        return tags.internalTags.containsAll(this.internalTags);
+        if (this == tags || sortedTags.length == 0) {
+            return true;
+        } else if (sortedTags.length > tags.sortedTags.length) {
+            return false;
+        }
+
+        // both arrays are sorted, so walk them together.
+        int j = 0;
+        for (Tag tag : sortedTags) {
+            int compare = -1;
+            while (j < tags.sortedTags.length && (compare = TAG_ORDER.compare(tags.sortedTags[j], tag)) < 0) {
+                j++;
+            }
+            if (compare != 0) {
+                return false;
+            }
+            j++;
+        }
+        return true;
     }
 
     private static boolean blankVarargs(Tag[] tags) {
@@ -173,7 +261,7 @@ public final class Tags {
     }
 
     /**
-     * Get the tags.
+     * Get the tags. The returned set is immutable.
      *
      * @return tags
      */
@@ -190,16 +278,16 @@ public final class Tags {
             return false;
         }
         Tags tags1 = (Tags) o;
-        return internalTags.equals(tags1.internalTags);
+        return hash == tags1.hash && Arrays.equals(sortedTags, tags1.sortedTags);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(internalTags);
+        return hash;
     }
 
     @Override
     public String toString() {
-        return "Tags{" + internalTags + '}';
+        return "Tags{" + Arrays.toString(sortedTags) + '}';
     }
 }
@@ -0,0 +1,110 @@
+package org.github.gestalt.config.utils;
+
+import org.github.gestalt.config.lexer.SentenceLexer;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The path to a node while walking a config tree, only rendered to a string when it is needed, such as to report an error.
+ *
+ * <p>Each step down the tree links a small cursor to its parent rather than building a new path string.
+ * Once rendered the path is kept, so it is only built once. Paths are rendered the same as {@link PathUtil}.
+ * A cursor is immutable, so a parent can be shared by all of its children.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class PathCursor {
+
+    private final SentenceLexer lexer;
+    private final PathCursor parent;
+    private final String key;
+    private final List<String> keys;
+    private final int index;
+    private String path;
+
+    private PathCursor(SentenceLexer lexer, PathCursor parent, String key, List<String> keys, int index, String path) {
+        this.lexer = lexer;
+        this.parent = parent;
+        this.key = key;
+        this.keys = keys;
+        this.index = index;
+        this.path = path;
+    }
+
+    /**
+     * Create a cursor at the root of a tree, with an empty path.
+     *
+     * @param lexer lexer used to get the delimiter to build the path
+     * @return a cursor at the root of a tree
+     */
+    public static PathCursor root(SentenceLexer lexer) {
+        return of(lexer, "");
+    }
+
+    /**
+     * Create a cursor starting at a path.
+     *
+     * @param lexer lexer used to get the delimiter to build the path
+     * @param path  the path to start at
+     * @return a cursor starting at the path
+     */
+    public static PathCursor of(SentenceLexer lexer, String path) {
+        Objects.requireNonNull(lexer, "PathCursor lexer should not be null");
+        return new PathCursor(lexer, null, null, null, -1, path == null ? "" : path);
+    }
+
+    /**
+     * Step down to a key in a map node.
+     *
+     * @param key the key
+     * @return a cursor at the key
+     */
+    public PathCursor key(String key) {
+        return new PathCursor(lexer, this, key, null, -1, null);
+    }
+
+    /**
+     * Step down to a key made up of several normalized parts, such as a key of a.b in a file that is nested two levels deep.
+     *
+     * @param keys the parts of the key
+     * @return a cursor at the key
+     */
+    public PathCursor keys(List<String> keys) {
+        return new PathCursor(lexer, this, null, keys, -1, null);
+    }
+
+    /**
+     * Step down to an index in an array node.
+     *
+     * @param index the index
+     * @return a cursor at the index
+     */
+    public PathCursor index(int index) {
+        return new PathCursor(lexer, this, null, null, index, null);
+    }
+
+    /**
+     * Render the path.
+     *
+     * @return the path
+     */
+    public String getPath() {
+        if (path == null) {
+            String parentPath = parent.getPath();
+            if (key != null) {
+                path = PathUtil.pathForKey(lexer, parentPath, key);
+            } else if (keys != null) {
+                path = PathUtil.pathForKey(lexer, parentPath, keys);
+            } else {
+                path = PathUtil.pathForIndex(lexer, parentPath, index);
+            }
+        }
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return getPath();
+    }
+}
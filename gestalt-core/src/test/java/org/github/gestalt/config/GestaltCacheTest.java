@@ -3,6 +3,8 @@ package org.github.gestalt.config;
 import org.github.gestalt.config.entity.GestaltConfig;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.node.ConfigExportOptions;
+import org.github.gestalt.config.node.ConfigExportOptionsBuilder;
 import org.github.gestalt.config.node.TagMergingStrategyFallback;
 import org.github.gestalt.config.reflect.TypeCapture;
 import org.github.gestalt.config.reload.CoreReloadListener;
@@ -429,8 +431,34 @@ class GestaltCacheTest {
         Assertions.assertEquals("test", cache.debugPrint());
         Assertions.assertEquals("dev", cache.debugPrint(Tags.environment("dev")));
     }
-}
 
+    @Test
+    void export() throws GestaltException {
+        GestaltCache cache = new GestaltCache(mockGestalt, Tags.of(), null, new GestaltConfig(),
+            new TagMergingStrategyFallback(), List.of());
+        StringBuilder out = new StringBuilder();
+        ConfigExportOptions options = ConfigExportOptionsBuilder.builder().build();
+
+        cache.export(out, options);
 
+        Mockito.verify(mockGestalt, Mockito.times(1)).export(out, options);
+    }
 
+    @Test
+    void exportNotSupported() throws GestaltException {
+        Gestalt gestalt = Mockito.mock(Gestalt.class, Mockito.CALLS_REAL_METHODS);
+        ConfigExportOptions options = ConfigExportOptionsBuilder.builder().build();
 
+        var ex = Assertions.assertThrows(GestaltException.class, () -> gestalt.export(new StringBuilder(), options));
+        Assertions.assertTrue(ex.getMessage().startsWith("export not supported"));
+    }
+
+    @Test
+    void close() {
+        GestaltCache cache = new GestaltCache(mockGestalt, Tags.of(), null, new GestaltConfig(),
+            new TagMergingStrategyFallback(), List.of());
+        cache.close();
+
+        Mockito.verify(mockGestalt, Mockito.times(1)).close();
+    }
+}
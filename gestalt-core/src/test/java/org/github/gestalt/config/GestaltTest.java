@@ -34,6 +34,7 @@ import org.github.gestalt.config.test.classes.DBInfo;
 import org.github.gestalt.config.test.classes.DBInfoPathAnnotation;
 import org.github.gestalt.config.test.classes.DBInfoPathMultiAnnotation;
 import org.github.gestalt.config.utils.GResultOf;
+import org.github.gestalt.config.utils.Pair;
 import org.github.gestalt.config.utils.SystemWrapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -42,14 +43,21 @@ import org.junit.jupiter.api.TestInstance;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.LogManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -1479,6 +1487,452 @@ class GestaltTest {
         Assertions.assertEquals("test", gestalt.getConfig("db.name", TypeCapture.of(String.class)));
     }
 
+    @Test
+    public void testReloadAll() throws GestaltException {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+        configs.put("db.port", "3306");
+        Map<String, String> configs2 = new HashMap<>();
+        configs2.put("db.port", "3307");
+
+        var sourcePackage = new ConfigSourcePackage(new MapConfigSource(configs), List.of(), Tags.of());
+        var sourcePackage2 = new ConfigSourcePackage(new MapConfigSource(configs2), List.of(), Tags.of());
+
+        ConfigLoaderRegistry configLoaderRegistry = new ConfigLoaderRegistry();
+        configLoaderRegistry.addLoader(new MapConfigLoader());
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        SentenceLexer lexer = new PathLexer(".");
+        SecretConcealer secretConcealer = new SecretConcealerManager(Set.of("secret"), it -> "*****");
+
+        CoreReloadListenersContainer coreReloadListenersContainer = new CoreReloadListenersContainer();
+        CoreListener coreListener = new CoreListener();
+        coreReloadListenersContainer.registerListener(coreListener);
+
+        GestaltCore gestalt = new GestaltCore(configLoaderRegistry,
+            List.of(sourcePackage, sourcePackage2),
+            new DecoderRegistry(List.of(new StringDecoder()), configNodeManager, lexer, List.of(new StandardPathMapper())),
+            lexer, new GestaltConfig(), configNodeManager, new ConfigNodeProcessorManager(List.of(), List.of(), new PathLexer()),
+            coreReloadListenersContainer, secretConcealer, null,
+            new ResultsProcessorManager(List.of(new ErrorResultProcessor(), new DefaultResultProcessor())),
+            Tags.of(), new TagMergingStrategyFallback());
+
+        gestalt.loadConfigs();
+        Assertions.assertEquals("test", gestalt.getConfig("db.name", String.class));
+        Assertions.assertEquals("3307", gestalt.getConfig("db.port", String.class));
+
+        configs.put("db.name", "test2");
+        configs2.put("db.port", "3308");
+        gestalt.reloadAll(List.of(sourcePackage, sourcePackage2));
+
+        Assertions.assertEquals("test2", gestalt.getConfig("db.name", String.class));
+        Assertions.assertEquals("3308", gestalt.getConfig("db.port", String.class));
+        // both sources are reloaded as one transaction so the listeners are only notified once.
+        Assertions.assertEquals(1, coreListener.count);
+
+        var ex = Assertions.assertThrows(GestaltException.class, () -> gestalt.reloadAll(List.of()));
+        assertThat(ex).hasMessage("No sources provided, unable to reload any configs");
+        Assertions.assertEquals(1, coreListener.count);
+    }
+
+    @Test
+    public void testReloadCoalesced() throws GestaltException, InterruptedException {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+        Map<String, String> configs2 = new HashMap<>();
+        configs2.put("db.port", "3306");
+
+        var reload = new ManualConfigReloadStrategy();
+        var reload2 = new ManualConfigReloadStrategy();
+        CoreListener coreListener = new CoreListener();
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).addConfigReloadStrategy(reload).build())
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs2).addConfigReloadStrategy(reload2).build())
+            .addCoreReloadListener(coreListener)
+            .setReloadCoalesceWindow(Duration.ofMillis(20))
+            .useCacheDecorator(false)
+            .build();
+        gestalt.loadConfigs();
+
+        configs.put("db.name", "test2");
+        configs2.put("db.port", "3307");
+        reload.reload();
+        reload2.reload();
+        reload.reload();
+
+        for (int i = 0; i < 50 && coreListener.count == 0; i++) {
+            Thread.sleep(10);
+        }
+
+        Assertions.assertEquals("test2", gestalt.getConfig("db.name", String.class));
+        Assertions.assertEquals("3307", gestalt.getConfig("db.port", String.class));
+        Assertions.assertEquals(1, coreListener.count);
+
+        gestalt.close();
+    }
+
+    @Test
+    public void testReloadFailureKeepsLastGoodConfig() throws GestaltException {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+        configs.put("db.user", "${node:db.name}");
+
+        var reload = new ManualConfigReloadStrategy();
+        CoreListener coreListener = new CoreListener();
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).addConfigReloadStrategy(reload).build())
+            .addCoreReloadListener(coreListener)
+            .useCacheDecorator(false)
+            .build();
+        gestalt.loadConfigs();
+
+        // node substitutions in the reload resolve against the new config.
+        configs.put("db.name", "test2");
+        reload.reload();
+        Assertions.assertEquals("test2", gestalt.getConfig("db.user", String.class));
+        Assertions.assertEquals(1, coreListener.count);
+
+        // post processing fails, so none of the reload is published.
+        configs.put("db.name", "test3");
+        configs.put("db.user", "${env:GESTALT_NO_SUCH_VARIABLE}");
+        Assertions.assertThrows(GestaltException.class, reload::reload);
+
+        Assertions.assertEquals("test2", gestalt.getConfig("db.name", String.class));
+        Assertions.assertEquals("test2", gestalt.getConfig("db.user", String.class));
+        Assertions.assertEquals(1, coreListener.count);
+    }
+
+    @Test
+    public void testBackgroundReload() throws GestaltException, InterruptedException {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+
+        var reload = new ManualConfigReloadStrategy();
+        CoreListener coreListener = new CoreListener();
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).addConfigReloadStrategy(reload).build())
+            .addCoreReloadListener(coreListener)
+            .setBackgroundReload(true)
+            .useCacheDecorator(false)
+            .build();
+        gestalt.loadConfigs();
+
+        configs.put("db.name", "test2");
+        reload.reload();
+
+        for (int i = 0; i < 50 && coreListener.count == 0; i++) {
+            Thread.sleep(10);
+        }
+
+        Assertions.assertEquals("test2", gestalt.getConfig("db.name", String.class));
+        Assertions.assertEquals(1, coreListener.count);
+
+        gestalt.close();
+    }
+
+    @Test
+    public void testWarmStartFromSnapshot() throws GestaltException, InterruptedException, IOException {
+        Path snapshotPath = Files.createTempDirectory("gestalt-snapshot").resolve("config.snapshot");
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .setSnapshotPath(snapshotPath)
+            .useCacheDecorator(false)
+            .build();
+        gestalt.loadConfigs();
+        gestalt.close();
+        Assertions.assertTrue(Files.exists(snapshotPath));
+
+        // the next start up serves the snapshot until the sources have been loaded in the background.
+        configs.put("db.name", "test2");
+        CoreListener coreListener = new CoreListener();
+        Gestalt warmGestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .addCoreReloadListener(coreListener)
+            .setSnapshotPath(snapshotPath)
+            .useCacheDecorator(false)
+            .build();
+        warmGestalt.loadConfigs();
+
+        for (int i = 0; i < 50 && coreListener.count == 0; i++) {
+            Thread.sleep(10);
+        }
+
+        Assertions.assertEquals("test2", warmGestalt.getConfig("db.name", String.class));
+        Assertions.assertEquals(1, coreListener.count);
+        warmGestalt.close();
+    }
+
+    @Test
+    public void testWarmStartWaitsForSecretsLeftOutOfSnapshot() throws Exception {
+        Path snapshotPath = Files.createTempDirectory("gestalt-snapshot").resolve("config.snapshot");
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+        configs.put("db.password", "abc123");
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .setSnapshotPath(snapshotPath)
+            .useCacheDecorator(false)
+            .build();
+        gestalt.loadConfigs();
+        gestalt.close();
+
+        // without a snapshot secret key the password is left out of the snapshot, so reading it waits for the sources to load.
+        configs.put("db.password", "abc456");
+        BlockingConfigSource blockingSource = new BlockingConfigSource(configs);
+        Gestalt warmGestalt = new GestaltBuilder()
+            .addSource(new ConfigSourcePackage(blockingSource, List.of(), Tags.of()))
+            .setSnapshotPath(snapshotPath)
+            .useCacheDecorator(false)
+            .build();
+        warmGestalt.loadConfigs();
+
+        Assertions.assertEquals("test", warmGestalt.getConfig("db.name", String.class));
+
+        CompletableFuture<String> password = CompletableFuture.supplyAsync(() -> warmGestalt.getConfig("db.password", "", String.class));
+        Thread.sleep(50);
+        Assertions.assertFalse(password.isDone());
+
+        blockingSource.loaded.countDown();
+        Assertions.assertEquals("abc456", password.get(5, TimeUnit.SECONDS));
+        warmGestalt.close();
+    }
+
+    @Test
+    public void testLazyMountedSource() throws GestaltException, InterruptedException {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+        Map<String, String> flags = new HashMap<>();
+        flags.put("checkout.enabled", "true");
+
+        CoreListener coreListener = new CoreListener();
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .addSource(MapConfigSourceBuilder.builder()
+                .setCustomConfig(flags)
+                .setLazyMount("features.flags", Duration.ofMillis(50))
+                .build())
+            .addCoreReloadListener(coreListener)
+            .useCacheDecorator(false)
+            .build();
+        gestalt.loadConfigs();
+
+        Assertions.assertEquals("test", gestalt.getConfig("db.name", String.class));
+        assertThat(gestalt.debugPrint()).doesNotContain("checkout");
+        Assertions.assertEquals(0, coreListener.count);
+
+        // the first access to the path mounts the source, nothing under the path was read before so the listeners are not notified.
+        Assertions.assertTrue(gestalt.getConfig("features.flags.checkout.enabled", Boolean.class));
+        assertThat(gestalt.debugPrint()).contains("checkout");
+        Assertions.assertEquals(0, coreListener.count);
+
+        // once idle the source is evicted, until it is next accessed.
+        for (int i = 0; i < 50 && coreListener.count == 0; i++) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(1, coreListener.count);
+        assertThat(gestalt.debugPrint()).doesNotContain("checkout");
+        Assertions.assertTrue(gestalt.getConfig("features.flags.checkout.enabled", Boolean.class));
+
+        gestalt.close();
+    }
+
+    @Test
+    public void testLazyMountedSourceCacheHitsKeepItMounted() throws GestaltException, InterruptedException {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+        Map<String, String> flags = new HashMap<>();
+        flags.put("checkout.enabled", "true");
+
+        CoreListener coreListener = new CoreListener();
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .addSource(MapConfigSourceBuilder.builder()
+                .setCustomConfig(flags)
+                .setLazyMount("features.flags", Duration.ofMillis(100))
+                .build())
+            .addCoreReloadListener(coreListener)
+            .useCacheDecorator(true)
+            .build();
+        gestalt.loadConfigs();
+
+        // after the first read the value is served from the cache, which still counts as accessing the mount.
+        for (int i = 0; i < 30; i++) {
+            Assertions.assertTrue(gestalt.getConfig("features.flags.checkout.enabled", Boolean.class));
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(0, coreListener.count);
+        assertThat(gestalt.debugPrint()).contains("checkout");
+
+        gestalt.close();
+    }
+
+    @Test
+    public void testWarmStartWithLazyMountedSource() throws Exception {
+        Path snapshotPath = Files.createTempDirectory("gestalt-snapshot").resolve("config.snapshot");
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.port", "3306");
+        Map<String, String> flags = new HashMap<>();
+        flags.put("checkout.enabled", "true");
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(flags).setLazyMount("features.flags").build())
+            .setSnapshotPath(snapshotPath)
+            .useCacheDecorator(false)
+            .build();
+        gestalt.loadConfigs();
+        gestalt.close();
+
+        // mounting while the snapshot is served has to wait for the sources, otherwise it mounts into an empty tree.
+        BlockingConfigSource blockingSource = new BlockingConfigSource(configs);
+        Gestalt warmGestalt = new GestaltBuilder()
+            .addSource(new ConfigSourcePackage(blockingSource, List.of(), Tags.of()))
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(flags).setLazyMount("features.flags").build())
+            .setSnapshotPath(snapshotPath)
+            .useCacheDecorator(false)
+            .build();
+        warmGestalt.loadConfigs();
+
+        Assertions.assertEquals(3306, warmGestalt.getConfig("db.port", Integer.class));
+
+        CompletableFuture<Boolean> enabled = CompletableFuture.supplyAsync(() ->
+            warmGestalt.getConfig("features.flags.checkout.enabled", false, Boolean.class));
+        Thread.sleep(50);
+        Assertions.assertFalse(enabled.isDone());
+
+        blockingSource.loaded.countDown();
+        Assertions.assertTrue(enabled.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(3306, warmGestalt.getConfig("db.port", Integer.class));
+
+        // once the background load finishes both the sources and the mount are still there.
+        Thread.sleep(50);
+        Assertions.assertEquals(3306, warmGestalt.getConfig("db.port", Integer.class));
+        Assertions.assertTrue(warmGestalt.getConfig("features.flags.checkout.enabled", Boolean.class));
+        warmGestalt.close();
+    }
+
+    @Test
+    public void testLazyMountedSourceConcurrentReads() throws Exception {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+        Map<String, String> flags = new HashMap<>();
+        flags.put("checkout.enabled", "true");
+
+        BlockingConfigSource flagsSource = new BlockingConfigSource(flags);
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .addSource(new ConfigSourcePackage(flagsSource, List.of(), Tags.of(), false, "features.flags", null))
+            .useCacheDecorator(false)
+            .build();
+        gestalt.loadConfigs();
+
+        // while the first read is mounting the source, a second read of the path waits for the mount rather than missing the value.
+        CompletableFuture<Boolean> first =
+            CompletableFuture.supplyAsync(() -> gestalt.getConfig("features.flags.checkout.enabled", false, Boolean.class));
+        Thread.sleep(50);
+        CompletableFuture<Boolean> second =
+            CompletableFuture.supplyAsync(() -> gestalt.getConfig("features.flags.checkout.enabled", false, Boolean.class));
+        Thread.sleep(50);
+        try {
+            Assertions.assertFalse(first.isDone());
+            Assertions.assertFalse(second.isDone());
+        } finally {
+            flagsSource.loaded.countDown();
+        }
+
+        Assertions.assertTrue(first.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(second.get(5, TimeUnit.SECONDS));
+
+        gestalt.close();
+    }
+
+    @Test
+    public void testLazyMountedSourceInvalidPath() throws GestaltException {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).setLazyMount("features[0]").build())
+            .build();
+
+        var ex = Assertions.assertThrows(GestaltConfigurationException.class, gestalt::loadConfigs);
+        assertThat(ex.getMessage()).startsWith("Unable to lazily mount source")
+            .contains("at path: features[0], the path must only contain object keys");
+    }
+
+    @Test
+    public void testLazyMountedSourceInvalidEviction() {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+
+        var ex = Assertions.assertThrows(GestaltConfigurationException.class,
+            () -> MapConfigSourceBuilder.builder().setCustomConfig(configs).setLazyMount("features", Duration.ZERO).build());
+        assertThat(ex.getMessage()).contains("must be greater than 0, provided: PT0S");
+    }
+
+    @Test
+    public void testLoadMergeErrorsCheckedAgainstTheirSource() throws GestaltException {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("java", "app-value");
+
+        // the system properties can not be merged over the leaf, they do not fail on errors so the load succeeds.
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .addSource(SystemPropertiesConfigSourceBuilder.builder().build())
+            .setTreatWarningsAsErrors(false)
+            .useCacheDecorator(false)
+            .build();
+        gestalt.loadConfigs();
+        Assertions.assertEquals(System.getProperty("java.io.tmpdir"), gestalt.getConfig("java.io.tmpdir", String.class));
+
+        // the same error introduced by a source that fails on errors fails the load.
+        Gestalt failingGestalt = new GestaltBuilder()
+            .addSource(SystemPropertiesConfigSourceBuilder.builder().build())
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .setTreatWarningsAsErrors(false)
+            .useCacheDecorator(false)
+            .build();
+        var ex = Assertions.assertThrows(GestaltConfigurationException.class, failingGestalt::loadConfigs);
+        assertThat(ex.getMessage()).startsWith("Failed to load configs from source: mapConfig");
+    }
+
+    @Test
+    public void testReloadSkippedWhenContentUnchanged() throws GestaltException {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+
+        var reload = new ManualConfigReloadStrategy();
+        CoreListener coreListener = new CoreListener();
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder()
+                .setCustomConfig(configs)
+                .addConfigReloadStrategy(reload)
+                .setFingerprintContent(true)
+                .build())
+            .addCoreReloadListener(coreListener)
+            .build();
+        gestalt.loadConfigs();
+
+        reload.reload();
+        Assertions.assertEquals(0, coreListener.count);
+
+        configs.put("db.name", "test2");
+        reload.reload();
+        Assertions.assertEquals(1, coreListener.count);
+        Assertions.assertEquals("test2", gestalt.getConfig("db.name", String.class));
+
+        reload.reload();
+        Assertions.assertEquals(1, coreListener.count);
+    }
+
     @Test
     public void testReloadRemoveListener() throws GestaltException {
 
@@ -1676,6 +2130,44 @@ class GestaltTest {
             "port=LeafNode{value='&&&&&'}, uri=LeafNode{value='my.sql.com'}}}", rootNode);
     }
 
+    @Test
+    public void testExport() throws GestaltException {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.password", "test");
+        configs.put("db.port", "3306");
+        configs.put("db.hosts[0]", "localhost");
+        configs.put("db.hosts[1]", "remote");
+        configs.put("http.pool.max", "100");
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(MapConfigSourceBuilder.builder().setCustomConfig(configs).build())
+            .useCacheDecorator(false)
+            .build();
+
+        gestalt.loadConfigs();
+
+        StringBuilder properties = new StringBuilder();
+        gestalt.export(properties, ConfigExportOptionsBuilder.builder().build());
+        Assertions.assertEquals("db.hosts[0]=localhost\ndb.hosts[1]=remote\ndb.password=*****\ndb.port=3306\nhttp.pool.max=100\n",
+            properties.toString());
+
+        StringBuilder json = new StringBuilder();
+        gestalt.export(json, ConfigExportOptionsBuilder.builder()
+            .setFormat(ConfigExportFormat.JSON)
+            .setPath("db")
+            .setOffset(1)
+            .setLimit(2)
+            .build());
+        Assertions.assertEquals("{\n  \"password\": \"*****\",\n  \"port\": \"3306\"\n}\n", json.toString());
+
+        ByteArrayOutputStream yaml = new ByteArrayOutputStream();
+        gestalt.export(yaml, ConfigExportOptionsBuilder.builder().setFormat(ConfigExportFormat.YAML).setPath("db.hosts").build());
+        Assertions.assertEquals("- \"localhost\"\n- \"remote\"\n", yaml.toString(StandardCharsets.UTF_8));
+
+        Assertions.assertThrows(GestaltException.class, () -> gestalt.export(new StringBuilder(),
+            ConfigExportOptionsBuilder.builder().setPath("not.found").build()));
+    }
+
     @Test
     public void testSecretMaskingDefault() throws GestaltException {
         Map<String, String> configs = new HashMap<>();
@@ -2185,6 +2677,63 @@ class GestaltTest {
         }
     }
 
+    // a map source that only loads once it is released.
+    private static class BlockingConfigSource implements ConfigSource {
+
+        private final CountDownLatch loaded = new CountDownLatch(1);
+        private final MapConfigSource delegate;
+
+        BlockingConfigSource(Map<String, String> configs) {
+            this.delegate = new MapConfigSource(configs);
+        }
+
+        @Override
+        public boolean hasStream() {
+            return false;
+        }
+
+        @Override
+        public InputStream loadStream() throws GestaltException {
+            return delegate.loadStream();
+        }
+
+        @Override
+        public boolean hasList() {
+            return true;
+        }
+
+        @Override
+        public List<Pair<String, String>> loadList() throws GestaltException {
+            try {
+                loaded.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return delegate.loadList();
+        }
+
+        @Override
+        public String format() {
+            return delegate.format();
+        }
+
+        @Override
+        public String name() {
+            return "blocking " + delegate.name();
+        }
+
+        @Override
+        public UUID id() {  //NOPMD
+            return delegate.id();
+        }
+
+        @Override
+        @SuppressWarnings("removal")
+        public Tags getTags() {
+            return Tags.of();
+        }
+    }
+
     private static class CoreListener implements CoreReloadListener {
 
         public int count = 0;
@@ -385,4 +385,54 @@ class ArrayDecoderTest {
         Assertions.assertEquals("b", results[1]);
         Assertions.assertEquals("c,d", results[2]);
     }
+
+    @Test
+    void arrayDecodePrimitiveDoubles() {
+        ArrayDecoder decoder = new ArrayDecoder();
+
+        GResultOf<double[]> values = decoder.decode("db.hosts", Tags.of(), new LeafNode("0.1111, John, 0.33"),
+            TypeCapture.of(double[].class), new DecoderContext(decoderService, null, null, new PathLexer()));
+
+        Assertions.assertTrue(values.hasErrors());
+        Assertions.assertTrue(values.hasResults());
+
+        Assertions.assertEquals(1, values.getErrors().size());
+        Assertions.assertEquals("Unable to parse a number on Path: db.hosts[1], from node: LeafNode{value='John'} " +
+                "attempting to decode Double",
+            values.getErrors().get(0).description());
+
+        double[] results = values.results();
+        Assertions.assertEquals(3, results.length);
+        Assertions.assertEquals(0.1111, results[0]);
+        Assertions.assertEquals(0.0, results[1]);
+        Assertions.assertEquals(0.33, results[2]);
+    }
+
+    @Test
+    void arrayDecodePrimitives() throws GestaltConfigurationException {
+        DecoderRegistry registry = new DecoderRegistry(List.of(new IntegerDecoder(), new LongDecoder(), new BooleanDecoder()),
+            configNodeService, lexer, List.of(new StandardPathMapper()));
+        DecoderContext decoderContext = new DecoderContext(registry, null, null, new PathLexer());
+        ArrayDecoder decoder = new ArrayDecoder();
+
+        ConfigNode nodes = new ArrayNode(Arrays.asList(new LeafNode("1"), null, new LeafNode("-3"), new LeafNode("4000000000")));
+        GResultOf<int[]> ints = decoder.decode("db.ports", Tags.of(), nodes, TypeCapture.of(int[].class), decoderContext);
+
+        Assertions.assertEquals(2, ints.getErrors().size());
+        Assertions.assertEquals("Missing array index: 1", ints.getErrors().get(0).description());
+        Assertions.assertEquals("Unable to decode a number on path: db.ports[3], from node: LeafNode{value='4000000000'} " +
+                "attempting to decode Integer",
+            ints.getErrors().get(1).description());
+        Assertions.assertArrayEquals(new int[]{1, 0, -3, 0}, ints.results());
+
+        GResultOf<long[]> longs = decoder.decode("db.ports", Tags.of(), new LeafNode("1, -3, 4000000000"),
+            TypeCapture.of(long[].class), decoderContext);
+        Assertions.assertFalse(longs.hasErrors());
+        Assertions.assertArrayEquals(new long[]{1, -3, 4_000_000_000L}, longs.results());
+
+        GResultOf<boolean[]> booleans = decoder.decode("db.enabled", Tags.of(), new LeafNode("true,false,TRUE"),
+            TypeCapture.of(boolean[].class), decoderContext);
+        Assertions.assertFalse(booleans.hasErrors());
+        Assertions.assertArrayEquals(new boolean[]{true, false, true}, booleans.results());
+    }
 }
@@ -408,6 +408,60 @@ class DecoderRegistryTest {
         Mockito.verify(configNodeService, Mockito.times(1)).navigateToNextNode(any(), any(List.class), any());
     }
 
+    @Test
+    void getNextNodeObjectMemoizesPathMapping() throws GestaltException {
+        DecoderRegistry decoderRegistry = new DecoderRegistry(List.of(new DoubleDecoder(), new LongDecoder(), new IntegerDecoder(),
+            new StringDecoder()), configNodeService, lexer, List.of(new StandardPathMapper()));
+
+        ConfigNode leaf = new LeafNode("test");
+
+        Token nextToken = new ObjectToken("run");
+        Mockito.when(lexer.scan("run")).thenReturn(GResultOf.result(Collections.singletonList(nextToken)));
+        Mockito.when(configNodeService.navigateToNextNode(any(), any(List.class), any())).thenReturn(GResultOf.result(leaf));
+
+        GResultOf<ConfigNode> test = decoderRegistry.getNextNode("test", "run", leaf);
+        Assertions.assertTrue(test.hasResults());
+        Assertions.assertEquals(leaf, test.results());
+
+        GResultOf<ConfigNode> test2 = decoderRegistry.getNextNode("other", "run", leaf);
+        Assertions.assertTrue(test2.hasResults());
+        Assertions.assertEquals(leaf, test2.results());
+
+        Mockito.verify(lexer, Mockito.times(1)).scan(any());
+        Mockito.verify(configNodeService, Mockito.times(1)).navigateToNextNode("test", List.of(nextToken), leaf);
+        Mockito.verify(configNodeService, Mockito.times(1)).navigateToNextNode("other", List.of(nextToken), leaf);
+
+        decoderRegistry.setPathMappers(List.of(new StandardPathMapper()));
+        decoderRegistry.getNextNode("test", "run", leaf);
+
+        Mockito.verify(lexer, Mockito.times(2)).scan(any());
+    }
+
+    @Test
+    void getNextNodeMultiPathMappersSameTokensNavigatedOnce() throws GestaltException {
+        DecoderRegistry decoderRegistry = new DecoderRegistry(List.of(new DoubleDecoder(), new LongDecoder(), new IntegerDecoder(),
+            new StringDecoder()), configNodeService, lexer, List.of(new StandardPathMapper(), new StandardPathMapper()));
+
+        ConfigNode leaf = new LeafNode("test");
+
+        Token nextToken = new ObjectToken("run");
+        Mockito.when(lexer.scan("run")).thenReturn(GResultOf.result(Collections.singletonList(nextToken)));
+        Mockito.when(configNodeService.navigateToNextNode("test", List.of(nextToken), leaf))
+            .thenReturn(GResultOf.errors(new ValidationError.NoResultsFoundForNode("test",
+                NodeType.LEAF.getType(), "navigate to next node")));
+
+        GResultOf<ConfigNode> test = decoderRegistry.getNextNode("test", "run", leaf);
+        Assertions.assertFalse(test.hasResults());
+        Assertions.assertTrue(test.hasErrors());
+
+        Assertions.assertEquals(1, test.getErrors().size());
+        Assertions.assertEquals("Unable to find node matching path: test, for class: leaf, during navigate to next node",
+            test.getErrors().get(0).description());
+
+        Mockito.verify(lexer, Mockito.times(2)).scan(any());
+        Mockito.verify(configNodeService, Mockito.times(1)).navigateToNextNode(any(), any(List.class), any());
+    }
+
     @ConfigPriority(500)
     public static class TestPathMapper implements PathMapper {
         @Override
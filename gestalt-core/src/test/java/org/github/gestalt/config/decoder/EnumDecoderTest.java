@@ -73,6 +73,22 @@ class EnumDecoderTest {
         Assertions.assertEquals(0, result.getErrors().size());
     }
 
+    @Test
+    void leafDecodeIgnoreCase() {
+
+        EnumDecoder decoder = new EnumDecoder();
+        DecoderContext decoderContext = new DecoderContext(decoderService, null, null, new PathLexer());
+
+        // the constants are looked up once then reused for each decode.
+        GResultOf<Colours> result = decoder.decode("db.port", Tags.of(), new LeafNode("red"), TypeCapture.of(Colours.class),
+            decoderContext);
+        Assertions.assertEquals(Colours.RED, result.results());
+
+        result = decoder.decode("db.port", Tags.of(), new LeafNode("Blue"), TypeCapture.of(Colours.class), decoderContext);
+        Assertions.assertEquals(Colours.BLUE, result.results());
+        Assertions.assertFalse(result.hasErrors());
+    }
+
     @Test
     void leafDecodeNotValidEnum() {
 
@@ -486,4 +486,52 @@ class ListDecoderTest {
         Assertions.assertEquals("Expected a Array on path: db.hosts, received node type: MAP, attempting to decode List",
             values.getErrors().get(0).description());
     }
+
+    @Test
+    void leafDecodeEscapedAndEmptyValues() {
+        ListDecoder decoder = new ListDecoder();
+
+        GResultOf<List<?>> values = decoder.decode("db.hosts", Tags.of(), new LeafNode("a\\,b, ,c,,"), new TypeCapture<List<String>>() {
+        }, new DecoderContext(decoderService, null, null, new PathLexer()));
+
+        Assertions.assertFalse(values.hasErrors());
+        Assertions.assertEquals(List.of("a,b", "", "c"), values.results());
+    }
+
+    @Test
+    void decodeCustomDecoderDependingOnValue() throws GestaltConfigurationException {
+        DecoderService registry = new DecoderRegistry(List.of(stringDecoder, listDecoder, new MaskedStringDecoder()),
+            configNodeService, lexer, List.of(new StandardPathMapper()));
+
+        ConfigNode nodes = new ArrayNode(List.of(new LeafNode("a"), new LeafNode("masked:b"), new LeafNode("c")));
+        GResultOf<List<?>> values = listDecoder.decode("db.hosts", Tags.of(), nodes, new TypeCapture<List<String>>() {
+        }, new DecoderContext(registry, null, null, new PathLexer()));
+
+        // the custom decoder is asked for every element, not just the first.
+        Assertions.assertFalse(values.hasErrors());
+        Assertions.assertEquals(List.of("a", "*****", "c"), values.results());
+    }
+
+    private static final class MaskedStringDecoder implements Decoder<String> {
+
+        @Override
+        public Priority priority() {
+            return Priority.HIGH;
+        }
+
+        @Override
+        public String name() {
+            return "MaskedString";
+        }
+
+        @Override
+        public boolean canDecode(String path, Tags tags, ConfigNode node, TypeCapture<?> type) {
+            return String.class.equals(type.getRawType()) && node.getValue().filter(it -> it.startsWith("masked:")).isPresent();
+        }
+
+        @Override
+        public GResultOf<String> decode(String path, Tags tags, ConfigNode node, TypeCapture<?> type, DecoderContext decoderContext) {
+            return GResultOf.result("*****");
+        }
+    }
 }
@@ -134,6 +134,35 @@ class ProxyDecoderTest {
         Assertions.assertEquals("mysql.com", results.getUri());
     }
 
+    @Test
+    void decodeSnapshotDefaultMethodValues() {
+        ProxyDecoder decoder = new ProxyDecoder();
+        GestaltConfig gestaltConfig = new GestaltConfig();
+        gestaltConfig.setTreatMissingValuesAsErrors(true);
+        gestaltConfig.setTreatMissingDiscretionaryValuesAsErrors(false);
+        gestaltConfig.setProxyDecoderMode(ProxyDecoderMode.SNAPSHOT);
+        decoder.applyConfig(gestaltConfig);
+
+        Map<String, ConfigNode> configs = new HashMap<>();
+        configs.put("uri", new LeafNode("mysql.com"));
+        configs.put("password", new LeafNode("pass"));
+
+        GResultOf<Object> result = decoder.decode("db.host", Tags.of(),
+            new MapNode(configs), TypeCapture.of(DBInfoInterfaceDefault.class),
+            new DecoderContext(decoderService, null, null, new PathLexer()));
+        Assertions.assertTrue(result.hasResults());
+        Assertions.assertTrue(result.hasErrors());
+
+        Assertions.assertEquals(1, result.getErrors().size());
+        Assertions.assertEquals(ValidationLevel.MISSING_OPTIONAL_VALUE, result.getErrors().get(0).level());
+
+        DBInfoInterfaceDefault results = (DBInfoInterfaceDefault) result.results();
+        Assertions.assertEquals(10, results.getPort());
+        Assertions.assertEquals(10, results.getPort());
+        Assertions.assertEquals("pass", results.getPassword());
+        Assertions.assertEquals("mysql.com", results.getUri());
+    }
+
     @Test
     void decodeBadNodeNotAnInt() {
         ProxyDecoder decoder = new ProxyDecoder();
@@ -929,6 +958,125 @@ class ProxyDecoderTest {
     }
 
 
+    @Test
+    void decodeReloadSnapshot() throws GestaltException {
+
+        // Create a map of configurations we wish to inject.
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.port", "100");
+        configs.put("db.uri", "mysql.com");
+        configs.put("db.password", "pass");
+
+        ManualConfigReloadStrategy reload = new ManualConfigReloadStrategy();
+
+        // using the builder to layer on the configuration files.
+        // The later ones layer on and over write any values in the previous
+        GestaltBuilder builder = new GestaltBuilder();
+        Gestalt gestalt = builder
+            .addSource(MapConfigSourceBuilder.builder()
+                .setCustomConfig(configs)
+                .addConfigReloadStrategy(reload)
+                .build())
+            .setProxyDecoderMode(ProxyDecoderMode.SNAPSHOT)
+            .build();
+
+        gestalt.loadConfigs();
+
+
+        DBInfoInterfaceDefault results = gestalt.getConfig("db", DBInfoInterfaceDefault.class);
+
+        Assertions.assertEquals(100, results.getPort());
+        Assertions.assertEquals("pass", results.getPassword());
+        Assertions.assertEquals("mysql.com", results.getUri());
+
+        configs.put("db.port", "200");
+        reload.reload();
+
+        Assertions.assertEquals(200, results.getPort());
+        Assertions.assertEquals("pass", results.getPassword());
+        Assertions.assertEquals("mysql.com", results.getUri());
+    }
+
+    @Test
+    void decodeReloadDefaultSnapshot() throws GestaltException {
+
+        // Create a map of configurations we wish to inject.
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.port", "100");
+        configs.put("db.uri", "mysql.com");
+        configs.put("db.password", "pass");
+
+        ManualConfigReloadStrategy reload = new ManualConfigReloadStrategy();
+
+        // using the builder to layer on the configuration files.
+        // The later ones layer on and over write any values in the previous
+        GestaltBuilder builder = new GestaltBuilder();
+        Gestalt gestalt = builder
+            .addSource(MapConfigSourceBuilder.builder()
+                .setCustomConfig(configs)
+                .addConfigReloadStrategy(reload)
+                .build())
+            .setProxyDecoderMode(ProxyDecoderMode.SNAPSHOT)
+            .build();
+
+        gestalt.loadConfigs();
+
+
+        DBInfoInterfaceDefault results = gestalt.getConfig("db", DBInfoInterfaceDefault.class);
+
+        Assertions.assertEquals(100, results.getPort());
+        Assertions.assertEquals("pass", results.getPassword());
+        Assertions.assertEquals("mysql.com", results.getUri());
+
+        configs.remove("db.port");
+        configs.put("db.uri", "postgresql.org");
+        reload.reload();
+
+        Assertions.assertEquals(10, results.getPort());
+        Assertions.assertEquals("pass", results.getPassword());
+        Assertions.assertEquals("postgresql.org", results.getUri());
+    }
+
+    @Test
+    void decodeReloadDAnnotationDefaultSnapshot() throws GestaltException {
+
+        // Create a map of configurations we wish to inject.
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.channel", "100");
+        configs.put("db.uri", "mysql.com");
+        configs.put("db.password", "pass");
+
+        ManualConfigReloadStrategy reload = new ManualConfigReloadStrategy();
+
+        // using the builder to layer on the configuration files.
+        // The later ones layer on and over write any values in the previous
+        GestaltBuilder builder = new GestaltBuilder();
+        Gestalt gestalt = builder
+            .addSource(MapConfigSourceBuilder.builder()
+                .setCustomConfig(configs)
+                .addConfigReloadStrategy(reload)
+                .build())
+            .setProxyDecoderMode(ProxyDecoderMode.SNAPSHOT)
+            .build();
+
+        gestalt.loadConfigs();
+
+
+        IDBInfoAnnotations results = gestalt.getConfig("db", IDBInfoAnnotations.class);
+
+        Assertions.assertEquals(100, results.getPort());
+        Assertions.assertEquals("pass", results.getPassword());
+        Assertions.assertEquals("mysql.com", results.getUri());
+
+        configs.remove("db.channel");
+        configs.put("db.uri", "postgresql.org");
+        reload.reload();
+
+        Assertions.assertEquals(1234, results.getPort());
+        Assertions.assertEquals("pass", results.getPassword());
+        Assertions.assertEquals("postgresql.org", results.getUri());
+    }
+
     @Test
     public void testInterfaceOptionalResultsForMissingOkNullFail() throws GestaltException {
         Map<String, String> configs = new HashMap<>();
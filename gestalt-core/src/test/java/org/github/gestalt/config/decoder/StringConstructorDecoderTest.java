@@ -91,6 +91,32 @@ class StringConstructorDecoderTest {
             results.getErrors().get(0).description());
     }
 
+    @Test
+    void decodeConstructorThrows() {
+
+        StringConstructorDecoder decoder = new StringConstructorDecoder();
+        Assertions.assertTrue(decoder.canDecode("", Tags.of(), new LeafNode(""), TypeCapture.of(MyThrowingClass.class)));
+
+        var results = decoder.decode("hello", Tags.of(), new LeafNode("test"), TypeCapture.of(MyThrowingClass.class), null);
+        Assertions.assertFalse(results.hasResults());
+        Assertions.assertEquals(1, results.getErrors().size());
+        Assertions.assertEquals("String Constructor for: MyThrowingClass is not found on Path: hello",
+            results.getErrors().get(0).description());
+
+        // the cached constructor is reused for the next decode.
+        results = decoder.decode("hello", Tags.of(), new LeafNode("test2"), TypeCapture.of(MyStringClass.class), null);
+        Assertions.assertEquals("test2", ((MyStringClass) results.results()).myData);
+    }
+
+    @Test
+    void decodeConstructorThrowsError() {
+        StringConstructorDecoder decoder = new StringConstructorDecoder();
+
+        // an Error is not a failure to decode the value, so it is not reported as a validation error.
+        Assertions.assertThrows(AssertionError.class,
+            () -> decoder.decode("hello", Tags.of(), new LeafNode("test"), TypeCapture.of(MyErrorClass.class), null));
+    }
+
     @SuppressWarnings({"UnusedMethod", "UnusedVariable"})
     private static class MyClass {
         Integer myData;
@@ -116,4 +142,18 @@ class StringConstructorDecoderTest {
 
         }
     }
+
+    @SuppressWarnings("UnusedMethod")
+    private static class MyThrowingClass {
+        public MyThrowingClass(String myData) {
+            throw new IllegalArgumentException("invalid data " + myData);
+        }
+    }
+
+    @SuppressWarnings("UnusedMethod")
+    private static class MyErrorClass {
+        public MyErrorClass(String myData) {
+            throw new AssertionError("invalid data " + myData);
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package org.github.gestalt.config.loader;
+
+import org.github.gestalt.config.utils.Pair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+class PropertiesParserTest {
+
+    private static List<Pair<String, String>> parse(String properties) {
+        return PropertiesParser.parse(ByteBuffer.wrap(properties.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+
+    // the parser should always give the same results as java.util.Properties
+    private static void assertSameAsProperties(String input) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader(input));
+
+        Map<String, String> expected = new HashMap<>();
+        properties.forEach((key, value) -> expected.put((String) key, (String) value));
+
+        Map<String, String> results = new HashMap<>();
+        parse(input).forEach(it -> results.put(it.getFirst(), it.getSecond()));
+
+        Assertions.assertEquals(expected, results, input);
+    }
+
+    @Test
+    void simple() {
+        Assertions.assertEquals(List.of(new Pair<>("db.name", "redis"), new Pair<>("db.port", "6379"), new Pair<>("db.user", "admin")),
+            parse("db.name=redis\ndb.port : 6379\r\ndb.user admin\r"));
+    }
+
+    @Test
+    void commentsAndBlankLines() {
+        Assertions.assertEquals(List.of(new Pair<>("a", "1"), new Pair<>("b", "2 # not a comment")),
+            parse("# comment\n\n   ! another comment\na=1\n   \t\nb = 2 # not a comment\n"));
+    }
+
+    @Test
+    void continuation() {
+        Assertions.assertEquals(List.of(new Pair<>("models", "Fiesta, Focus, Mustang"), new Pair<>("next", "value")),
+            parse("models = Fiesta, \\\n    Focus, \\\r\n\tMustang\nnext=value"));
+    }
+
+    @Test
+    void escapes() {
+        Assertions.assertEquals(List.of(new Pair<>("a key=:", "tab\tnew\nline\u00e9\\")),
+            parse("a\\ key\\=\\:=tab\\tnew\\nline\\u00e9\\\\"));
+    }
+
+    @Test
+    void latin1() {
+        Assertions.assertEquals(List.of(new Pair<>("name", "caf\u00e9")), parse("name=caf\u00e9"));
+    }
+
+    @Test
+    void duplicateKeysKeepTheLastValue() {
+        Assertions.assertEquals(List.of(new Pair<>("a", "3"), new Pair<>("b", "2")), parse("a=1\nb=2\na=3"));
+    }
+
+    @Test
+    void emptyValuesAndKeys() {
+        Assertions.assertEquals(List.of(new Pair<>("a", ""), new Pair<>("", "b")), parse("a\n=b"));
+        Assertions.assertEquals(List.of(), parse(""));
+    }
+
+    @Test
+    void malformedUnicode() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parse("a=\\u00g1"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> parse("a=\\u00"));
+    }
+
+    @Test
+    void sameAsProperties() throws IOException {
+        String[] inputs = {
+            "\\\n", "\\\r", "\\\r\n", "\\", " \\\n", "\\\n\n", "\\\nx", "\\\n\\\n", "a\\\n", "a\\", "\\\n#c\n", "\\\n\\",
+            "key\\\n  # not a comment", "a==b", "a:=b", "a = = b", "a\\\\=b", "\f\ta\f=\fb\f", "#a\\\nb=c", "a=b\\\n\n c=d"
+        };
+        for (String input : inputs) {
+            assertSameAsProperties(input);
+        }
+    }
+}
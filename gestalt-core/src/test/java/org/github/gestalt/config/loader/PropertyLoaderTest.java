@@ -25,6 +25,8 @@ import org.mockito.Mockito;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -544,4 +546,37 @@ class PropertyLoaderTest {
 
         Assertions.assertFalse(result.getKey("cars").get().getIndex(3).isPresent());
     }
+
+    @Test
+    void loadSourceLargeFile() throws GestaltException, IOException {
+        // large enough to be memory mapped.
+        Path path = Files.createTempFile("gestalt", "large.properties");
+        path.toFile().deleteOnExit();
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 50_000; i++) {
+            builder.append("service").append(i).append(".endpoint = https://service").append(i).append(".example.com\n");
+        }
+        Files.writeString(path, builder.toString());
+
+        PropertyLoader loader = new PropertyLoader();
+        GResultOf<List<ConfigNodeContainer>> resultContainer =
+            loader.loadSource(new ConfigSourcePackage(new FileConfigSource(path), List.of(), Tags.of()));
+
+        Assertions.assertFalse(resultContainer.hasErrors());
+        ConfigNode result = resultContainer.results().get(0).getConfigNode();
+        Assertions.assertEquals(50_000, result.size());
+        Assertions.assertEquals("https://service49999.example.com", result.getKey("service49999").get().getKey("endpoint").get()
+            .getValue().get());
+    }
+
+    @Test
+    void loadSourceMalformedUnicode() throws GestaltException {
+        StringConfigSource source = new StringConfigSource("name=\\u00g1", "properties");
+
+        PropertyLoader propertyLoader = new PropertyLoader();
+
+        GestaltException exception = Assertions.assertThrows(GestaltException.class,
+            () -> propertyLoader.loadSource(new ConfigSourcePackage(source, List.of(), Tags.of())));
+        Assertions.assertEquals("Exception loading source: String format: properties", exception.getMessage());
+    }
 }
@@ -0,0 +1,110 @@
+package org.github.gestalt.config.node;
+
+import org.github.gestalt.config.exceptions.GestaltConfigurationException;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.lexer.PathLexer;
+import org.github.gestalt.config.secret.rules.SecretConcealerManager;
+import org.github.gestalt.config.security.temporary.TemporaryLeafNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class ConfigExporterTest {
+
+    private static ConfigNode root() {
+        return new MapNode(Map.of(
+            "db", new MapNode(Map.of(
+                "port", new LeafNode("3306"),
+                "password", new LeafNode("abc123"),
+                "hosts", new ArrayNode(List.of(new LeafNode("h1"), new MapNode(Map.of("name", new LeafNode("h2"))))),
+                "empty", new MapNode(Map.of()))),
+            "message", new LeafNode("a \"quoted\" = value\n"),
+            "token", new TemporaryLeafNode(new LeafNode("temp"), 1, null)));
+    }
+
+    private static String export(ConfigNode node, ConfigExportOptionsBuilder builder) throws IOException, GestaltException {
+        StringBuilder out = new StringBuilder();
+        new ConfigExporter(new PathLexer(), new SecretConcealerManager(Set.of("password"), it -> "*****"))
+            .export(out, "", node, builder.build());
+        return out.toString();
+    }
+
+    @Test
+    void exportProperties() throws IOException, GestaltException {
+        Assertions.assertEquals(
+            "db.hosts[0]=h1\n" +
+                "db.hosts[1].name=h2\n" +
+                "db.password=*****\n" +
+                "db.port=3306\n" +
+                "message=a \"quoted\" \\= value\\n\n" +
+                "token=secret\n",
+            export(root(), ConfigExportOptionsBuilder.builder()));
+    }
+
+    @Test
+    void exportJson() throws IOException, GestaltException {
+        Assertions.assertEquals(
+            "{\n" +
+                "  \"db\": {\n" +
+                "    \"empty\": {},\n" +
+                "    \"hosts\": [\n" +
+                "      \"h1\",\n" +
+                "      {\n" +
+                "        \"name\": \"h2\"\n" +
+                "      }\n" +
+                "    ],\n" +
+                "    \"password\": \"*****\",\n" +
+                "    \"port\": \"3306\"\n" +
+                "  },\n" +
+                "  \"message\": \"a \\\"quoted\\\" = value\\n\",\n" +
+                "  \"token\": \"secret\"\n" +
+                "}\n",
+            export(root(), ConfigExportOptionsBuilder.builder().setFormat(ConfigExportFormat.JSON)));
+    }
+
+    @Test
+    void exportYaml() throws IOException, GestaltException {
+        Assertions.assertEquals(
+            "db:\n" +
+                "  empty: {}\n" +
+                "  hosts:\n" +
+                "    - \"h1\"\n" +
+                "    -\n" +
+                "      name: \"h2\"\n" +
+                "  password: \"*****\"\n" +
+                "  port: \"3306\"\n" +
+                "message: \"a \\\"quoted\\\" = value\\n\"\n" +
+                "token: \"secret\"\n",
+            export(root(), ConfigExportOptionsBuilder.builder().setFormat(ConfigExportFormat.YAML)));
+    }
+
+    @Test
+    void exportPage() throws IOException, GestaltException {
+        ConfigNode db = root().getKey("db").get();
+        StringBuilder out = new StringBuilder();
+        new ConfigExporter(new PathLexer(), null)
+            .export(out, "db", db, ConfigExportOptionsBuilder.builder().setOffset(1).setLimit(2).build());
+
+        // the page is of the children of the node, a child is written with all its leaves.
+        Assertions.assertEquals("db.hosts[0]=h1\ndb.hosts[1].name=h2\ndb.password=abc123\n", out.toString());
+
+        ConfigNode array = new ArrayNode(Arrays.asList(new LeafNode("a"), null, new LeafNode("c")));
+        Assertions.assertEquals("[\n  null,\n  \"c\"\n]\n",
+            export(array, ConfigExportOptionsBuilder.builder().setFormat(ConfigExportFormat.JSON).setOffset(1)));
+        Assertions.assertEquals("[]\n",
+            export(array, ConfigExportOptionsBuilder.builder().setFormat(ConfigExportFormat.YAML).setOffset(5)));
+    }
+
+    @Test
+    void invalidOptions() {
+        Assertions.assertThrows(GestaltConfigurationException.class, () -> ConfigExportOptionsBuilder.builder().setFormat(null).build());
+        Assertions.assertThrows(GestaltConfigurationException.class, () -> ConfigExportOptionsBuilder.builder().setPath(null).build());
+        Assertions.assertThrows(GestaltConfigurationException.class, () -> ConfigExportOptionsBuilder.builder().setOffset(-1).build());
+        Assertions.assertThrows(GestaltConfigurationException.class, () -> ConfigExportOptionsBuilder.builder().setLimit(-1).build());
+    }
+}
@@ -1,10 +1,12 @@
 package org.github.gestalt.config.node;
 
+import org.github.gestalt.config.annotations.ConfigThreadSafe;
 import org.github.gestalt.config.entity.ConfigNodeContainer;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.lexer.PathLexer;
 import org.github.gestalt.config.lexer.SentenceLexer;
+import org.github.gestalt.config.metadata.IsNoCacheMetadata;
 import org.github.gestalt.config.metadata.MetaDataValue;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessor;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessorManager;
@@ -22,6 +24,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -1617,6 +1620,284 @@ class ConfigNodeManagerTest {
         Assertions.assertEquals("Steve", resultsCN.getKey("admin").get().getIndex(1).get().getValue().get());
     }
 
+    @Test
+    public void testReloadNodes() throws GestaltException {
+        ConfigSource s1 = new TestSource();
+        ConfigSource s2 = new TestSource();
+        ConfigSource s3 = new TestSource();
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        configNodeManager.addNode(new ConfigNodeContainer(
+            new MapNode(Map.of("db", new MapNode(Map.of("name", new LeafNode("test"), "port", new LeafNode("3306"))))), s1, Tags.of()));
+        configNodeManager.addNode(new ConfigNodeContainer(
+            new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3307"))))), s2, Tags.of()));
+        configNodeManager.addNode(new ConfigNodeContainer(
+            new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("4000"))))), s3, Tags.profile("test")));
+
+        GResultOf<Map<Tags, ConfigNode>> results = reloadNodes(configNodeManager, List.of(
+            new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3308"))))), s2, Tags.of()),
+            new ConfigNodeContainer(
+                new MapNode(Map.of("db", new MapNode(Map.of("name", new LeafNode("test2"), "port", new LeafNode("3306"))))), s1,
+                Tags.of())));
+
+        Assertions.assertFalse(results.hasErrors());
+        Assertions.assertTrue(results.hasResults());
+        Assertions.assertEquals(1, results.results().size());
+
+        // the reloaded nodes keep their original merge order.
+        ConfigNode root = results.results().get(Tags.of());
+        Assertions.assertEquals("test2", root.getKey("db").get().getKey("name").get().getValue().get());
+        Assertions.assertEquals("3308", root.getKey("db").get().getKey("port").get().getValue().get());
+
+        GResultOf<ConfigNode> node = configNodeManager.navigateToNode("db.port", List.of(new ObjectToken("db"), new ObjectToken("port")),
+            Tags.profile("test"));
+        Assertions.assertEquals("4000", node.results().getValue().get());
+
+        Assertions.assertThrows(GestaltException.class, () -> configNodeManager.stageReload(List.of()));
+    }
+
+    // stage and publish the nodes as one reload, returning the rebuilt roots.
+    private static GResultOf<Map<Tags, ConfigNode>> reloadNodes(ConfigNodeManager configNodeManager, List<ConfigNodeContainer> nodes)
+        throws GestaltException {
+        GResultOf<ConfigNodeSnapshot> snapshot = configNodeManager.stageReload(nodes);
+        configNodeManager.publish(snapshot.results());
+        return GResultOf.resultOf(snapshot.results().getReloadedRoots(), snapshot.getErrors());
+    }
+
+    @Test
+    public void testAddNodes() throws GestaltException {
+        ConfigNode admin = new ArrayNode(List.of(new LeafNode("John"), new LeafNode("Steve")));
+        List<ConfigNodeContainer> nodes = List.of(
+            new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("name", new LeafNode("test"),
+                "port", new LeafNode("3306"))), "admin", admin)), new TestSource(), Tags.of()),
+            new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("name", new LeafNode("New Name"),
+                "password", new LeafNode("123abc"))))), new TestSource(), Tags.of()),
+            new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("4000"))))),
+                new TestSource(), Tags.profile("test")),
+            new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("timeout", new LeafNode("5000"))),
+                "admin", new ArrayNode(Arrays.asList(null, new LeafNode("Scott"), new LeafNode("Paul"))))), new TestSource(), Tags.of()));
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        GResultOf<Map<Tags, ConfigNode>> results = configNodeManager.addNodes(nodes);
+        Assertions.assertFalse(results.hasErrors());
+        Assertions.assertEquals(2, results.results().size());
+
+        // merging all the nodes at once gives the same roots as adding them one at a time.
+        ConfigNodeManager pairwiseNodeManager = new ConfigNodeManager();
+        for (ConfigNodeContainer node : nodes) {
+            pairwiseNodeManager.addNode(node);
+        }
+        Assertions.assertEquals(pairwiseNodeManager.getRoots().get(Tags.of()), results.results().get(Tags.of()));
+        Assertions.assertEquals(pairwiseNodeManager.getRoots().get(Tags.profile("test")), results.results().get(Tags.profile("test")));
+
+        ConfigNode root = results.results().get(Tags.of());
+        Assertions.assertEquals("New Name", root.getKey("db").get().getKey("name").get().getValue().get());
+        Assertions.assertEquals("3306", root.getKey("db").get().getKey("port").get().getValue().get());
+        Assertions.assertEquals("123abc", root.getKey("db").get().getKey("password").get().getValue().get());
+        Assertions.assertEquals("5000", root.getKey("db").get().getKey("timeout").get().getValue().get());
+        Assertions.assertEquals("John", root.getKey("admin").get().getIndex(0).get().getValue().get());
+        Assertions.assertEquals("Paul", root.getKey("admin").get().getIndex(2).get().getValue().get());
+
+        GResultOf<ConfigNode> node = configNodeManager.navigateToNode("db.port", List.of(new ObjectToken("db"), new ObjectToken("port")),
+            Tags.profile("test"));
+        Assertions.assertEquals("4000", node.results().getValue().get());
+
+        Assertions.assertThrows(GestaltException.class, () -> configNodeManager.addNodes(List.of()));
+    }
+
+    @Test
+    public void testAddNodesMismatched() throws GestaltException {
+        ConfigNode shared = new MapNode(Map.of("host", new LeafNode("localhost")));
+        List<ConfigNodeContainer> nodes = List.of(
+            new ConfigNodeContainer(new MapNode(Map.of("db", new LeafNode("test"), "server", shared)), new TestSource(), Tags.of()),
+            new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3306"))))),
+                new TestSource(), Tags.of()));
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        GResultOf<Map<Tags, ConfigNode>> results = configNodeManager.addNodes(nodes);
+        Assertions.assertTrue(results.hasErrors());
+        Assertions.assertEquals(ValidationError.UnableToMergeDifferentNodes.class, results.getErrors().get(0).getClass());
+
+        ConfigNode root = results.results().get(Tags.of());
+        // the same as merging the nodes one at a time, the later map node replaces the leaf.
+        Assertions.assertEquals("3306", root.getKey("db").get().getKey("port").get().getValue().get());
+        // a sub tree only found in one node is shared rather than copied.
+        Assertions.assertSame(shared, root.getKey("server").get());
+    }
+
+    @Test
+    public void testAddNodesErrorsBySource() throws GestaltException {
+        ConfigSource s1 = new TestSource();
+        ConfigSource s2 = new TestSource();
+        ConfigSource s3 = new TestSource();
+        List<ConfigNodeContainer> nodes = List.of(
+            new ConfigNodeContainer(new MapNode(Map.of("db", new LeafNode("test"))), s1, Tags.of()),
+            new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3306"))))), s2, Tags.of()),
+            new ConfigNodeContainer(new MapNode(Map.of("admin", new ArrayNode(Arrays.asList(null, new LeafNode("Scott"))))), s3,
+                Tags.of()));
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        Map<ConfigSource, List<ValidationError>> sourceErrors = new HashMap<>();
+        GResultOf<Map<Tags, ConfigNode>> results = configNodeManager.addNodes(nodes, sourceErrors);
+        Assertions.assertEquals(3, results.getErrors().size());
+
+        // the merge errors are from the node merged over the leaf, the missing index from the node with the array.
+        Assertions.assertFalse(sourceErrors.containsKey(s1));
+        Assertions.assertEquals(2, sourceErrors.get(s2).size());
+        Assertions.assertEquals(ValidationError.UnableToMergeDifferentNodes.class, sourceErrors.get(s2).get(0).getClass());
+        Assertions.assertEquals(ValidationError.NoResultsFoundForNode.class, sourceErrors.get(s2).get(1).getClass());
+        Assertions.assertEquals(1, sourceErrors.get(s3).size());
+        Assertions.assertEquals(ValidationError.ArrayMissingIndex.class, sourceErrors.get(s3).get(0).getClass());
+    }
+
+    @Test
+    public void testStageReloadIsNotServedUntilPublished() throws GestaltException {
+        ConfigSource s1 = new TestSource();
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3306"))))),
+            s1, Tags.of()));
+
+        GResultOf<ConfigNodeSnapshot> snapshot = configNodeManager.stageReload(List.of(
+            new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3307"))))), s1, Tags.of())));
+
+        Assertions.assertFalse(snapshot.hasErrors());
+        Assertions.assertEquals("3307",
+            snapshot.results().getReloadedRoots().get(Tags.of()).getKey("db").get().getKey("port").get().getValue().get());
+        Assertions.assertEquals(1, snapshot.results().getRoots().size());
+
+        List<Token> tokens = List.of(new ObjectToken("db"), new ObjectToken("port"));
+        Assertions.assertEquals("3306", configNodeManager.navigateToNode("db.port", tokens, Tags.of()).results().getValue().get());
+
+        GResultOf<Boolean> processed = configNodeManager.processConfigNodes(snapshot.results());
+        Assertions.assertTrue(processed.results());
+        Assertions.assertEquals("3306", configNodeManager.navigateToNode("db.port", tokens, Tags.of()).results().getValue().get());
+
+        configNodeManager.publish(snapshot.results());
+        Assertions.assertEquals("3307", configNodeManager.navigateToNode("db.port", tokens, Tags.of()).results().getValue().get());
+
+        // the snapshot was staged from a version that has since been replaced.
+        Assertions.assertThrows(GestaltException.class, () -> configNodeManager.publish(snapshot.results()));
+        Assertions.assertThrows(GestaltException.class, () -> configNodeManager.stageReload(List.of()));
+    }
+
+    @Test
+    public void testRestoreRootsThenStageLoad() throws GestaltException {
+        ConfigSource s1 = new TestSource();
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        configNodeManager.restoreRoots(Map.of(Tags.of(), new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3306")))))));
+
+        List<Token> tokens = List.of(new ObjectToken("db"), new ObjectToken("port"));
+        Assertions.assertEquals("3306", configNodeManager.navigateToNode("db.port", tokens, Tags.of()).results().getValue().get());
+        Assertions.assertEquals(1, configNodeManager.getRoots().size());
+
+        // the loaded nodes replace the restored roots, rather than being merged with them.
+        GResultOf<ConfigNodeSnapshot> snapshot = configNodeManager.stageLoad(List.of(
+            new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("name", new LeafNode("test"))))), s1, Tags.of())));
+        Assertions.assertFalse(snapshot.hasErrors());
+        Assertions.assertEquals("3306", configNodeManager.navigateToNode("db.port", tokens, Tags.of()).results().getValue().get());
+
+        Assertions.assertTrue(configNodeManager.processConfigNodes(snapshot.results()).results());
+        configNodeManager.publish(snapshot.results());
+
+        Assertions.assertFalse(configNodeManager.navigateToNode("db.port", tokens, Tags.of()).hasResults());
+        Assertions.assertEquals("test", configNodeManager.navigateToNode("db.name",
+            List.of(new ObjectToken("db"), new ObjectToken("name")), Tags.of()).results().getValue().get());
+
+        Assertions.assertThrows(GestaltException.class, () -> configNodeManager.stageLoad(List.of()));
+    }
+
+    @Test
+    public void testPublishStaleSnapshot() throws GestaltException {
+        ConfigSource s1 = new TestSource();
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("db", new LeafNode("test"))), s1, Tags.of()));
+
+        GResultOf<ConfigNodeSnapshot> snapshot = configNodeManager.stageReload(List.of(
+            new ConfigNodeContainer(new MapNode(Map.of("db", new LeafNode("test2"))), s1, Tags.of())));
+        configNodeManager.addNode(new ConfigNodeContainer(new MapNode(Map.of("db", new LeafNode("test3"))), new TestSource(), Tags.of()));
+
+        var ex = Assertions.assertThrows(GestaltException.class, () -> configNodeManager.publish(snapshot.results()));
+        Assertions.assertEquals("Unable to publish the reload, the config nodes have changed since the reload was staged", ex.getMessage());
+
+        GResultOf<ConfigNode> node = configNodeManager.navigateToNode("db", List.of(new ObjectToken("db")), Tags.of());
+        Assertions.assertEquals("test3", node.results().getValue().get());
+    }
+
+    @Test
+    public void testReloadNodesTagsChanged() throws GestaltException {
+        ConfigSource s1 = new TestSource();
+        ConfigSource s2 = new TestSource();
+        ConfigSource s3 = new TestSource();
+
+        ConfigNodeManager configNodeManager = new ConfigNodeManager();
+        configNodeManager.addNode(new ConfigNodeContainer(
+            new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3306"))))), s1, Tags.of()));
+        configNodeManager.addNode(new ConfigNodeContainer(
+            new MapNode(Map.of("db", new MapNode(Map.of("name", new LeafNode("test"))))), s2, Tags.of()));
+        configNodeManager.addNode(new ConfigNodeContainer(
+            new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("4000"))))), s3, Tags.profile("prod")));
+
+        // s1 is reloaded with different tags, so it is moved out of the default root rather than added beside it.
+        GResultOf<Map<Tags, ConfigNode>> results = reloadNodes(configNodeManager, List.of(
+            new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3307"))))), s1,
+                Tags.profile("test"))));
+
+        Assertions.assertFalse(results.hasErrors());
+        Assertions.assertEquals(2, results.results().size());
+
+        ConfigNode root = results.results().get(Tags.of());
+        Assertions.assertEquals("test", root.getKey("db").get().getKey("name").get().getValue().get());
+        Assertions.assertTrue(root.getKey("db").get().getKey("port").isEmpty());
+        Assertions.assertEquals("3307",
+            results.results().get(Tags.profile("test")).getKey("db").get().getKey("port").get().getValue().get());
+        Assertions.assertEquals(3, configNodeManager.getRoots().size());
+
+        // s3 is moved to the default tags, leaving no nodes for the prod tags, so that root is removed.
+        results = reloadNodes(configNodeManager, List.of(
+            new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("4001"))))), s3, Tags.of())));
+
+        Assertions.assertFalse(results.hasErrors());
+        Assertions.assertEquals(1, results.results().size());
+        Assertions.assertEquals("4001", results.results().get(Tags.of()).getKey("db").get().getKey("port").get().getValue().get());
+        Assertions.assertEquals(Set.of(Tags.of(), Tags.profile("test")), configNodeManager.getRoots().keySet());
+    }
+
+    @Test
+    public void testDefaultStageAndPublish() throws GestaltException {
+        ConfigSource s1 = new TestSource();
+        ConfigSource s2 = new TestSource();
+
+        LegacyConfigNodeService configNodeService = new LegacyConfigNodeService(new ConfigNodeManager());
+        configNodeService.addNode(new ConfigNodeContainer(
+            new MapNode(Map.of("db", new MapNode(Map.of("name", new LeafNode("test"), "port", new LeafNode("3306"))))), s1, Tags.of()));
+        configNodeService.addNode(new ConfigNodeContainer(
+            new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3307"))))), s2, Tags.of()));
+
+        // without staging, the snapshot only records the nodes, and they are reloaded when it is published.
+        GResultOf<ConfigNodeSnapshot> snapshot = configNodeService.stageReload(List.of(
+            new ConfigNodeContainer(new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("3308"))))), s2, Tags.of())));
+        Assertions.assertTrue(snapshot.hasResults());
+        Assertions.assertTrue(configNodeService.processConfigNodes(snapshot.results()).results());
+
+        GResultOf<ConfigNode> node = configNodeService.navigateToNode("db.port", List.of(new ObjectToken("db"), new ObjectToken("port")),
+            Tags.of());
+        Assertions.assertEquals("3307", node.results().getValue().get());
+
+        configNodeService.publish(snapshot.results());
+
+        node = configNodeService.navigateToNode("db.port", List.of(new ObjectToken("db"), new ObjectToken("port")), Tags.of());
+        Assertions.assertEquals("3308", node.results().getValue().get());
+        node = configNodeService.navigateToNode("db.name", List.of(new ObjectToken("db"), new ObjectToken("name")), Tags.of());
+        Assertions.assertEquals("test", node.results().getValue().get());
+
+        Assertions.assertThrows(GestaltException.class, () -> configNodeService.stageReload(List.of()));
+        Assertions.assertThrows(GestaltException.class, () -> configNodeService.stageLoad(List.of()));
+        Assertions.assertFalse(configNodeService.restoreRoots(Map.of(Tags.of(), new MapNode(Map.of()))));
+        Assertions.assertTrue(configNodeService.getRoots().isEmpty());
+    }
+
     @Test
     public void testMergeNodesReload() throws GestaltException {
         ConfigNode[] arrayNode = new ConfigNode[2];
@@ -1818,6 +2099,82 @@ class ConfigNodeManagerTest {
         Assertions.assertEquals("June", resultsCN2.getKey("admin").get().getIndex(3).get().getValue().get());
     }
 
+    @Test
+    public void testPostProcessorSharesUnchangedNodes() {
+        ConfigNode admin = new ArrayNode(Arrays.asList(new LeafNode("John"), null, new LeafNode("Steve")));
+        ConfigNode port = new LeafNode("3306");
+        Map<String, List<MetaDataValue<?>>> metadata = Map.of(IsNoCacheMetadata.NO_CACHE, List.of(new IsNoCacheMetadata(true)));
+
+        Map<String, ConfigNode> dbNode = new HashMap<>();
+        dbNode.put("name", new LeafNode("test"));
+        dbNode.put("port", port);
+
+        Map<String, ConfigNode> root1Node = new HashMap<>();
+        root1Node.put("db", new MapNode(dbNode, metadata));
+        root1Node.put("admin", admin);
+        ConfigNode root1 = new MapNode(root1Node);
+
+        ConfigNodeProcessorManager processorManager = new ConfigNodeProcessorManager(List.<ConfigNodeProcessor>of((path, node) -> {
+            if ("db.name".equals(path)) {
+                return GResultOf.result(new LeafNode(node.getValue().get() + " abc"));
+            }
+            return GResultOf.result(node);
+        }), List.of(), new PathLexer());
+
+        GResultOf<ConfigNode> resultsOf = processorManager.processConfigNodes("", root1);
+        Assertions.assertFalse(resultsOf.hasErrors());
+        ConfigNode results = resultsOf.results();
+
+        Assertions.assertNotSame(root1, results);
+        Assertions.assertSame(admin, results.getKey("admin").get());
+        Assertions.assertSame(port, results.getKey("db").get().getKey("port").get());
+        Assertions.assertEquals("test abc", results.getKey("db").get().getKey("name").get().getValue().get());
+        Assertions.assertEquals(metadata, results.getKey("db").get().getMetadata());
+
+        // processing a tree where nothing changes returns the original tree.
+        ConfigNode unchanged = new MapNode(Map.of("admin", admin));
+        Assertions.assertSame(unchanged, processorManager.processConfigNodes("", unchanged).results());
+    }
+
+    @Test
+    public void testPostProcessorParallel() throws GestaltException {
+        Map<String, ConfigNode> rootNode = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            List<ConfigNode> values = new ArrayList<>();
+            for (int j = 0; j < 10; j++) {
+                values.add(new LeafNode("value" + i + "-" + j));
+            }
+            rootNode.put("key" + i, new ArrayNode(values));
+        }
+        rootNode.put("name", new LeafNode("test"));
+        ConfigNode root = new MapNode(rootNode);
+
+        GResultOf<ConfigNode> sequential = new ConfigNodeProcessorManager(List.of(new TestThreadSafeConfigNodeProcessor(null)),
+            List.of(), new PathLexer()).processConfigNodes("", root);
+        GResultOf<ConfigNode> parallel = new ConfigNodeProcessorManager(List.of(new TestThreadSafeConfigNodeProcessor(null)),
+            List.of(), new PathLexer(), 2).processConfigNodes("", root);
+
+        // the errors are in the same order as processing sequentially.
+        Assertions.assertEquals(200, parallel.getErrors().size());
+        Assertions.assertEquals(sequential.getErrors().stream().map(ValidationError::description).collect(Collectors.toList()),
+            parallel.getErrors().stream().map(ValidationError::description).collect(Collectors.toList()));
+        Assertions.assertEquals("value7-3 abc", parallel.results().getKey("key7").get().getIndex(3).get().getValue().get());
+
+        // nodes processed in parallel navigate the snapshot being processed.
+        ConfigNodeProcessorManager processorManager = new ConfigNodeProcessorManager(List.of(), List.of(), new PathLexer(), 2);
+        ConfigNodeManager configNodeManager = new ConfigNodeManager(new EqualTagsWithDefaultTagResolutionStrategy(),
+            processorManager, new PathLexer());
+        processorManager.addConfigNodeProcessors(List.of(new TestThreadSafeConfigNodeProcessor(configNodeManager)));
+
+        GResultOf<ConfigNodeSnapshot> snapshot = configNodeManager.stageLoad(List.of(
+            new ConfigNodeContainer(root, new TestSource(), Tags.of())));
+        Assertions.assertTrue(configNodeManager.processConfigNodes(snapshot.results()).results());
+        configNodeManager.publish(snapshot.results());
+
+        Assertions.assertEquals("value7-3 test", configNodeManager.navigateToNode("key7[3]",
+            List.of(new ObjectToken("key7"), new ArrayToken(3)), Tags.of()).results().getValue().get());
+    }
+
     @Test
     public void testPostProcessor() throws GestaltException {
         ConfigNode[] arrayNode = new ConfigNode[2];
@@ -2178,6 +2535,55 @@ class ConfigNodeManagerTest {
             configNodeManager.debugPrintRoot(Tags.environment("stage"), new SecretConcealerManager(Set.of(), it -> "***")));
     }
 
+    // a config node service that only implements the methods without a default.
+    public static class LegacyConfigNodeService implements ConfigNodeService {
+        private final ConfigNodeService delegate;
+
+        public LegacyConfigNodeService(ConfigNodeService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public GResultOf<ConfigNode> addNode(ConfigNodeContainer newNode) throws GestaltException {
+            return delegate.addNode(newNode);
+        }
+
+        @Override
+        public GResultOf<Boolean> processConfigNodes() throws GestaltException {
+            return delegate.processConfigNodes();
+        }
+
+        @Override
+        public GResultOf<ConfigNode> reloadNode(ConfigNodeContainer reloadNode) throws GestaltException {
+            return delegate.reloadNode(reloadNode);
+        }
+
+        @Override
+        public GResultOf<ConfigNode> navigateToNode(String path, List<Token> tokens, Tags tags) {
+            return delegate.navigateToNode(path, tokens, tags);
+        }
+
+        @Override
+        public GResultOf<ConfigNode> navigateToNextNode(String path, Token token, ConfigNode currentNode) {
+            return delegate.navigateToNextNode(path, token, currentNode);
+        }
+
+        @Override
+        public GResultOf<ConfigNode> navigateToNextNode(String path, List<Token> tokens, ConfigNode currentNode) {
+            return delegate.navigateToNextNode(path, tokens, currentNode);
+        }
+
+        @Override
+        public String debugPrintRoot(Tags tags, SecretConcealer secretConcealer) {
+            return delegate.debugPrintRoot(tags, secretConcealer);
+        }
+
+        @Override
+        public String debugPrintRoot(SecretConcealer secretConcealer) {
+            return delegate.debugPrintRoot(secretConcealer);
+        }
+    }
+
     public static class TestToken extends Token {
 
         public TestToken() {
@@ -2263,6 +2669,29 @@ class ConfigNodeManagerTest {
         }
     }
 
+    @ConfigThreadSafe
+    public static class TestThreadSafeConfigNodeProcessor implements ConfigNodeProcessor {
+        private final ConfigNodeService configNodeService;
+
+        public TestThreadSafeConfigNodeProcessor(ConfigNodeService configNodeService) {
+            this.configNodeService = configNodeService;
+        }
+
+        @Override
+        public GResultOf<ConfigNode> process(String path, ConfigNode currentNode) {
+            if (!(currentNode instanceof LeafNode) || "name".equals(path)) {
+                return GResultOf.result(currentNode);
+            }
+
+            String add = "abc";
+            if (configNodeService != null) {
+                add = configNodeService.navigateToNode("name", List.of(new ObjectToken("name")), Tags.of()).results().getValue().get();
+            }
+            return GResultOf.resultOf(new LeafNode(currentNode.getValue().get() + " " + add),
+                List.of(new ValidationError.LeafNodesHaveNoValues(path)));
+        }
+    }
+
     public static class TestConfigNodeProcessorErrors implements ConfigNodeProcessor {
         public TestConfigNodeProcessorErrors() {
         }
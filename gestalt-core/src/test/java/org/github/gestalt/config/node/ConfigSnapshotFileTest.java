@@ -0,0 +1,148 @@
+package org.github.gestalt.config.node;
+
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.lexer.PathLexer;
+import org.github.gestalt.config.secret.rules.SecretConcealerManager;
+import org.github.gestalt.config.security.encrypted.EncryptionUtils;
+import org.github.gestalt.config.security.temporary.TemporaryLeafNode;
+import org.github.gestalt.config.tag.Tags;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+class ConfigSnapshotFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static Map<Tags, ConfigNode> roots() {
+        Map<String, ConfigNode> db = new LinkedHashMap<>();
+        db.put("port", new LeafNode("3306"));
+        db.put("password", new LeafNode("abc123"));
+        db.put("hosts", new ArrayNode(List.of(new LeafNode("h1"), new LeafNode("h\u00e9"))));
+        db.put("empty", new LeafNode(null));
+
+        Map<Tags, ConfigNode> roots = new LinkedHashMap<>();
+        roots.put(Tags.of(), new MapNode(Map.of("db", new MapNode(db))));
+        roots.put(Tags.profile("test"), new MapNode(Map.of("db", new MapNode(Map.of("port", new LeafNode("4000"))))));
+        return roots;
+    }
+
+    @Test
+    void writeAndRead() throws GestaltException {
+        Path path = tempDir.resolve("snapshot.bin");
+        ConfigSnapshotFile snapshotFile = new ConfigSnapshotFile(path, new PathLexer(), null, null);
+        snapshotFile.write(roots());
+
+        Optional<Map<Tags, ConfigNode>> read = snapshotFile.read();
+        Assertions.assertTrue(read.isPresent());
+        Assertions.assertEquals(2, read.get().size());
+
+        ConfigNode db = read.get().get(Tags.of()).getKey("db").get();
+        Assertions.assertEquals("3306", db.getKey("port").get().getValue().get());
+        Assertions.assertEquals("abc123", db.getKey("password").get().getValue().get());
+        Assertions.assertEquals("h\u00e9", db.getKey("hosts").get().getIndex(1).get().getValue().get());
+        Assertions.assertTrue(db.getKey("empty").get().getValue().isEmpty());
+        Assertions.assertEquals("4000",
+            read.get().get(Tags.profile("test")).getKey("db").get().getKey("port").get().getValue().get());
+        Assertions.assertEquals(path, snapshotFile.getPath());
+    }
+
+    @Test
+    void secretsLeftOutWithoutKey() throws GestaltException, IOException {
+        Path path = tempDir.resolve("snapshot.bin");
+        ConfigSnapshotFile snapshotFile =
+            new ConfigSnapshotFile(path, new PathLexer(), new SecretConcealerManager(Set.of("password"), it -> "*****"), null);
+        snapshotFile.write(roots());
+
+        String content = new String(Files.readAllBytes(path), StandardCharsets.ISO_8859_1);
+        Assertions.assertFalse(content.contains("abc123"));
+
+        Set<String> excludedPaths = new HashSet<>();
+        ConfigNode db = snapshotFile.read(excludedPaths).get().get(Tags.of()).getKey("db").get();
+        Assertions.assertTrue(db.getKey("password").isEmpty());
+        Assertions.assertEquals("3306", db.getKey("port").get().getValue().get());
+        Assertions.assertEquals(Set.of("db.password"), excludedPaths);
+    }
+
+    @Test
+    void secretsEncryptedWithKey() throws GestaltException, IOException, NoSuchAlgorithmException {
+        Path path = tempDir.resolve("snapshot.bin");
+        ConfigSnapshotFile snapshotFile = new ConfigSnapshotFile(path, new PathLexer(),
+            new SecretConcealerManager(Set.of("password"), it -> "*****"), EncryptionUtils.generateKey(128));
+        snapshotFile.write(roots());
+
+        String content = new String(Files.readAllBytes(path), StandardCharsets.ISO_8859_1);
+        Assertions.assertFalse(content.contains("abc123"));
+
+        ConfigNode db = snapshotFile.read().get().get(Tags.of()).getKey("db").get();
+        Assertions.assertEquals("abc123", db.getKey("password").get().getValue().get());
+
+        // a snapshot encrypted with a different key is ignored.
+        ConfigSnapshotFile otherKey = new ConfigSnapshotFile(path, new PathLexer(),
+            new SecretConcealerManager(Set.of("password"), it -> "*****"), EncryptionUtils.generateKey(128));
+        Assertions.assertTrue(otherKey.read().isEmpty());
+    }
+
+    @Test
+    void temporaryLeafNodesLeftOut() throws GestaltException {
+        Path path = tempDir.resolve("snapshot.bin");
+        ConfigSnapshotFile snapshotFile = new ConfigSnapshotFile(path, new PathLexer(), null, null);
+        ConfigNode array = new ArrayNode(Arrays.asList(new LeafNode("a"), new TemporaryLeafNode(new LeafNode("b"), 1, null)));
+        snapshotFile.write(Map.of(Tags.of(), new MapNode(Map.of("values", array))));
+
+        Set<String> excludedPaths = new HashSet<>();
+        ConfigNode values = snapshotFile.read(excludedPaths).get().get(Tags.of()).getKey("values").get();
+        Assertions.assertEquals(2, values.size());
+        Assertions.assertEquals("a", values.getIndex(0).get().getValue().get());
+        Assertions.assertTrue(values.getIndex(1).isEmpty());
+        Assertions.assertEquals(Set.of("values[1]"), excludedPaths);
+    }
+
+    @Test
+    void missingFile() {
+        ConfigSnapshotFile snapshotFile = new ConfigSnapshotFile(tempDir.resolve("missing.bin"), new PathLexer(), null, null);
+
+        Assertions.assertTrue(snapshotFile.read().isEmpty());
+    }
+
+    @Test
+    void corruptFileIgnored() throws GestaltException, IOException {
+        Path path = tempDir.resolve("snapshot.bin");
+        ConfigSnapshotFile snapshotFile = new ConfigSnapshotFile(path, new PathLexer(), null, null);
+        snapshotFile.write(roots());
+
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x7F;
+        Files.write(path, bytes);
+        Assertions.assertTrue(snapshotFile.read().isEmpty());
+
+        Files.write(path, new byte[] {1, 2, 3});
+        Assertions.assertTrue(snapshotFile.read().isEmpty());
+    }
+
+    @Test
+    void otherFormatVersionIgnored() throws GestaltException, IOException {
+        Path path = tempDir.resolve("snapshot.bin");
+        ConfigSnapshotFile snapshotFile = new ConfigSnapshotFile(path, new PathLexer(), null, null);
+        snapshotFile.write(roots());
+
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[7] = (byte) (ConfigSnapshotFile.FORMAT_VERSION + 1);
+        Files.write(path, bytes);
+        Assertions.assertTrue(snapshotFile.read().isEmpty());
+    }
+}
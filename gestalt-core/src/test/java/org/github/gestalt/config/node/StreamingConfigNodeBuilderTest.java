@@ -0,0 +1,106 @@
+package org.github.gestalt.config.node;
+
+import org.github.gestalt.config.entity.ValidationError;
+import org.github.gestalt.config.lexer.PathLexer;
+import org.github.gestalt.config.node.StreamingConfigNodeBuilder.TokenStream;
+import org.github.gestalt.config.node.StreamingConfigNodeBuilder.TokenType;
+import org.github.gestalt.config.utils.GResultOf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+class StreamingConfigNodeBuilderTest {
+
+    @Test
+    public void buildObject() throws IOException {
+        // {"db.port": "3306", "hosts": ["h1", "h2"], "user": {"name": "steve"}}
+        TestTokenStream stream = new TestTokenStream(List.of(
+            new Token(TokenType.START_OBJECT, null),
+            new Token(TokenType.FIELD_NAME, "db.port"),
+            new Token(TokenType.VALUE, "3306"),
+            new Token(TokenType.FIELD_NAME, "hosts"),
+            new Token(TokenType.START_ARRAY, null),
+            new Token(TokenType.VALUE, "h1"),
+            new Token(TokenType.VALUE, "h2"),
+            new Token(TokenType.END_ARRAY, null),
+            new Token(TokenType.FIELD_NAME, "User"),
+            new Token(TokenType.START_OBJECT, null),
+            new Token(TokenType.FIELD_NAME, "name"),
+            new Token(TokenType.VALUE, "steve"),
+            new Token(TokenType.END_OBJECT, null),
+            new Token(TokenType.END_OBJECT, null)));
+
+        GResultOf<ConfigNode> result = new StreamingConfigNodeBuilder(new PathLexer()).build(stream);
+
+        Assertions.assertFalse(result.hasErrors());
+        ConfigNode root = result.results();
+        Assertions.assertEquals("3306", root.getKey("db").get().getKey("port").get().getValue().get());
+        Assertions.assertEquals("h2", root.getKey("hosts").get().getIndex(1).get().getValue().get());
+        Assertions.assertEquals("steve", root.getKey("user").get().getKey("name").get().getValue().get());
+    }
+
+    @Test
+    public void buildNullAndUnknownValues() throws IOException {
+        // {"db": {"port": null, "host": <unknown>}}
+        TestTokenStream stream = new TestTokenStream(List.of(
+            new Token(TokenType.START_OBJECT, null),
+            new Token(TokenType.FIELD_NAME, "db"),
+            new Token(TokenType.START_OBJECT, null),
+            new Token(TokenType.FIELD_NAME, "port"),
+            new Token(TokenType.NULL, null),
+            new Token(TokenType.FIELD_NAME, "host"),
+            new Token(TokenType.UNKNOWN, null),
+            new Token(TokenType.END_OBJECT, null),
+            new Token(TokenType.END_OBJECT, null)));
+
+        GResultOf<ConfigNode> result = new StreamingConfigNodeBuilder(new PathLexer()).build(stream);
+
+        Assertions.assertTrue(result.hasResults());
+        Assertions.assertTrue(result.results().getKey("db").get().getKey("port").isEmpty());
+        Assertions.assertTrue(result.getErrors().stream().anyMatch(it -> it instanceof ValidationError.UnknownNodeTypeDuringLoad));
+        Assertions.assertTrue(result.getErrors().stream()
+            .anyMatch(it -> it instanceof ValidationError.NoResultsFoundForPath && it.description().contains("db.port")));
+    }
+
+    private static final class Token {
+        private final TokenType type;
+        private final String text;
+
+        private Token(TokenType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+    }
+
+    private static final class TestTokenStream implements TokenStream {
+        private final List<Token> tokens;
+        private int index = 0;
+
+        private TestTokenStream(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public TokenType currentToken() {
+            return index < tokens.size() ? tokens.get(index).type : null;
+        }
+
+        @Override
+        public TokenType nextToken() {
+            index++;
+            return currentToken();
+        }
+
+        @Override
+        public String currentName() {
+            return tokens.get(index).text;
+        }
+
+        @Override
+        public String currentValue() {
+            return tokens.get(index).text;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.mockito.MockitoAnnotations;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -77,4 +78,26 @@ class ConfigNodeFactoryManagerTest {
         Assertions.assertEquals("A Config Source Factory has not be found for source: unsupportedSource",
             result.getErrors().get(0).description());
     }
+
+    @Test
+    void testIsCacheable() {
+        when(mockFactory.supportsType(eq("supportedSource"))).thenReturn(true);
+        when(mockFactory.isCacheable()).thenReturn(true);
+
+        Assertions.assertTrue(manager.isCacheable(Map.of(ConfigNodeFactoryManager.SOURCE, "supportedSource")));
+        Assertions.assertFalse(manager.isCacheable(Map.of(ConfigNodeFactoryManager.SOURCE, "unsupportedSource")));
+        Assertions.assertFalse(manager.isCacheable(Map.of("param1", "value1")));
+        Assertions.assertFalse(new ConfigNodeImportFactory().isCacheable());
+    }
+
+    @Test
+    void testFingerprint() {
+        when(mockFactory.supportsType(eq("supportedSource"))).thenReturn(true);
+        when(mockFactory.fingerprint(eq(Map.of("param1", "value1")))).thenReturn(Optional.of("abc"));
+
+        Assertions.assertEquals(Optional.of("abc"),
+            manager.fingerprint(Map.of(ConfigNodeFactoryManager.SOURCE, "supportedSource", "param1", "value1")));
+        Assertions.assertEquals(Optional.empty(), manager.fingerprint(Map.of(ConfigNodeFactoryManager.SOURCE, "unsupportedSource")));
+        Assertions.assertEquals(Optional.empty(), manager.fingerprint(Map.of("param1", "value1")));
+    }
 }
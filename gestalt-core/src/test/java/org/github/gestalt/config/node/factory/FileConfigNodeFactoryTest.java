@@ -18,10 +18,14 @@ import org.junit.jupiter.api.TestInstance;
 import org.mockito.Mockito;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class FileConfigNodeFactoryTest {
@@ -137,5 +141,22 @@ public class FileConfigNodeFactoryTest {
         Assertions.assertTrue(result.getErrors().get(0).description().startsWith("Exception while building Config Source Factory: file, " +
             "exception: File does not exist from path"));
     }
-}
 
+    @Test
+    public void testFingerprint() throws IOException {
+        Path includeFile = Files.createTempFile("include", ".properties");
+        includeFile.toFile().deleteOnExit();
+        Files.writeString(includeFile, "db.port=3306");
+        Map<String, String> params = Map.of("path", includeFile.toAbsolutePath().toString());
+
+        Optional<String> fingerprint = factory.fingerprint(params);
+        Assertions.assertTrue(fingerprint.isPresent());
+        Assertions.assertEquals(fingerprint, factory.fingerprint(params));
+
+        Files.writeString(includeFile, "db.port=3307");
+        Assertions.assertTrue(factory.fingerprint(params).isPresent());
+        Assertions.assertNotEquals(fingerprint, factory.fingerprint(params));
+
+        Assertions.assertTrue(factory.fingerprint(Map.of("path", "/invalid/path")).isEmpty());
+    }
+}
@@ -5,6 +5,7 @@ import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.node.ConfigNodeService;
 import org.github.gestalt.config.secret.rules.SecretConcealer;
 import org.github.gestalt.config.node.factory.ConfigNodeFactoryService;
+import org.github.gestalt.config.reload.ReloadScheduler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -70,4 +71,17 @@ class ConfigNodeProcessorConfigTest {
 
         Assertions.assertEquals(configNodeFactoryService, ppConfig.getConfigSourceFactoryService());
     }
+
+    @Test
+    void getReloadScheduler() {
+        ReloadScheduler reloadScheduler = new ReloadScheduler();
+        ConfigNodeProcessorConfig ppConfig =
+            new ConfigNodeProcessorConfig(config, configNodeService, lexer, secretConcealer,
+                configNodeFactoryService, reloadScheduler);
+
+        Assertions.assertEquals(reloadScheduler, ppConfig.getReloadScheduler());
+        Assertions.assertNull(new ConfigNodeProcessorConfig(config, configNodeService, lexer, secretConcealer,
+            configNodeFactoryService).getReloadScheduler());
+        reloadScheduler.close();
+    }
 }
@@ -1,6 +1,7 @@
 package org.github.gestalt.config.processor.config.include;
 
 import org.github.gestalt.config.entity.GestaltConfig;
+import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.entity.ValidationLevel;
 import org.github.gestalt.config.lexer.PathLexer;
 import org.github.gestalt.config.lexer.SentenceLexer;
@@ -9,6 +10,7 @@ import org.github.gestalt.config.node.ConfigNodeService;
 import org.github.gestalt.config.node.LeafNode;
 import org.github.gestalt.config.node.MapNode;
 import org.github.gestalt.config.processor.config.ConfigNodeProcessorConfig;
+import org.github.gestalt.config.reload.ReloadScheduler;
 import org.github.gestalt.config.secret.rules.SecretConcealer;
 import org.github.gestalt.config.node.factory.ConfigNodeFactoryService;
 import org.github.gestalt.config.utils.GResultOf;
@@ -20,6 +22,11 @@ import org.mockito.Mockito;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 @SuppressWarnings("VariableDeclarationUsageDistance")
 class IncludeConfigNodeProcessorTest {
@@ -579,5 +586,164 @@ class IncludeConfigNodeProcessorTest {
         Assertions.assertEquals("c", mapResults.getKey("c").get().getValue().get());
         Assertions.assertEquals("source=node", mapResults.getKey("$include").get().getValue().get());
     }
-}
 
+    @Test
+    void processIncludeCachedUntilReloaded() {
+        Map<String, ConfigNode> originalNodeMap = new HashMap<>();
+        originalNodeMap.put("a", new LeafNode("a"));
+        originalNodeMap.put("$include", new LeafNode("source=file, path=/a.properties"));
+
+        ConfigNode originalRoot = new MapNode(originalNodeMap);
+        ConfigNode importRoot = new MapNode(Map.of("c", new LeafNode("c")));
+
+        IncludeConfigNodeProcessor processor = new IncludeConfigNodeProcessor();
+        Mockito.when(configNodeFactoryService.isCacheable(Mockito.any())).thenReturn(true);
+        Mockito.when(configNodeFactoryService.build(Map.of("source", "file", "path", "/a.properties")))
+            .thenReturn(GResultOf.result(List.of(importRoot)));
+        processor.applyConfig(ppConfig);
+
+        Assertions.assertEquals("c", processor.process("", originalRoot).results().getKey("c").get().getValue().get());
+        Assertions.assertEquals("c", processor.process("", originalRoot).results().getKey("c").get().getValue().get());
+        Mockito.verify(configNodeFactoryService, Mockito.times(1)).build(Mockito.any());
+
+        // reloading a node that does not declare the include keeps the cached include.
+        processor.nodesReloaded(List.of(new MapNode(Map.of("b", new LeafNode("b")))));
+        processor.process("", originalRoot);
+        Mockito.verify(configNodeFactoryService, Mockito.times(1)).build(Mockito.any());
+
+        // reloading the node that declares the include builds it again.
+        processor.nodesReloaded(List.of(originalRoot));
+        processor.process("", originalRoot);
+        Mockito.verify(configNodeFactoryService, Mockito.times(2)).build(Mockito.any());
+    }
+
+    @Test
+    void processIncludeWithErrorsNotCached() {
+        Map<String, ConfigNode> originalNodeMap = new HashMap<>();
+        originalNodeMap.put("a", new LeafNode("a"));
+        originalNodeMap.put("$include", new LeafNode("source=file, path=/a.properties"));
+        ConfigNode originalRoot = new MapNode(originalNodeMap);
+
+        IncludeConfigNodeProcessor processor = new IncludeConfigNodeProcessor();
+        Mockito.when(configNodeFactoryService.isCacheable(Mockito.any())).thenReturn(true);
+        Mockito.when(configNodeFactoryService.build(Mockito.any()))
+            .thenReturn(GResultOf.errors(new ValidationError.ConfigSourceFactoryNotFound("file")));
+        processor.applyConfig(ppConfig);
+
+        Assertions.assertTrue(processor.process("", originalRoot).hasErrors());
+        Assertions.assertTrue(processor.process("", originalRoot).hasErrors());
+        Mockito.verify(configNodeFactoryService, Mockito.times(2)).build(Mockito.any());
+    }
+
+    @Test
+    void processIncludeNotCacheable() {
+        Map<String, ConfigNode> originalNodeMap = new HashMap<>();
+        originalNodeMap.put("a", new LeafNode("a"));
+        originalNodeMap.put("$include", new LeafNode("source=node, path=b"));
+        ConfigNode originalRoot = new MapNode(originalNodeMap);
+
+        IncludeConfigNodeProcessor processor = new IncludeConfigNodeProcessor();
+        Mockito.when(configNodeFactoryService.isCacheable(Mockito.any())).thenReturn(false);
+        Mockito.when(configNodeFactoryService.build(Mockito.any()))
+            .thenReturn(GResultOf.result(List.of(new MapNode(Map.of("c", new LeafNode("c"))))));
+        processor.applyConfig(ppConfig);
+
+        processor.process("", originalRoot);
+        processor.process("", originalRoot);
+        Mockito.verify(configNodeFactoryService, Mockito.times(2)).build(Mockito.any());
+    }
+
+    @Test
+    void processNestedIncludesPrefetched() {
+        Map<String, ConfigNode> dbNodeMap = new HashMap<>();
+        dbNodeMap.put("$include", new LeafNode("source=file, path=/db.properties"));
+        Map<String, ConfigNode> cacheNodeMap = new HashMap<>();
+        cacheNodeMap.put("$include", new LeafNode("source=file, path=/cache.properties"));
+        ConfigNode originalRoot = new MapNode(Map.of("db", new MapNode(dbNodeMap), "cache", new MapNode(cacheNodeMap)));
+
+        Map<String, ConfigNode> dbImportMap = new HashMap<>();
+        dbImportMap.put("port", new LeafNode("3306"));
+        dbImportMap.put("$include", new LeafNode("source=file, path=/db-pool.properties"));
+
+        IncludeConfigNodeProcessor processor = new IncludeConfigNodeProcessor();
+        Mockito.when(configNodeFactoryService.isCacheable(Mockito.any())).thenReturn(true);
+        Mockito.when(configNodeFactoryService.build(Map.of("source", "file", "path", "/db.properties")))
+            .thenReturn(GResultOf.result(List.of(new MapNode(dbImportMap))));
+        Mockito.when(configNodeFactoryService.build(Map.of("source", "file", "path", "/db-pool.properties")))
+            .thenReturn(GResultOf.result(List.of(new MapNode(Map.of("pool", new LeafNode("10"))))));
+        Mockito.when(configNodeFactoryService.build(Map.of("source", "file", "path", "/cache.properties")))
+            .thenReturn(GResultOf.result(List.of(new MapNode(Map.of("size", new LeafNode("100"))))));
+        processor.applyConfig(ppConfig);
+
+        // all the includes are built when the root is processed, before the children are processed.
+        processor.process("", originalRoot);
+        Mockito.verify(configNodeFactoryService, Mockito.times(3)).build(Mockito.any());
+
+        var db = processor.process("db", originalRoot.getKey("db").get());
+        Assertions.assertFalse(db.hasErrors());
+        Assertions.assertEquals("3306", db.results().getKey("port").get().getValue().get());
+        Assertions.assertEquals("10", db.results().getKey("pool").get().getValue().get());
+        Assertions.assertEquals("100",
+            processor.process("cache", originalRoot.getKey("cache").get()).results().getKey("size").get().getValue().get());
+        Mockito.verify(configNodeFactoryService, Mockito.times(3)).build(Mockito.any());
+    }
+
+    @Test
+    void processIncludeRebuiltWhenFingerprintChanges() {
+        Map<String, ConfigNode> originalNodeMap = new HashMap<>();
+        originalNodeMap.put("a", new LeafNode("a"));
+        originalNodeMap.put("$include", new LeafNode("source=file, path=/a.properties"));
+        ConfigNode originalRoot = new MapNode(originalNodeMap);
+
+        IncludeConfigNodeProcessor processor = new IncludeConfigNodeProcessor();
+        Mockito.when(configNodeFactoryService.isCacheable(Mockito.any())).thenReturn(true);
+        Mockito.when(configNodeFactoryService.fingerprint(Mockito.any())).thenReturn(Optional.of("v1"));
+        Mockito.when(configNodeFactoryService.build(Mockito.any()))
+            .thenReturn(GResultOf.result(List.of(new MapNode(Map.of("c", new LeafNode("c"))))))
+            .thenReturn(GResultOf.result(List.of(new MapNode(Map.of("c", new LeafNode("c changed"))))));
+        processor.applyConfig(ppConfig);
+
+        Assertions.assertEquals("c", processor.process("", originalRoot).results().getKey("c").get().getValue().get());
+        Assertions.assertEquals("c", processor.process("", originalRoot).results().getKey("c").get().getValue().get());
+        Mockito.verify(configNodeFactoryService, Mockito.times(1)).build(Mockito.any());
+
+        // the included content changed, so it is built again even though the node declaring it was not reloaded.
+        Mockito.when(configNodeFactoryService.fingerprint(Mockito.any())).thenReturn(Optional.of("v2"));
+        Assertions.assertEquals("c changed", processor.process("", originalRoot).results().getKey("c").get().getValue().get());
+        Mockito.verify(configNodeFactoryService, Mockito.times(2)).build(Mockito.any());
+    }
+
+    @Test
+    void processIncludesBuiltOnReloadScheduler() throws InterruptedException {
+        Map<String, ConfigNode> originalNodeMap = new HashMap<>();
+        originalNodeMap.put("$include:1", new LeafNode("source=file, path=/a.properties"));
+        originalNodeMap.put("$include:2", new LeafNode("source=file, path=/b.properties"));
+        ConfigNode originalRoot = new MapNode(originalNodeMap);
+
+        // each build waits for the other, so they only complete if they are built concurrently.
+        CountDownLatch building = new CountDownLatch(2);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        IncludeConfigNodeProcessor processor = new IncludeConfigNodeProcessor();
+        Mockito.when(configNodeFactoryService.isCacheable(Mockito.any())).thenReturn(true);
+        Mockito.when(configNodeFactoryService.build(Mockito.any())).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            building.countDown();
+            Assertions.assertTrue(building.await(5, TimeUnit.SECONDS));
+            return GResultOf.result(List.of(new MapNode(Map.of("c", new LeafNode("c")))));
+        });
+
+        ReloadScheduler reloadScheduler = new ReloadScheduler();
+        try {
+            processor.applyConfig(new ConfigNodeProcessorConfig(new GestaltConfig(), Mockito.mock(ConfigNodeService.class),
+                new PathLexer(), Mockito.mock(), configNodeFactoryService, reloadScheduler));
+
+            var results = processor.process("", originalRoot);
+            Assertions.assertFalse(results.hasErrors());
+            Assertions.assertEquals("c", results.results().getKey("c").get().getValue().get());
+            Assertions.assertEquals(2, threads.size());
+            Assertions.assertTrue(threads.stream().anyMatch(it -> it.startsWith("gestalt-watch-")));
+        } finally {
+            reloadScheduler.close();
+        }
+    }
+}
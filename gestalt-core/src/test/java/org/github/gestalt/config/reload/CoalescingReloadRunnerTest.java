@@ -0,0 +1,70 @@
+package org.github.gestalt.config.reload;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class CoalescingReloadRunnerTest {
+
+    @Test
+    void changesWhileReloadingAreCoalesced() {
+        List<Runnable> tasks = new ArrayList<>();
+        Executor executor = tasks::add;
+
+        AtomicInteger reloads = new AtomicInteger();
+        CoalescingReloadRunner[] runner = new CoalescingReloadRunner[1];
+        runner[0] = new CoalescingReloadRunner(() -> {
+            // two more changes arrive during the first reload.
+            if (reloads.incrementAndGet() == 1) {
+                runner[0].requestReload(executor);
+                runner[0].requestReload(executor);
+            }
+        });
+
+        runner[0].requestReload(executor);
+        runner[0].requestReload(executor);
+        Assertions.assertEquals(1, tasks.size());
+        Assertions.assertEquals(0, reloads.get());
+
+        tasks.get(0).run();
+
+        // the changes during the first reload are picked up by a single follow up reload on the same task.
+        Assertions.assertEquals(1, tasks.size());
+        Assertions.assertEquals(2, reloads.get());
+
+        runner[0].requestReload(executor);
+        Assertions.assertEquals(2, tasks.size());
+    }
+
+    @Test
+    void rejectedReloadCanBeRequestedAgain() {
+        AtomicInteger reloads = new AtomicInteger();
+        CoalescingReloadRunner runner = new CoalescingReloadRunner(reloads::incrementAndGet);
+
+        runner.requestReload(task -> {
+            throw new RejectedExecutionException("closed");
+        });
+        runner.requestReload(Runnable::run);
+
+        Assertions.assertEquals(1, reloads.get());
+    }
+
+    @Test
+    void exceptionDoesNotStopReloads() {
+        AtomicInteger reloads = new AtomicInteger();
+        CoalescingReloadRunner runner = new CoalescingReloadRunner(() -> {
+            reloads.incrementAndGet();
+            throw new IllegalArgumentException("bad reload");
+        });
+
+        runner.requestReload(Runnable::run);
+        runner.requestReload(Runnable::run);
+
+        Assertions.assertEquals(2, reloads.get());
+    }
+}
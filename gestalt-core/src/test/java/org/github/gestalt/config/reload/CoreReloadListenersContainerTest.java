@@ -68,6 +68,26 @@ class CoreReloadListenersContainerTest {
         Assertions.assertEquals(0, listeners.size());
     }
 
+    @Test
+    void registerListenerDuringReload() {
+
+        var reloadContainer = new CoreReloadListenersContainer();
+
+        TestListener nested = new TestListener();
+        CoreReloadListener listener1 = () -> reloadContainer.registerListener(nested);
+
+        reloadContainer.registerListener(listener1);
+
+        reloadContainer.reload();
+
+        Assertions.assertEquals(0, nested.atomicInt.get());
+        Assertions.assertEquals(2, reloadContainer.getListeners().size());
+
+        reloadContainer.reload();
+
+        Assertions.assertEquals(1, nested.atomicInt.get());
+    }
+
     static class TestListener implements CoreReloadListener {
 
         AtomicInteger atomicInt = new AtomicInteger(0);
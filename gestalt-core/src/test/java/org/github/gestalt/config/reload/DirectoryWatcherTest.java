@@ -0,0 +1,99 @@
+package org.github.gestalt.config.reload;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class DirectoryWatcherTest {
+
+    @Test
+    public void burstOfChangesNotifiesOnce() throws IOException, InterruptedException {
+        Path folder = Files.createTempDirectory("gestalt");
+        folder.toFile().deleteOnExit();
+        Path file = folder.resolve("watched.properties");
+        Path otherFile = folder.resolve("other.properties");
+        Files.writeString(file, "user=userA");
+        Files.writeString(otherFile, "user=userA");
+
+        try (ReloadScheduler scheduler = new ReloadScheduler(1, Duration.ofSeconds(1), Duration.ofMillis(50))) {
+            DirectoryWatcher watcher = scheduler.getDirectoryWatcher();
+            Assertions.assertEquals(Duration.ofMillis(50), watcher.getDebounceWindow());
+
+            AtomicInteger count = new AtomicInteger();
+            AtomicInteger otherCount = new AtomicInteger();
+            var registration = watcher.register(file, count::incrementAndGet);
+            watcher.register(otherFile, otherCount::incrementAndGet);
+            Assertions.assertEquals(file.toAbsolutePath(), registration.getFile());
+
+            for (int i = 0; i < 5; i++) {
+                Files.writeString(file, "user=user" + i);
+            }
+
+            for (int i = 0; i < 50 && count.get() == 0; i++) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(200);
+
+            Assertions.assertEquals(1, count.get());
+            Assertions.assertEquals(0, otherCount.get());
+
+            registration.cancel();
+            Files.writeString(file, "user=userC");
+            Files.writeString(otherFile, "user=userC");
+
+            for (int i = 0; i < 50 && otherCount.get() == 0; i++) {
+                Thread.sleep(10);
+            }
+
+            Assertions.assertEquals(1, count.get());
+            Assertions.assertEquals(1, otherCount.get());
+        }
+    }
+
+    @Test
+    public void continuousChangesNotifyAfterMaxWait() throws IOException, InterruptedException {
+        Path folder = Files.createTempDirectory("gestalt");
+        folder.toFile().deleteOnExit();
+        Path file = folder.resolve("watched.properties");
+        Files.writeString(file, "user=userA");
+
+        try (ReloadScheduler scheduler = new ReloadScheduler(1, Duration.ofSeconds(1), Duration.ofMillis(200), Duration.ofMillis(300))) {
+            DirectoryWatcher watcher = scheduler.getDirectoryWatcher();
+            Assertions.assertEquals(Duration.ofMillis(300), watcher.getMaxDebounceWait());
+
+            AtomicInteger count = new AtomicInteger();
+            watcher.register(file, count::incrementAndGet);
+
+            // the file is rewritten more often than the debounce window, so without a max wait the burst would never end.
+            for (int i = 0; i < 40 && count.get() == 0; i++) {
+                Files.writeString(file, "user=user" + i);
+                Thread.sleep(50);
+            }
+
+            Assertions.assertTrue(count.get() > 0);
+        }
+    }
+
+    @Test
+    public void maxWaitIsAtLeastTheWindow() {
+        try (ReloadScheduler scheduler = new ReloadScheduler(1, Duration.ofSeconds(1), Duration.ofMillis(200), Duration.ofMillis(100))) {
+            Assertions.assertEquals(Duration.ofMillis(200), scheduler.getDirectoryWatcher().getMaxDebounceWait());
+        }
+    }
+
+    @Test
+    public void registerOnClosedWatcher() throws IOException {
+        Path file = Files.createTempFile("gestalt", "test.properties");
+        file.toFile().deleteOnExit();
+
+        ReloadScheduler scheduler = new ReloadScheduler();
+        scheduler.close();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> scheduler.getDirectoryWatcher().register(file, () -> { }));
+    }
+}
@@ -0,0 +1,121 @@
+package org.github.gestalt.config.reload;
+
+import com.sun.net.httpserver.HttpServer;
+import org.github.gestalt.config.exceptions.GestaltConfigurationException;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.source.ConfigSourcePackage;
+import org.github.gestalt.config.source.HttpConfigSource;
+import org.github.gestalt.config.source.StringConfigSource;
+import org.github.gestalt.config.tag.Tags;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class HttpLongPollReloadStrategyTest {
+
+    private final Object changed = new Object();
+    private final AtomicInteger version = new AtomicInteger(1);
+    private HttpServer server;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/config.properties", exchange -> {
+            // hold the request until the config changes, as a long poll server would.
+            String requestEtag = exchange.getRequestHeaders().getFirst("If-None-Match");
+            if (exchange.getRequestHeaders().getFirst("Prefer") != null && ("\"" + version.get() + "\"").equals(requestEtag)) {
+                synchronized (changed) {
+                    try {
+                        changed.wait(1000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+
+            String etag = "\"" + version.get() + "\"";
+            if (etag.equals(requestEtag)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+
+            byte[] response = ("db.port=" + version.get()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("ETag", etag);
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/config.properties";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void reloadOnChange() throws GestaltException, InterruptedException {
+        try (ReloadScheduler scheduler = new ReloadScheduler()) {
+            HttpConfigSource source = new HttpConfigSource(url);
+            HttpLongPollReloadStrategy strategy = new HttpLongPollReloadStrategy(Duration.ofSeconds(5), Duration.ofMillis(10));
+            strategy.setReloadScheduler(scheduler);
+            strategy.setSource(new ConfigSourcePackage(source, List.of(strategy), Tags.of()));
+
+            ConfigListener listener = new ConfigListener();
+            strategy.registerListener(listener);
+            Assertions.assertTrue(strategy.isPolling());
+
+            // give the first poll time to prime the validators.
+            Thread.sleep(200);
+            Assertions.assertEquals(0, listener.count.get());
+
+            version.incrementAndGet();
+            synchronized (changed) {
+                changed.notifyAll();
+            }
+
+            for (int i = 0; i < 100 && listener.count.get() == 0; i++) {
+                Thread.sleep(10);
+            }
+            Assertions.assertEquals(1, listener.count.get());
+
+            strategy.close();
+            for (int i = 0; i < 100 && strategy.isPolling(); i++) {
+                Thread.sleep(10);
+            }
+            Assertions.assertFalse(strategy.isPolling());
+        }
+    }
+
+    @Test
+    public void notAHttpSource() throws GestaltException {
+        HttpLongPollReloadStrategy strategy = new HttpLongPollReloadStrategy();
+        StringConfigSource source = new StringConfigSource("db.port=3306", "properties");
+
+        Assertions.assertThrows(GestaltConfigurationException.class,
+            () -> strategy.setSource(new ConfigSourcePackage(source, List.of(strategy), Tags.of())));
+    }
+
+    private static class ConfigListener implements ConfigReloadListener {
+
+        public final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public void reload(ConfigSourcePackage source) {
+            count.incrementAndGet();
+        }
+    }
+}
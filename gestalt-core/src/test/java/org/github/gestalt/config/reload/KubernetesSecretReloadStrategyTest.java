@@ -0,0 +1,91 @@
+package org.github.gestalt.config.reload;
+
+import org.github.gestalt.config.exceptions.GestaltConfigurationException;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.source.ConfigSourcePackage;
+import org.github.gestalt.config.source.KubernetesSecretConfigSource;
+import org.github.gestalt.config.source.StringConfigSource;
+import org.github.gestalt.config.tag.Tags;
+import org.github.gestalt.config.utils.Pair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class KubernetesSecretReloadStrategyTest {
+
+    private static Path writeVersion(Path volume, String version, String password) throws IOException {
+        Path directory = Files.createDirectory(volume.resolve("..2024_01_01_00_00_00." + version));
+        Files.writeString(directory.resolve("db.password"), password);
+        return directory;
+    }
+
+    private static void swapDataLink(Path volume, Path directory) throws IOException {
+        Path tempLink = Files.createSymbolicLink(volume.resolve("..data_tmp"), directory.getFileName());
+        Files.move(tempLink, volume.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Test
+    public void reloadOnDataLinkSwap() throws GestaltException, IOException, InterruptedException {
+        Path volume = Files.createTempDirectory("gestalt-k8s");
+        Files.createSymbolicLink(volume.resolve("..data"), writeVersion(volume, "1", "abcdef").getFileName());
+        Files.createSymbolicLink(volume.resolve("db.password"), Path.of("..data", "db.password"));
+
+        try (ReloadScheduler scheduler = new ReloadScheduler()) {
+            KubernetesSecretConfigSource source = new KubernetesSecretConfigSource(volume);
+            KubernetesSecretReloadStrategy strategy = new KubernetesSecretReloadStrategy();
+            strategy.setReloadScheduler(scheduler);
+            strategy.setSource(new ConfigSourcePackage(source, List.of(strategy), Tags.of()));
+            Assertions.assertEquals(volume.resolve("..data"), strategy.getDataLink());
+
+            ConfigListener listener = new ConfigListener();
+            strategy.registerListener(listener);
+            Thread.sleep(100);
+
+            // writing the new version does not reload, only the swap of the ..data link.
+            Path second = writeVersion(volume, "2", "ghijkl");
+            Thread.sleep(200);
+            Assertions.assertEquals(0, listener.count.get());
+
+            swapDataLink(volume, second);
+            for (int i = 0; i < 100 && listener.count.get() == 0; i++) {
+                Thread.sleep(10);
+            }
+            Assertions.assertEquals(1, listener.count.get());
+            // the reload runs on the bounded reload pool, not the watch pool.
+            Assertions.assertTrue(listener.thread.startsWith("gestalt-reload-"), listener.thread);
+            Assertions.assertEquals(List.of(new Pair<>("db.password", "ghijkl")), source.loadList());
+
+            strategy.close();
+            swapDataLink(volume, writeVersion(volume, "3", "mnopqr"));
+            Thread.sleep(200);
+            Assertions.assertEquals(1, listener.count.get());
+        }
+    }
+
+    @Test
+    public void notAKubernetesSource() throws GestaltException {
+        KubernetesSecretReloadStrategy strategy = new KubernetesSecretReloadStrategy();
+        StringConfigSource source = new StringConfigSource("db.port=3306", "properties");
+
+        Assertions.assertThrows(GestaltConfigurationException.class,
+            () -> strategy.setSource(new ConfigSourcePackage(source, List.of(strategy), Tags.of())));
+    }
+
+    private static class ConfigListener implements ConfigReloadListener {
+
+        public final AtomicInteger count = new AtomicInteger();
+        public volatile String thread = "";
+
+        @Override
+        public void reload(ConfigSourcePackage source) {
+            thread = Thread.currentThread().getName();
+            count.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package org.github.gestalt.config.reload;
+
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogManager;
+
+class ReloadSchedulerTest {
+
+    @BeforeAll
+    public static void beforeAll() {
+        try (InputStream is = ReloadSchedulerTest.class.getClassLoader().getResourceAsStream("logging.properties")) {
+            LogManager.getLogManager().readConfiguration(is);
+        } catch (IOException e) {
+            // dont care
+        }
+    }
+
+    @Test
+    public void scheduleRunsRepeatedly() throws InterruptedException {
+        try (ReloadScheduler scheduler = new ReloadScheduler()) {
+            CountDownLatch latch = new CountDownLatch(3);
+            ScheduledReload reload = scheduler.schedule("test", Duration.ofMillis(1), Duration.ZERO, latch::countDown);
+
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals("test", reload.getName());
+            Assertions.assertEquals(Duration.ofMillis(1), reload.getPeriod());
+            Assertions.assertTrue(reload.getLastRunTime().isPresent());
+            Assertions.assertTrue(reload.getLastDuration().isPresent());
+            Assertions.assertEquals(0, reload.getConsecutiveFailures());
+            Assertions.assertEquals(1, scheduler.getScheduledReloads().size());
+        }
+    }
+
+    @Test
+    public void scheduleWithJitter() throws InterruptedException {
+        try (ReloadScheduler scheduler = new ReloadScheduler()) {
+            CountDownLatch latch = new CountDownLatch(2);
+            ScheduledReload reload = scheduler.schedule("test", Duration.ofMillis(1), Duration.ofMillis(5), latch::countDown);
+
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(Duration.ofMillis(5), reload.getJitter());
+        }
+    }
+
+    @Test
+    public void failuresBackOff() throws InterruptedException {
+        try (ReloadScheduler scheduler = new ReloadScheduler(1, Duration.ofSeconds(10))) {
+            CountDownLatch latch = new CountDownLatch(2);
+            ScheduledReload reload = scheduler.schedule("test", Duration.ofMillis(1), Duration.ZERO, () -> {
+                latch.countDown();
+                throw new GestaltException("failed reload");
+            });
+
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+            Thread.sleep(10);
+            Assertions.assertTrue(reload.getConsecutiveFailures() >= 2);
+
+            // after a failure the next run is pushed out by the backoff.
+            Assertions.assertTrue(reload.getNextRunTime().isPresent());
+            Assertions.assertEquals(1, scheduler.getMaxConcurrentReloads());
+            Assertions.assertEquals(Duration.ofSeconds(10), scheduler.getMaxBackoff());
+        }
+    }
+
+    @Test
+    public void deferredFailuresBackOff() throws InterruptedException {
+        try (ReloadScheduler scheduler = new ReloadScheduler(1, Duration.ofSeconds(10))) {
+            BlockingQueue<CompletableFuture<Void>> deferred = new LinkedBlockingQueue<>();
+            ScheduledReload reload = scheduler.schedule("test", Duration.ofMillis(1), Duration.ZERO,
+                () -> deferred.add(ScheduledReload.deferCompletion().orElseThrow()));
+
+            CompletableFuture<Void> first = deferred.poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(first);
+
+            // the next run waits for the deferred reload to complete.
+            Assertions.assertNull(deferred.poll(50, TimeUnit.MILLISECONDS));
+            Assertions.assertEquals(0, reload.getConsecutiveFailures());
+
+            first.completeExceptionally(new GestaltException("failed coalesced reload"));
+            Assertions.assertEquals(1, reload.getConsecutiveFailures());
+
+            CompletableFuture<Void> second = deferred.poll(5, TimeUnit.SECONDS);
+            Assertions.assertNotNull(second);
+            second.complete(null);
+            Assertions.assertEquals(0, reload.getConsecutiveFailures());
+        }
+
+        Assertions.assertTrue(ScheduledReload.deferCompletion().isEmpty());
+    }
+
+    @Test
+    public void failuresResetOnSuccess() throws InterruptedException {
+        try (ReloadScheduler scheduler = new ReloadScheduler()) {
+            AtomicInteger count = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(3);
+            ScheduledReload reload = scheduler.schedule("test", Duration.ofMillis(1), Duration.ZERO, () -> {
+                latch.countDown();
+                if (count.incrementAndGet() == 1) {
+                    throw new GestaltException("failed reload");
+                }
+            });
+
+            Assertions.assertTrue(latch.await(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(0, reload.getConsecutiveFailures());
+        }
+    }
+
+    @Test
+    public void cancel() throws InterruptedException {
+        try (ReloadScheduler scheduler = new ReloadScheduler()) {
+            AtomicInteger count = new AtomicInteger();
+            ScheduledReload reload = scheduler.schedule("test", Duration.ofMillis(1), Duration.ZERO, count::incrementAndGet);
+
+            reload.cancel();
+            Thread.sleep(10);
+            int cancelledCount = count.get();
+            Thread.sleep(10);
+
+            Assertions.assertTrue(reload.isCancelled());
+            Assertions.assertTrue(reload.getNextRunTime().isEmpty());
+            Assertions.assertEquals(cancelledCount, count.get());
+            Assertions.assertTrue(scheduler.getScheduledReloads().isEmpty());
+        }
+    }
+
+    @Test
+    public void close() throws InterruptedException {
+        ReloadScheduler scheduler = new ReloadScheduler();
+        AtomicInteger count = new AtomicInteger();
+        ScheduledReload reload = scheduler.schedule("test", Duration.ofMillis(1), Duration.ZERO, count::incrementAndGet);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        scheduler.execute(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+
+        scheduler.close();
+        Thread.sleep(10);
+        int closedCount = count.get();
+        Thread.sleep(10);
+
+        Assertions.assertTrue(scheduler.isClosed());
+        Assertions.assertTrue(reload.isCancelled());
+        Assertions.assertEquals(closedCount, count.get());
+        Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        Assertions.assertThrows(IllegalStateException.class,
+            () -> scheduler.schedule("test", Duration.ofMillis(1), Duration.ZERO, count::incrementAndGet));
+        Assertions.assertThrows(IllegalStateException.class, () -> scheduler.execute(count::incrementAndGet));
+    }
+
+    @Test
+    public void invalidConcurrency() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ReloadScheduler(0, Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void invalidPeriod() {
+        try (ReloadScheduler scheduler = new ReloadScheduler()) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> scheduler.schedule("test", Duration.ZERO, Duration.ZERO, () -> { }));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> scheduler.schedule("test", Duration.ofMillis(-1), Duration.ZERO, () -> { }));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> scheduler.schedule("test", Duration.ofMillis(1), Duration.ofMillis(-1), () -> { }));
+            Assertions.assertTrue(scheduler.getScheduledReloads().isEmpty());
+        }
+    }
+
+    @Test
+    public void defaultScheduler() {
+        ReloadScheduler scheduler = ReloadScheduler.getDefault();
+        Assertions.assertSame(scheduler, ReloadScheduler.getDefault());
+        Assertions.assertFalse(scheduler.isClosed());
+    }
+}
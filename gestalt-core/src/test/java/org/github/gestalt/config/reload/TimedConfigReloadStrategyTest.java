@@ -144,6 +144,51 @@ class TimedConfigReloadStrategyTest {
         Thread.sleep(10);
     }
 
+    @Test
+    public void timedConfigReloadStrategySharedScheduler() throws InterruptedException, GestaltConfigurationException {
+        Map<String, String> configs = new HashMap<>();
+        configs.put("db.name", "test");
+
+        ConfigSource configSource = new MapConfigSource(configs);
+        ConfigListener listener = new ConfigListener();
+        TimedConfigReloadStrategy timedConfigReloadStrategy = new TimedConfigReloadStrategy(Duration.ofMillis(1), Duration.ofMillis(1));
+        timedConfigReloadStrategy.setSource(new ConfigSourcePackage(configSource, List.of(timedConfigReloadStrategy), Tags.of()));
+
+        try (ReloadScheduler scheduler = new ReloadScheduler()) {
+            timedConfigReloadStrategy.setReloadScheduler(scheduler);
+            Assertions.assertTrue(timedConfigReloadStrategy.getScheduledReload().isEmpty());
+
+            timedConfigReloadStrategy.registerListener(listener);
+            for (int i = 0; i < 10 && listener.count == 0; i++) {
+                Thread.sleep(10);
+            }
+
+            Assertions.assertTrue(listener.count >= 1);
+            Assertions.assertSame(scheduler, timedConfigReloadStrategy.getReloadScheduler());
+            Assertions.assertEquals(1, scheduler.getScheduledReloads().size());
+            var scheduledReload = timedConfigReloadStrategy.getScheduledReload().orElseThrow();
+            Assertions.assertEquals(configSource.name(), scheduledReload.getName());
+            Assertions.assertTrue(scheduledReload.getLastDuration().isPresent());
+
+            timedConfigReloadStrategy.close();
+            Thread.sleep(10);
+            int count = listener.count;
+            Thread.sleep(10);
+
+            Assertions.assertEquals(count, listener.count);
+            Assertions.assertTrue(scheduledReload.isCancelled());
+            Assertions.assertTrue(scheduler.getScheduledReloads().isEmpty());
+        }
+    }
+
+    @Test
+    public void timedConfigReloadStrategyInvalidDelay() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TimedConfigReloadStrategy(Duration.ZERO));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TimedConfigReloadStrategy(Duration.ofMillis(-1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new TimedConfigReloadStrategy(Duration.ofMillis(1), Duration.ofMillis(-1)));
+    }
+
     private static class ConfigListener implements ConfigReloadListener {
 
         public int count = 0;
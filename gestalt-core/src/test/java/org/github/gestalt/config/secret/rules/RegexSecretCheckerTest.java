@@ -22,4 +22,48 @@ class RegexSecretCheckerTest {
         Assertions.assertTrue(secretChecker.isSecret("my.secret"));
         Assertions.assertTrue(secretChecker.isSecret("password"));
     }
+
+    @Test
+    public void checkIsSecretMultipleRules() {
+        SecretChecker secretChecker = new RegexSecretChecker(Set.of(".*secret.*", "pass(word)?", "^key$"));
+
+        Assertions.assertTrue(secretChecker.isSecret("my.secret"));
+        Assertions.assertTrue(secretChecker.isSecret("db.password"));
+        Assertions.assertTrue(secretChecker.isSecret("key"));
+        Assertions.assertFalse(secretChecker.isSecret("keys"));
+        Assertions.assertFalse(secretChecker.isSecret("port"));
+
+        // check again to use the memoized results.
+        Assertions.assertTrue(secretChecker.isSecret("my.secret"));
+        Assertions.assertFalse(secretChecker.isSecret("port"));
+    }
+
+    @Test
+    public void checkIsSecretSingleRuleAddSecret() {
+        SecretChecker secretChecker = new RegexSecretChecker("secret");
+
+        Assertions.assertTrue(secretChecker.isSecret("my.secret"));
+        Assertions.assertFalse(secretChecker.isSecret("port"));
+
+        secretChecker.addSecret("port");
+        Assertions.assertTrue(secretChecker.isSecret("my.secret"));
+        Assertions.assertTrue(secretChecker.isSecret("port"));
+    }
+
+    @Test
+    public void checkIsSecretBackReferences() {
+        SecretChecker secretChecker = new RegexSecretChecker(Set.of("(a)\\1", "b(c)\\1"));
+
+        Assertions.assertTrue(secretChecker.isSecret("aa"));
+        Assertions.assertTrue(secretChecker.isSecret("bcc"));
+        Assertions.assertFalse(secretChecker.isSecret("ab"));
+    }
+
+    @Test
+    public void checkIsSecretEmpty() {
+        SecretChecker secretChecker = new RegexSecretChecker(Set.of());
+
+        Assertions.assertFalse(secretChecker.isSecret("my.secret"));
+        Assertions.assertFalse(secretChecker.isSecret(null));
+    }
 }
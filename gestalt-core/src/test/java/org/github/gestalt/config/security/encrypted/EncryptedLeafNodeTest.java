@@ -2,13 +2,16 @@ package org.github.gestalt.config.security.encrypted;
 
 import org.github.gestalt.config.lexer.PathLexer;
 import org.github.gestalt.config.node.NodeType;
+import org.github.gestalt.config.reload.ReloadScheduler;
 import org.github.gestalt.config.secret.rules.SecretConcealer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javax.crypto.*;
 import javax.crypto.spec.GCMParameterSpec;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
@@ -19,6 +22,7 @@ class EncryptedLeafNodeTest {
 
     private byte[] encryptedData;
     private SecretKey secretKey;
+    private ReloadScheduler reloadScheduler;
 
     public static final String ENCRYPTION_ALGORITHM = "AES/GCM/NoPadding";
     public static final int GCM_TAG_LENGTH = 16;
@@ -26,6 +30,8 @@ class EncryptedLeafNodeTest {
 
     @BeforeEach
     void setUp() throws Exception {
+        reloadScheduler = new ReloadScheduler();
+
         // Initialize the encryption and decryption ciphers
         KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
         keyGenerator.init(128);
@@ -47,12 +53,79 @@ class EncryptedLeafNodeTest {
         encryptedData = ciphertext;
     }
 
+    @AfterEach
+    void tearDown() {
+        reloadScheduler.close();
+    }
+
     @Test
     void testGetValue() throws Exception {
         EncryptedLeafNode encryptedLeafNode = new EncryptedLeafNode(encryptedData, secretKey, Map.of());
         assertEquals(Optional.of("secretData"), encryptedLeafNode.getValue());
     }
 
+    @Test
+    void testGetValueCached() throws Exception {
+        EncryptedLeafNode encryptedLeafNode = new EncryptedLeafNode(encryptedData, secretKey, Map.of(),
+            Duration.ofMinutes(1), reloadScheduler);
+        assertEquals(Optional.of("secretData"), encryptedLeafNode.getValue());
+        assertEquals(Optional.of("secretData"), encryptedLeafNode.getValue());
+
+        encryptedLeafNode.clearPlaintext();
+        assertEquals(Optional.of("secretData"), encryptedLeafNode.getValue());
+    }
+
+    @Test
+    void testGetValueCacheExpired() throws Exception {
+        EncryptedLeafNode encryptedLeafNode = new EncryptedLeafNode(encryptedData, secretKey, Map.of(),
+            Duration.ofNanos(1), reloadScheduler);
+        assertEquals(Optional.of("secretData"), encryptedLeafNode.getValue());
+        Thread.sleep(1);
+        assertEquals(Optional.of("secretData"), encryptedLeafNode.getValue());
+    }
+
+    @Test
+    void testCacheClearedWithoutRead() throws Exception {
+        EncryptedLeafNode encryptedLeafNode = new EncryptedLeafNode(encryptedData, secretKey, Map.of(),
+            Duration.ofMillis(10), reloadScheduler);
+        assertEquals(Optional.of("secretData"), encryptedLeafNode.getValue());
+        assertTrue(encryptedLeafNode.hasPlaintext());
+
+        // the cached value is wiped once it expires, even though the node is not read again.
+        long timeout = System.currentTimeMillis() + 5000;
+        while (encryptedLeafNode.hasPlaintext() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(5);
+        }
+        assertFalse(encryptedLeafNode.hasPlaintext());
+        assertEquals(Optional.of("secretData"), encryptedLeafNode.getValue());
+    }
+
+    @Test
+    void testNotCachedOnceSchedulerClosed() throws Exception {
+        EncryptedLeafNode encryptedLeafNode = new EncryptedLeafNode(encryptedData, secretKey, Map.of(),
+            Duration.ofMinutes(1), reloadScheduler);
+        reloadScheduler.close();
+
+        // there is nothing left to wipe the value once it expires, so it is not cached.
+        assertEquals(Optional.of("secretData"), encryptedLeafNode.getValue());
+        assertFalse(encryptedLeafNode.hasPlaintext());
+
+        EncryptedLeafNode withoutScheduler = new EncryptedLeafNode(encryptedData, secretKey, Map.of(), Duration.ofMinutes(1), null);
+        assertEquals(Optional.of("secretData"), withoutScheduler.getValue());
+        assertFalse(withoutScheduler.hasPlaintext());
+    }
+
+    @Test
+    void testDuplicate() throws Exception {
+        EncryptedLeafNode encryptedLeafNode = new EncryptedLeafNode(encryptedData, secretKey, Map.of(),
+            Duration.ofMinutes(1), reloadScheduler);
+        var duplicate = encryptedLeafNode.duplicate("newData");
+
+        assertInstanceOf(EncryptedLeafNode.class, duplicate);
+        assertEquals(Optional.of("newData"), duplicate.getValue());
+        assertEquals(Optional.of("secretData"), encryptedLeafNode.getValue());
+    }
+
     @Test
     void testGetValueWithBadPaddingException() throws Exception {
         KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
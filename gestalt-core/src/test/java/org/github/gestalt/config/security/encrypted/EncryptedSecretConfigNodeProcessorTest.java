@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -166,4 +167,50 @@ class EncryptedSecretConfigNodeProcessorTest {
         Assertions.assertInstanceOf(LeafNode.class, result.results());
         Assertions.assertTrue(result.results().getValue().isEmpty());
     }
+
+    @Test
+    void testKeyPerGenerationWithCache() {
+        encryptedSecretModule = new EncryptedSecretModule(new RegexSecretChecker("secret"),
+            EncryptedSecretKeyMode.KEY_PER_GENERATION, Duration.ofMinutes(1));
+        when(configMock.getConfig()).thenReturn(gestaltConfigMock);
+        when(gestaltConfigMock.getModuleConfig(EncryptedSecretModule.class)).thenReturn(encryptedSecretModule);
+
+        processor.applyConfig(configMock);
+
+        processor.process("", new MapNode(new HashMap<>()));
+        var result = processor.process("db.secret", new LeafNode("test"));
+        var result2 = processor.process("api.secret", new LeafNode("test2"));
+
+        // start a new generation of the tree.
+        processor.process("", new MapNode(new HashMap<>()));
+        var result3 = processor.process("db.secret", new LeafNode("test3"));
+
+        Assertions.assertInstanceOf(EncryptedLeafNode.class, result.results());
+        Assertions.assertInstanceOf(EncryptedLeafNode.class, result2.results());
+        Assertions.assertInstanceOf(EncryptedLeafNode.class, result3.results());
+        Assertions.assertEquals("test", result.results().getValue().get());
+        Assertions.assertEquals("test", result.results().getValue().get());
+        Assertions.assertEquals("test2", result2.results().getValue().get());
+        Assertions.assertEquals("test3", result3.results().getValue().get());
+    }
+
+    @Test
+    void testNodesReplacedClearsPlaintext() {
+        encryptedSecretModule = new EncryptedSecretModule(new RegexSecretChecker("secret"),
+            EncryptedSecretKeyMode.KEY_PER_NODE, Duration.ofMinutes(1));
+        when(configMock.getConfig()).thenReturn(gestaltConfigMock);
+        when(gestaltConfigMock.getModuleConfig(EncryptedSecretModule.class)).thenReturn(encryptedSecretModule);
+
+        processor.applyConfig(configMock);
+
+        var result = processor.process("db.secret", new LeafNode("test"));
+        EncryptedLeafNode node = (EncryptedLeafNode) result.results();
+        Assertions.assertEquals("test", node.getValue().get());
+        Assertions.assertTrue(node.hasPlaintext());
+
+        processor.nodesReplaced(List.of(new MapNode(Map.of("db", new MapNode(Map.of("secret", node))))));
+
+        Assertions.assertFalse(node.hasPlaintext());
+        Assertions.assertEquals("test", node.getValue().get());
+    }
 }
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -59,4 +60,23 @@ class EncryptedSecretModuleBuilderTest {
         assertNotNull(module);
         assertEquals(secretChecker, module.getSecretChecker());
     }
+
+    @Test
+    void testDefaultKeyModeAndCache() {
+        EncryptedSecretModule module = EncryptedSecretModuleBuilder.builder().build();
+
+        assertEquals(EncryptedSecretKeyMode.KEY_PER_NODE, module.getKeyMode());
+        assertEquals(Duration.ZERO, module.getPlaintextCacheDuration());
+    }
+
+    @Test
+    void testSetKeyModeAndCache() {
+        EncryptedSecretModule module = EncryptedSecretModuleBuilder.builder()
+            .setKeyMode(EncryptedSecretKeyMode.KEY_PER_GENERATION)
+            .setPlaintextCacheDuration(Duration.ofSeconds(5))
+            .build();
+
+        assertEquals(EncryptedSecretKeyMode.KEY_PER_GENERATION, module.getKeyMode());
+        assertEquals(Duration.ofSeconds(5), module.getPlaintextCacheDuration());
+    }
 }
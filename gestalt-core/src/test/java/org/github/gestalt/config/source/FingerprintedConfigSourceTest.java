@@ -0,0 +1,59 @@
+package org.github.gestalt.config.source;
+
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.utils.Pair;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+class FingerprintedConfigSourceTest {
+
+    @Test
+    void streamSource() throws GestaltException, IOException {
+        StringConfigSource source = new StringConfigSource("test=abc", "properties");
+        FingerprintedConfigSource fingerprinted = FingerprintedConfigSource.of(source);
+
+        Assertions.assertEquals(64, fingerprinted.getFingerprint().length());
+        Assertions.assertTrue(fingerprinted.hasStream());
+        Assertions.assertFalse(fingerprinted.hasList());
+        Assertions.assertEquals("test=abc", new String(fingerprinted.loadStream().readAllBytes(), StandardCharsets.UTF_8));
+        Assertions.assertThrows(GestaltException.class, fingerprinted::loadList);
+
+        Assertions.assertSame(source, fingerprinted.getDelegate());
+        Assertions.assertEquals(source.id(), fingerprinted.id());
+        Assertions.assertEquals(source.name(), fingerprinted.name());
+        Assertions.assertEquals("properties", fingerprinted.format());
+        Assertions.assertTrue(fingerprinted.failOnErrors());
+    }
+
+    @Test
+    void sameContentSameFingerprint() throws GestaltException {
+        var fingerprint = FingerprintedConfigSource.of(new StringConfigSource("test=abc", "properties")).getFingerprint();
+
+        Assertions.assertEquals(fingerprint,
+            FingerprintedConfigSource.of(new StringConfigSource("test=abc", "properties")).getFingerprint());
+        Assertions.assertNotEquals(fingerprint,
+            FingerprintedConfigSource.of(new StringConfigSource("test=abd", "properties")).getFingerprint());
+    }
+
+    @Test
+    void listSource() throws GestaltException {
+        MapConfigSource source = new MapConfigSource(Map.of("db.port", "3306"));
+        FingerprintedConfigSource fingerprinted = FingerprintedConfigSource.of(source);
+
+        Assertions.assertTrue(fingerprinted.hasList());
+        Assertions.assertFalse(fingerprinted.hasStream());
+        Assertions.assertEquals(List.of(new Pair<>("db.port", "3306")), fingerprinted.loadList());
+        Assertions.assertThrows(GestaltException.class, fingerprinted::loadStream);
+
+        Assertions.assertEquals(fingerprinted.getFingerprint(),
+            FingerprintedConfigSource.of(new MapConfigSource(Map.of("db.port", "3306"))).getFingerprint());
+        // values can not run together with the keys.
+        Assertions.assertNotEquals(fingerprinted.getFingerprint(),
+            FingerprintedConfigSource.of(new MapConfigSource(Map.of("db.por", "t3306"))).getFingerprint());
+    }
+}
@@ -0,0 +1,188 @@
+package org.github.gestalt.config.source;
+
+import com.sun.net.httpserver.HttpServer;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpConfigSourceTest {
+
+    private HttpServer server;
+    private String url;
+    private final AtomicReference<String> body = new AtomicReference<>("db.port=3306");
+    private final AtomicInteger version = new AtomicInteger(1);
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private final AtomicReference<String> authorization = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/config.properties", exchange -> {
+            authorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            String etag = "\"" + version.get() + "\"";
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+
+            fullResponses.incrementAndGet();
+            byte[] response = body.get().getBytes(StandardCharsets.UTF_8);
+            if ("gzip".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"))) {
+                ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                    gzip.write(response);
+                }
+                response = compressed.toByteArray();
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            }
+            exchange.getResponseHeaders().add("ETag", etag);
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.createContext("/unconditional.properties", exchange -> {
+            fullResponses.incrementAndGet();
+            byte[] response = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.createContext("/missing.properties", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private static String read(InputStream is) throws IOException {
+        try (is) {
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void loadStream() throws GestaltException, IOException {
+        HttpConfigSource source = new HttpConfigSource(url + "/config.properties");
+
+        Assertions.assertTrue(source.hasStream());
+        Assertions.assertEquals("db.port=3306", read(source.loadStream()));
+        Assertions.assertEquals(1, fullResponses.get());
+    }
+
+    @Test
+    void conditionalRequestNotModified() throws GestaltException, IOException {
+        HttpConfigSource source = new HttpConfigSource(url + "/config.properties");
+
+        Assertions.assertEquals("db.port=3306", read(source.loadStream()));
+        Assertions.assertEquals("db.port=3306", read(source.loadStream()));
+        Assertions.assertEquals(1, fullResponses.get());
+        Assertions.assertEquals(1, notModifiedResponses.get());
+
+        body.set("db.port=3307");
+        version.incrementAndGet();
+        Assertions.assertEquals("db.port=3307", read(source.loadStream()));
+        Assertions.assertEquals(2, fullResponses.get());
+    }
+
+    @Test
+    void waitForChange() throws GestaltException {
+        HttpConfigSource source = new HttpConfigSource(url + "/config.properties");
+
+        // the first response is not a change.
+        Assertions.assertFalse(source.waitForChange(Duration.ofSeconds(1)));
+        Assertions.assertFalse(source.waitForChange(Duration.ofSeconds(1)));
+
+        body.set("db.port=3307");
+        version.incrementAndGet();
+        Assertions.assertTrue(source.waitForChange(Duration.ofSeconds(1)));
+        Assertions.assertFalse(source.waitForChange(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void waitForChangeWithoutConditionalRequests() throws GestaltException, IOException {
+        HttpConfigSource source = new HttpConfigSource(url + "/unconditional.properties");
+
+        // the server always responds with the full body, only a different body is a change.
+        Assertions.assertFalse(source.waitForChange(Duration.ofSeconds(1)));
+        Assertions.assertFalse(source.waitForChange(Duration.ofSeconds(1)));
+
+        body.set("db.port=3307");
+        Assertions.assertTrue(source.waitForChange(Duration.ofSeconds(1)));
+        Assertions.assertEquals(3, fullResponses.get());
+
+        // the load after the change serves the body the poll downloaded.
+        Assertions.assertEquals("db.port=3307", read(source.loadStream()));
+        Assertions.assertEquals(3, fullResponses.get());
+        Assertions.assertEquals("db.port=3307", read(source.loadStream()));
+        Assertions.assertEquals(4, fullResponses.get());
+    }
+
+    @Test
+    void headersAndFormat() throws GestaltException, IOException {
+        HttpConfigSource source = new HttpConfigSource(url + "/config.properties", null, Duration.ofSeconds(5),
+            Map.of("Authorization", "Bearer token"), "props");
+
+        read(source.loadStream());
+        Assertions.assertEquals("Bearer token", authorization.get());
+        Assertions.assertEquals("props", source.format());
+        Assertions.assertEquals(Duration.ofSeconds(5), source.getTimeout());
+    }
+
+    @Test
+    void errorStatus() throws GestaltException {
+        HttpConfigSource source = new HttpConfigSource(url + "/missing.properties");
+
+        GestaltException exception = Assertions.assertThrows(GestaltException.class, source::loadStream);
+        Assertions.assertEquals("Unable to load " + url + "/missing.properties, received status code: 404", exception.getMessage());
+    }
+
+    @Test
+    void loadNull() {
+        GestaltException exception = Assertions.assertThrows(GestaltException.class, () -> new HttpConfigSource(null));
+
+        Assertions.assertEquals("The url string provided was null", exception.getMessage());
+    }
+
+    @Test
+    void notHttp() {
+        GestaltException exception = Assertions.assertThrows(GestaltException.class,
+            () -> new HttpConfigSource("file:///tmp/a.properties"));
+
+        Assertions.assertEquals("The url file:///tmp/a.properties must use http or https", exception.getMessage());
+    }
+
+    @Test
+    void nameAndFormat() throws GestaltException {
+        HttpConfigSource source = new HttpConfigSource(url + "/config.properties");
+
+        assertThat(source.name()).contains("HTTP format: ").contains(url);
+        Assertions.assertEquals("properties", source.format());
+        Assertions.assertFalse(source.hasList());
+        Assertions.assertThrows(GestaltException.class, source::loadList);
+        Assertions.assertNotEquals(source, new HttpConfigSource(url + "/config.properties"));
+    }
+}
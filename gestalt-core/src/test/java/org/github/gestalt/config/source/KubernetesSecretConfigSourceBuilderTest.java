@@ -57,4 +57,15 @@ class KubernetesSecretConfigSourceBuilderTest {
             fail("Exception thrown during build: " + e.getMessage());
         }
     }
+
+    @Test
+    void testBuildMaxFileSize() throws Exception {
+        KubernetesSecretConfigSourceBuilder builder = KubernetesSecretConfigSourceBuilder.builder()
+            .setPath(kubernetesPath)
+            .setMaxFileSize(1024);
+        assertEquals(1024, builder.getMaxFileSize());
+
+        KubernetesSecretConfigSource source = (KubernetesSecretConfigSource) builder.build().getConfigSource();
+        assertEquals(1024, source.getMaxFileSize());
+    }
 }
@@ -15,6 +15,8 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -151,4 +153,75 @@ class KubernetesSecretConfigSourceTest {
         KubernetesSecretConfigSource source = new KubernetesSecretConfigSource(kubernetesPath);
         Assertions.assertTrue(source.hashCode() != 0);
     }
+
+    @Test
+    void loadListProjectedVolume() throws GestaltException, IOException {
+        Path volume = Files.createTempDirectory("gestalt-k8s");
+        Path first = Files.createDirectory(volume.resolve("..2024_01_01_00_00_00.1"));
+        Files.writeString(first.resolve("db.password"), "abcdef");
+        Files.writeString(first.resolve("db.user"), "admin");
+        Files.createSymbolicLink(volume.resolve("..data"), first.getFileName());
+        Files.createSymbolicLink(volume.resolve("db.password"), Path.of("..data", "db.password"));
+        Files.createSymbolicLink(volume.resolve("db.user"), Path.of("..data", "db.user"));
+
+        KubernetesSecretConfigSource source = new KubernetesSecretConfigSource(volume);
+        Assertions.assertEquals(List.of(new Pair<>("db.password", "abcdef"), new Pair<>("db.user", "admin")), source.loadList());
+
+        // swap the ..data link the way Kubernetes does, removing the db.user key.
+        Path second = Files.createDirectory(volume.resolve("..2024_01_01_00_00_00.2"));
+        Files.writeString(second.resolve("db.password"), "ghijkl");
+        Files.createSymbolicLink(volume.resolve("..data_tmp"), second.getFileName());
+        Files.move(volume.resolve("..data_tmp"), volume.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+
+        Assertions.assertEquals(List.of(new Pair<>("db.password", "ghijkl")), source.loadList());
+    }
+
+    @Test
+    void loadListReadsChangedFiles() throws GestaltException, IOException {
+        Path volume = Files.createTempDirectory("gestalt-k8s");
+        Files.writeString(volume.resolve("db.password"), "abcdef");
+        Files.writeString(volume.resolve("db.user"), "admin");
+
+        KubernetesSecretConfigSource source = new KubernetesSecretConfigSource(volume);
+        Assertions.assertEquals(List.of(new Pair<>("db.password", "abcdef"), new Pair<>("db.user", "admin")), source.loadList());
+
+        Files.writeString(volume.resolve("db.password"), "a longer password");
+        Assertions.assertEquals(List.of(new Pair<>("db.password", "a longer password"), new Pair<>("db.user", "admin")),
+            source.loadList());
+    }
+
+    @Test
+    void loadListManyFiles() throws GestaltException, IOException {
+        Path volume = Files.createTempDirectory("gestalt-k8s");
+        for (int i = 0; i < 100; i++) {
+            Files.writeString(volume.resolve(String.format("key%03d", i)), "value" + i);
+        }
+
+        KubernetesSecretConfigSource source = new KubernetesSecretConfigSource(volume);
+        var results = source.loadList();
+        assertThat(results).hasSize(100);
+        Assertions.assertEquals(new Pair<>("key000", "value0"), results.get(0));
+        Assertions.assertEquals(new Pair<>("key099", "value99"), results.get(99));
+    }
+
+    @Test
+    void loadListFileTooLarge() throws GestaltException, IOException {
+        Path volume = Files.createTempDirectory("gestalt-k8s");
+        Files.writeString(volume.resolve("db.password"), "abcdef");
+        Files.writeString(volume.resolve("large"), "0123456789");
+
+        KubernetesSecretConfigSource source = new KubernetesSecretConfigSource(volume, 8);
+        Assertions.assertEquals(8, source.getMaxFileSize());
+
+        GestaltException exception = Assertions.assertThrows(GestaltException.class, source::loadList);
+        Assertions.assertEquals("Kubernetes Secret file " + volume.resolve("large") + " is 10 bytes, larger than the max file size of 8",
+            exception.getMessage());
+    }
+
+    @Test
+    void invalidMaxFileSize() {
+        GestaltException exception = Assertions.assertThrows(GestaltException.class,
+            () -> new KubernetesSecretConfigSource(kubernetesPath, 0));
+        Assertions.assertEquals("Kubernetes Secret max file size must be greater than 0, provided: 0", exception.getMessage());
+    }
 }
@@ -134,6 +134,53 @@ class TagsTest {
         Assertions.assertNotEquals(tags.hashCode(), tags3.hashCode());
     }
 
+    @Test
+    void testInterned() throws GestaltException {
+        Tags tags = Tags.of("toy", "ball", "toy", "bat");
+        Tags tags2 = Tags.of(List.of(Tag.of("toy", "bat"), Tag.of("toy", "ball")));
+
+        Assertions.assertSame(tags, tags2);
+        Assertions.assertSame(Tags.of(), Tags.of(List.of()));
+    }
+
+    @Test
+    void tagsAndTagsMemoized() throws GestaltException {
+        var t1 = Tags.of("toy", "ball");
+        var t2 = Tags.of("toy", "bat");
+
+        var merged = t1.and(t2);
+        Assertions.assertSame(merged, t1.and(t2));
+        Assertions.assertSame(merged, t2.and(t1));
+        Assertions.assertEquals(Tags.of("toy", "ball", "toy", "bat"), merged);
+    }
+
+    @Test
+    void tagsEmptyAndTags() throws GestaltException {
+        var t1 = Tags.of("toy", "ball");
+
+        Assertions.assertSame(t1, Tags.of().and(t1));
+    }
+
+    @Test
+    void testIsSubsetOf() throws GestaltException {
+        var t1 = Tags.of("toy", "ball");
+        var t2 = Tags.of("toy", "ball", "toy", "bat", "game", "chess");
+
+        Assertions.assertTrue(t1.isSubsetOf(t2));
+        Assertions.assertTrue(t1.isSubsetOf(t1));
+        Assertions.assertTrue(Tags.of().isSubsetOf(t1));
+        Assertions.assertFalse(t2.isSubsetOf(t1));
+        Assertions.assertFalse(t1.isSubsetOf(Tags.of()));
+        Assertions.assertFalse(Tags.of("toy", "car").isSubsetOf(t2));
+    }
+
+    @Test
+    void testGetTagsImmutable() throws GestaltException {
+        var t1 = Tags.of("toy", "ball");
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> t1.getTags().add(Tag.of("toy", "bat")));
+    }
+
     @Test
     void testToString() {
         List<Tag> tagList = List.of(Tag.of("toy", "ball"), Tag.of("toy", "bat"));
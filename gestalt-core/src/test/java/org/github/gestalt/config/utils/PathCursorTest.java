@@ -0,0 +1,43 @@
+package org.github.gestalt.config.utils;
+
+import org.github.gestalt.config.lexer.PathLexer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class PathCursorTest {
+
+    @Test
+    void root() {
+        Assertions.assertEquals("", PathCursor.root(new PathLexer()).getPath());
+        Assertions.assertEquals("", PathCursor.of(new PathLexer(), null).getPath());
+        Assertions.assertEquals("my.path", PathCursor.of(new PathLexer(), "my.path").toString());
+    }
+
+    @Test
+    void keysAndIndexes() {
+        PathCursor root = PathCursor.root(new PathLexer());
+        PathCursor db = root.key("db");
+
+        Assertions.assertEquals("db.hosts[1].name", db.key("hosts").index(1).key("name").getPath());
+        Assertions.assertEquals("db.connection.pool.size", db.keys(List.of("connection", "pool")).key("size").getPath());
+        Assertions.assertEquals("[0][2]", root.index(0).index(2).getPath());
+        Assertions.assertEquals("my.path.test[3]", PathCursor.of(new PathLexer(), "my.path").key("test").index(3).getPath());
+    }
+
+    @Test
+    void customDelimiter() {
+        Assertions.assertEquals("my_path_test", PathCursor.of(new PathLexer("_"), "my_path").key("test").getPath());
+    }
+
+    @Test
+    void sameAsPathUtil() {
+        PathLexer lexer = new PathLexer();
+        PathCursor cursor = PathCursor.root(lexer).key("a").index(0).keys(List.of("b", "c"));
+
+        Assertions.assertEquals(PathUtil.pathForKey(lexer, PathUtil.pathForIndex(lexer, "a", 0), List.of("b", "c")), cursor.getPath());
+        // once rendered the same path is returned.
+        Assertions.assertSame(cursor.getPath(), cursor.getPath());
+    }
+}
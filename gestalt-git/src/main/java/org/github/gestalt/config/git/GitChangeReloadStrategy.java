@@ -0,0 +1,116 @@
+package org.github.gestalt.config.git;
+
+import org.github.gestalt.config.exceptions.GestaltConfigurationException;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.reload.ConfigReloadListener;
+import org.github.gestalt.config.reload.ConfigReloadStrategy;
+import org.github.gestalt.config.reload.ReloadScheduler;
+import org.github.gestalt.config.reload.ScheduledReload;
+import org.github.gestalt.config.source.ConfigSourcePackage;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Reloads a {@link GitConfigSource} only when the config file has changed in git.
+ *
+ * <p>Every check compares the remote branch to the local head using ls-remote, which only transfers the refs.
+ * Only if the branch has moved is it fetched and the local repo updated, and only if the config file blob has changed is the source
+ * reloaded. The checks run on the shared {@link ReloadScheduler}, starting once the first listener is registered.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class GitChangeReloadStrategy extends ConfigReloadStrategy {
+
+    private final Duration checkDelay;
+    private final Duration jitter;
+    private ScheduledReload scheduledReload;
+
+    /**
+     * Constructor for GitChangeReloadStrategy.
+     *
+     * @param checkDelay how often to check git for changes
+     */
+    public GitChangeReloadStrategy(Duration checkDelay) {
+        this(checkDelay, Duration.ZERO);
+    }
+
+    /**
+     * Constructor for GitChangeReloadStrategy.
+     *
+     * @param checkDelay how often to check git for changes
+     * @param jitter     max random delay added to each check, so sources with the same delay do not all check at once
+     */
+    public GitChangeReloadStrategy(Duration checkDelay, Duration jitter) {
+        Objects.requireNonNull(checkDelay, "Check Delay must be set for a GitChangeReloadStrategy");
+        Objects.requireNonNull(jitter, "Jitter must be set for a GitChangeReloadStrategy");
+        this.checkDelay = checkDelay;
+        this.jitter = jitter;
+    }
+
+    @Override
+    public void setSource(ConfigSourcePackage source) throws GestaltConfigurationException {
+        if (!(source.getConfigSource() instanceof GitConfigSource)) {
+            throw new GestaltConfigurationException("Unable to add a GitChangeReloadStrategy to a source that is not a GitConfigSource: " +
+                source.getConfigSource().name());
+        }
+        super.setSource(source);
+    }
+
+    /**
+     * Get the scheduled check, so the next run time and last duration can be observed. Empty until a listener is registered.
+     *
+     * @return the scheduled check
+     */
+    public synchronized Optional<ScheduledReload> getScheduledReload() {
+        return Optional.ofNullable(scheduledReload);
+    }
+
+    /**
+     * Check git for changes, and reload the source if the config file has changed.
+     *
+     * @throws GestaltException if unable to check git or reload the source
+     */
+    public void checkForChanges() throws GestaltException {
+        if (source == null) {
+            throw new GestaltException("No source set for the GitChangeReloadStrategy, unable to check for changes");
+        }
+
+        if (((GitConfigSource) source.getConfigSource()).updateIfChanged()) {
+            reload();
+        }
+    }
+
+    @Override
+    public synchronized void setReloadScheduler(ReloadScheduler reloadScheduler) {
+        super.setReloadScheduler(reloadScheduler);
+        // move any running checks onto the new scheduler.
+        if (scheduledReload != null) {
+            scheduledReload.cancel();
+            startTimer();
+        }
+    }
+
+    @Override
+    public synchronized void registerListener(ConfigReloadListener listener) {
+        super.registerListener(listener);
+        if (scheduledReload == null) {
+            startTimer();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        super.close();
+        if (scheduledReload != null) {
+            scheduledReload.cancel();
+            scheduledReload = null;
+        }
+    }
+
+    private void startTimer() {
+        String name = source != null ? source.getConfigSource().name() : "unknown";
+        scheduledReload = getReloadScheduler().schedule(name, checkDelay, jitter, this::checkForChanges);
+    }
+}
@@ -2,11 +2,23 @@ package org.github.gestalt.config.git;
 
 
 import org.eclipse.jgit.api.CloneCommand;
+import org.eclipse.jgit.api.FetchCommand;
 import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.api.TransportCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.RefSpec;
 import org.eclipse.jgit.transport.SshSessionFactory;
 import org.eclipse.jgit.transport.SshTransport;
+import org.eclipse.jgit.treewalk.TreeWalk;
 import org.github.gestalt.config.exceptions.GestaltException;
 import org.github.gestalt.config.source.ConfigSource;
 import org.github.gestalt.config.source.ConfigSourcePackage;
@@ -20,13 +32,18 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 /**
  * Loads a file from git.
  *
+ * <p>The repo can be cloned shallow, with only the latest commit, and with a sparse checkout of only the config file.
+ * Use the {@link GitChangeReloadStrategy} to reload the source only when the branch has moved and the config file has changed.
+ *
  * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
  */
 public final class GitConfigSource implements ConfigSource {
@@ -34,8 +51,15 @@ public final class GitConfigSource implements ConfigSource {
     private final UUID id = UUID.randomUUID();
     private final Path localRepoDirectory;
     private final String configFilePath;
+    private final String branch;
+    private final CredentialsProvider credentials;
+    private final SshSessionFactory sshSessionFactory;
+    private final int depth;
+    private final boolean sparseCheckout;
     private final Tags tags;
     private Git clonedRepo;
+    // the id of the config file blob at the local head, used to skip reloading when the file has not changed.
+    private ObjectId configFileBlobId;
 
     /**
      * Create a new GitConfigSources.
@@ -51,7 +75,26 @@ public final class GitConfigSource implements ConfigSource {
      */
     public GitConfigSource(String repoURI, Path localRepoDirectory, String configFilePath, String branch, CredentialsProvider credentials,
                            SshSessionFactory sshSessionFactory) throws GestaltException {
-        this(repoURI, localRepoDirectory, configFilePath, branch, credentials, sshSessionFactory, Tags.of());
+        this(repoURI, localRepoDirectory, configFilePath, branch, credentials, sshSessionFactory, 0, false, Tags.of());
+    }
+
+    /**
+     * Create a new GitConfigSources.
+     *
+     * @param repoURI the URI to the git repo
+     * @param localRepoDirectory the local directory you want to save the git repo to.
+     * @param configFilePath the path to the config file in the git repo
+     * @param branch the branch you want to pull from git
+     * @param credentials If authenticating with credentials, the CredentialsProvider such as UsernamePasswordCredentialsProvider
+     * @param sshSessionFactory If using sshd the SshSessionFactory, this uses  apache mina-sshd.
+     *     The easiest way is to use the apache mina-sshd SshdSessionFactoryBuilder.
+     * @param depth the number of commits to clone and fetch, 1 for a shallow clone of only the latest commit. 0 for the full history.
+     * @param sparseCheckout if only the config file should be checked out
+     * @throws GestaltException if there is a badly configured git repo
+     */
+    public GitConfigSource(String repoURI, Path localRepoDirectory, String configFilePath, String branch, CredentialsProvider credentials,
+                           SshSessionFactory sshSessionFactory, int depth, boolean sparseCheckout) throws GestaltException {
+        this(repoURI, localRepoDirectory, configFilePath, branch, credentials, sshSessionFactory, depth, sparseCheckout, Tags.of());
     }
 
     /**
@@ -71,6 +114,11 @@ public final class GitConfigSource implements ConfigSource {
     @Deprecated(since = "0.26.0", forRemoval = true)
     public GitConfigSource(String repoURI, Path localRepoDirectory, String configFilePath, String branch, CredentialsProvider credentials,
                            SshSessionFactory sshSessionFactory, Tags tags) throws GestaltException {
+        this(repoURI, localRepoDirectory, configFilePath, branch, credentials, sshSessionFactory, 0, false, tags);
+    }
+
+    private GitConfigSource(String repoURI, Path localRepoDirectory, String configFilePath, String branch, CredentialsProvider credentials,
+                            SshSessionFactory sshSessionFactory, int depth, boolean sparseCheckout, Tags tags) throws GestaltException {
         if (repoURI == null) {
             throw new GestaltException("Must provide a git repo URI");
         }
@@ -80,19 +128,34 @@ public final class GitConfigSource implements ConfigSource {
         if (configFilePath == null) {
             throw new GestaltException("Must provide a path to the configuration file");
         }
+        if (depth < 0) {
+            throw new GestaltException("The clone depth must be 0 for the full history or greater, provided: " + depth);
+        }
 
         this.localRepoDirectory = localRepoDirectory;
         this.configFilePath = configFilePath;
+        this.branch = branch;
+        this.credentials = credentials;
+        this.sshSessionFactory = sshSessionFactory;
+        this.depth = depth;
+        this.sparseCheckout = sparseCheckout;
         this.tags = tags;
 
-        initializeGitRepo(repoURI, localRepoDirectory, branch, credentials, sshSessionFactory);
+        initializeGitRepo(repoURI, localRepoDirectory);
     }
 
-    private void initializeGitRepo(String repoURI, Path localRepoDirectory, String branch, CredentialsProvider credentials,
-                                   SshSessionFactory sshSessionFactory) throws GestaltException {
+    private void initializeGitRepo(String repoURI, Path localRepoDirectory) throws GestaltException {
         try {
             if (Files.exists(localRepoDirectory) && Files.exists(localRepoDirectory.resolve(".git"))) {
                 clonedRepo = Git.open(localRepoDirectory.toFile());
+                if (depth > 0 || sparseCheckout) {
+                    ObjectId latest = fetchLatest();
+                    if (latest != null) {
+                        updateLocalHead(latest);
+                    }
+                } else {
+                    pullLatest(credentials, sshSessionFactory);
+                }
             } else {
                 deleteLocalDirectory(localRepoDirectory);
 
@@ -100,27 +163,155 @@ public final class GitConfigSource implements ConfigSource {
                 CloneCommand builder = Git.cloneRepository()
                                           .setURI(repoURI)
                                           .setBranch(branch)
+                                          .setNoCheckout(sparseCheckout)
                                           .setDirectory(localRepoDirectory.toFile());
-
-                if (credentials != null) {
-                    builder.setCredentialsProvider(credentials);
-                } else if (sshSessionFactory != null) {
-                    builder.setTransportConfigCallback(transport -> {
-                        if (transport instanceof SshTransport) {
-                            ((SshTransport) transport).setSshSessionFactory(sshSessionFactory);
-                        }
-                    });
+                if (depth > 0) {
+                    builder.setDepth(depth);
                 }
+                configureTransport(builder);
 
                 clonedRepo = builder.call();
+                if (sparseCheckout) {
+                    checkoutConfigFile(clonedRepo.getRepository().resolve(Constants.HEAD));
+                } else if (depth == 0) {
+                    pullLatest(credentials, sshSessionFactory);
+                }
             }
 
-            pullLatest(credentials, sshSessionFactory);
+            configFileBlobId = findConfigFileBlobId(clonedRepo.getRepository().resolve(Constants.HEAD));
         } catch (IOException | GitAPIException e) {
             throw new GestaltException("unable to clone git repo to local machine with error " + e.getMessage(), e);
         }
     }
 
+    private void configureTransport(TransportCommand<?, ?> command) {
+        if (credentials != null) {
+            command.setCredentialsProvider(credentials);
+        } else if (sshSessionFactory != null) {
+            command.setTransportConfigCallback(transport -> {
+                if (transport instanceof SshTransport) {
+                    ((SshTransport) transport).setSshSessionFactory(sshSessionFactory);
+                }
+            });
+        }
+    }
+
+    /**
+     * Compare the remote branch to the local head, and only if the branch has moved fetch and update the local repo.
+     * Even if the branch has moved, the config file may not have changed, so the blob id of the config file is compared as well.
+     *
+     * @return true if the config file has changed and the source should be reloaded
+     * @throws GestaltException if unable to check or update the local repo
+     */
+    synchronized boolean updateIfChanged() throws GestaltException {
+        try {
+            Repository repository = clonedRepo.getRepository();
+            ObjectId localHead = repository.resolve(Constants.HEAD);
+            ObjectId remoteHead = findRemoteHead();
+            if (remoteHead != null && remoteHead.equals(localHead)) {
+                return false;
+            }
+
+            ObjectId latest = fetchLatest();
+            if (latest == null || latest.equals(localHead)) {
+                return false;
+            }
+            updateLocalHead(latest);
+
+            ObjectId newConfigFileBlobId = findConfigFileBlobId(latest);
+            if (Objects.equals(newConfigFileBlobId, configFileBlobId)) {
+                return false;
+            }
+            configFileBlobId = newConfigFileBlobId;
+            return true;
+        } catch (IOException | GitAPIException e) {
+            throw new GestaltException("unable to check git repo for changes with error " + e.getMessage(), e);
+        }
+    }
+
+    // ls-remote only transfers the refs, so it is a cheap way to tell if the branch has moved.
+    private ObjectId findRemoteHead() throws GitAPIException, IOException {
+        var lsRemote = clonedRepo.lsRemote().setHeads(true);
+        configureTransport(lsRemote);
+        Map<String, Ref> remoteRefs = lsRemote.callAsMap();
+        Ref remoteRef = remoteRefs.get(Constants.R_HEADS + clonedRepo.getRepository().getBranch());
+        return remoteRef != null ? remoteRef.getObjectId() : null;
+    }
+
+    private ObjectId fetchLatest() throws GitAPIException, IOException {
+        Repository repository = clonedRepo.getRepository();
+        String localBranch = repository.getBranch();
+        String trackingRef = Constants.R_REMOTES + Constants.DEFAULT_REMOTE_NAME + "/" + localBranch;
+        FetchCommand fetch = clonedRepo.fetch()
+                                       .setRefSpecs(new RefSpec("+" + Constants.R_HEADS + localBranch + ":" + trackingRef));
+        if (depth > 0) {
+            fetch.setDepth(depth);
+        }
+        configureTransport(fetch);
+        fetch.call();
+
+        return repository.resolve(trackingRef);
+    }
+
+    private void updateLocalHead(ObjectId commit) throws GitAPIException, IOException {
+        if (sparseCheckout) {
+            // move the branch without touching the working tree, then check out only the config file.
+            RefUpdate refUpdate = clonedRepo.getRepository().updateRef(Constants.HEAD);
+            refUpdate.setNewObjectId(commit);
+            refUpdate.forceUpdate();
+            checkoutConfigFile(commit);
+        } else {
+            clonedRepo.reset().setMode(ResetCommand.ResetType.HARD).setRef(commit.name()).call();
+        }
+    }
+
+    private void checkoutConfigFile(ObjectId commit) throws GitAPIException {
+        if (commit != null) {
+            clonedRepo.checkout().setStartPoint(commit.name()).addPath(configFilePath).call();
+        }
+    }
+
+    private ObjectId findConfigFileBlobId(ObjectId commit) throws IOException {
+        if (commit == null) {
+            return null;
+        }
+
+        Repository repository = clonedRepo.getRepository();
+        try (RevWalk revWalk = new RevWalk(repository)) {
+            RevCommit revCommit = revWalk.parseCommit(commit);
+            try (TreeWalk treeWalk = TreeWalk.forPath(repository, configFilePath, revCommit.getTree())) {
+                return treeWalk != null ? treeWalk.getObjectId(0) : null;
+            }
+        }
+    }
+
+    /**
+     * Get the id of the config file blob at the local head, empty if the config file is not in the repo.
+     *
+     * @return the id of the config file blob
+     */
+    public synchronized Optional<String> getConfigFileBlobId() {
+        return Optional.ofNullable(configFileBlobId).map(ObjectId::name);
+    }
+
+    /**
+     * Get the number of commits cloned and fetched, 0 for the full history.
+     *
+     * @return the number of commits cloned and fetched
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Get if only the config file is checked out.
+     *
+     * @return if only the config file is checked out
+     */
+    public boolean isSparseCheckout() {
+        return sparseCheckout;
+    }
+
     private void deleteLocalDirectory(Path dir) throws IOException {
         try (Stream<Path> pathStream = Files.walk(dir)) {
             pathStream.sorted(Comparator.reverseOrder())
@@ -20,6 +20,8 @@ public final class GitConfigSourceBuilder extends SourceBuilder<GitConfigSourceB
     private String branch;
     private CredentialsProvider credentials;
     private SshSessionFactory sshSessionFactory;
+    private int depth = 0;
+    private boolean sparseCheckout = false;
 
     /**
      * private constructor, use the builder method.
@@ -104,6 +106,29 @@ public final class GitConfigSourceBuilder extends SourceBuilder<GitConfigSourceB
         return this;
     }
 
+    /**
+     * Set the number of commits to clone and fetch. Use 1 for a shallow clone with only the latest commit.
+     * Defaults to 0, the full history.
+     *
+     * @param depth the number of commits to clone and fetch
+     * @return the builder
+     */
+    public GitConfigSourceBuilder setDepth(int depth) {
+        this.depth = depth;
+        return this;
+    }
+
+    /**
+     * Set if only the config file should be checked out, rather than the whole repo.
+     *
+     * @param sparseCheckout if only the config file should be checked out
+     * @return the builder
+     */
+    public GitConfigSourceBuilder setSparseCheckout(boolean sparseCheckout) {
+        this.sparseCheckout = sparseCheckout;
+        return this;
+    }
+
 
     /**
      * Builds the GitConfigSource, The GitConfigSource will try and download the repo to the provided folder.
@@ -114,6 +139,7 @@ public final class GitConfigSourceBuilder extends SourceBuilder<GitConfigSourceB
      */
     @Override
     public ConfigSourcePackage build() throws GestaltException {
-        return buildPackage(new GitConfigSource(repoURI, localRepoDirectory, configFilePath, branch, credentials, sshSessionFactory));
+        return buildPackage(new GitConfigSource(repoURI, localRepoDirectory, configFilePath, branch, credentials, sshSessionFactory,
+            depth, sparseCheckout));
     }
 }
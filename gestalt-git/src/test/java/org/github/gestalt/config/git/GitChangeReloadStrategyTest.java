@@ -0,0 +1,181 @@
+package org.github.gestalt.config.git;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.transport.RefSpec;
+import org.github.gestalt.config.Gestalt;
+import org.github.gestalt.config.builder.GestaltBuilder;
+import org.github.gestalt.config.exceptions.GestaltConfigurationException;
+import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.reload.CoreReloadListener;
+import org.github.gestalt.config.source.MapConfigSourceBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+class GitChangeReloadStrategyTest {
+
+    private Path remoteDirectory;
+    private Git workingRepo;
+    private Path workingDirectory;
+    private Path localDirectory;
+
+    @BeforeEach
+    void setUp() throws IOException, GitAPIException {
+        remoteDirectory = Files.createTempDirectory("gitRemote");
+        remoteDirectory.toFile().deleteOnExit();
+        Git.init().setBare(true).setInitialBranch("main").setDirectory(remoteDirectory.toFile()).call().close();
+
+        workingDirectory = Files.createTempDirectory("gitWorking");
+        workingDirectory.toFile().deleteOnExit();
+        workingRepo = Git.cloneRepository().setURI(remoteURI()).setDirectory(workingDirectory.toFile()).call();
+
+        Files.createDirectories(workingDirectory.resolve("config"));
+        commit("config/app.properties", "db.port=3306\n");
+        commit("other.txt", "other");
+
+        localDirectory = Files.createTempDirectory("gitLocal");
+        localDirectory.toFile().deleteOnExit();
+    }
+
+    @AfterEach
+    void tearDown() {
+        workingRepo.close();
+    }
+
+    private String remoteURI() {
+        return remoteDirectory.toUri().toString();
+    }
+
+    private void commit(String file, String content) throws IOException, GitAPIException {
+        Files.writeString(workingDirectory.resolve(file), content);
+        workingRepo.add().addFilepattern(".").call();
+        workingRepo.commit().setMessage("update " + file).call();
+        workingRepo.push().setRefSpecs(new RefSpec("HEAD:refs/heads/main")).call();
+    }
+
+    private void reloadOnlyWhenConfigFileChanges(int depth, boolean sparseCheckout) throws GestaltException, IOException,
+        GitAPIException {
+        GitChangeReloadStrategy reloadStrategy = new GitChangeReloadStrategy(Duration.ofMinutes(10));
+        CoreListener coreListener = new CoreListener();
+
+        Gestalt gestalt = new GestaltBuilder()
+            .addSource(GitConfigSourceBuilder.builder()
+                .setRepoURI(remoteURI())
+                .setLocalRepoDirectory(localDirectory)
+                .setConfigFilePath("config/app.properties")
+                .setBranch("main")
+                .setDepth(depth)
+                .setSparseCheckout(sparseCheckout)
+                .addConfigReloadStrategy(reloadStrategy)
+                .build())
+            .addCoreReloadListener(coreListener)
+            .useCacheDecorator(false)
+            .build();
+        gestalt.loadConfigs();
+
+        Assertions.assertEquals(3306, gestalt.getConfig("db.port", Integer.class));
+        Assertions.assertEquals(!sparseCheckout, Files.exists(localDirectory.resolve("other.txt")));
+        Assertions.assertTrue(reloadStrategy.getScheduledReload().isPresent());
+
+        // the branch has not moved.
+        reloadStrategy.checkForChanges();
+        Assertions.assertEquals(0, coreListener.count);
+
+        // the branch has moved, but the config file is unchanged.
+        commit("other.txt", "other2");
+        reloadStrategy.checkForChanges();
+        Assertions.assertEquals(0, coreListener.count);
+
+        commit("config/app.properties", "db.port=3307\n");
+        reloadStrategy.checkForChanges();
+        Assertions.assertEquals(1, coreListener.count);
+        Assertions.assertEquals(3307, gestalt.getConfig("db.port", Integer.class));
+
+        gestalt.close();
+        Assertions.assertTrue(reloadStrategy.getScheduledReload().isEmpty());
+    }
+
+    @Test
+    void reloadFullClone() throws GestaltException, IOException, GitAPIException {
+        reloadOnlyWhenConfigFileChanges(0, false);
+    }
+
+    @Test
+    void reloadShallowClone() throws GestaltException, IOException, GitAPIException {
+        reloadOnlyWhenConfigFileChanges(1, false);
+    }
+
+    @Test
+    void reloadShallowSparseCheckout() throws GestaltException, IOException, GitAPIException {
+        reloadOnlyWhenConfigFileChanges(1, true);
+    }
+
+    @Test
+    void configFileBlobId() throws GestaltException, IOException, GitAPIException {
+        GitConfigSource source = (GitConfigSource) GitConfigSourceBuilder.builder()
+            .setRepoURI(remoteURI())
+            .setLocalRepoDirectory(localDirectory)
+            .setConfigFilePath("config/app.properties")
+            .setDepth(1)
+            .build()
+            .getConfigSource();
+
+        String blobId = source.getConfigFileBlobId().orElseThrow();
+        Assertions.assertEquals(1, source.getDepth());
+        Assertions.assertFalse(source.isSparseCheckout());
+        Assertions.assertFalse(source.updateIfChanged());
+
+        commit("config/app.properties", "db.port=3307\n");
+        Assertions.assertTrue(source.updateIfChanged());
+        Assertions.assertNotEquals(blobId, source.getConfigFileBlobId().orElseThrow());
+        Assertions.assertEquals("db.port=3307\n", Files.readString(localDirectory.resolve("config/app.properties")));
+    }
+
+    @Test
+    void invalidDepth() {
+        GitConfigSourceBuilder builder = GitConfigSourceBuilder.builder()
+            .setRepoURI(remoteURI())
+            .setLocalRepoDirectory(localDirectory)
+            .setConfigFilePath("config/app.properties")
+            .setDepth(-1);
+
+        GestaltException exception = Assertions.assertThrows(GestaltException.class, builder::build);
+        Assertions.assertEquals("The clone depth must be 0 for the full history or greater, provided: -1", exception.getMessage());
+    }
+
+    @Test
+    void notAGitSource() {
+        GitChangeReloadStrategy reloadStrategy = new GitChangeReloadStrategy(Duration.ofMinutes(10));
+        MapConfigSourceBuilder builder = MapConfigSourceBuilder.builder()
+            .setCustomConfig(Map.of("db.port", "3306"))
+            .addConfigReloadStrategy(reloadStrategy);
+
+        Assertions.assertThrows(GestaltConfigurationException.class, builder::build);
+    }
+
+    @Test
+    void noSource() {
+        GitChangeReloadStrategy reloadStrategy = new GitChangeReloadStrategy(Duration.ofMinutes(10));
+
+        GestaltException exception = Assertions.assertThrows(GestaltException.class, reloadStrategy::checkForChanges);
+        Assertions.assertEquals("No source set for the GitChangeReloadStrategy, unable to check for changes", exception.getMessage());
+    }
+
+    private static class CoreListener implements CoreReloadListener {
+
+        int count = 0;
+
+        @Override
+        public void reload() {
+            count++;
+        }
+    }
+}
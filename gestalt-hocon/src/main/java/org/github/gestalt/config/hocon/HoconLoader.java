@@ -14,7 +14,7 @@ import org.github.gestalt.config.node.LeafNode;
 import org.github.gestalt.config.node.MapNode;
 import org.github.gestalt.config.source.ConfigSourcePackage;
 import org.github.gestalt.config.utils.GResultOf;
-import org.github.gestalt.config.utils.PathUtil;
+import org.github.gestalt.config.utils.PathCursor;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -113,7 +113,7 @@ public final class HoconLoader implements ConfigLoader {
                     throw new GestaltException("Exception loading source: " + source.name() + " no hocon found");
                 }
 
-                GResultOf<ConfigNode> node = buildConfigTree("", config.root());
+                GResultOf<ConfigNode> node = buildConfigTree(PathCursor.root(lexer), config.root());
                 return node.mapWithError(result -> List.of(new ConfigNodeContainer(result, source, sourcePackage.getTags())));
             } catch (ConfigException | NullPointerException | IOException e) {
                 throw new GestaltException("Exception loading source: " + source.name(), e);
@@ -123,7 +123,7 @@ public final class HoconLoader implements ConfigLoader {
         }
     }
 
-    private GResultOf<ConfigNode> buildConfigTree(String path, ConfigValue configObject) {
+    private GResultOf<ConfigNode> buildConfigTree(PathCursor path, ConfigValue configObject) {
         switch (configObject.valueType()) {
             case LIST:
                 return buildArrayConfigTree(path, (ConfigList) configObject);
@@ -137,9 +137,9 @@ public final class HoconLoader implements ConfigLoader {
                 return GResultOf.result(new LeafNode(configObject.unwrapped().toString()));
 
             case NULL:
-                return GResultOf.errors(new ValidationError.NoResultsFoundForPath(path));
+                return GResultOf.errors(new ValidationError.NoResultsFoundForPath(path.getPath()));
             default:
-                return GResultOf.errors(new ValidationError.UnknownNodeTypeDuringLoad(path, configObject.valueType().name()));
+                return GResultOf.errors(new ValidationError.UnknownNodeTypeDuringLoad(path.getPath(), configObject.valueType().name()));
         }
     }
 
@@ -151,17 +151,17 @@ public final class HoconLoader implements ConfigLoader {
         return lexer.tokenizer(sentence);
     }
 
-    private GResultOf<ConfigNode> buildArrayConfigTree(String path, ConfigList configList) {
+    private GResultOf<ConfigNode> buildArrayConfigTree(PathCursor path, ConfigList configList) {
         List<ValidationError> errors = new ArrayList<>();
         List<ConfigNode> array = new ArrayList<>();
         AtomicInteger index = new AtomicInteger(0);
         configList.forEach(it -> {
-            String currentPath = PathUtil.pathForIndex(lexer, path, index.getAndIncrement());
+            PathCursor currentPath = path.index(index.getAndIncrement());
 
             GResultOf<ConfigNode> node = buildConfigTree(currentPath, it);
             errors.addAll(node.getErrors());
             if (!node.hasResults()) {
-                errors.add(new ValidationError.NoResultsFoundForPath(currentPath));
+                errors.add(new ValidationError.NoResultsFoundForPath(currentPath.getPath()));
             } else {
                 array.add(node.results());
             }
@@ -170,7 +170,7 @@ public final class HoconLoader implements ConfigLoader {
         return GResultOf.resultOf(arrayNode, errors);
     }
 
-    private GResultOf<ConfigNode> buildObjectConfigTree(String path, ConfigObject configObject) {
+    private GResultOf<ConfigNode> buildObjectConfigTree(PathCursor path, ConfigObject configObject) {
         List<ValidationError> errors = new ArrayList<>();
         Map<String, ConfigNode> mapNode = new LinkedHashMap<>();
 
@@ -178,12 +178,12 @@ public final class HoconLoader implements ConfigLoader {
             List<String> tokenList = tokenizer(key);
             tokenList = tokenList.stream().map(this::normalizeSentence).collect(Collectors.toList());
 
-            String currentPath = PathUtil.pathForKey(lexer, path, tokenList);
+            PathCursor currentPath = path.keys(tokenList);
 
             GResultOf<ConfigNode> node = buildConfigTree(currentPath, value);
             errors.addAll(node.getErrors());
             if (!node.hasResults()) {
-                errors.add(new ValidationError.NoResultsFoundForPath(currentPath));
+                errors.add(new ValidationError.NoResultsFoundForPath(currentPath.getPath()));
             } else {
                 ConfigNode currentNode = node.results();
                 for (int i = tokenList.size() - 1; i > 0; i--) {
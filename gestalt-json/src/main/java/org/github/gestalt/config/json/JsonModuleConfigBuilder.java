@@ -11,6 +11,7 @@ import org.github.gestalt.config.lexer.SentenceLexer;
 public final class JsonModuleConfigBuilder {
     private ObjectMapper objectMapper;
     private SentenceLexer lexer;
+    private Boolean streaming;
 
     private JsonModuleConfigBuilder() {
     }
@@ -48,12 +49,24 @@ public final class JsonModuleConfigBuilder {
         return this;
     }
 
+    /**
+     * Set if the config is parsed directly from the token stream into the config nodes, rather than building a JsonNode tree first.
+     * Streaming uses less memory and is faster for large configs. Defaults to true.
+     *
+     * @param streaming if the config is parsed directly from the token stream
+     * @return the builder
+     */
+    public JsonModuleConfigBuilder setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
     /**
      * build the Json ModuleConfig.
      *
      * @return the Json ModuleConfig
      */
     public JsonModuleConfig build() {
-        return new JsonModuleConfig(objectMapper, lexer);
+        return new JsonModuleConfig(objectMapper, lexer, streaming);
     }
 }
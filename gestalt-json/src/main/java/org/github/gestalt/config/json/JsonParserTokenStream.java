@@ -0,0 +1,87 @@
+package org.github.gestalt.config.json;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.github.gestalt.config.node.StreamingConfigNodeBuilder.TokenStream;
+import org.github.gestalt.config.node.StreamingConfigNodeBuilder.TokenType;
+
+import java.io.IOException;
+
+/**
+ * Adapts the tokens of a {@link JsonParser} to a {@link TokenStream}, so they can be built into config nodes
+ * with a {@link org.github.gestalt.config.node.StreamingConfigNodeBuilder}.
+ * Shared by the loaders of all the formats parsed with Jackson, such as json, yaml and toml.
+ *
+ * @author <a href="mailto:colin.redmond@outlook.com"> Colin Redmond </a> (c) 2024.
+ */
+public final class JsonParserTokenStream implements TokenStream {
+
+    private final JsonParser parser;
+
+    /**
+     * Constructor for the JsonParserTokenStream.
+     *
+     * @param parser the Jackson parser to read the tokens from
+     */
+    public JsonParserTokenStream(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    @Override
+    public TokenType currentToken() {
+        return tokenType(parser.currentToken());
+    }
+
+    @Override
+    public TokenType nextToken() throws IOException {
+        return tokenType(parser.nextToken());
+    }
+
+    @Override
+    public String currentName() throws IOException {
+        return parser.currentName();
+    }
+
+    @Override
+    public String currentValue() throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NUMBER_INT:
+                // match the text of a parsed JsonNode, so numbers such as yaml hex values are normalized.
+                return parser.getNumberValue().toString();
+
+            case VALUE_NUMBER_FLOAT:
+                return Double.toString(parser.getDoubleValue());
+
+            case VALUE_EMBEDDED_OBJECT:
+                Object embedded = parser.getEmbeddedObject();
+                if (embedded instanceof byte[]) {
+                    return Base64Variants.getDefaultVariant().encode((byte[]) embedded);
+                }
+                return String.valueOf(embedded);
+
+            default:
+                return parser.getText();
+        }
+    }
+
+    private static TokenType tokenType(JsonToken token) {
+        if (token == null) {
+            return null;
+        }
+
+        switch (token) {
+            // the structural tokens have the same names.
+            case START_OBJECT:
+            case END_OBJECT:
+            case START_ARRAY:
+            case END_ARRAY:
+            case FIELD_NAME:
+                return TokenType.valueOf(token.name());
+            case VALUE_NULL:
+                return TokenType.NULL;
+            default:
+                return token.isScalarValue() ? TokenType.VALUE : TokenType.UNKNOWN;
+        }
+    }
+}
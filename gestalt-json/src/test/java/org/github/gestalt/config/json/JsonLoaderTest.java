@@ -426,4 +426,51 @@ class JsonLoaderTest {
             Assertions.assertEquals("Config source: mapConfig does not have a stream to load.", e.getMessage());
         }
     }
+
+    @Test
+    void loadSourceStreamingMatchesTree() throws GestaltException {
+
+        StringConfigSource source = new StringConfigSource("{\n" +
+            "  \"name\":\"Steve\",\n" +
+            "  \"age\":42,\n" +
+            "  \"height\":1.80,\n" +
+            "  \"db.port\":3306,\n" +
+            "  \"cars\": [\n" +
+            "    { \"name\":\"Ford\", \"models\":[ \"Fiesta\", \"Focus\" ] },\n" +
+            "    { \"name\":\"BMW\", \"models\":[ \"320\", \"X3\" ] }\n" +
+            "  ]\n" +
+            " } ", "json");
+
+        JsonLoader streamingLoader = new JsonLoader();
+        JsonLoader treeLoader = new JsonLoader();
+        GestaltConfig config = new GestaltConfig();
+        config.registerModuleConfig(JsonModuleConfigBuilder.builder().setStreaming(false).build());
+        treeLoader.applyConfig(config);
+
+        GResultOf<List<ConfigNodeContainer>> streamingResult =
+            streamingLoader.loadSource(new ConfigSourcePackage(source, List.of(), Tags.of()));
+        GResultOf<List<ConfigNodeContainer>> treeResult = treeLoader.loadSource(new ConfigSourcePackage(source, List.of(), Tags.of()));
+
+        Assertions.assertFalse(streamingResult.hasErrors());
+        Assertions.assertEquals(treeResult.results().get(0).getConfigNode(), streamingResult.results().get(0).getConfigNode());
+
+        ConfigNode result = streamingResult.results().get(0).getConfigNode();
+        Assertions.assertEquals("1.8", result.getKey("height").get().getValue().get());
+        Assertions.assertEquals("BMW", result.getKey("cars").get().getIndex(1).get().getKey("name").get().getValue().get());
+    }
+
+    @Test
+    void loadSourceStreamingNullValuePath() throws GestaltException {
+
+        StringConfigSource source = new StringConfigSource("{ \"cars\": [ { \"name\":\"Ford\" }, { \"name\":null } ] }", "json");
+
+        JsonLoader jsonLoader = new JsonLoader();
+
+        GResultOf<List<ConfigNodeContainer>> resultContainer = jsonLoader.loadSource(new ConfigSourcePackage(source, List.of(), Tags.of()));
+
+        Assertions.assertTrue(resultContainer.hasErrors());
+        Assertions.assertEquals(2, resultContainer.getErrors().size());
+        Assertions.assertEquals("Unable to find node matching path: cars[1].name", resultContainer.getErrors().get(0).description());
+        Assertions.assertEquals("Unable to find node matching path: cars[1].name", resultContainer.getErrors().get(1).description());
+    }
 }
@@ -22,4 +22,10 @@ class JsonModuleConfigTest {
         Assertions.assertEquals(lexer, moduleConfig.getLexer());
         Assertions.assertEquals("json", moduleConfig.name());
     }
+
+    @Test
+    public void createModuleConfigStreaming() {
+        Assertions.assertNull(JsonModuleConfigBuilder.builder().build().getStreaming());
+        Assertions.assertFalse(JsonModuleConfigBuilder.builder().setStreaming(false).build().getStreaming());
+    }
 }
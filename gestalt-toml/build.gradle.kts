@@ -7,6 +7,7 @@ plugins {
 
 dependencies {
     implementation(project(":gestalt-core"))
+    implementation(project(":gestalt-json"))
     api(libs.bundles.jackson)
     api(libs.jackson.toml)
 }
@@ -3,6 +3,7 @@
  */
 module org.github.gestalt.toml {
     requires org.github.gestalt.core;
+    requires org.github.gestalt.json;
     requires transitive com.fasterxml.jackson.databind;
     requires transitive com.fasterxml.jackson.dataformat.toml;
 
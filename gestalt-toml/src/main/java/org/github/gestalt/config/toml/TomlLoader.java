@@ -1,5 +1,8 @@
 package org.github.gestalt.config.toml;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.toml.TomlFactory;
@@ -7,6 +10,7 @@ import org.github.gestalt.config.entity.ConfigNodeContainer;
 import org.github.gestalt.config.entity.GestaltConfig;
 import org.github.gestalt.config.entity.ValidationError;
 import org.github.gestalt.config.exceptions.GestaltException;
+import org.github.gestalt.config.json.JsonParserTokenStream;
 import org.github.gestalt.config.lexer.PathLexer;
 import org.github.gestalt.config.lexer.SentenceLexer;
 import org.github.gestalt.config.loader.ConfigLoader;
@@ -14,9 +18,10 @@ import org.github.gestalt.config.node.ArrayNode;
 import org.github.gestalt.config.node.ConfigNode;
 import org.github.gestalt.config.node.LeafNode;
 import org.github.gestalt.config.node.MapNode;
+import org.github.gestalt.config.node.StreamingConfigNodeBuilder;
 import org.github.gestalt.config.source.ConfigSourcePackage;
 import org.github.gestalt.config.utils.GResultOf;
-import org.github.gestalt.config.utils.PathUtil;
+import org.github.gestalt.config.utils.PathCursor;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -33,6 +38,7 @@ public final class TomlLoader implements ConfigLoader {
     private final boolean isDefault;
     private ObjectMapper objectMapper;
     private SentenceLexer lexer;
+    private boolean streaming = true;
 
     /**
      * Default constructor for YamlLoader that creates a new ObjectMapper with a YAMLFactory registered to it.
@@ -79,6 +85,10 @@ public final class TomlLoader implements ConfigLoader {
         if (isDefault && moduleConfig != null && moduleConfig.getObjectMapper() != null) {
             objectMapper = moduleConfig.getObjectMapper();
         }
+
+        if (moduleConfig != null && moduleConfig.getStreaming() != null) {
+            streaming = moduleConfig.getStreaming();
+        }
     }
 
     @Override
@@ -106,12 +116,16 @@ public final class TomlLoader implements ConfigLoader {
         var source = sourcePackage.getConfigSource();
         if (source.hasStream()) {
             try (InputStream is = source.loadStream()) {
+                if (isStreaming()) {
+                    return loadStreaming(is, sourcePackage);
+                }
+
                 JsonNode jsonNode = objectMapper.readTree(is);
                 if (jsonNode == null || jsonNode.isNull()) {
                     throw new GestaltException("Exception loading source: " + source.name() + " no yaml found");
                 }
 
-                GResultOf<ConfigNode> node = buildConfigTree("", jsonNode);
+                GResultOf<ConfigNode> node = buildConfigTree(PathCursor.root(lexer), jsonNode);
 
                 return node.mapWithError(result -> List.of(new ConfigNodeContainer(result, source, sourcePackage.getTags())));
             } catch (IOException | NullPointerException e) {
@@ -122,7 +136,26 @@ public final class TomlLoader implements ConfigLoader {
         }
     }
 
-    private GResultOf<ConfigNode> buildConfigTree(String path, JsonNode jsonNode) {
+    // big decimals are normalized when building a JsonNode, so use the tree to keep the same values.
+    private boolean isStreaming() {
+        return streaming && !objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    }
+
+    private GResultOf<List<ConfigNodeContainer>> loadStreaming(InputStream is, ConfigSourcePackage sourcePackage)
+        throws GestaltException, IOException {
+        var source = sourcePackage.getConfigSource();
+        try (JsonParser parser = objectMapper.createParser(is)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                throw new GestaltException("Exception loading source: " + source.name() + " no yaml found");
+            }
+
+            GResultOf<ConfigNode> node = new StreamingConfigNodeBuilder(lexer).build(new JsonParserTokenStream(parser));
+            return node.mapWithError(result -> List.of(new ConfigNodeContainer(result, source, sourcePackage.getTags())));
+        }
+    }
+
+    private GResultOf<ConfigNode> buildConfigTree(PathCursor path, JsonNode jsonNode) {
         switch (jsonNode.getNodeType()) {
             case ARRAY:
                 return buildArrayConfigTree(path, jsonNode);
@@ -139,9 +172,9 @@ public final class TomlLoader implements ConfigLoader {
 
             case MISSING:
             case NULL:
-                return GResultOf.errors(new ValidationError.NoResultsFoundForPath(path));
+                return GResultOf.errors(new ValidationError.NoResultsFoundForPath(path.getPath()));
             default:
-                return GResultOf.errors(new ValidationError.UnknownNodeTypeDuringLoad(path, jsonNode.getNodeType().name()));
+                return GResultOf.errors(new ValidationError.UnknownNodeTypeDuringLoad(path.getPath(), jsonNode.getNodeType().name()));
         }
     }
 
@@ -153,18 +186,18 @@ public final class TomlLoader implements ConfigLoader {
         return lexer.tokenizer(sentence);
     }
 
-    private GResultOf<ConfigNode> buildArrayConfigTree(String path, JsonNode jsonNode) {
+    private GResultOf<ConfigNode> buildArrayConfigTree(PathCursor path, JsonNode jsonNode) {
         List<ValidationError> errors = new ArrayList<>();
         List<ConfigNode> array = new ArrayList<>();
         int arraySize = jsonNode.size();
         for (int i = 0; i < arraySize; i++) {
-            String currentPath = PathUtil.pathForIndex(lexer, path, i);
+            PathCursor currentPath = path.index(i);
 
             JsonNode arrayNodes = jsonNode.get(i);
             GResultOf<ConfigNode> node = buildConfigTree(currentPath, arrayNodes);
             errors.addAll(node.getErrors());
             if (!node.hasResults()) {
-                errors.add(new ValidationError.NoResultsFoundForPath(currentPath));
+                errors.add(new ValidationError.NoResultsFoundForPath(currentPath.getPath()));
             } else {
                 array.add(node.results());
             }
@@ -173,7 +206,7 @@ public final class TomlLoader implements ConfigLoader {
         return GResultOf.resultOf(arrayNode, errors);
     }
 
-    private GResultOf<ConfigNode> buildObjectConfigTree(String path, JsonNode jsonNode) {
+    private GResultOf<ConfigNode> buildObjectConfigTree(PathCursor path, JsonNode jsonNode) {
         List<ValidationError> errors = new ArrayList<>();
         Map<String, ConfigNode> mapNode = new HashMap<>();
 
@@ -181,13 +214,13 @@ public final class TomlLoader implements ConfigLoader {
             Map.Entry<String, JsonNode> entry = it.next();
             List<String> tokenList = tokenizer(entry.getKey());
             tokenList = tokenList.stream().map(this::normalizeSentence).collect(Collectors.toList());
-            String currentPath = PathUtil.pathForKey(lexer, path, tokenList);
+            PathCursor currentPath = path.keys(tokenList);
 
             JsonNode jsonValue = entry.getValue();
             GResultOf<ConfigNode> node = buildConfigTree(currentPath, jsonValue);
             errors.addAll(node.getErrors());
             if (!node.hasResults()) {
-                errors.add(new ValidationError.NoResultsFoundForPath(currentPath));
+                errors.add(new ValidationError.NoResultsFoundForPath(currentPath.getPath()));
             } else {
                 ConfigNode currentNode = node.results();
                 for (int i = tokenList.size() - 1; i > 0; i--) {
@@ -11,6 +11,7 @@ import org.github.gestalt.config.lexer.SentenceLexer;
 public final class TomlModuleConfigBuilder {
     private ObjectMapper objectMapper;
     private SentenceLexer lexer;
+    private Boolean streaming;
 
     private TomlModuleConfigBuilder() {
     }
@@ -48,12 +49,24 @@ public final class TomlModuleConfigBuilder {
         return this;
     }
 
+    /**
+     * Set if the config is parsed directly from the token stream into the config nodes, rather than building a JsonNode tree first.
+     * Streaming uses less memory and is faster for large configs. Defaults to true.
+     *
+     * @param streaming if the config is parsed directly from the token stream
+     * @return the builder
+     */
+    public TomlModuleConfigBuilder setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
     /**
      * build the Toml ModuleConfig.
      *
      * @return the Toml ModuleConfig
      */
     public TomlModuleConfig build() {
-        return new TomlModuleConfig(objectMapper, lexer);
+        return new TomlModuleConfig(objectMapper, lexer, streaming);
     }
 }
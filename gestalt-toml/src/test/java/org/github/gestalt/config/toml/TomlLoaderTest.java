@@ -493,4 +493,36 @@ class TomlLoaderTest {
             Assertions.assertEquals("Config source: mapConfig does not have a stream to load.", e.getMessage());
         }
     }
+
+    @Test
+    void loadSourceStreamingMatchesTree() throws GestaltException {
+
+        StringConfigSource source = new StringConfigSource("name = \"Steve\"\n" +
+            "age = 42\n" +
+            "height = 1.80\n" +
+            "db.port = 3306\n" +
+            "[[cars]]\n" +
+            "name = \"Ford\"\n" +
+            "models = [ \"Fiesta\", \"Focus\" ]\n" +
+            "[[cars]]\n" +
+            "name = \"BMW\"\n" +
+            "models = [ \"320\", \"X3\" ]\n", "toml");
+
+        TomlLoader streamingLoader = new TomlLoader();
+        TomlLoader treeLoader = new TomlLoader();
+        GestaltConfig config = new GestaltConfig();
+        config.registerModuleConfig(TomlModuleConfigBuilder.builder().setStreaming(false).build());
+        treeLoader.applyConfig(config);
+
+        GResultOf<List<ConfigNodeContainer>> streamingResult =
+            streamingLoader.loadSource(new ConfigSourcePackage(source, List.of(), Tags.of()));
+        GResultOf<List<ConfigNodeContainer>> treeResult = treeLoader.loadSource(new ConfigSourcePackage(source, List.of(), Tags.of()));
+
+        Assertions.assertFalse(streamingResult.hasErrors());
+        Assertions.assertEquals(treeResult.results().get(0).getConfigNode(), streamingResult.results().get(0).getConfigNode());
+
+        ConfigNode result = streamingResult.results().get(0).getConfigNode();
+        Assertions.assertEquals("1.8", result.getKey("height").get().getValue().get());
+        Assertions.assertEquals("BMW", result.getKey("cars").get().getIndex(1).get().getKey("name").get().getValue().get());
+    }
 }
@@ -23,4 +23,10 @@ class TomlModuleConfigTest {
         Assertions.assertEquals(lexer, moduleConfig.getLexer());
         Assertions.assertEquals("toml", moduleConfig.name());
     }
+
+    @Test
+    public void createModuleConfigStreaming() {
+        Assertions.assertNull(TomlModuleConfigBuilder.builder().build().getStreaming());
+        Assertions.assertFalse(TomlModuleConfigBuilder.builder().setStreaming(false).build().getStreaming());
+    }
 }
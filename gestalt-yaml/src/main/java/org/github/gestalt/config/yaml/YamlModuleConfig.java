@@ -13,6 +13,7 @@ public class YamlModuleConfig implements GestaltModuleConfig {
 
     private final ObjectMapper objectMapper;
     private final SentenceLexer lexer;
+    private final Boolean streaming;
 
     /**
      * Gestalt module config for the Yaml Module.
@@ -21,8 +22,20 @@ public class YamlModuleConfig implements GestaltModuleConfig {
      * @param lexer        the lexer to normalize paths.
      */
     public YamlModuleConfig(ObjectMapper objectMapper, SentenceLexer lexer) {
+        this(objectMapper, lexer, null);
+    }
+
+    /**
+     * Gestalt module config for the Yaml Module.
+     *
+     * @param objectMapper for loading yaml config, it should have a YAMLFactory registered to it.
+     * @param lexer        the lexer to normalize paths.
+     * @param streaming    if the config is parsed from the token stream rather than a JsonNode tree, if null the default is used.
+     */
+    public YamlModuleConfig(ObjectMapper objectMapper, SentenceLexer lexer, Boolean streaming) {
         this.objectMapper = objectMapper;
         this.lexer = lexer;
+        this.streaming = streaming;
     }
 
     @Override
@@ -47,4 +60,13 @@ public class YamlModuleConfig implements GestaltModuleConfig {
     public SentenceLexer getLexer() {
         return lexer;
     }
+
+    /**
+     * Get if the config is parsed directly from the token stream, rather than building a JsonNode tree first.
+     *
+     * @return if the config is streamed, or null to use the default of true
+     */
+    public Boolean getStreaming() {
+        return streaming;
+    }
 }
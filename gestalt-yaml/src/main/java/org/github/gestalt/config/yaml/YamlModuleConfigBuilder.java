@@ -11,6 +11,7 @@ import org.github.gestalt.config.lexer.SentenceLexer;
 public final class YamlModuleConfigBuilder {
     private ObjectMapper objectMapper;
     private SentenceLexer lexer;
+    private Boolean streaming;
 
     private YamlModuleConfigBuilder() {
     }
@@ -48,12 +49,24 @@ public final class YamlModuleConfigBuilder {
         return this;
     }
 
+    /**
+     * Set if the config is parsed directly from the token stream into the config nodes, rather than building a JsonNode tree first.
+     * Streaming uses less memory and is faster for large configs. Defaults to true.
+     *
+     * @param streaming if the config is parsed directly from the token stream
+     * @return the builder
+     */
+    public YamlModuleConfigBuilder setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
     /**
      * build the Yaml ModuleConfig.
      *
      * @return the Yaml ModuleConfig
      */
     public YamlModuleConfig build() {
-        return new YamlModuleConfig(objectMapper, lexer);
+        return new YamlModuleConfig(objectMapper, lexer, streaming);
     }
 }
@@ -411,4 +411,52 @@ class YamlLoaderTest {
 
         Assertions.assertEquals(0, result.size());
     }
+
+    @Test
+    void loadSourceStreamingMatchesTree() throws GestaltException {
+
+        StringConfigSource source = new StringConfigSource("name: Steve\n" +
+            "age: 42\n" +
+            "height: 1.80\n" +
+            "db.port: 0x10\n" +
+            "cars:\n" +
+            "  - name: Ford\n" +
+            "    models: [Fiesta, Focus]\n" +
+            "  - name: BMW\n" +
+            "    models: [320, X3]\n", "yml");
+
+        YamlLoader streamingLoader = new YamlLoader();
+        YamlLoader treeLoader = new YamlLoader();
+        GestaltConfig config = new GestaltConfig();
+        config.registerModuleConfig(YamlModuleConfigBuilder.builder().setStreaming(false).build());
+        treeLoader.applyConfig(config);
+
+        GResultOf<List<ConfigNodeContainer>> streamingResult =
+            streamingLoader.loadSource(new ConfigSourcePackage(source, List.of(), Tags.of()));
+        GResultOf<List<ConfigNodeContainer>> treeResult = treeLoader.loadSource(new ConfigSourcePackage(source, List.of(), Tags.of()));
+
+        Assertions.assertFalse(streamingResult.hasErrors());
+        Assertions.assertEquals(treeResult.results().get(0).getConfigNode(), streamingResult.results().get(0).getConfigNode());
+
+        ConfigNode result = streamingResult.results().get(0).getConfigNode();
+        Assertions.assertEquals("1.8", result.getKey("height").get().getValue().get());
+        Assertions.assertEquals("BMW", result.getKey("cars").get().getIndex(1).get().getKey("name").get().getValue().get());
+    }
+
+    @Test
+    void loadSourceStreamingNullValuePath() throws GestaltException {
+
+        StringConfigSource source = new StringConfigSource("cars:\n" +
+            "  - name: Ford\n" +
+            "  - name: null\n", "yml");
+
+        YamlLoader yamlLoader = new YamlLoader();
+
+        GResultOf<List<ConfigNodeContainer>> resultContainer = yamlLoader.loadSource(new ConfigSourcePackage(source, List.of(), Tags.of()));
+
+        Assertions.assertTrue(resultContainer.hasErrors());
+        Assertions.assertEquals(2, resultContainer.getErrors().size());
+        Assertions.assertEquals("Unable to find node matching path: cars[1].name", resultContainer.getErrors().get(0).description());
+        Assertions.assertEquals("Unable to find node matching path: cars[1].name", resultContainer.getErrors().get(1).description());
+    }
 }
@@ -23,4 +23,10 @@ class YamlModuleConfigTest {
         Assertions.assertEquals(lexer, moduleConfig.getLexer());
         Assertions.assertEquals("yaml", moduleConfig.name());
     }
+
+    @Test
+    public void createModuleConfigStreaming() {
+        Assertions.assertNull(YamlModuleConfigBuilder.builder().build().getStreaming());
+        Assertions.assertFalse(YamlModuleConfigBuilder.builder().setStreaming(false).build().getStreaming());
+    }
 }